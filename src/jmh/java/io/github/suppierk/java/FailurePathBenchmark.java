@@ -0,0 +1,208 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the failure path of {@link Try} and the throwable bridges over a batch of {@value
+ * #BATCH} elements, sweeping:
+ *
+ * <ul>
+ *   <li>{@code failureRate} - share of the elements which fail, spread randomly over the batch
+ *   <li>{@code stackDepth} - number of frames between the benchmark and the {@code throw}
+ *   <li>{@code stackTrace} - whether the exception fills its stack trace or is stackless
+ *   <li>{@code rethrow} - whether the element function rethrows the checked exception through the
+ *       library bridge ({@code sneaky}) or wraps it into an unchecked exception ({@code wrapped})
+ * </ul>
+ *
+ * <p>Scores are reported per element. The full sweep is large, narrow it down with {@code
+ * -Pjmh.includes=FailurePathBenchmark.orElse} and friends.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings("squid:S112")
+public class FailurePathBenchmark {
+  private static final int BATCH = 4096;
+
+  @Param({"0.001", "0.01", "0.1", "0.5"})
+  public double failureRate;
+
+  @Param({"0", "16", "64"})
+  public int stackDepth;
+
+  @Param({"filled", "stackless"})
+  public String stackTrace;
+
+  @Param({"sneaky", "wrapped"})
+  public String rethrow;
+
+  private Integer[] inputs;
+  private boolean[] failing;
+  private boolean stackless;
+
+  private Function<Integer, Integer> element;
+
+  @Setup
+  public void setUp() {
+    inputs = new Integer[BATCH];
+    failing = new boolean[BATCH];
+    for (int i = 0; i < BATCH; i++) {
+      inputs[i] = i;
+    }
+
+    // Fixed seed keeps failure positions identical between runs
+    Random random = new Random(42);
+    int failures = Math.max(1, (int) Math.round(BATCH * failureRate));
+    int[] positions = random.ints(0, BATCH).distinct().limit(failures).toArray();
+    for (int position : positions) {
+      failing[position] = true;
+    }
+
+    stackless = "stackless".equals(stackTrace);
+
+    if ("sneaky".equals(rethrow)) {
+      element = (ThrowableFunction<Integer, Integer>) this::work;
+    } else {
+      element =
+          value -> {
+            try {
+              return work(value);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          };
+    }
+  }
+
+  private int work(int value) throws IOException {
+    return descend(stackDepth, value);
+  }
+
+  private int descend(int depth, int value) throws IOException {
+    if (depth > 0) {
+      return descend(depth - 1, value);
+    }
+
+    if (failing[value]) {
+      throw stackless ? new StacklessIOException(value) : new IOException("Failed: " + value);
+    }
+
+    return value + 1;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void tryOf(Blackhole blackhole) {
+    for (Integer input : inputs) {
+      blackhole.consume(Try.of(() -> element.apply(input)));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void failureGet(Blackhole blackhole) {
+    for (Integer input : inputs) {
+      Try<Integer> result = Try.of(() -> element.apply(input));
+      try {
+        blackhole.consume(result.get());
+      } catch (Throwable t) {
+        blackhole.consume(t);
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void orElse(Blackhole blackhole) {
+    for (Integer input : inputs) {
+      blackhole.consume(Try.of(() -> element.apply(input)).orElse(-1));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void orElseTry(Blackhole blackhole) {
+    for (Integer input : inputs) {
+      blackhole.consume(Try.of(() -> element.apply(input)).orElseTry(() -> -1));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public long sequentialStream() {
+    return Arrays.stream(inputs)
+        .map(input -> Try.of(() -> element.apply(input)))
+        .filter(Try::isSuccess)
+        .count();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public long parallelStream() {
+    return Arrays.stream(inputs)
+        .parallel()
+        .map(input -> Try.of(() -> element.apply(input)))
+        .filter(Try::isSuccess)
+        .count();
+  }
+
+  /** Checked exception which skips {@link Throwable#fillInStackTrace()}. */
+  private static final class StacklessIOException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    StacklessIOException(int value) {
+      super("Failed: " + value);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+}
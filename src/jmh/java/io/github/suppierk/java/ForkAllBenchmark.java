@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Try#forkAll(java.util.Collection, ThrowableFunction)} for concurrent blocking
+ * calls against a fixed pool of platform threads of the same size as its fallback pool.
+ *
+ * <p>Run on Java 21 or newer to compare virtual threads with platform threads, on older versions
+ * both variants use platform threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ForkAllBenchmark {
+  @Param({"10000"})
+  private int calls;
+
+  @Param({"10"})
+  private int blockingMillis;
+
+  private List<Integer> values;
+  private ThrowableFunction<Integer, Integer> blockingCall;
+  private ExecutorService platformPool;
+
+  @Setup
+  public void setUp() {
+    values = Collections.nCopies(calls, 1);
+    blockingCall =
+        value -> {
+          Thread.sleep(blockingMillis);
+          return value;
+        };
+    platformPool = Executors.newFixedThreadPool(FanOut.MAX_PLATFORM_THREADS);
+  }
+
+  @TearDown
+  public void tearDown() {
+    platformPool.shutdownNow();
+  }
+
+  @Benchmark
+  public List<Try<Integer>> forkAll() {
+    return Try.forkAll(values, blockingCall);
+  }
+
+  @Benchmark
+  public List<Try<Integer>> platformThreads() {
+    return Try.forkAll(platformPool, values, blockingCall);
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures invokers created by {@link UnsafeFunctions#fromMethod(Method, Class)} against {@link
+ * Method#invoke(Object, Object...)}, a non-constant {@link MethodHandle} and a plain method
+ * reference, which is the lower bound.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+@SuppressWarnings("squid:S112")
+public class MethodInvokerBenchmark {
+  // Input is a plain field to prevent constant folding
+  private Integer boxedValue = 42;
+
+  private Method method;
+  private MethodHandle methodHandle;
+  private ThrowableFunction<Integer, Integer> fromMethod;
+  private ThrowableFunction<Integer, Integer> fromMethodHandle;
+  private ThrowableFunction<Integer, Integer> methodReference;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() throws ReflectiveOperationException {
+    method = MethodInvokerBenchmark.class.getMethod("incInt", int.class);
+    methodHandle =
+        MethodHandles.lookup()
+            .findStatic(
+                MethodInvokerBenchmark.class,
+                "incInt",
+                MethodType.methodType(int.class, int.class));
+    fromMethod = UnsafeFunctions.fromMethod(method, ThrowableFunction.class);
+    fromMethodHandle = UnsafeFunctions.fromMethodHandle(methodHandle, ThrowableFunction.class);
+    methodReference = MethodInvokerBenchmark::incInt;
+  }
+
+  public static int incInt(int value) throws IOException {
+    if (value < 0) {
+      throw new IOException("Negative value: " + value);
+    }
+    return value + 1;
+  }
+
+  @Benchmark
+  public Object reflection() throws ReflectiveOperationException {
+    return method.invoke(null, boxedValue);
+  }
+
+  @Benchmark
+  public Object methodHandle() throws Throwable {
+    return methodHandle.invoke(boxedValue);
+  }
+
+  @Benchmark
+  public Integer fromMethod() {
+    return fromMethod.apply(boxedValue);
+  }
+
+  @Benchmark
+  public Integer fromMethodHandle() {
+    return fromMethodHandle.apply(boxedValue);
+  }
+
+  @Benchmark
+  public Integer methodReference() {
+    return methodReference.apply(boxedValue);
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import io.github.suppierk.java.util.function.ThrowableSupplier;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the success path of {@link Try} combinators against a hand-written try/catch block doing
+ * the same work.
+ *
+ * <p>The {@code megamorphic} scenario rotates through {@value #SHAPES} distinct lambda classes for
+ * every stage, so that the call sites inside {@link Try.Success} see a polluted type profile like
+ * they would in a real application.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+@SuppressWarnings("squid:S112")
+public class TryBenchmark {
+  private static final int SHAPES = 4;
+
+  @Param({"monomorphic", "megamorphic"})
+  public String callSite;
+
+  // Input is a plain field to prevent constant folding
+  private int intValue = 42;
+
+  private ThrowableSupplier<Integer>[] suppliers;
+  private ThrowableFunction<Integer, Integer>[] mappers;
+  private ThrowableFunction<Integer, Try<Integer>>[] flatMappers;
+
+  private int index;
+
+  @Setup
+  public void setUp() {
+    suppliers =
+        shapes(
+            array(
+                () -> incInt(intValue),
+                () -> incInt(intValue) + 1,
+                () -> incInt(intValue) * 2,
+                () -> incInt(intValue) - 1));
+    mappers =
+        shapes(
+            array(
+                value -> incInt(value),
+                value -> incInt(value) + 1,
+                value -> incInt(value) * 2,
+                value -> incInt(value) - 1));
+    flatMappers =
+        shapes(
+            array(
+                value -> Try.success(value),
+                value -> Try.success(value + 1),
+                value -> Try.success(value * 2),
+                value -> Try.success(value - 1)));
+  }
+
+  @SafeVarargs
+  private static <T> T[] array(T... candidates) {
+    return candidates;
+  }
+
+  private <T> T[] shapes(T[] candidates) {
+    if ("monomorphic".equals(callSite)) {
+      Arrays.fill(candidates, candidates[0]);
+    }
+    return candidates;
+  }
+
+  private int next() {
+    index = (index + 1) & (SHAPES - 1);
+    return index;
+  }
+
+  private static int incInt(int value) throws IOException {
+    if (value < 0) {
+      throw new IOException("Negative value: " + value);
+    }
+    return value + 1;
+  }
+
+  @Benchmark
+  public Try<Integer> of() {
+    return Try.of(suppliers[next()]);
+  }
+
+  @Benchmark
+  public Try<Integer> map() {
+    return Try.success(intValue).map(mappers[next()]);
+  }
+
+  @Benchmark
+  public Try<Integer> flatMap() {
+    return Try.success(intValue).flatMap(flatMappers[next()]);
+  }
+
+  @Benchmark
+  public Integer chain() {
+    int i = next();
+    return Try.of(suppliers[i]).map(mappers[i]).flatMap(flatMappers[i]).orElse(0);
+  }
+
+  @Benchmark
+  public Integer baseline() {
+    try {
+      return incInt(incInt(intValue));
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@code map} and {@code flatMap} call sites seeing one, two or three {@link Try}
+ * implementations, where HotSpot inlines up to two receiver types from the profile.
+ *
+ * <p>Compare the Java 8 classes with the sealed {@link Try} of the multi-release jar by running on
+ * Java 17 or newer with and without {@code -Pjmh.sealedTry}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TryDispatchBenchmark {
+  private static final int RECEIVERS = 1024;
+
+  @Param({"1", "2", "3"})
+  private int implementations;
+
+  private Try<Integer>[] receivers;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    receivers = new Try[RECEIVERS];
+    for (int i = 0; i < RECEIVERS; i++) {
+      switch (i % implementations) {
+        case 0:
+          receivers[i] = Try.success(i);
+          break;
+        case 1:
+          receivers[i] = Try.failure(new IllegalStateException());
+          break;
+        default:
+          final int value = i;
+          receivers[i] = Try.defer(() -> value);
+          receivers[i].isSuccess();
+          break;
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECEIVERS)
+  public void map(Blackhole blackhole) {
+    for (Try<Integer> receiver : receivers) {
+      blackhole.consume(receiver.map(value -> value + 1));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECEIVERS)
+  public void flatMap(Blackhole blackhole) {
+    for (Try<Integer> receiver : receivers) {
+      blackhole.consume(receiver.flatMap(value -> Try.success(value + 1)));
+    }
+  }
+}
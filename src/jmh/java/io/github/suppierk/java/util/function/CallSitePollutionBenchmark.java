@@ -0,0 +1,375 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.function;
+
+import static io.github.suppierk.java.UnsafeFunctions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the bridge methods when the call site sees one ({@code monomorphic}) or several ({@code
+ * megamorphic}) lambda classes.
+ *
+ * <p>Every throwable lambda inherits the same default {@code apply} / {@code accept} / {@code test}
+ * / {@code get} method, so in a real application the type profile of the {@code *Unsafe} call
+ * inside that bridge is shared by all lambdas of the interface. The megamorphic scenario rotates
+ * through {@value #SHAPES} distinct lambda classes to reproduce that, while the monomorphic
+ * scenario rotates through the same instance to keep the indexing cost identical.
+ *
+ * <p>The {@code specialized} implementation wraps the same lambdas with the {@code
+ * UnsafeFunctions#specialized*} methods, which give each lambda class its own bridge and therefore
+ * its own {@code *Unsafe} call site.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+@SuppressWarnings("squid:S112")
+public class CallSitePollutionBenchmark {
+  private static final int SHAPES = 4;
+
+  @Param({"throwable", "specialized", "baseline"})
+  public String implementation;
+
+  @Param({"monomorphic", "megamorphic"})
+  public String callSite;
+
+  // Inputs and sinks are plain fields to prevent constant folding
+  private int intValue = 42;
+  private Integer boxedValue = 42;
+  private int intSink;
+
+  private int index;
+  private boolean specialized;
+
+  private Function<Integer, Integer>[] functions;
+  private BiFunction<Integer, Integer, Integer>[] biFunctions;
+  private Consumer<Integer>[] consumers;
+  private Supplier<Integer>[] suppliers;
+  private Predicate<Integer>[] predicates;
+
+  @Setup
+  public void setUp() {
+    specialized = "specialized".equals(implementation);
+    boolean throwable = specialized || "throwable".equals(implementation);
+    functions = shapes(throwable ? throwableFunctions() : baselineFunctions());
+    biFunctions = shapes(throwable ? throwableBiFunctions() : baselineBiFunctions());
+    consumers = shapes(throwable ? throwableConsumers() : baselineConsumers());
+    suppliers = shapes(throwable ? throwableSuppliers() : baselineSuppliers());
+    predicates = shapes(throwable ? throwablePredicates() : baselinePredicates());
+  }
+
+  private <T> T[] shapes(T[] candidates) {
+    if ("monomorphic".equals(callSite)) {
+      Arrays.fill(candidates, candidates[0]);
+    }
+    return candidates;
+  }
+
+  @SafeVarargs
+  private static <T> T[] array(T... candidates) {
+    return candidates;
+  }
+
+  private int next() {
+    index = (index + 1) & (SHAPES - 1);
+    return index;
+  }
+
+  private Function<Integer, Integer> function(ThrowableFunction<Integer, Integer> function) {
+    return specialized ? specializedFunction(function) : unsafeFunction(function);
+  }
+
+  private BiFunction<Integer, Integer, Integer> biFunction(
+      ThrowableBiFunction<Integer, Integer, Integer> biFunction) {
+    return specialized ? specializedBiFunction(biFunction) : unsafeBiFunction(biFunction);
+  }
+
+  private Consumer<Integer> consumer(ThrowableConsumer<Integer> consumer) {
+    return specialized ? specializedConsumer(consumer) : unsafeConsumer(consumer);
+  }
+
+  private Supplier<Integer> supplier(ThrowableSupplier<Integer> supplier) {
+    return specialized ? specializedSupplier(supplier) : unsafeSupplier(supplier);
+  }
+
+  private Predicate<Integer> predicate(ThrowablePredicate<Integer> predicate) {
+    return specialized ? specializedPredicate(predicate) : unsafePredicate(predicate);
+  }
+
+  private Function<Integer, Integer>[] throwableFunctions() {
+    return array(
+        function(a -> incInt(a)),
+        function(a -> incInt(a) + 1),
+        function(a -> incInt(a) * 2),
+        function(a -> incInt(a) - 1));
+  }
+
+  private Function<Integer, Integer>[] baselineFunctions() {
+    return array(
+        a -> {
+          try {
+            return incInt(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        a -> {
+          try {
+            return incInt(a) + 1;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        a -> {
+          try {
+            return incInt(a) * 2;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        a -> {
+          try {
+            return incInt(a) - 1;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+
+  private BiFunction<Integer, Integer, Integer>[] throwableBiFunctions() {
+    return array(
+        biFunction((a, b) -> incInt(a) + b),
+        biFunction((a, b) -> incInt(a) - b),
+        biFunction((a, b) -> incInt(a) * b),
+        biFunction((a, b) -> incInt(a) ^ b));
+  }
+
+  private BiFunction<Integer, Integer, Integer>[] baselineBiFunctions() {
+    return array(
+        (a, b) -> {
+          try {
+            return incInt(a) + b;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        (a, b) -> {
+          try {
+            return incInt(a) - b;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        (a, b) -> {
+          try {
+            return incInt(a) * b;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        (a, b) -> {
+          try {
+            return incInt(a) ^ b;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+
+  private Consumer<Integer>[] throwableConsumers() {
+    return array(
+        consumer(a -> intSink = incInt(a)),
+        consumer(a -> intSink = incInt(a) + 1),
+        consumer(a -> intSink = incInt(a) * 2),
+        consumer(a -> intSink = incInt(a) - 1));
+  }
+
+  private Consumer<Integer>[] baselineConsumers() {
+    return array(
+        a -> {
+          try {
+            intSink = incInt(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        a -> {
+          try {
+            intSink = incInt(a) + 1;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        a -> {
+          try {
+            intSink = incInt(a) * 2;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        a -> {
+          try {
+            intSink = incInt(a) - 1;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+
+  private Supplier<Integer>[] throwableSuppliers() {
+    return array(
+        supplier(() -> incInt(intValue)),
+        supplier(() -> incInt(intValue) + 1),
+        supplier(() -> incInt(intValue) * 2),
+        supplier(() -> incInt(intValue) - 1));
+  }
+
+  private Supplier<Integer>[] baselineSuppliers() {
+    return array(
+        () -> {
+          try {
+            return incInt(intValue);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        () -> {
+          try {
+            return incInt(intValue) + 1;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        () -> {
+          try {
+            return incInt(intValue) * 2;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        () -> {
+          try {
+            return incInt(intValue) - 1;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+
+  private Predicate<Integer>[] throwablePredicates() {
+    return array(
+        predicate(a -> incInt(a) > 0),
+        predicate(a -> incInt(a) > 1),
+        predicate(a -> incInt(a) < 0),
+        predicate(a -> incInt(a) != 0));
+  }
+
+  private Predicate<Integer>[] baselinePredicates() {
+    return array(
+        a -> {
+          try {
+            return incInt(a) > 0;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        a -> {
+          try {
+            return incInt(a) > 1;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        a -> {
+          try {
+            return incInt(a) < 0;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        a -> {
+          try {
+            return incInt(a) != 0;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+
+  private static int incInt(int value) throws IOException {
+    if (value < 0) {
+      throw new IOException("Negative value: " + value);
+    }
+    return value + 1;
+  }
+
+  @Benchmark
+  public Integer function() {
+    return functions[next()].apply(boxedValue);
+  }
+
+  @Benchmark
+  public Integer biFunction() {
+    return biFunctions[next()].apply(boxedValue, boxedValue);
+  }
+
+  @Benchmark
+  public int consumer() {
+    consumers[next()].accept(boxedValue);
+    return intSink;
+  }
+
+  @Benchmark
+  public Integer supplier() {
+    return suppliers[next()].get();
+  }
+
+  @Benchmark
+  public boolean predicate() {
+    return predicates[next()].test(boxedValue);
+  }
+}
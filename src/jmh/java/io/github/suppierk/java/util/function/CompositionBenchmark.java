@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.function;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@value #STAGES}-stage compositions built with the JDK {@code andThen} defaults, the
+ * throwable-preserving {@code andThen} overloads and the fused chains.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+@SuppressWarnings("squid:S112")
+public class CompositionBenchmark {
+  private static final int STAGES = 8;
+
+  // Inputs are plain fields to prevent constant folding
+  private int intValue = 42;
+  private Integer boxedValue = 42;
+
+  private Function<Integer, Integer> jdkFunction;
+  private Function<Integer, Integer> throwableFunction;
+  private Function<Integer, Integer> fusedFunction;
+  private IntUnaryOperator jdkOperator;
+  private IntUnaryOperator throwableOperator;
+  private IntUnaryOperator fusedOperator;
+
+  @Setup
+  public void setUp() {
+    Function<Integer, Integer> jdk = i -> i + 1;
+    ThrowableFunction<Integer, Integer> throwable = i -> i + 1;
+    ThrowableFunctionChain<Integer, Integer> chain = ThrowableFunctionChain.of(i -> i + 1);
+    IntUnaryOperator jdkInt = i -> i + 1;
+    ThrowableIntUnaryOperator throwableInt = i -> i + 1;
+    ThrowableIntUnaryOperator[] stages = new ThrowableIntUnaryOperator[STAGES];
+    stages[0] = i -> i + 1;
+
+    for (int stage = 1; stage < STAGES; stage++) {
+      int increment = stage + 1;
+      jdk = jdk.andThen(i -> i + increment);
+      throwable = throwable.andThen((ThrowableFunction<Integer, Integer>) i -> i + increment);
+      chain = chain.then(i -> i + increment);
+      jdkInt = jdkInt.andThen(i -> i + increment);
+      throwableInt = throwableInt.andThen((ThrowableIntUnaryOperator) i -> i + increment);
+      stages[stage] = i -> i + increment;
+    }
+
+    jdkFunction = jdk;
+    throwableFunction = throwable;
+    fusedFunction = chain.build();
+    jdkOperator = jdkInt;
+    throwableOperator = throwableInt;
+    fusedOperator = ThrowableIntUnaryOperator.chain(stages);
+  }
+
+  @Benchmark
+  public Integer jdkFunction() {
+    return jdkFunction.apply(boxedValue);
+  }
+
+  @Benchmark
+  public Integer throwableFunction() {
+    return throwableFunction.apply(boxedValue);
+  }
+
+  @Benchmark
+  public Integer fusedFunction() {
+    return fusedFunction.apply(boxedValue);
+  }
+
+  @Benchmark
+  public int jdkOperator() {
+    return jdkOperator.applyAsInt(intValue);
+  }
+
+  @Benchmark
+  public int throwableOperator() {
+    return throwableOperator.applyAsInt(intValue);
+  }
+
+  @Benchmark
+  public int fusedOperator() {
+    return fusedOperator.applyAsInt(intValue);
+  }
+}
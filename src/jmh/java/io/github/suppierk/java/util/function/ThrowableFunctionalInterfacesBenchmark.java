@@ -0,0 +1,765 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.function;
+
+import static io.github.suppierk.java.UnsafeFunctions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.*;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of the default bridge methods ({@code apply}, {@code accept}, {@code test},
+ * ...) of every interface in this package against a hand-written try/catch lambda doing the same
+ * work.
+ *
+ * <p>Every benchmark calls the JDK functional interface, so {@code implementation=throwable} goes
+ * through the library bridge while {@code implementation=baseline} goes straight into a lambda
+ * which wraps the checked exception itself. Call sites here stay monomorphic, see {@code
+ * CallSitePollutionBenchmark} for the polluted case.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+@SuppressWarnings("squid:S112")
+public class ThrowableFunctionalInterfacesBenchmark {
+  @Param({"throwable", "baseline"})
+  public String implementation;
+
+  // Inputs and sinks are plain fields to prevent constant folding
+  private int intValue = 42;
+  private long longValue = 42L;
+  private double doubleValue = 42.0;
+  private Integer boxedValue = 42;
+
+  private int intSink;
+  private long longSink;
+  private double doubleSink;
+
+  private BiConsumer<Integer, Integer> biConsumer;
+  private BiFunction<Integer, Integer, Integer> biFunction;
+  private BinaryOperator<Integer> binaryOperator;
+  private BiPredicate<Integer, Integer> biPredicate;
+  private BooleanSupplier booleanSupplier;
+  private Consumer<Integer> consumer;
+  private DoubleBinaryOperator doubleBinaryOperator;
+  private DoubleConsumer doubleConsumer;
+  private DoubleFunction<Double> doubleFunction;
+  private DoublePredicate doublePredicate;
+  private DoubleSupplier doubleSupplier;
+  private DoubleToIntFunction doubleToIntFunction;
+  private DoubleToLongFunction doubleToLongFunction;
+  private DoubleUnaryOperator doubleUnaryOperator;
+  private Function<Integer, Integer> function;
+  private IntBinaryOperator intBinaryOperator;
+  private IntConsumer intConsumer;
+  private IntFunction<Integer> intFunction;
+  private IntPredicate intPredicate;
+  private IntSupplier intSupplier;
+  private IntToDoubleFunction intToDoubleFunction;
+  private IntToLongFunction intToLongFunction;
+  private IntUnaryOperator intUnaryOperator;
+  private LongBinaryOperator longBinaryOperator;
+  private LongConsumer longConsumer;
+  private LongFunction<Long> longFunction;
+  private LongPredicate longPredicate;
+  private LongSupplier longSupplier;
+  private LongToDoubleFunction longToDoubleFunction;
+  private LongToIntFunction longToIntFunction;
+  private LongUnaryOperator longUnaryOperator;
+  private ObjDoubleConsumer<Integer> objDoubleConsumer;
+  private ObjIntConsumer<Integer> objIntConsumer;
+  private ObjLongConsumer<Integer> objLongConsumer;
+  private Predicate<Integer> predicate;
+  private Supplier<Integer> supplier;
+  private ToDoubleBiFunction<Integer, Integer> toDoubleBiFunction;
+  private ToDoubleFunction<Integer> toDoubleFunction;
+  private ToIntBiFunction<Integer, Integer> toIntBiFunction;
+  private ToIntFunction<Integer> toIntFunction;
+  private ToLongBiFunction<Integer, Integer> toLongBiFunction;
+  private ToLongFunction<Integer> toLongFunction;
+  private UnaryOperator<Integer> unaryOperator;
+
+  @Setup
+  public void setUp() {
+    if ("throwable".equals(implementation)) {
+      setUpThrowable();
+    } else {
+      setUpBaseline();
+    }
+  }
+
+  private void setUpThrowable() {
+    biConsumer = unsafeBiConsumer((a, b) -> intSink = incInt(a) + b);
+    biFunction = unsafeBiFunction((a, b) -> incInt(a) + b);
+    binaryOperator = unsafeBinaryOperator((a, b) -> incInt(a) + b);
+    biPredicate = unsafeBiPredicate((a, b) -> incInt(a) > b);
+    booleanSupplier = unsafeBooleanSupplier(() -> incInt(intValue) > 0);
+    consumer = unsafeConsumer(a -> intSink = incInt(a));
+    doubleBinaryOperator = unsafeDoubleBinaryOperator((a, b) -> incDouble(a) + b);
+    doubleConsumer = unsafeDoubleConsumer(a -> doubleSink = incDouble(a));
+    doubleFunction = unsafeDoubleFunction(a -> incDouble(a));
+    doublePredicate = unsafeDoublePredicate(a -> incDouble(a) > 0);
+    doubleSupplier = unsafeDoubleSupplier(() -> incDouble(doubleValue));
+    doubleToIntFunction = unsafeDoubleToIntFunction(a -> (int) incDouble(a));
+    doubleToLongFunction = unsafeDoubleToLongFunction(a -> (long) incDouble(a));
+    doubleUnaryOperator = unsafeDoubleUnaryOperator(a -> incDouble(a));
+    function = unsafeFunction(a -> incInt(a));
+    intBinaryOperator = unsafeIntBinaryOperator((a, b) -> incInt(a) + b);
+    intConsumer = unsafeIntConsumer(a -> intSink = incInt(a));
+    intFunction = unsafeIntFunction(a -> incInt(a));
+    intPredicate = unsafeIntPredicate(a -> incInt(a) > 0);
+    intSupplier = unsafeIntSupplier(() -> incInt(intValue));
+    intToDoubleFunction = unsafeIntToDoubleFunction(a -> incInt(a) * 0.5);
+    intToLongFunction = unsafeIntToLongFunction(a -> incInt(a) * 2L);
+    intUnaryOperator = unsafeIntUnaryOperator(a -> incInt(a));
+    longBinaryOperator = unsafeLongBinaryOperator((a, b) -> incLong(a) + b);
+    longConsumer = unsafeLongConsumer(a -> longSink = incLong(a));
+    longFunction = unsafeLongFunction(a -> incLong(a));
+    longPredicate = unsafeLongPredicate(a -> incLong(a) > 0);
+    longSupplier = unsafeLongSupplier(() -> incLong(longValue));
+    longToDoubleFunction = unsafeLongToDoubleFunction(a -> incLong(a) * 0.5);
+    longToIntFunction = unsafeLongToIntFunction(a -> (int) incLong(a));
+    longUnaryOperator = unsafeLongUnaryOperator(a -> incLong(a));
+    objDoubleConsumer = unsafeObjDoubleConsumer((a, b) -> doubleSink = incDouble(b) + a);
+    objIntConsumer = unsafeObjIntConsumer((a, b) -> intSink = incInt(b) + a);
+    objLongConsumer = unsafeObjLongConsumer((a, b) -> longSink = incLong(b) + a);
+    predicate = unsafePredicate(a -> incInt(a) > 0);
+    supplier = unsafeSupplier(() -> incInt(intValue));
+    toDoubleBiFunction = unsafeToDoubleBiFunction((a, b) -> incDouble(a) + b);
+    toDoubleFunction = unsafeToDoubleFunction(a -> incDouble(a));
+    toIntBiFunction = unsafeToIntBiFunction((a, b) -> incInt(a) + b);
+    toIntFunction = unsafeToIntFunction(a -> incInt(a));
+    toLongBiFunction = unsafeToLongBiFunction((a, b) -> incLong(a) + b);
+    toLongFunction = unsafeToLongFunction(a -> incLong(a));
+    unaryOperator = unsafeUnaryOperator(a -> incInt(a));
+  }
+
+  private void setUpBaseline() {
+    biConsumer =
+        (a, b) -> {
+          try {
+            intSink = incInt(a) + b;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    biFunction =
+        (a, b) -> {
+          try {
+            return incInt(a) + b;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    binaryOperator =
+        (a, b) -> {
+          try {
+            return incInt(a) + b;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    biPredicate =
+        (a, b) -> {
+          try {
+            return incInt(a) > b;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    booleanSupplier =
+        () -> {
+          try {
+            return incInt(intValue) > 0;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    consumer =
+        a -> {
+          try {
+            intSink = incInt(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    doubleBinaryOperator =
+        (a, b) -> {
+          try {
+            return incDouble(a) + b;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    doubleConsumer =
+        a -> {
+          try {
+            doubleSink = incDouble(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    doubleFunction =
+        a -> {
+          try {
+            return incDouble(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    doublePredicate =
+        a -> {
+          try {
+            return incDouble(a) > 0;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    doubleSupplier =
+        () -> {
+          try {
+            return incDouble(doubleValue);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    doubleToIntFunction =
+        a -> {
+          try {
+            return (int) incDouble(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    doubleToLongFunction =
+        a -> {
+          try {
+            return (long) incDouble(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    doubleUnaryOperator =
+        a -> {
+          try {
+            return incDouble(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    function =
+        a -> {
+          try {
+            return incInt(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    intBinaryOperator =
+        (a, b) -> {
+          try {
+            return incInt(a) + b;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    intConsumer =
+        a -> {
+          try {
+            intSink = incInt(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    intFunction =
+        a -> {
+          try {
+            return incInt(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    intPredicate =
+        a -> {
+          try {
+            return incInt(a) > 0;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    intSupplier =
+        () -> {
+          try {
+            return incInt(intValue);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    intToDoubleFunction =
+        a -> {
+          try {
+            return incInt(a) * 0.5;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    intToLongFunction =
+        a -> {
+          try {
+            return incInt(a) * 2L;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    intUnaryOperator =
+        a -> {
+          try {
+            return incInt(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    longBinaryOperator =
+        (a, b) -> {
+          try {
+            return incLong(a) + b;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    longConsumer =
+        a -> {
+          try {
+            longSink = incLong(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    longFunction =
+        a -> {
+          try {
+            return incLong(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    longPredicate =
+        a -> {
+          try {
+            return incLong(a) > 0;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    longSupplier =
+        () -> {
+          try {
+            return incLong(longValue);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    longToDoubleFunction =
+        a -> {
+          try {
+            return incLong(a) * 0.5;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    longToIntFunction =
+        a -> {
+          try {
+            return (int) incLong(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    longUnaryOperator =
+        a -> {
+          try {
+            return incLong(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    objDoubleConsumer =
+        (a, b) -> {
+          try {
+            doubleSink = incDouble(b) + a;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    objIntConsumer =
+        (a, b) -> {
+          try {
+            intSink = incInt(b) + a;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    objLongConsumer =
+        (a, b) -> {
+          try {
+            longSink = incLong(b) + a;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    predicate =
+        a -> {
+          try {
+            return incInt(a) > 0;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    supplier =
+        () -> {
+          try {
+            return incInt(intValue);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    toDoubleBiFunction =
+        (a, b) -> {
+          try {
+            return incDouble(a) + b;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    toDoubleFunction =
+        a -> {
+          try {
+            return incDouble(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    toIntBiFunction =
+        (a, b) -> {
+          try {
+            return incInt(a) + b;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    toIntFunction =
+        a -> {
+          try {
+            return incInt(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    toLongBiFunction =
+        (a, b) -> {
+          try {
+            return incLong(a) + b;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    toLongFunction =
+        a -> {
+          try {
+            return incLong(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+    unaryOperator =
+        a -> {
+          try {
+            return incInt(a);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        };
+  }
+
+  private static int incInt(int value) throws IOException {
+    if (value < 0) {
+      throw new IOException("Negative value: " + value);
+    }
+    return value + 1;
+  }
+
+  private static long incLong(long value) throws IOException {
+    if (value < 0) {
+      throw new IOException("Negative value: " + value);
+    }
+    return value + 1;
+  }
+
+  private static double incDouble(double value) throws IOException {
+    if (value < 0) {
+      throw new IOException("Negative value: " + value);
+    }
+    return value + 1;
+  }
+
+  @Benchmark
+  public int biConsumer() {
+    biConsumer.accept(boxedValue, boxedValue);
+    return intSink;
+  }
+
+  @Benchmark
+  public Integer biFunction() {
+    return biFunction.apply(boxedValue, boxedValue);
+  }
+
+  @Benchmark
+  public Integer binaryOperator() {
+    return binaryOperator.apply(boxedValue, boxedValue);
+  }
+
+  @Benchmark
+  public boolean biPredicate() {
+    return biPredicate.test(boxedValue, boxedValue);
+  }
+
+  @Benchmark
+  public boolean booleanSupplier() {
+    return booleanSupplier.getAsBoolean();
+  }
+
+  @Benchmark
+  public int consumer() {
+    consumer.accept(boxedValue);
+    return intSink;
+  }
+
+  @Benchmark
+  public double doubleBinaryOperator() {
+    return doubleBinaryOperator.applyAsDouble(doubleValue, doubleValue);
+  }
+
+  @Benchmark
+  public double doubleConsumer() {
+    doubleConsumer.accept(doubleValue);
+    return doubleSink;
+  }
+
+  @Benchmark
+  public Double doubleFunction() {
+    return doubleFunction.apply(doubleValue);
+  }
+
+  @Benchmark
+  public boolean doublePredicate() {
+    return doublePredicate.test(doubleValue);
+  }
+
+  @Benchmark
+  public double doubleSupplier() {
+    return doubleSupplier.getAsDouble();
+  }
+
+  @Benchmark
+  public int doubleToIntFunction() {
+    return doubleToIntFunction.applyAsInt(doubleValue);
+  }
+
+  @Benchmark
+  public long doubleToLongFunction() {
+    return doubleToLongFunction.applyAsLong(doubleValue);
+  }
+
+  @Benchmark
+  public double doubleUnaryOperator() {
+    return doubleUnaryOperator.applyAsDouble(doubleValue);
+  }
+
+  @Benchmark
+  public Integer function() {
+    return function.apply(boxedValue);
+  }
+
+  @Benchmark
+  public int intBinaryOperator() {
+    return intBinaryOperator.applyAsInt(intValue, intValue);
+  }
+
+  @Benchmark
+  public int intConsumer() {
+    intConsumer.accept(intValue);
+    return intSink;
+  }
+
+  @Benchmark
+  public Integer intFunction() {
+    return intFunction.apply(intValue);
+  }
+
+  @Benchmark
+  public boolean intPredicate() {
+    return intPredicate.test(intValue);
+  }
+
+  @Benchmark
+  public int intSupplier() {
+    return intSupplier.getAsInt();
+  }
+
+  @Benchmark
+  public double intToDoubleFunction() {
+    return intToDoubleFunction.applyAsDouble(intValue);
+  }
+
+  @Benchmark
+  public long intToLongFunction() {
+    return intToLongFunction.applyAsLong(intValue);
+  }
+
+  @Benchmark
+  public int intUnaryOperator() {
+    return intUnaryOperator.applyAsInt(intValue);
+  }
+
+  @Benchmark
+  public long longBinaryOperator() {
+    return longBinaryOperator.applyAsLong(longValue, longValue);
+  }
+
+  @Benchmark
+  public long longConsumer() {
+    longConsumer.accept(longValue);
+    return longSink;
+  }
+
+  @Benchmark
+  public Long longFunction() {
+    return longFunction.apply(longValue);
+  }
+
+  @Benchmark
+  public boolean longPredicate() {
+    return longPredicate.test(longValue);
+  }
+
+  @Benchmark
+  public long longSupplier() {
+    return longSupplier.getAsLong();
+  }
+
+  @Benchmark
+  public double longToDoubleFunction() {
+    return longToDoubleFunction.applyAsDouble(longValue);
+  }
+
+  @Benchmark
+  public int longToIntFunction() {
+    return longToIntFunction.applyAsInt(longValue);
+  }
+
+  @Benchmark
+  public long longUnaryOperator() {
+    return longUnaryOperator.applyAsLong(longValue);
+  }
+
+  @Benchmark
+  public double objDoubleConsumer() {
+    objDoubleConsumer.accept(boxedValue, doubleValue);
+    return doubleSink;
+  }
+
+  @Benchmark
+  public int objIntConsumer() {
+    objIntConsumer.accept(boxedValue, intValue);
+    return intSink;
+  }
+
+  @Benchmark
+  public long objLongConsumer() {
+    objLongConsumer.accept(boxedValue, longValue);
+    return longSink;
+  }
+
+  @Benchmark
+  public boolean predicate() {
+    return predicate.test(boxedValue);
+  }
+
+  @Benchmark
+  public Integer supplier() {
+    return supplier.get();
+  }
+
+  @Benchmark
+  public double toDoubleBiFunction() {
+    return toDoubleBiFunction.applyAsDouble(boxedValue, boxedValue);
+  }
+
+  @Benchmark
+  public double toDoubleFunction() {
+    return toDoubleFunction.applyAsDouble(boxedValue);
+  }
+
+  @Benchmark
+  public int toIntBiFunction() {
+    return toIntBiFunction.applyAsInt(boxedValue, boxedValue);
+  }
+
+  @Benchmark
+  public int toIntFunction() {
+    return toIntFunction.applyAsInt(boxedValue);
+  }
+
+  @Benchmark
+  public long toLongBiFunction() {
+    return toLongBiFunction.applyAsLong(boxedValue, boxedValue);
+  }
+
+  @Benchmark
+  public long toLongFunction() {
+    return toLongFunction.applyAsLong(boxedValue);
+  }
+
+  @Benchmark
+  public Integer unaryOperator() {
+    return unaryOperator.apply(boxedValue);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parallel grouping into a few hot keys, where {@link Collectors#groupingByConcurrent}
+ * makes all threads contend on the same map entries, against the per-split and per-thread maps of
+ * {@link ThrowableCollectors}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GroupingBenchmark {
+  @Param({"10000000"})
+  private int elements;
+
+  @Param({"4", "4096"})
+  private int keys;
+
+  private int[] values;
+
+  @Setup
+  public void setUp() {
+    values = IntStream.range(0, elements).toArray();
+  }
+
+  @Benchmark
+  public Map<Integer, Long> jdkGroupingByConcurrent() {
+    return IntStream.of(values)
+        .parallel()
+        .boxed()
+        .collect(
+            Collectors.groupingByConcurrent(
+                value -> value % keys, Collectors.summingLong(Integer::longValue)));
+  }
+
+  @Benchmark
+  public Map<Integer, Long> groupingBy() {
+    return IntStream.of(values)
+        .parallel()
+        .boxed()
+        .collect(
+            ThrowableCollectors.groupingBy(
+                value -> value % keys, Collectors.summingLong(Integer::longValue)));
+  }
+
+  @Benchmark
+  public Map<Integer, Long> groupingByConcurrent() {
+    return IntStream.of(values)
+        .parallel()
+        .boxed()
+        .collect(
+            ThrowableCollectors.groupingByConcurrent(
+                value -> value % keys, Collectors.summingLong(Integer::longValue)));
+  }
+}
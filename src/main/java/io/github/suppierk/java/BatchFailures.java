@@ -0,0 +1,221 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Failures of a batch, stored as a bit mask for constant time checks and a sparse map from indexes
+ * to exceptions, which takes no space until the first failure.
+ *
+ * <p>Failures must be added in the ascending order of their indexes, which is the case when the
+ * batch is filled in a single pass.
+ */
+final class BatchFailures {
+  private static final long[] NO_WORDS = new long[0];
+  private static final int[] NO_INDEXES = new int[0];
+  private static final Throwable[] NO_CAUSES = new Throwable[0];
+
+  /** Bit {@code i} is set if the element {@code i} has failed. */
+  private long[] mask = NO_WORDS;
+
+  /** Ascending indexes of the failed elements. */
+  private int[] indexes = NO_INDEXES;
+
+  /** Exceptions of the failed elements, in the same order as {@link #indexes}. */
+  private Throwable[] causes = NO_CAUSES;
+
+  private int count;
+
+  /**
+   * Checks that the index is within the bounds of the batch.
+   *
+   * @param index to check
+   * @param size of the batch
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  static void checkIndex(int index, int size) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+    }
+  }
+
+  /**
+   * Records the failure of the element.
+   *
+   * @param index of the element, which must be greater than the index of the previous failure
+   * @param cause of the failure
+   */
+  void add(int index, Throwable cause) {
+    int word = index >>> 6;
+    if (word >= mask.length) {
+      mask = Arrays.copyOf(mask, Math.max(word + 1, mask.length * 2));
+    }
+    mask[word] |= 1L << index;
+
+    if (count == indexes.length) {
+      int capacity = Math.max(8, count * 2);
+      indexes = Arrays.copyOf(indexes, capacity);
+      causes = Arrays.copyOf(causes, capacity);
+    }
+    indexes[count] = index;
+    causes[count] = cause;
+    count++;
+  }
+
+  /**
+   * @return independent copy of these failures
+   */
+  BatchFailures copy() {
+    BatchFailures copy = new BatchFailures();
+    copy.mask = mask.clone();
+    copy.indexes = Arrays.copyOf(indexes, count);
+    copy.causes = Arrays.copyOf(causes, count);
+    copy.count = count;
+    return copy;
+  }
+
+  /**
+   * @return number of failed elements
+   */
+  int count() {
+    return count;
+  }
+
+  /**
+   * @param index of the element
+   * @return {@code true} if the element has failed
+   */
+  boolean isFailure(int index) {
+    int word = index >>> 6;
+    return word < mask.length && (mask[word] & (1L << index)) != 0;
+  }
+
+  /**
+   * @param index of the element
+   * @return the exception of the element, or {@code null} if it did not fail
+   */
+  Throwable get(int index) {
+    if (!isFailure(index)) {
+      return null;
+    }
+    return causes[Arrays.binarySearch(indexes, 0, count, index)];
+  }
+
+  /**
+   * @return the exception of the first failed element, if any
+   */
+  Optional<Throwable> first() {
+    return count == 0 ? Optional.empty() : Optional.of(causes[0]);
+  }
+
+  /**
+   * Translates the position among successful elements to the index in the batch.
+   *
+   * @param rank position of the element among successful elements
+   * @return index of the element in the batch
+   */
+  int successIndex(int rank) {
+    // Find the number of failures k preceding the result, i.e. the largest k with
+    // indexes[k - 1] - (k - 1) <= rank, since indexes[k - 1] - (k - 1) successes precede it
+    int low = 0;
+    int high = count;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (indexes[middle] - middle <= rank) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return rank + low;
+  }
+
+  /**
+   * @return read-only view of the failures by index of the element
+   */
+  Map<Integer, Throwable> asMap() {
+    return new FailureMap();
+  }
+
+  /** Read-only view of the failures, which does not copy the underlying arrays. */
+  private final class FailureMap extends AbstractMap<Integer, Throwable> {
+    @Override
+    public int size() {
+      return count;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return key instanceof Integer && (Integer) key >= 0 && isFailure((Integer) key);
+    }
+
+    @Override
+    public Throwable get(Object key) {
+      return containsKey(key) ? BatchFailures.this.get((Integer) key) : null;
+    }
+
+    @Override
+    public Set<Entry<Integer, Throwable>> entrySet() {
+      return new AbstractSet<Entry<Integer, Throwable>>() {
+        @Override
+        public int size() {
+          return count;
+        }
+
+        @Override
+        public Iterator<Entry<Integer, Throwable>> iterator() {
+          return new Iterator<Entry<Integer, Throwable>>() {
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+              return position < count;
+            }
+
+            @Override
+            public Entry<Integer, Throwable> next() {
+              if (!hasNext()) {
+                throw new NoSuchElementException();
+              }
+
+              Entry<Integer, Throwable> entry =
+                  new SimpleImmutableEntry<>(indexes[position], causes[position]);
+              position++;
+              return entry;
+            }
+          };
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,385 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import io.github.suppierk.java.util.ExceptionSuppressor;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replaces equivalent exceptions with a single canonical instance, counting the occurrences.
+ *
+ * <p>Bulk jobs often fail thousands of times for the same reason, like the same {@code IOException}
+ * from an unavailable shard, and retaining every exception with its stack trace costs far more heap
+ * than the results themselves. Exceptions are considered equivalent when they have the same class,
+ * the same message once digits are ignored, the same top stack frames and equivalent causes. The
+ * first exception of every group becomes its canonical instance, and {@link Try.Failure} instances
+ * are shared within the group as well.
+ *
+ * <p>Optionally, stack traces of the canonical instances can be dropped once a number of groups
+ * have retained theirs, which bounds the memory used by jobs with many distinct failures. The
+ * exceptions passed in are never modified: the canonical instances of such groups are copies
+ * without the stack trace for plain JDK exceptions which carry nothing but a message and a cause,
+ * like {@link IllegalStateException} or {@link IOException}, and the first exceptions themselves
+ * for any other class, whose state a copy could not preserve.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class FailureCompactor {
+  private static final int DEFAULT_TOP_FRAMES = 3;
+  private static final StackTraceElement[] NO_FRAMES = new StackTraceElement[0];
+
+  /**
+   * Exception classes which carry no state besides the message and the cause, and whose {@code
+   * (String)} constructor keeps the message as is, so that their copies are indistinguishable.
+   */
+  private static final Set<Class<?>> COPYABLE =
+      new HashSet<>(
+          Arrays.asList(
+              Exception.class,
+              RuntimeException.class,
+              IllegalArgumentException.class,
+              IllegalStateException.class,
+              NoSuchElementException.class,
+              IOException.class));
+
+  private final int topFrames;
+  private final int retainedStackTraces;
+  private final ConcurrentMap<Fingerprint, Group> groups = new ConcurrentHashMap<>();
+  private final AtomicInteger stackTraces = new AtomicInteger();
+
+  private FailureCompactor(int topFrames, int retainedStackTraces) {
+    this.topFrames = topFrames;
+    this.retainedStackTraces = retainedStackTraces;
+  }
+
+  /**
+   * Returns a compactor comparing the top 3 stack frames and retaining all stack traces.
+   *
+   * @return new compactor
+   */
+  public static FailureCompactor create() {
+    return new FailureCompactor(DEFAULT_TOP_FRAMES, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns a compactor with the specified options.
+   *
+   * @param topFrames number of top stack frames which must match for exceptions to be equivalent
+   * @param retainedStackTraces number of groups which retain the stack trace of their canonical
+   *     exception, the canonical exceptions of the remaining groups are copies without stack traces
+   *     if their class carries no state besides the message and the cause
+   * @return new compactor
+   * @throws IllegalArgumentException if any of the arguments is negative
+   */
+  public static FailureCompactor create(int topFrames, int retainedStackTraces) {
+    if (topFrames < 0) {
+      throw new IllegalArgumentException("Number of top frames must not be negative: " + topFrames);
+    }
+    if (retainedStackTraces < 0) {
+      throw new IllegalArgumentException(
+          "Number of retained stack traces must not be negative: " + retainedStackTraces);
+    }
+    return new FailureCompactor(topFrames, retainedStackTraces);
+  }
+
+  /**
+   * Returns the canonical instance of the exception, registering a new group if there is no
+   * equivalent exception yet.
+   *
+   * @param exception to compact, which must be non-null
+   * @return canonical exception equivalent to the specified one
+   * @throws NullPointerException if exception is null
+   */
+  public Throwable compact(Throwable exception) {
+    return group(Objects.requireNonNull(exception, "Exception must not be null")).exception;
+  }
+
+  /**
+   * Returns the same {@link Try.Success}, or a {@link Try.Failure} shared by all equivalent
+   * exceptions.
+   *
+   * @param <T> the class of the value
+   * @param result to compact, which must be non-null
+   * @return compacted result
+   * @throws NullPointerException if result is null
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Try<T> compact(Try<T> result) {
+    if (Objects.requireNonNull(result, "Result must not be null").isSuccess()) {
+      return result;
+    }
+
+    Throwable[] exception = new Throwable[1];
+    result.ifFailure(t -> exception[0] = t);
+    return (Try<T>) group(exception[0]).failure;
+  }
+
+  /**
+   * Compacts every result of the collection.
+   *
+   * @param <T> the class of the values
+   * @param results to compact, which must be non-null
+   * @return new list of compacted results in the iteration order of the collection
+   * @throws NullPointerException if results is null
+   */
+  public <T> List<Try<T>> compactAll(Collection<? extends Try<T>> results) {
+    List<Try<T>> compacted = new ArrayList<>(results.size());
+    for (Try<T> result : results) {
+      compacted.add(compact(result));
+    }
+    return compacted;
+  }
+
+  /**
+   * Compacts every failure of the batch.
+   *
+   * @param <T> the class of the values
+   * @param batch to compact, which must be non-null
+   * @return new batch with the same values and compacted failures
+   * @throws NullPointerException if batch is null
+   */
+  public <T> TryBatch<T> compactAll(TryBatch<T> batch) {
+    TryBatch.Builder<T> builder = TryBatch.builder();
+    for (int index = 0; index < batch.size(); index++) {
+      if (batch.isFailure(index)) {
+        builder.addFailure(compact(batch.failures().get(index)));
+      } else {
+        builder.add(batch.get(index));
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns the groups of equivalent exceptions registered so far, the most frequent first.
+   *
+   * @return new list of groups
+   */
+  public List<Group> groups() {
+    List<Group> snapshot = new ArrayList<>(groups.values());
+    snapshot.sort(Comparator.comparingLong(Group::count).reversed());
+    return snapshot;
+  }
+
+  /**
+   * Finds or registers the group of the exception and counts the occurrence.
+   *
+   * @param exception to find the group of
+   * @return the group of the exception
+   */
+  private Group group(Throwable exception) {
+    Fingerprint fingerprint = new Fingerprint(exception, topFrames);
+    Group group = groups.get(fingerprint);
+    if (group == null) {
+      group =
+          groups.computeIfAbsent(
+              fingerprint,
+              key ->
+                  new Group(
+                      stackTraces.getAndIncrement() < retainedStackTraces
+                          ? exception
+                          : withoutStackTrace(exception),
+                      key.messageTemplate));
+    }
+
+    group.occurrences.increment();
+    return group;
+  }
+
+  /**
+   * Copies the exception with the same message, cause and suppressed exceptions but without the
+   * stack trace.
+   *
+   * @param exception to copy
+   * @return copy of the exception, or the exception itself if its class is not one of {@link
+   *     #COPYABLE}
+   */
+  private static Throwable withoutStackTrace(Throwable exception) {
+    if (!COPYABLE.contains(exception.getClass())) {
+      return exception;
+    }
+
+    // Capture the message only, the supplier must not retain the exception with its stack trace
+    String message = exception.getMessage();
+    Throwable copy = ExceptionSuppressor.stackless(exception.getClass(), () -> message);
+
+    Throwable cause = exception.getCause();
+    if (cause != null && copy.getCause() == null) {
+      try {
+        copy.initCause(cause);
+      } catch (IllegalStateException e) {
+        // Cause was set by the constructor
+      }
+    }
+    for (Throwable suppressed : exception.getSuppressed()) {
+      copy.addSuppressed(suppressed);
+    }
+    copy.setStackTrace(NO_FRAMES);
+    return copy;
+  }
+
+  /**
+   * Replaces runs of digits with a single {@code #}, so that messages which differ by identifiers,
+   * sizes or timestamps only produce the same template.
+   *
+   * @param message to normalize, may be null
+   * @return message template, or {@code null} if message was null
+   */
+  static String template(String message) {
+    if (message == null) {
+      return null;
+    }
+
+    StringBuilder template = null;
+    boolean inDigits = false;
+    for (int i = 0; i < message.length(); i++) {
+      char c = message.charAt(i);
+      if (Character.isDigit(c)) {
+        if (template == null) {
+          template = new StringBuilder(message.length()).append(message, 0, i);
+        }
+        if (!inDigits) {
+          template.append('#');
+        }
+        inDigits = true;
+      } else {
+        if (template != null) {
+          template.append(c);
+        }
+        inDigits = false;
+      }
+    }
+    return template == null ? message : template.toString();
+  }
+
+  /** Exceptions considered equivalent by the compactor, with the number of their occurrences. */
+  public static final class Group {
+    private final Throwable exception;
+    private final Try<?> failure;
+    private final String messageTemplate;
+    private final LongAdder occurrences = new LongAdder();
+
+    private Group(Throwable exception, String messageTemplate) {
+      this.exception = exception;
+      this.failure = Try.failure(exception);
+      this.messageTemplate = messageTemplate;
+    }
+
+    /**
+     * @return the canonical exception of the group, which is the first occurrence or its copy
+     *     without the stack trace
+     */
+    public Throwable exception() {
+      return exception;
+    }
+
+    /**
+     * @return the message of the exceptions with runs of digits replaced by {@code #}
+     */
+    public String messageTemplate() {
+      return messageTemplate;
+    }
+
+    /**
+     * @return number of occurrences of the exception
+     */
+    public long count() {
+      return occurrences.sum();
+    }
+
+    @Override
+    public String toString() {
+      return count() + " x " + exception.getClass().getName() + ": " + messageTemplate;
+    }
+  }
+
+  /** Class, message template, top frames and causes of an exception. */
+  private static final class Fingerprint {
+    private final Class<?> type;
+    private final String messageTemplate;
+    private final StackTraceElement[] frames;
+    private final Fingerprint cause;
+    private final int hash;
+
+    private Fingerprint(Throwable exception, int topFrames) {
+      this(exception, topFrames, 0);
+    }
+
+    private Fingerprint(Throwable exception, int topFrames, int depth) {
+      this.type = exception.getClass();
+      this.messageTemplate = template(exception.getMessage());
+
+      StackTraceElement[] trace = topFrames == 0 ? NO_FRAMES : exception.getStackTrace();
+      this.frames = trace.length > topFrames ? Arrays.copyOf(trace, topFrames) : trace;
+
+      // Bound the depth to protect from cyclic causes
+      Throwable nested = exception.getCause();
+      this.cause =
+          nested == null || nested == exception || depth >= 8
+              ? null
+              : new Fingerprint(nested, topFrames, depth + 1);
+
+      int result = type.hashCode();
+      result = 31 * result + Objects.hashCode(messageTemplate);
+      result = 31 * result + Arrays.hashCode(frames);
+      result = 31 * result + Objects.hashCode(cause);
+      this.hash = result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Fingerprint)) {
+        return false;
+      }
+      Fingerprint that = (Fingerprint) o;
+      return hash == that.hash
+          && type == that.type
+          && Objects.equals(messageTemplate, that.messageTemplate)
+          && Arrays.equals(frames, that.frames)
+          && Objects.equals(cause, that.cause);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -0,0 +1,372 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import io.github.suppierk.java.lang.ThrowableRunnable;
+import io.github.suppierk.java.util.StacklessNoSuchElementException;
+import io.github.suppierk.java.util.concurrent.VirtualThreads;
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import io.github.suppierk.java.util.function.ThrowableSupplier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs suppliers and functions concurrently and combines their outcomes.
+ *
+ * <p>Suppliers are submitted through an {@link ExecutorCompletionService}, so the outcomes are
+ * consumed in the order they complete. Once the combined outcome is known, the remaining tasks are
+ * cancelled with interruption: queued tasks never start and running tasks are interrupted, so they
+ * do not keep consuming resources after nobody waits for them.
+ */
+@SuppressWarnings("squid:S1181")
+final class FanOut {
+  /** Maximum number of platform threads used by {@link #forkAll(Collection, ThrowableFunction)}. */
+  static final int MAX_PLATFORM_THREADS =
+      Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+
+  private FanOut() {
+    // No instance
+  }
+
+  /**
+   * Runs all suppliers and collects their values.
+   *
+   * @param executor to run the suppliers in
+   * @param suppliers to run
+   * @param failFast {@code true} to stop at the first failure, {@code false} to wait for all
+   *     suppliers and suppress further failures into the first one
+   * @param maxSuppressed maximum number of exceptions to suppress into the first failure
+   * @return a {@link Try.Success} with the values in the order of the suppliers or {@link
+   *     Try.Failure}
+   */
+  @SuppressWarnings("unchecked")
+  static <T> Try<List<T>> allOf(
+      Executor executor,
+      Collection<? extends ThrowableSupplier<? extends T>> suppliers,
+      boolean failFast,
+      int maxSuppressed) {
+    List<ThrowableSupplier<?>> tasks = validate(executor, suppliers, maxSuppressed);
+    Object[] values = new Object[tasks.size()];
+    List<Future<Outcome>> futures = new ArrayList<>(tasks.size());
+
+    Throwable failure = null;
+    int suppressed = 0;
+    try {
+      CompletionService<Outcome> service = submitAll(executor, tasks, futures);
+      for (int remaining = futures.size(); remaining > 0; remaining--) {
+        Outcome outcome = service.take().get();
+        if (outcome.exception == null) {
+          values[outcome.index] = outcome.value;
+        } else if (failure == null) {
+          failure = outcome.exception;
+          if (failFast) {
+            break;
+          }
+        } else if (suppressed < maxSuppressed && outcome.exception != failure) {
+          failure.addSuppressed(outcome.exception);
+          suppressed++;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      failure = e;
+    } catch (Throwable t) {
+      failure = unwrap(t);
+    } finally {
+      cancelAll(futures);
+    }
+
+    return failure == null
+        ? Try.success(Collections.unmodifiableList(Arrays.asList((T[]) values)))
+        : Try.failure(failure);
+  }
+
+  /**
+   * Runs all suppliers until one of them succeeds.
+   *
+   * @param executor to run the suppliers in
+   * @param suppliers to run
+   * @param maxSuppressed maximum number of exceptions to suppress into the first failure
+   * @return a {@link Try.Success} with the first available value or {@link Try.Failure} with the
+   *     first failure and the others suppressed if all suppliers failed
+   */
+  @SuppressWarnings("unchecked")
+  static <T> Try<T> anyOf(
+      Executor executor,
+      Collection<? extends ThrowableSupplier<? extends T>> suppliers,
+      int maxSuppressed) {
+    List<ThrowableSupplier<?>> tasks = validate(executor, suppliers, maxSuppressed);
+    if (tasks.isEmpty()) {
+      return Try.failure(new StacklessNoSuchElementException("No suppliers to run"));
+    }
+
+    List<Future<Outcome>> futures = new ArrayList<>(tasks.size());
+    Throwable failure = null;
+    int suppressed = 0;
+    try {
+      CompletionService<Outcome> service = submitAll(executor, tasks, futures);
+      for (int remaining = futures.size(); remaining > 0; remaining--) {
+        Outcome outcome = service.take().get();
+        if (outcome.exception == null) {
+          return Try.success((T) outcome.value);
+        } else if (failure == null) {
+          failure = outcome.exception;
+        } else if (suppressed < maxSuppressed && outcome.exception != failure) {
+          failure.addSuppressed(outcome.exception);
+          suppressed++;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      failure = e;
+    } catch (Throwable t) {
+      failure = unwrap(t);
+    } finally {
+      cancelAll(futures);
+    }
+
+    return Try.failure(failure);
+  }
+
+  /**
+   * Applies the function to every value in its own task, using virtual threads if the runtime
+   * supports them and a bounded pool of platform threads otherwise.
+   *
+   * @param values to apply the function to
+   * @param function to apply
+   * @return results in the iteration order of the values
+   */
+  static <T, R> List<Try<R>> forkAll(
+      Collection<? extends T> values, ThrowableFunction<? super T, ? extends R> function) {
+    Objects.requireNonNull(values, "Values must not be null");
+    Objects.requireNonNull(function, "Function must not be null");
+    if (values.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    ExecutorService executor =
+        VirtualThreads.newVirtualThreadPerTaskExecutor()
+            .orElseGet(() -> platformExecutor(values.size()));
+    try {
+      return forkAll(executor, values, function);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Applies the function to every value in its own task submitted to the executor.
+   *
+   * @param executor to run the tasks in
+   * @param values to apply the function to
+   * @param function to apply
+   * @return results in the iteration order of the values
+   */
+  static <T, R> List<Try<R>> forkAll(
+      Executor executor,
+      Collection<? extends T> values,
+      ThrowableFunction<? super T, ? extends R> function) {
+    Objects.requireNonNull(executor, "Executor must not be null");
+    Objects.requireNonNull(values, "Values must not be null");
+    Objects.requireNonNull(function, "Function must not be null");
+
+    List<T> inputs = new ArrayList<>(values);
+    List<Try<R>> results = new ArrayList<>(Collections.nCopies(inputs.size(), null));
+    List<FutureTask<Try<R>>> futures = new ArrayList<>(inputs.size());
+    int submitted = 0;
+    try {
+      for (T value : inputs) {
+        FutureTask<Try<R>> future = new FutureTask<>(() -> Try.apply(function, value));
+        futures.add(future);
+        executor.execute(future);
+        submitted++;
+      }
+
+      for (int i = 0; i < submitted; i++) {
+        results.set(i, futures.get(i).get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      fill(results, e);
+    } catch (Throwable t) {
+      fill(results, unwrap(t));
+    } finally {
+      for (Future<?> future : futures) {
+        future.cancel(true);
+      }
+    }
+
+    return Collections.unmodifiableList(results);
+  }
+
+  /**
+   * Creates a pool of daemon platform threads for blocking tasks.
+   *
+   * @param tasks number of tasks to run
+   * @return new pool with at most {@link #MAX_PLATFORM_THREADS} threads
+   */
+  private static ExecutorService platformExecutor(int tasks) {
+    int threads = Math.min(tasks, MAX_PLATFORM_THREADS);
+    AtomicInteger counter = new AtomicInteger();
+    return Executors.newFixedThreadPool(
+        threads,
+        runnable -> {
+          Thread thread = new Thread(runnable, "try-fork-" + counter.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  /**
+   * Sets the results which are not available yet to the failure.
+   *
+   * @param results to fill
+   * @param exception to fill with
+   */
+  private static <R> void fill(List<Try<R>> results, Throwable exception) {
+    Try<R> failure = Try.failure(exception);
+    for (int i = 0; i < results.size(); i++) {
+      if (results.get(i) == null) {
+        results.set(i, failure);
+      }
+    }
+  }
+
+  /**
+   * Adapts the runnables to suppliers of {@code null}.
+   *
+   * @param runnables to adapt
+   * @return new list of suppliers
+   * @throws NullPointerException if runnables or any of the runnables is null
+   */
+  static List<ThrowableSupplier<Object>> suppliers(ThrowableRunnable... runnables) {
+    Objects.requireNonNull(runnables, "Runnables must not be null");
+    List<ThrowableSupplier<Object>> suppliers = new ArrayList<>(runnables.length);
+    for (ThrowableRunnable runnable : runnables) {
+      Objects.requireNonNull(runnable, "Runnables must not contain null");
+      suppliers.add(
+          () -> {
+            runnable.runUnsafe();
+            return null;
+          });
+    }
+    return suppliers;
+  }
+
+  /**
+   * Checks the arguments and copies the suppliers.
+   *
+   * @return copy of the suppliers
+   * @throws NullPointerException if executor, suppliers or any of the suppliers is null
+   * @throws IllegalArgumentException if maxSuppressed is negative
+   */
+  private static List<ThrowableSupplier<?>> validate(
+      Executor executor, Collection<? extends ThrowableSupplier<?>> suppliers, int maxSuppressed) {
+    Objects.requireNonNull(executor, "Executor must not be null");
+    Objects.requireNonNull(suppliers, "Suppliers must not be null");
+    if (maxSuppressed < 0) {
+      throw new IllegalArgumentException(
+          "Maximum number of suppressed exceptions must not be negative: " + maxSuppressed);
+    }
+
+    List<ThrowableSupplier<?>> tasks = new ArrayList<>(suppliers);
+    for (ThrowableSupplier<?> task : tasks) {
+      Objects.requireNonNull(task, "Suppliers must not contain null");
+    }
+    return tasks;
+  }
+
+  /**
+   * Submits the suppliers, adding their futures to the list as they are submitted, so that they can
+   * be cancelled even if a later submission is rejected.
+   *
+   * @return the service to take completed outcomes from
+   */
+  private static CompletionService<Outcome> submitAll(
+      Executor executor, List<ThrowableSupplier<?>> tasks, List<Future<Outcome>> futures) {
+    CompletionService<Outcome> service = new ExecutorCompletionService<>(executor);
+    for (int i = 0; i < tasks.size(); i++) {
+      ThrowableSupplier<?> task = tasks.get(i);
+      int index = i;
+      futures.add(
+          service.submit(
+              () -> {
+                try {
+                  return new Outcome(index, task.getUnsafe(), null);
+                } catch (Throwable t) {
+                  return new Outcome(index, null, t);
+                }
+              }));
+    }
+    return service;
+  }
+
+  /**
+   * Cancels the futures with interruption, which has no effect on the completed ones.
+   *
+   * @param futures to cancel
+   */
+  private static void cancelAll(List<Future<Outcome>> futures) {
+    for (Future<Outcome> future : futures) {
+      future.cancel(true);
+    }
+  }
+
+  /**
+   * @param exception to unwrap
+   * @return the cause of {@link ExecutionException}, or the exception itself
+   */
+  private static Throwable unwrap(Throwable exception) {
+    return exception instanceof ExecutionException && exception.getCause() != null
+        ? exception.getCause()
+        : exception;
+  }
+
+  /** Value or exception of a single supplier. */
+  private static final class Outcome {
+    private final int index;
+    private final Object value;
+    private final Throwable exception;
+
+    private Outcome(int index, Object value, Throwable exception) {
+      this.index = index;
+      this.value = value;
+      this.exception = exception;
+    }
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import io.github.suppierk.java.util.ExceptionSuppressor;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+/**
+ * Spins dedicated bridge classes for the library's functional interfaces.
+ *
+ * <p>The default bridge methods, like {@code ThrowableFunction#apply(Object)}, are shared by every
+ * implementation of the interface, so the type profile of the {@code *Unsafe} call inside them
+ * quickly becomes megamorphic. Bridges created here implement the JDK interface directly and call
+ * the {@code *Unsafe} method from their own class, one class per implementation class, which keeps
+ * that call site monomorphic. Exceptions are passed through as is, like the default bridges do.
+ */
+final class FunctionSpecializer {
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  /** Bridge factories by library interface and then by implementation class. */
+  private static final ClassValue<ClassValue<MethodHandle>> FACTORIES =
+      new ClassValue<ClassValue<MethodHandle>>() {
+        @Override
+        protected ClassValue<MethodHandle> computeValue(Class<?> throwableType) {
+          return new ClassValue<MethodHandle>() {
+            @Override
+            protected MethodHandle computeValue(Class<?> implementationType) {
+              return spin(throwableType);
+            }
+          };
+        }
+      };
+
+  private FunctionSpecializer() {
+    // No instance
+  }
+
+  /**
+   * Wraps the function into a bridge dedicated to its implementation class.
+   *
+   * @param <J> the JDK interface extended by {@code throwableType}
+   * @param function the function to wrap, which must be non-null
+   * @param throwableType the library interface implemented by the function
+   * @return JDK interface implementation calling the {@code *Unsafe} method of the function
+   * @throws NullPointerException if function is null
+   */
+  @SuppressWarnings("unchecked")
+  static <J> J specialize(Object function, Class<?> throwableType) {
+    Objects.requireNonNull(function, "Function to specialize must not be null");
+    try {
+      Object bridge = FACTORIES.get(throwableType).get(function.getClass()).invokeExact(function);
+      return (J) bridge;
+    } catch (Throwable t) {
+      return ExceptionSuppressor.asUnchecked(t);
+    }
+  }
+
+  /**
+   * Creates a new bridge class for the library interface.
+   *
+   * @param throwableType the library interface to create the bridge for
+   * @return the factory accepting the function and returning its bridge
+   */
+  private static MethodHandle spin(Class<?> throwableType) {
+    try {
+      Class<?> jdkType = throwableType.getInterfaces()[0];
+      Method sam = singleAbstractMethod(jdkType);
+      MethodType samType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+      MethodHandle unsafe = LOOKUP.findVirtual(throwableType, sam.getName() + "Unsafe", samType);
+
+      return LambdaMetafactory.metafactory(
+              LOOKUP,
+              sam.getName(),
+              MethodType.methodType(jdkType, throwableType),
+              samType,
+              unsafe,
+              samType)
+          .getTarget()
+          .asType(FACTORY_TYPE);
+    } catch (Throwable t) {
+      return ExceptionSuppressor.asUnchecked(t);
+    }
+  }
+
+  /**
+   * @param jdkType functional interface
+   * @return the functional method of the interface
+   */
+  private static Method singleAbstractMethod(Class<?> jdkType) {
+    for (Method method : jdkType.getMethods()) {
+      if (Modifier.isAbstract(method.getModifiers()) && !isObjectMethod(method)) {
+        return method;
+      }
+    }
+
+    throw new IllegalArgumentException(jdkType.getName() + " is not a functional interface");
+  }
+
+  /**
+   * @param method to check
+   * @return {@code true} if the method is a public method of {@link Object}, like {@link
+   *     Object#equals(Object)} in {@link java.util.Comparator}
+   */
+  private static boolean isObjectMethod(Method method) {
+    try {
+      Object.class.getMethod(method.getName(), method.getParameterTypes());
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+}
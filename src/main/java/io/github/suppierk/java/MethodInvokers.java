@@ -0,0 +1,379 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import io.github.suppierk.java.util.ExceptionSuppressor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates implementations of functional interfaces which invoke a method directly.
+ *
+ * <p>Implementations are spun with {@link LambdaMetafactory}, so calling them costs the same as
+ * calling a method reference and does not involve reflection. Method handles which are not direct,
+ * like the ones produced by {@link MethodHandles#insertArguments(MethodHandle, int, Object...)},
+ * are captured by a generated class and invoked with boxed arguments instead.
+ */
+final class MethodInvokers {
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  /**
+   * Invokers created from {@link Method}, which are stateless and can be shared, attached to the
+   * declaring class of the method so that they do not prevent it from being unloaded.
+   */
+  private static final ClassValue<ConcurrentMap<Key, Object>> INVOKERS =
+      new ClassValue<ConcurrentMap<Key, Object>>() {
+        @Override
+        protected ConcurrentMap<Key, Object> computeValue(Class<?> declaringClass) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  /** Invokers of generic method handles, indexed by arity. */
+  private static final MethodHandle[] GENERIC_INVOKERS = new MethodHandle[3];
+
+  static {
+    try {
+      for (int arity = 0; arity < GENERIC_INVOKERS.length; arity++) {
+        GENERIC_INVOKERS[arity] =
+            LOOKUP.findStatic(
+                MethodInvokers.class,
+                "invoke",
+                MethodType.genericMethodType(arity).insertParameterTypes(0, MethodHandle.class));
+      }
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private MethodInvokers() {
+    // No instance
+  }
+
+  /**
+   * Returns cached or creates a new invoker of the method.
+   *
+   * @param <F> the type of the functional interface
+   * @param lookup the lookup having access to the method
+   * @param method the method to invoke
+   * @param type the functional interface to implement
+   * @return the functional interface implementation invoking the method
+   */
+  static <F> F fromMethod(MethodHandles.Lookup lookup, Method method, Class<F> type) {
+    Objects.requireNonNull(lookup, "Lookup must not be null");
+    Objects.requireNonNull(method, "Method must not be null");
+    Objects.requireNonNull(type, "Functional interface type must not be null");
+
+    ConcurrentMap<Key, Object> invokers = INVOKERS.get(method.getDeclaringClass());
+    Key key = new Key(lookup, method, type);
+    Object invoker = invokers.get(key);
+    if (invoker == null) {
+      try {
+        invoker = fromMethodHandle(lookup, lookup.unreflect(method), type);
+      } catch (IllegalAccessException e) {
+        return ExceptionSuppressor.asUnchecked(e);
+      }
+
+      Object existing = invokers.putIfAbsent(key, invoker);
+      if (existing != null) {
+        invoker = existing;
+      }
+    }
+    return type.cast(invoker);
+  }
+
+  /**
+   * Creates a new invoker of the method handle.
+   *
+   * @param <F> the type of the functional interface
+   * @param lookup the lookup having access to the method behind the handle
+   * @param methodHandle the method handle to invoke
+   * @param type the functional interface to implement
+   * @return the functional interface implementation invoking the method handle
+   */
+  static <F> F fromMethodHandle(
+      MethodHandles.Lookup lookup, MethodHandle methodHandle, Class<F> type) {
+    Objects.requireNonNull(lookup, "Lookup must not be null");
+    Objects.requireNonNull(methodHandle, "Method handle must not be null");
+    Objects.requireNonNull(type, "Functional interface type must not be null");
+
+    Method sam = singleAbstractMethod(type);
+    MethodType samType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+    MethodType implType = methodHandle.type();
+    if (implType.parameterCount() != samType.parameterCount()) {
+      throw new IllegalArgumentException(
+          "Method handle " + implType + " does not match " + type.getName() + "#" + sam.getName());
+    }
+
+    // Spinning a class requires a lookup with private access to the class which will host it
+    MethodHandles.Lookup caller =
+        (lookup.lookupModes() & MethodHandles.Lookup.PRIVATE) != 0 ? lookup : LOOKUP;
+    if (caller == LOOKUP && !isVisibleToLibrary(lookup, methodHandle, type)) {
+      // Class hosted by this library would fail to link types of child class loaders
+      return fromIndirectMethodHandle(methodHandle, type, sam, samType);
+    }
+
+    CallSite site;
+    try {
+      site =
+          LambdaMetafactory.metafactory(
+              caller,
+              sam.getName(),
+              MethodType.methodType(type),
+              samType,
+              methodHandle,
+              instantiatedType(samType, implType));
+    } catch (LambdaConversionException | IllegalArgumentException notDirect) {
+      // Thrown for handles which cannot be cracked, like bound or adapted ones
+      return fromIndirectMethodHandle(methodHandle, type, sam, samType);
+    }
+
+    try {
+      return type.cast(site.getTarget().invoke());
+    } catch (Throwable t) {
+      return ExceptionSuppressor.asUnchecked(t);
+    }
+  }
+
+  /**
+   * Creates a new invoker capturing the method handle which is not direct, like the one produced by
+   * {@link MethodHandles#insertArguments(MethodHandle, int, Object...)}.
+   *
+   * <p>Arguments and result are passed as objects, which boxes primitive values.
+   *
+   * @param <F> the type of the functional interface
+   * @param methodHandle the method handle to invoke
+   * @param type the functional interface to implement
+   * @param sam the functional method of the interface
+   * @param samType erased type of the functional method
+   * @return the functional interface implementation invoking the method handle
+   */
+  private static <F> F fromIndirectMethodHandle(
+      MethodHandle methodHandle, Class<F> type, Method sam, MethodType samType) {
+    int arity = samType.parameterCount();
+    if (arity >= GENERIC_INVOKERS.length) {
+      throw new IllegalArgumentException(
+          type.getName() + "#" + sam.getName() + " has too many parameters");
+    }
+
+    MethodHandle generic = methodHandle.asType(MethodType.genericMethodType(arity));
+    try {
+      return type.cast(
+          LambdaMetafactory.metafactory(
+                  LOOKUP,
+                  sam.getName(),
+                  MethodType.methodType(type, MethodHandle.class),
+                  samType,
+                  GENERIC_INVOKERS[arity],
+                  samType.wrap().changeReturnType(samType.returnType()))
+              .getTarget()
+              .invoke(generic));
+    } catch (Throwable t) {
+      return ExceptionSuppressor.asUnchecked(t);
+    }
+  }
+
+  @SuppressWarnings("unused") // Invoked by generated classes
+  private static Object invoke(MethodHandle methodHandle) throws Throwable {
+    return methodHandle.invokeExact();
+  }
+
+  @SuppressWarnings("unused") // Invoked by generated classes
+  private static Object invoke(MethodHandle methodHandle, Object a) throws Throwable {
+    return methodHandle.invokeExact(a);
+  }
+
+  @SuppressWarnings("unused") // Invoked by generated classes
+  private static Object invoke(MethodHandle methodHandle, Object a, Object b) throws Throwable {
+    return methodHandle.invokeExact(a, b);
+  }
+
+  /**
+   * Checks whether a class hosted by this library can link against the method behind the handle.
+   *
+   * @param lookup the lookup having access to the method behind the handle
+   * @param methodHandle the method handle to invoke
+   * @param type the functional interface to implement
+   * @return {@code true} if the declaring class, the types of the handle and the interface are
+   *     visible from the class loader of this library
+   */
+  private static boolean isVisibleToLibrary(
+      MethodHandles.Lookup lookup, MethodHandle methodHandle, Class<?> type) {
+    Class<?> declaringClass;
+    try {
+      declaringClass = lookup.revealDirect(methodHandle).getDeclaringClass();
+    } catch (IllegalArgumentException notDirect) {
+      return false;
+    }
+
+    MethodType implType = methodHandle.type();
+    if (!isVisibleToLibrary(declaringClass)
+        || !isVisibleToLibrary(type)
+        || !isVisibleToLibrary(implType.returnType())) {
+      return false;
+    }
+    for (Class<?> parameterType : implType.parameterList()) {
+      if (!isVisibleToLibrary(parameterType)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param type to check
+   * @return {@code true} if the class loader of this library resolves the name of the type to the
+   *     type itself
+   */
+  private static boolean isVisibleToLibrary(Class<?> type) {
+    Class<?> element = type;
+    while (element.isArray()) {
+      element = element.getComponentType();
+    }
+    if (element.isPrimitive()) {
+      return true;
+    }
+
+    try {
+      return Class.forName(element.getName(), false, MethodInvokers.class.getClassLoader())
+          == element;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Narrows erased parameter and return types of the functional method to the types of the method
+   * handle, so that {@link LambdaMetafactory} inserts the necessary casts and boxing.
+   *
+   * @param samType erased type of the functional method
+   * @param implType type of the method handle
+   * @return the type of the functional method as seen by the method handle
+   */
+  private static MethodType instantiatedType(MethodType samType, MethodType implType) {
+    MethodType instantiated = samType;
+    for (int i = 0; i < samType.parameterCount(); i++) {
+      if (!samType.parameterType(i).isPrimitive()) {
+        instantiated = instantiated.changeParameterType(i, boxed(implType.parameterType(i)));
+      }
+    }
+
+    Class<?> returnType = samType.returnType();
+    if (!returnType.isPrimitive() && implType.returnType() != void.class) {
+      instantiated = instantiated.changeReturnType(boxed(implType.returnType()));
+    }
+    return instantiated;
+  }
+
+  /**
+   * @param type to box
+   * @return wrapper type if the type is primitive, otherwise the type itself
+   */
+  private static Class<?> boxed(Class<?> type) {
+    return MethodType.methodType(type).wrap().returnType();
+  }
+
+  /**
+   * @param type functional interface
+   * @return the functional method of the interface
+   */
+  private static Method singleAbstractMethod(Class<?> type) {
+    if (!type.isInterface()) {
+      throw new IllegalArgumentException(type.getName() + " is not an interface");
+    }
+
+    Method result = null;
+    for (Method method : type.getMethods()) {
+      if (Modifier.isAbstract(method.getModifiers()) && !isObjectMethod(method)) {
+        // Library interfaces override the JDK functional method with a default bridge
+        if (result == null || method.getName().endsWith("Unsafe")) {
+          result = method;
+        }
+      }
+    }
+
+    if (result == null) {
+      throw new IllegalArgumentException(type.getName() + " is not a functional interface");
+    }
+    return result;
+  }
+
+  /**
+   * @param method to check
+   * @return {@code true} if the method is a public method of {@link Object}
+   */
+  private static boolean isObjectMethod(Method method) {
+    try {
+      Object.class.getMethod(method.getName(), method.getParameterTypes());
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /** Cache key, which includes the lookup to not share invokers between different access rights. */
+  private static final class Key {
+    private final Class<?> lookupClass;
+    private final int lookupModes;
+    private final Method method;
+    private final Class<?> type;
+
+    private Key(MethodHandles.Lookup lookup, Method method, Class<?> type) {
+      this.lookupClass = lookup.lookupClass();
+      this.lookupModes = lookup.lookupModes();
+      this.method = method;
+      this.type = type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return lookupModes == key.lookupModes
+          && lookupClass == key.lookupClass
+          && method.equals(key.method)
+          && type == key.type;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(lookupClass, lookupModes, method, type);
+    }
+  }
+}
@@ -0,0 +1,521 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import io.github.suppierk.java.util.ExceptionSuppressor;
+import io.github.suppierk.java.util.function.ThrowableConsumer;
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import io.github.suppierk.java.util.function.ThrowablePredicate;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A container object that contains either a value or an error value of any type.
+ *
+ * <p>This is a sibling of {@link Try} for failures which are expected business outcomes, like parse
+ * errors or missing keys. The error is kept as a plain value, so no exception is created until
+ * {@link #get()} is called on a {@link Result.Failure}.
+ *
+ * <p>Unlike {@link Try}, exceptions thrown by the functions passed to this class are not captured
+ * and propagate to the caller as is. Use {@link #toTry()} to continue with exception capturing.
+ *
+ * <p>This is a <a href="../lang/doc-files/ValueBased.html">value-based</a> class; use of
+ * identity-sensitive operations (including reference equality ({@code ==}), identity hash code, or
+ * synchronization) on instances of {@code Result} may have unpredictable results and should be
+ * avoided.
+ *
+ * @param <E> the class of the error
+ * @param <T> the class of the value
+ */
+public interface Result<E, T> {
+  /**
+   * Returns a {@link Result} with the specified value.
+   *
+   * @param <E> the class of the error
+   * @param <T> the class of the value
+   * @param value the value to be present
+   * @return a {@link Result.Success} with the value
+   */
+  static <E, T> Result<E, T> success(T value) {
+    return new Success<>(value);
+  }
+
+  /**
+   * Returns a {@link Result} with the specified error.
+   *
+   * @param <E> the class of the error
+   * @param <T> the class of the value
+   * @param error the error to be present, which must be non-null
+   * @return a {@link Result.Failure} with the error
+   * @throws NullPointerException if error is null
+   */
+  static <E, T> Result<E, T> failure(E error) {
+    return new Failure<>(error);
+  }
+
+  /**
+   * Returns a {@link Result} created from specified {@link Optional}.
+   *
+   * @param <E> the class of the error
+   * @param <T> the class of the value
+   * @param optional the {@link Optional} to be present
+   * @param error the supplier of the error if the value is not present
+   * @return a {@link Result.Success} with the value if it was present otherwise a {@link
+   *     Result.Failure} with the supplied error
+   * @throws NullPointerException if optional or error is null
+   */
+  static <E, T> Result<E, T> fromOptional(Optional<T> optional, Supplier<? extends E> error) {
+    Objects.requireNonNull(error, "Result.fromOptional(Optional, Supplier) error must not be null");
+    if (Objects.requireNonNull(optional).isPresent()) {
+      return success(optional.get());
+    } else {
+      return failure(error.get());
+    }
+  }
+
+  /**
+   * Returns a {@link Result} created from specified {@link Try}, using its exception as the error.
+   *
+   * @param <T> the class of the value
+   * @param tryValue the {@link Try} to convert
+   * @return a {@link Result.Success} with the value if the {@link Try} succeeded otherwise a {@link
+   *     Result.Failure} with the exception
+   * @throws NullPointerException if tryValue is null
+   */
+  static <T> Result<Throwable, T> fromTry(Try<T> tryValue) {
+    if (Objects.requireNonNull(tryValue).isSuccess()) {
+      return success(tryValue.get());
+    }
+
+    Throwable[] exception = new Throwable[1];
+    tryValue.ifFailure(t -> exception[0] = t);
+    return failure(exception[0]);
+  }
+
+  /**
+   * If this is {@link Result.Success}, returns the value, if this is {@link Result.Failure}, throws
+   * the error if it is a {@link Throwable} or {@link ResultException} with the error otherwise.
+   *
+   * @return the value held by this {@link Result.Success}
+   * @see Result#isSuccess()
+   * @see Result#isFailure()
+   */
+  T get();
+
+  /**
+   * If this is {@link Result.Failure}, returns the error, otherwise throws {@link
+   * NoSuchElementException}.
+   *
+   * @return the error held by this {@link Result.Failure}
+   * @throws NoSuchElementException if this is {@link Result.Success}
+   */
+  E getError();
+
+  /**
+   * @return {@code true} if there is a value present, otherwise {@code false}
+   */
+  boolean isSuccess();
+
+  /**
+   * @return {@code true} if there is an error present, otherwise {@code false}
+   */
+  boolean isFailure();
+
+  /**
+   * If a value is present, invoke the specified consumer with the value, otherwise do nothing.
+   *
+   * @param consumer block to be executed if a value is present
+   */
+  void ifSuccess(ThrowableConsumer<? super T> consumer);
+
+  /**
+   * If an error is present, invoke the specified consumer with the error, otherwise do nothing.
+   *
+   * @param consumer block to be executed if an error is present
+   */
+  void ifFailure(ThrowableConsumer<? super E> consumer);
+
+  /**
+   * If a value is present, invoke the specified consumer with the value, otherwise invoke the
+   * specified consumer with the error.
+   *
+   * @param valueConsumer block to be executed if a value is present
+   * @param errorConsumer block to be executed if an error is present
+   */
+  void ifSuccessOrElse(
+      ThrowableConsumer<? super T> valueConsumer, ThrowableConsumer<? super E> errorConsumer);
+
+  /**
+   * If a value is present, and the value matches the given predicate, return this {@link Result},
+   * otherwise return a failed {@link Result} with the error created from the value.
+   *
+   * @param predicate a predicate to apply to the value, if present
+   * @param error a function creating the error from the rejected value
+   * @return this {@link Result} if the value matches the given predicate or there is an error
+   *     already, otherwise a {@link Result.Failure}
+   */
+  Result<E, T> filter(
+      ThrowablePredicate<? super T> predicate, ThrowableFunction<? super T, ? extends E> error);
+
+  /**
+   * If a value is present, apply the provided mapping function to it and return a {@link Result}
+   * describing the result. Otherwise, return a {@link Result} with the same error.
+   *
+   * @param <U> The type of the result of the mapping function
+   * @param mapper a mapping function to apply to the value, if present
+   * @return a {@link Result.Success} describing the result of applying a mapping function to the
+   *     value of this {@link Result}, if a value is present, otherwise a {@link Result.Failure}
+   */
+  <U> Result<E, U> map(ThrowableFunction<? super T, ? extends U> mapper);
+
+  /**
+   * If an error is present, apply the provided mapping function to it and return a {@link Result}
+   * describing the result. Otherwise, return a {@link Result} with the same value.
+   *
+   * @param <F> The type of the result of the mapping function
+   * @param mapper a mapping function to apply to the error, if present
+   * @return a {@link Result.Failure} describing the result of applying a mapping function to the
+   *     error of this {@link Result}, if an error is present, otherwise a {@link Result.Success}
+   */
+  <F> Result<F, T> mapFailure(ThrowableFunction<? super E, ? extends F> mapper);
+
+  /**
+   * If a value is present, apply the provided {@link Result}-bearing mapping function to it, return
+   * that result, otherwise return a {@link Result} with the same error.
+   *
+   * @param <U> The type parameter to the {@link Result} returned by the mapping function
+   * @param mapper a mapping function to apply to the value, if present
+   * @return the result of applying a {@link Result}-bearing mapping function to the value of this
+   *     {@link Result}, if a value is present, otherwise a {@link Result.Failure}
+   */
+  <U> Result<E, U> flatMap(ThrowableFunction<? super T, Result<E, U>> mapper);
+
+  /**
+   * If an error is present, apply the provided function to it and return a {@link Result.Success}
+   * with the result. Otherwise, return this {@link Result}.
+   *
+   * @param recovery a function computing the value from the error, if present
+   * @return this {@link Result} if a value is present, otherwise a {@link Result.Success} with the
+   *     recovered value
+   */
+  Result<E, T> recover(ThrowableFunction<? super E, ? extends T> recovery);
+
+  /**
+   * Convert this {@link Result} to {@link Optional} without preserving error information.
+   *
+   * @return new {@link Optional} containing value or {@link Optional#empty()} if there was an error
+   */
+  Optional<T> toOptional();
+
+  /**
+   * Convert this {@link Result} to {@link Try}, materializing the error as the exception thrown by
+   * {@link #get()}.
+   *
+   * @return new {@link Try} containing value or exception
+   */
+  Try<T> toTry();
+
+  /**
+   * Convert this {@link Result} to {@link Try}, materializing the error with the specified
+   * function.
+   *
+   * @param exceptionMapper a function creating the exception from the error, if present
+   * @return new {@link Try} containing value or exception
+   */
+  Try<T> toTry(Function<? super E, ? extends Throwable> exceptionMapper);
+
+  /**
+   * Return the value if present, otherwise return {@code other}.
+   *
+   * @param other the value to be returned if there is an error, may be null
+   * @return the value, if present, otherwise {@code other}
+   */
+  default T orElse(T other) {
+    return isSuccess() ? get() : other;
+  }
+
+  /**
+   * Return the value if present, otherwise invoke {@code other} and return the result of that
+   * invocation.
+   *
+   * @param other a {@link Supplier} whose result is returned if no value is present
+   * @return the value if present otherwise the result of {@code other.get()}
+   * @throws NullPointerException if value is not present and {@code other} is null
+   */
+  default T orElse(Supplier<? extends T> other) {
+    if (isSuccess()) {
+      return get();
+    }
+
+    return Objects.requireNonNull(other, "Result.orElse(Supplier) argument must not be null").get();
+  }
+
+  /**
+   * A container object which contains value.
+   *
+   * @param <E> the class of the error
+   * @param <T> the class of the value
+   */
+  class Success<E, T> implements Result<E, T> {
+    /** Value (maybe null). */
+    private final T value;
+
+    /**
+     * Constructs an instance with the value present.
+     *
+     * @param value the value to be present
+     */
+    protected Success(T value) {
+      this.value = value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T get() {
+      return value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public E getError() {
+      throw new NoSuchElementException("No error present");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSuccess() {
+      return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isFailure() {
+      return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifSuccess(ThrowableConsumer<? super T> consumer) {
+      Objects.requireNonNull(consumer).accept(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifFailure(ThrowableConsumer<? super E> consumer) {
+      // Do nothing
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifSuccessOrElse(
+        ThrowableConsumer<? super T> valueConsumer, ThrowableConsumer<? super E> errorConsumer) {
+      Objects.requireNonNull(valueConsumer).accept(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Result<E, T> filter(
+        ThrowablePredicate<? super T> predicate, ThrowableFunction<? super T, ? extends E> error) {
+      if (Objects.requireNonNull(predicate).test(value)) {
+        return this;
+      } else {
+        return failure(Objects.requireNonNull(error).apply(value));
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <U> Result<E, U> map(ThrowableFunction<? super T, ? extends U> mapper) {
+      return success(Objects.requireNonNull(mapper).apply(value));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F> Result<F, T> mapFailure(ThrowableFunction<? super E, ? extends F> mapper) {
+      Objects.requireNonNull(mapper);
+      return (Result<F, T>) this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <U> Result<E, U> flatMap(ThrowableFunction<? super T, Result<E, U>> mapper) {
+      return Objects.requireNonNull(mapper).apply(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Result<E, T> recover(ThrowableFunction<? super E, ? extends T> recovery) {
+      Objects.requireNonNull(recovery);
+      return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<T> toOptional() {
+      return Optional.ofNullable(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Try<T> toTry() {
+      return Try.success(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Try<T> toTry(Function<? super E, ? extends Throwable> exceptionMapper) {
+      Objects.requireNonNull(exceptionMapper);
+      return Try.success(value);
+    }
+  }
+
+  /**
+   * A container object which contains error.
+   *
+   * @param <E> the class of the error
+   * @param <T> the class of the value
+   */
+  class Failure<E, T> implements Result<E, T> {
+    /** Non-null error. */
+    private final E error;
+
+    /**
+     * Constructs an instance with the error present.
+     *
+     * @param error the non-null error to be present
+     * @throws NullPointerException if error is null
+     */
+    protected Failure(E error) {
+      this.error = Objects.requireNonNull(error, "Result.failure(E) argument must not be null");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T get() {
+      return ExceptionSuppressor.asUnchecked(toThrowable());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public E getError() {
+      return error;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSuccess() {
+      return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isFailure() {
+      return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifSuccess(ThrowableConsumer<? super T> consumer) {
+      // Do nothing
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifFailure(ThrowableConsumer<? super E> consumer) {
+      Objects.requireNonNull(consumer).accept(error);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifSuccessOrElse(
+        ThrowableConsumer<? super T> valueConsumer, ThrowableConsumer<? super E> errorConsumer) {
+      Objects.requireNonNull(errorConsumer).accept(error);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Result<E, T> filter(
+        ThrowablePredicate<? super T> predicate, ThrowableFunction<? super T, ? extends E> error) {
+      return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> Result<E, U> map(ThrowableFunction<? super T, ? extends U> mapper) {
+      return (Result<E, U>) this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <F> Result<F, T> mapFailure(ThrowableFunction<? super E, ? extends F> mapper) {
+      return failure(Objects.requireNonNull(mapper).apply(error));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> Result<E, U> flatMap(ThrowableFunction<? super T, Result<E, U>> mapper) {
+      return (Result<E, U>) this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Result<E, T> recover(ThrowableFunction<? super E, ? extends T> recovery) {
+      return success(Objects.requireNonNull(recovery).apply(error));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<T> toOptional() {
+      return Optional.empty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Try<T> toTry() {
+      return Try.failure(toThrowable());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Try<T> toTry(Function<? super E, ? extends Throwable> exceptionMapper) {
+      return Try.failure(Objects.requireNonNull(exceptionMapper).apply(error));
+    }
+
+    /**
+     * Materializes the error as an exception.
+     *
+     * @return the error itself if it is a {@link Throwable}, otherwise {@link ResultException}
+     */
+    private Throwable toThrowable() {
+      return error instanceof Throwable ? (Throwable) error : new ResultException(error);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+/**
+ * Thrown by {@link Result#get()} when the {@link Result} contains an error which is not a {@link
+ * Throwable} itself.
+ */
+public class ResultException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  /** Error of the {@link Result}, which may be not serializable. */
+  private final transient Object error;
+
+  /**
+   * Constructs a new exception for the specified error.
+   *
+   * @param error the error of the {@link Result}
+   */
+  public ResultException(Object error) {
+    super("Result contains an error: " + error);
+    this.error = error;
+  }
+
+  /**
+   * @return the error of the {@link Result}, or {@code null} if this exception was deserialized
+   */
+  public Object getError() {
+    return error;
+  }
+}
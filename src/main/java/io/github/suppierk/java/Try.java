@@ -24,14 +24,24 @@
 
 package io.github.suppierk.java;
 
+import io.github.suppierk.java.lang.ThrowableRunnable;
 import io.github.suppierk.java.util.ExceptionSuppressor;
+import io.github.suppierk.java.util.StacklessNoSuchElementException;
+import io.github.suppierk.java.util.function.ThrowableBiFunction;
 import io.github.suppierk.java.util.function.ThrowableConsumer;
 import io.github.suppierk.java.util.function.ThrowableFunction;
 import io.github.suppierk.java.util.function.ThrowablePredicate;
 import io.github.suppierk.java.util.function.ThrowableSupplier;
+import io.github.suppierk.java.util.function.ThrowableToDoubleFunction;
+import io.github.suppierk.java.util.function.ThrowableToIntFunction;
+import io.github.suppierk.java.util.function.ThrowableToLongFunction;
+import java.util.Collection;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
@@ -70,6 +80,229 @@ public interface Try<T> {
     }
   }
 
+  /**
+   * Returns a {@link Try} which invokes specified supplier on first access only.
+   *
+   * <p>The supplier is invoked at most once, even if the {@link Try} is accessed concurrently, and
+   * its outcome is remembered afterwards. {@link Try#map(ThrowableFunction)}, {@link
+   * Try#flatMap(ThrowableFunction)}, {@link Try#filter(ThrowablePredicate)} and {@link
+   * Try#orElseTry(ThrowableSupplier)} return deferred instances as well, so they do not invoke the
+   * supplier either.
+   *
+   * @param <T> the class of the value
+   * @param supplier the supplier to retrieve the value, which must be non-null
+   * @return a {@link Try.Deferred} invoking the supplier on first access
+   * @throws NullPointerException if supplier is null
+   */
+  static <T> Try<T> defer(ThrowableSupplier<T> supplier) {
+    Objects.requireNonNull(supplier, "Try.defer(ThrowableSupplier) argument must not be null");
+    return new Deferred<>(() -> success(supplier.getUnsafe()));
+  }
+
+  /**
+   * Returns a {@link Try} by applying specified function to the value.
+   *
+   * <p>Unlike {@code Try.of(() -> function.apply(value))} this does not need a capturing lambda, so
+   * nothing besides the resulting {@link Try} is allocated.
+   *
+   * @param <T> the type of the input to the function
+   * @param <R> the class of the value
+   * @param function the function to apply
+   * @param value the function argument
+   * @return a {@link Try.Success} with the function result or {@link Try.Failure}
+   */
+  static <T, R> Try<R> apply(ThrowableFunction<? super T, ? extends R> function, T value) {
+    try {
+      return success(Objects.requireNonNull(function).applyUnsafe(value));
+    } catch (Throwable t) {
+      return failure(t);
+    }
+  }
+
+  /**
+   * Returns a {@link Try} by applying specified function to the values.
+   *
+   * <p>Unlike {@code Try.of(() -> function.apply(t, u))} this does not need a capturing lambda, so
+   * nothing besides the resulting {@link Try} is allocated.
+   *
+   * @param <T> the type of the first argument to the function
+   * @param <U> the type of the second argument to the function
+   * @param <R> the class of the value
+   * @param function the function to apply
+   * @param t the first function argument
+   * @param u the second function argument
+   * @return a {@link Try.Success} with the function result or {@link Try.Failure}
+   */
+  static <T, U, R> Try<R> apply(
+      ThrowableBiFunction<? super T, ? super U, ? extends R> function, T t, U u) {
+    try {
+      return success(Objects.requireNonNull(function).applyUnsafe(t, u));
+    } catch (Throwable throwable) {
+      return failure(throwable);
+    }
+  }
+
+  /**
+   * Runs specified suppliers in the executor and collects their values, failing fast.
+   *
+   * <p>The first failure cancels the remaining suppliers: those which have not started yet never
+   * run and those which are running are interrupted.
+   *
+   * @param <T> the class of the values
+   * @param executor the executor to run the suppliers in, which must be non-null
+   * @param suppliers the suppliers to retrieve the values, which must be non-null
+   * @return a {@link Try.Success} with the values in the iteration order of the suppliers or {@link
+   *     Try.Failure} with the first exception to happen
+   * @throws NullPointerException if executor, suppliers or any of the suppliers is null
+   */
+  static <T> Try<List<T>> allOf(
+      Executor executor, Collection<? extends ThrowableSupplier<? extends T>> suppliers) {
+    return FanOut.allOf(executor, suppliers, true, 0);
+  }
+
+  /**
+   * Runs specified suppliers in the executor and collects their values, waiting for all of them.
+   *
+   * <p>If any of the suppliers fail, the first exception to happen is returned with up to {@code
+   * maxSuppressed} further exceptions added to it as {@link Throwable#addSuppressed(Throwable)
+   * suppressed}.
+   *
+   * @param <T> the class of the values
+   * @param executor the executor to run the suppliers in, which must be non-null
+   * @param suppliers the suppliers to retrieve the values, which must be non-null
+   * @param maxSuppressed the maximum number of exceptions to suppress into the first exception
+   * @return a {@link Try.Success} with the values in the iteration order of the suppliers or {@link
+   *     Try.Failure} with the first exception to happen
+   * @throws NullPointerException if executor, suppliers or any of the suppliers is null
+   * @throws IllegalArgumentException if maxSuppressed is negative
+   */
+  static <T> Try<List<T>> allOf(
+      Executor executor,
+      Collection<? extends ThrowableSupplier<? extends T>> suppliers,
+      int maxSuppressed) {
+    return FanOut.allOf(executor, suppliers, false, maxSuppressed);
+  }
+
+  /**
+   * Runs specified suppliers in the executor until one of them succeeds.
+   *
+   * <p>The first success cancels the remaining suppliers: those which have not started yet never
+   * run and those which are running are interrupted.
+   *
+   * <p>If all suppliers fail, every exception but the first one is suppressed into it, so use
+   * {@link #anyOf(Executor, Collection, int)} to bound their number for large collections.
+   *
+   * @param <T> the class of the value
+   * @param executor the executor to run the suppliers in, which must be non-null
+   * @param suppliers the suppliers to retrieve the value, which must be non-null
+   * @return a {@link Try.Success} with the first available value or {@link Try.Failure} with the
+   *     first exception to happen and the others suppressed, or with {@link NoSuchElementException}
+   *     if there are no suppliers
+   * @throws NullPointerException if executor, suppliers or any of the suppliers is null
+   */
+  static <T> Try<T> anyOf(
+      Executor executor, Collection<? extends ThrowableSupplier<? extends T>> suppliers) {
+    return FanOut.anyOf(executor, suppliers, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Runs specified suppliers in the executor until one of them succeeds.
+   *
+   * <p>If all suppliers fail, the first exception to happen is returned with up to {@code
+   * maxSuppressed} further exceptions added to it as {@link Throwable#addSuppressed(Throwable)
+   * suppressed}.
+   *
+   * @param <T> the class of the value
+   * @param executor the executor to run the suppliers in, which must be non-null
+   * @param suppliers the suppliers to retrieve the value, which must be non-null
+   * @param maxSuppressed the maximum number of exceptions to suppress into the first exception
+   * @return a {@link Try.Success} with the first available value or {@link Try.Failure} with the
+   *     first exception to happen, or with {@link NoSuchElementException} if there are no suppliers
+   * @throws NullPointerException if executor, suppliers or any of the suppliers is null
+   * @throws IllegalArgumentException if maxSuppressed is negative
+   */
+  static <T> Try<T> anyOf(
+      Executor executor,
+      Collection<? extends ThrowableSupplier<? extends T>> suppliers,
+      int maxSuppressed) {
+    return FanOut.anyOf(executor, suppliers, maxSuppressed);
+  }
+
+  /**
+   * Runs specified runnables in the executor, failing fast.
+   *
+   * <p>The first failure cancels the remaining runnables: those which have not started yet never
+   * run and those which are running are interrupted.
+   *
+   * @param executor the executor to run the runnables in, which must be non-null
+   * @param runnables the runnables to run, which must be non-null
+   * @return a {@link Try.Success} with {@code null} value or {@link Try.Failure} with the first
+   *     exception to happen
+   * @throws NullPointerException if executor, runnables or any of the runnables is null
+   */
+  static Try<Void> runAll(Executor executor, ThrowableRunnable... runnables) {
+    return FanOut.allOf(executor, FanOut.suppliers(runnables), true, 0).map(values -> null);
+  }
+
+  /**
+   * Runs specified runnables in the executor, waiting for all of them.
+   *
+   * @param executor the executor to run the runnables in, which must be non-null
+   * @param maxSuppressed the maximum number of exceptions to suppress into the first exception
+   * @param runnables the runnables to run, which must be non-null
+   * @return a {@link Try.Success} with {@code null} value or {@link Try.Failure} with the first
+   *     exception to happen
+   * @throws NullPointerException if executor, runnables or any of the runnables is null
+   * @throws IllegalArgumentException if maxSuppressed is negative
+   * @see #allOf(Executor, Collection, int)
+   */
+  static Try<Void> runAll(Executor executor, int maxSuppressed, ThrowableRunnable... runnables) {
+    return FanOut.allOf(executor, FanOut.suppliers(runnables), false, maxSuppressed)
+        .map(values -> null);
+  }
+
+  /**
+   * Applies specified function to every value concurrently, each in its own thread.
+   *
+   * <p>Meant for blocking calls, like I/O. On Java 21 and newer every call runs in its own virtual
+   * thread, on older versions the calls run in a pool of platform threads created for this
+   * invocation, which is bounded to {@code max(16, 4 * availableProcessors)} threads. The method
+   * returns once all calls have completed.
+   *
+   * @param <T> the type of the values
+   * @param <R> the class of the results
+   * @param values the values to apply the function to, which must be non-null
+   * @param function the function to apply, which must be non-null
+   * @return a {@link Try} per value in the iteration order of the values
+   * @throws NullPointerException if values or function is null
+   */
+  static <T, R> List<Try<R>> forkAll(
+      Collection<? extends T> values, ThrowableFunction<? super T, ? extends R> function) {
+    return FanOut.forkAll(values, function);
+  }
+
+  /**
+   * Applies specified function to every value concurrently, each in its own task submitted to the
+   * executor.
+   *
+   * <p>If the current thread is interrupted while waiting, the remaining tasks are cancelled and
+   * their results are {@link Try.Failure} with {@link InterruptedException}.
+   *
+   * @param <T> the type of the values
+   * @param <R> the class of the results
+   * @param executor the executor to run the tasks in, which must be non-null
+   * @param values the values to apply the function to, which must be non-null
+   * @param function the function to apply, which must be non-null
+   * @return a {@link Try} per value in the iteration order of the values
+   * @throws NullPointerException if executor, values or function is null
+   */
+  static <T, R> List<Try<R>> forkAll(
+      Executor executor,
+      Collection<? extends T> values,
+      ThrowableFunction<? super T, ? extends R> function) {
+    return FanOut.forkAll(executor, values, function);
+  }
+
   /**
    * Returns a {@link Try} created from specified {@link Optional}.
    *
@@ -84,7 +317,7 @@ public interface Try<T> {
       if (Objects.requireNonNull(optional).isPresent()) {
         return success(optional.get());
       } else {
-        return failure(new NoSuchElementException());
+        return failure(new StacklessNoSuchElementException("No value present"));
       }
     } catch (Throwable t) {
       return failure(t);
@@ -114,6 +347,24 @@ public interface Try<T> {
     return new Failure<>(throwable);
   }
 
+  /**
+   * Returns a {@link Try} with the exception of the specified type, which does not capture the
+   * execution stack trace and formats its message only when requested.
+   *
+   * <p>Meant for failures which are expected to happen often, like validation errors, where filling
+   * in the stack trace and formatting the message would dominate the cost.
+   *
+   * @param <T> the class of the value
+   * @param type the type of the exception, see {@link ExceptionSuppressor#stackless(Class,
+   *     Supplier)} for the supported types
+   * @param message the supplier of the exception message
+   * @return a {@link Try.Failure} with the exception
+   * @throws NullPointerException if type or message is null
+   */
+  static <T> Try<T> failure(Class<? extends Throwable> type, Supplier<String> message) {
+    return new Failure<>(ExceptionSuppressor.stackless(type, message));
+  }
+
   /**
    * If this is {@link Try.Success}, returns the value, if this is {@link Try.Failure}, throws the
    * exception stored as unchecked.
@@ -179,6 +430,72 @@ public interface Try<T> {
    */
   <U> Try<U> map(ThrowableFunction<? super T, ? extends U> mapper);
 
+  /**
+   * If a value is present, apply the provided {@code int}-valued mapping function to it, and return
+   * a {@link TryInt} describing the result. Otherwise, return a failed {@link TryInt}.
+   *
+   * @param mapper a mapping function to apply to the value, if present
+   * @return a {@link TryInt.Success} describing the result of applying a mapping function to the
+   *     value of this {@link Try}, if a value is present, otherwise a {@link TryInt.Failure}
+   */
+  default TryInt mapToInt(ThrowableToIntFunction<? super T> mapper) {
+    if (isFailure()) {
+      Throwable[] exception = new Throwable[1];
+      ifFailure(t -> exception[0] = t);
+      return TryInt.failure(exception[0]);
+    }
+
+    try {
+      return TryInt.success(Objects.requireNonNull(mapper).applyAsIntUnsafe(get()));
+    } catch (Throwable t) {
+      return TryInt.failure(t);
+    }
+  }
+
+  /**
+   * If a value is present, apply the provided {@code long}-valued mapping function to it, and
+   * return a {@link TryLong} describing the result. Otherwise, return a failed {@link TryLong}.
+   *
+   * @param mapper a mapping function to apply to the value, if present
+   * @return a {@link TryLong.Success} describing the result of applying a mapping function to the
+   *     value of this {@link Try}, if a value is present, otherwise a {@link TryLong.Failure}
+   */
+  default TryLong mapToLong(ThrowableToLongFunction<? super T> mapper) {
+    if (isFailure()) {
+      Throwable[] exception = new Throwable[1];
+      ifFailure(t -> exception[0] = t);
+      return TryLong.failure(exception[0]);
+    }
+
+    try {
+      return TryLong.success(Objects.requireNonNull(mapper).applyAsLongUnsafe(get()));
+    } catch (Throwable t) {
+      return TryLong.failure(t);
+    }
+  }
+
+  /**
+   * If a value is present, apply the provided {@code double}-valued mapping function to it, and
+   * return a {@link TryDouble} describing the result. Otherwise, return a failed {@link TryDouble}.
+   *
+   * @param mapper a mapping function to apply to the value, if present
+   * @return a {@link TryDouble.Success} describing the result of applying a mapping function to the
+   *     value of this {@link Try}, if a value is present, otherwise a {@link TryDouble.Failure}
+   */
+  default TryDouble mapToDouble(ThrowableToDoubleFunction<? super T> mapper) {
+    if (isFailure()) {
+      Throwable[] exception = new Throwable[1];
+      ifFailure(t -> exception[0] = t);
+      return TryDouble.failure(exception[0]);
+    }
+
+    try {
+      return TryDouble.success(Objects.requireNonNull(mapper).applyAsDoubleUnsafe(get()));
+    } catch (Throwable t) {
+      return TryDouble.failure(t);
+    }
+  }
+
   /**
    * If a value is present, apply the provided {@link Try}-bearing mapping function to it, return
    * that result, otherwise return a failed {@link Try}. This method is similar to {@link
@@ -215,11 +532,7 @@ public interface Try<T> {
    * @return the value, if present, otherwise {@code other}
    */
   default T orElse(T other) {
-    try {
-      return get();
-    } catch (Throwable t) {
-      return other;
-    }
+    return isSuccess() ? get() : other;
   }
 
   /**
@@ -231,12 +544,11 @@ public interface Try<T> {
    * @throws NullPointerException if value is not present and {@code other} is null
    */
   default T orElse(Supplier<? extends T> other) {
-    try {
+    if (isSuccess()) {
       return get();
-    } catch (Throwable t) {
-      return Objects.requireNonNull(other, "Try.orElseGet(Supplier) argument must not be null")
-          .get();
     }
+
+    return Objects.requireNonNull(other, "Try.orElseGet(Supplier) argument must not be null").get();
   }
 
   /**
@@ -299,10 +611,10 @@ public interface Try<T> {
     @Override
     public Try<T> filter(ThrowablePredicate<? super T> predicate) {
       try {
-        if (Objects.requireNonNull(predicate).test(get())) {
+        if (Objects.requireNonNull(predicate).testUnsafe(value)) {
           return this;
         } else {
-          return failure(new NoSuchElementException());
+          return failure(new StacklessNoSuchElementException("Value does not match the predicate"));
         }
       } catch (Throwable t) {
         return failure(t);
@@ -312,14 +624,48 @@ public interface Try<T> {
     /** {@inheritDoc} */
     @Override
     public <U> Try<U> map(ThrowableFunction<? super T, ? extends U> mapper) {
-      return Try.of(() -> Objects.requireNonNull(mapper).apply(get()));
+      try {
+        return success(Objects.requireNonNull(mapper).applyUnsafe(value));
+      } catch (Throwable t) {
+        return failure(t);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryInt mapToInt(ThrowableToIntFunction<? super T> mapper) {
+      try {
+        return TryInt.success(Objects.requireNonNull(mapper).applyAsIntUnsafe(value));
+      } catch (Throwable t) {
+        return TryInt.failure(t);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryLong mapToLong(ThrowableToLongFunction<? super T> mapper) {
+      try {
+        return TryLong.success(Objects.requireNonNull(mapper).applyAsLongUnsafe(value));
+      } catch (Throwable t) {
+        return TryLong.failure(t);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryDouble mapToDouble(ThrowableToDoubleFunction<? super T> mapper) {
+      try {
+        return TryDouble.success(Objects.requireNonNull(mapper).applyAsDoubleUnsafe(value));
+      } catch (Throwable t) {
+        return TryDouble.failure(t);
+      }
     }
 
     /** {@inheritDoc} */
     @Override
     public <U> Try<U> flatMap(ThrowableFunction<? super T, Try<U>> mapper) {
       try {
-        return Objects.requireNonNull(mapper).apply(get());
+        return Objects.requireNonNull(mapper).applyUnsafe(value);
       } catch (Throwable t) {
         return failure(t);
       }
@@ -328,7 +674,7 @@ public interface Try<T> {
     /** {@inheritDoc} */
     @Override
     public Optional<T> toOptional() {
-      return Optional.ofNullable(get());
+      return Optional.ofNullable(value);
     }
 
     /** {@inheritDoc} */
@@ -411,6 +757,24 @@ public interface Try<T> {
       return (Try<U>) this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public TryInt mapToInt(ThrowableToIntFunction<? super T> mapper) {
+      return TryInt.failure(exception);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryLong mapToLong(ThrowableToLongFunction<? super T> mapper) {
+      return TryLong.failure(exception);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryDouble mapToDouble(ThrowableToDoubleFunction<? super T> mapper) {
+      return TryDouble.failure(exception);
+    }
+
     /** {@inheritDoc} */
     @Override
     @SuppressWarnings("unchecked")
@@ -432,4 +796,184 @@ public interface Try<T> {
               supplier, "Try.orElseTry(ThrowableSupplier) argument must not be null"));
     }
   }
+
+  /**
+   * A container object which computes its outcome on first access.
+   *
+   * <p>The outcome is published through a volatile field, so that accessing an evaluated instance
+   * does not acquire any locks. The evaluation itself is guarded by a {@link ReentrantLock} rather
+   * than a monitor, which does not pin virtual threads waiting for it.
+   *
+   * @param <T> the class of the value
+   */
+  class Deferred<T> implements Try<T> {
+    /** Guards the evaluation. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Computation of the outcome, cleared once evaluated. */
+    private ThrowableSupplier<? extends Try<T>> computation;
+
+    /** Outcome, {@code null} until evaluated. */
+    private volatile Try<T> outcome;
+
+    /**
+     * Constructs an instance which evaluates specified computation on first access.
+     *
+     * @param computation the non-null computation of the outcome, which must not return null
+     * @throws NullPointerException if computation is null
+     */
+    protected Deferred(ThrowableSupplier<? extends Try<T>> computation) {
+      this.computation = Objects.requireNonNull(computation, "Computation must not be null");
+    }
+
+    /**
+     * @return {@code true} if the outcome was already computed
+     */
+    public boolean isEvaluated() {
+      return outcome != null;
+    }
+
+    /**
+     * Returns the outcome, computing it if this is the first access.
+     *
+     * @return evaluated {@link Try}
+     */
+    private Try<T> force() {
+      Try<T> current = outcome;
+      return current != null ? current : evaluate();
+    }
+
+    /**
+     * Computes the outcome once, the threads accessing this instance meanwhile wait for it.
+     *
+     * @return evaluated {@link Try}
+     */
+    private Try<T> evaluate() {
+      lock.lock();
+      try {
+        Try<T> current = outcome;
+        if (current == null) {
+          ThrowableSupplier<? extends Try<T>> pending = computation;
+          if (pending == null) {
+            throw new IllegalStateException("Deferred Try was accessed during its own evaluation");
+          }
+
+          computation = null;
+          try {
+            current =
+                Objects.requireNonNull(pending.getUnsafe(), "Computation must not return null");
+          } catch (Throwable t) {
+            current = failure(t);
+          }
+          outcome = current;
+        }
+        return current;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T get() {
+      return force().get();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSuccess() {
+      return force().isSuccess();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isFailure() {
+      return force().isFailure();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifSuccess(ThrowableConsumer<? super T> consumer) {
+      force().ifSuccess(consumer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifFailure(ThrowableConsumer<Throwable> consumer) {
+      force().ifFailure(consumer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifSuccessOrElse(
+        ThrowableConsumer<? super T> valueConsumer,
+        ThrowableConsumer<Throwable> throwableConsumer) {
+      force().ifSuccessOrElse(valueConsumer, throwableConsumer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Try<T> filter(ThrowablePredicate<? super T> predicate) {
+      Objects.requireNonNull(predicate);
+      return new Deferred<>(() -> force().filter(predicate));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <U> Try<U> map(ThrowableFunction<? super T, ? extends U> mapper) {
+      Objects.requireNonNull(mapper);
+      return new Deferred<>(() -> force().map(mapper));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Primitive specializations are not deferred, so this evaluates this {@link Try}.
+     */
+    @Override
+    public TryInt mapToInt(ThrowableToIntFunction<? super T> mapper) {
+      return force().mapToInt(mapper);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Primitive specializations are not deferred, so this evaluates this {@link Try}.
+     */
+    @Override
+    public TryLong mapToLong(ThrowableToLongFunction<? super T> mapper) {
+      return force().mapToLong(mapper);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Primitive specializations are not deferred, so this evaluates this {@link Try}.
+     */
+    @Override
+    public TryDouble mapToDouble(ThrowableToDoubleFunction<? super T> mapper) {
+      return force().mapToDouble(mapper);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <U> Try<U> flatMap(ThrowableFunction<? super T, Try<U>> mapper) {
+      Objects.requireNonNull(mapper);
+      return new Deferred<>(() -> force().flatMap(mapper));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<T> toOptional() {
+      return force().toOptional();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Try<T> orElseTry(ThrowableSupplier<T> supplier) {
+      Objects.requireNonNull(
+          supplier, "Try.orElseTry(ThrowableSupplier) argument must not be null");
+      return new Deferred<>(() -> force().orElseTry(supplier));
+    }
+  }
 }
@@ -0,0 +1,380 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import io.github.suppierk.java.util.ExceptionSuppressor;
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+/**
+ * Results of applying a {@link ThrowableFunction} to every element of a collection, stored as
+ * arrays instead of one {@link Try} per element.
+ *
+ * <p>Values are kept in a single array, failures in a bit mask and a sparse map from indexes to
+ * exceptions, which takes no space until the first failure. Filling a batch takes one pass over the
+ * source and allocates the arrays once per batch, while {@link Try} objects are only created by
+ * {@link #toTryList()} when its elements are accessed.
+ *
+ * <p>This class is not thread-safe while being filled by a {@link Builder}, but the built batch is
+ * safe to read from several threads.
+ *
+ * @param <T> the type of the values
+ * @see TryIntBatch
+ * @see TryLongBatch
+ * @see TryDoubleBatch
+ */
+public final class TryBatch<T> {
+  private final Object[] values;
+  private final int size;
+  private final BatchFailures failures;
+
+  private TryBatch(Object[] values, int size, BatchFailures failures) {
+    this.values = values;
+    this.size = size;
+    this.failures = failures;
+  }
+
+  /**
+   * Applies the function to every element of the source, recording its result or exception.
+   *
+   * @param <S> the type of the source elements
+   * @param <T> the type of the values
+   * @param source the elements to apply the function to
+   * @param function the function to apply
+   * @return new batch with the results in the order of the source
+   * @throws NullPointerException if source or function is null
+   * @throws ConcurrentModificationException if the source has been modified during the iteration
+   */
+  public static <S, T> TryBatch<T> map(
+      Collection<? extends S> source, ThrowableFunction<? super S, ? extends T> function) {
+    Objects.requireNonNull(
+        source, "TryBatch.map(Collection, ThrowableFunction) source must not be null");
+    Objects.requireNonNull(
+        function, "TryBatch.map(Collection, ThrowableFunction) function must not be null");
+
+    Object[] values = new Object[source.size()];
+    BatchFailures failures = new BatchFailures();
+    int index = 0;
+    for (S element : source) {
+      if (index == values.length) {
+        throw new ConcurrentModificationException();
+      }
+
+      try {
+        values[index] = function.applyUnsafe(element);
+      } catch (Throwable t) {
+        failures.add(index, t);
+      }
+      index++;
+    }
+
+    if (index != values.length) {
+      throw new ConcurrentModificationException();
+    }
+    return new TryBatch<>(values, index, failures);
+  }
+
+  /**
+   * Applies the function to every element of the source, recording its result or exception.
+   *
+   * @param <S> the type of the source elements
+   * @param <T> the type of the values
+   * @param source the elements to apply the function to
+   * @param function the function to apply
+   * @return new batch with the results in the order of the source
+   * @throws NullPointerException if source or function is null
+   */
+  public static <S, T> TryBatch<T> map(
+      S[] source, ThrowableFunction<? super S, ? extends T> function) {
+    Objects.requireNonNull(
+        source, "TryBatch.map(Object[], ThrowableFunction) source must not be null");
+    Objects.requireNonNull(
+        function, "TryBatch.map(Object[], ThrowableFunction) function must not be null");
+
+    Object[] values = new Object[source.length];
+    BatchFailures failures = new BatchFailures();
+    for (int index = 0; index < source.length; index++) {
+      try {
+        values[index] = function.applyUnsafe(source[index]);
+      } catch (Throwable t) {
+        failures.add(index, t);
+      }
+    }
+    return new TryBatch<>(values, source.length, failures);
+  }
+
+  /**
+   * Returns a builder to fill a batch element by element, when the results are not produced by a
+   * single function.
+   *
+   * @param <T> the type of the values
+   * @return new builder
+   */
+  public static <T> Builder<T> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * @return number of elements in the batch
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return number of successful elements in the batch
+   */
+  public int successCount() {
+    return size - failures.count();
+  }
+
+  /**
+   * @return number of failed elements in the batch
+   */
+  public int failureCount() {
+    return failures.count();
+  }
+
+  /**
+   * @param index of the element
+   * @return {@code true} if the element has a value, otherwise {@code false}
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public boolean isSuccess(int index) {
+    return !isFailure(index);
+  }
+
+  /**
+   * @param index of the element
+   * @return {@code true} if the element has an exception, otherwise {@code false}
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public boolean isFailure(int index) {
+    BatchFailures.checkIndex(index, size);
+    return failures.isFailure(index);
+  }
+
+  /**
+   * If the element has a value, returns the value, otherwise throws its exception.
+   *
+   * @param index of the element
+   * @return the value of the element
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  @SuppressWarnings("unchecked")
+  public T get(int index) {
+    if (isFailure(index)) {
+      return ExceptionSuppressor.asUnchecked(failures.get(index));
+    }
+    return (T) values[index];
+  }
+
+  /**
+   * Returns a read-only view of the successful values, in the order of the source.
+   *
+   * <p>Accessing the view by index takes logarithmic time in the number of failures.
+   *
+   * @return list of successful values
+   */
+  public List<T> successes() {
+    if (failures.count() == 0) {
+      return new ValueList();
+    }
+    return new SuccessList();
+  }
+
+  /**
+   * Returns a read-only view of the exceptions by the index of the failed element, iterated in the
+   * ascending order of indexes.
+   *
+   * @return map of failures
+   */
+  public Map<Integer, Throwable> failures() {
+    return failures.asMap();
+  }
+
+  /**
+   * @return the exception of the first failed element, or {@link Optional#empty()} if all the
+   *     elements succeeded
+   */
+  public Optional<Throwable> firstFailure() {
+    return failures.first();
+  }
+
+  /**
+   * Returns a read-only view of the batch as a list of {@link Try}, which creates a new {@link Try}
+   * for every access.
+   *
+   * @return list of results in the order of the source
+   */
+  public List<Try<T>> toTryList() {
+    return new TryList();
+  }
+
+  /** Read-only view of the values of the batch without failures. */
+  private final class ValueList extends AbstractList<T> implements RandomAccess {
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+      BatchFailures.checkIndex(index, size);
+      return (T) values[index];
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
+  /** Read-only view of the successful values. */
+  private final class SuccessList extends AbstractList<T> implements RandomAccess {
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+      BatchFailures.checkIndex(index, size());
+      return (T) values[failures.successIndex(index)];
+    }
+
+    @Override
+    public int size() {
+      return size - failures.count();
+    }
+  }
+
+  /** Read-only view of the batch as a list of {@link Try}. */
+  private final class TryList extends AbstractList<Try<T>> implements RandomAccess {
+    @Override
+    @SuppressWarnings("unchecked")
+    public Try<T> get(int index) {
+      if (isFailure(index)) {
+        return Try.failure(failures.get(index));
+      }
+      return Try.success((T) values[index]);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
+  /**
+   * Builder of a {@link TryBatch}, which grows its arrays as elements are added.
+   *
+   * @param <T> the type of the values
+   */
+  public static final class Builder<T> {
+    private Object[] values = new Object[16];
+    private int size;
+    private final BatchFailures failures = new BatchFailures();
+
+    private Builder() {
+      // Use TryBatch.builder()
+    }
+
+    /**
+     * Appends a successful element.
+     *
+     * @param value of the element
+     * @return this builder
+     */
+    public Builder<T> add(T value) {
+      ensureCapacity();
+      values[size++] = value;
+      return this;
+    }
+
+    /**
+     * Appends a failed element.
+     *
+     * @param exception of the element, which must be non-null
+     * @return this builder
+     * @throws NullPointerException if exception is null
+     */
+    public Builder<T> addFailure(Throwable exception) {
+      Objects.requireNonNull(
+          exception, "TryBatch.Builder.addFailure(Throwable) argument must not be null");
+      ensureCapacity();
+      failures.add(size++, exception);
+      return this;
+    }
+
+    /**
+     * Appends an element with the outcome of the {@link Try}.
+     *
+     * @param result of the element, which must be non-null
+     * @return this builder
+     * @throws NullPointerException if result is null
+     */
+    public Builder<T> add(Try<? extends T> result) {
+      if (Objects.requireNonNull(result).isSuccess()) {
+        return add(result.get());
+      }
+
+      result.ifFailure(this::addFailure);
+      return this;
+    }
+
+    /**
+     * Appends all the elements of another builder.
+     *
+     * @param other builder to append the elements of
+     * @return this builder
+     */
+    public Builder<T> addAll(Builder<? extends T> other) {
+      for (int index = 0; index < other.size; index++) {
+        if (other.failures.isFailure(index)) {
+          addFailure(other.failures.get(index));
+        } else {
+          @SuppressWarnings("unchecked")
+          T value = (T) other.values[index];
+          add(value);
+        }
+      }
+      return this;
+    }
+
+    /**
+     * @return new batch with the elements added so far
+     */
+    public TryBatch<T> build() {
+      return new TryBatch<>(Arrays.copyOf(values, size), size, failures.copy());
+    }
+
+    private void ensureCapacity() {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, values.length * 2);
+      }
+    }
+  }
+}
@@ -0,0 +1,336 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import io.github.suppierk.java.util.ExceptionSuppressor;
+import io.github.suppierk.java.util.function.ThrowableToDoubleFunction;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+/**
+ * Results of applying a {@link ThrowableToDoubleFunction} to every element of a collection, stored
+ * as a {@code double} array instead of one {@link TryDouble} per element. This is the primitive
+ * type specialization of {@link TryBatch} for {@code double}, which never boxes values.
+ *
+ * @see TryBatch
+ */
+public final class TryDoubleBatch {
+  private final double[] values;
+  private final int size;
+  private final BatchFailures failures;
+
+  private TryDoubleBatch(double[] values, int size, BatchFailures failures) {
+    this.values = values;
+    this.size = size;
+    this.failures = failures;
+  }
+
+  /**
+   * Applies the function to every element of the source, recording its result or exception.
+   *
+   * @param <S> the type of the source elements
+   * @param source the elements to apply the function to
+   * @param function the function to apply
+   * @return new batch with the results in the order of the source
+   * @throws NullPointerException if source or function is null
+   * @throws ConcurrentModificationException if the source has been modified during the iteration
+   */
+  public static <S> TryDoubleBatch map(
+      Collection<? extends S> source, ThrowableToDoubleFunction<? super S> function) {
+    Objects.requireNonNull(
+        source,
+        "TryDoubleBatch.map(Collection, ThrowableToDoubleFunction) source must not be null");
+    Objects.requireNonNull(
+        function,
+        "TryDoubleBatch.map(Collection, ThrowableToDoubleFunction) function must not be null");
+
+    double[] values = new double[source.size()];
+    BatchFailures failures = new BatchFailures();
+    int index = 0;
+    for (S element : source) {
+      if (index == values.length) {
+        throw new ConcurrentModificationException();
+      }
+
+      try {
+        values[index] = function.applyAsDoubleUnsafe(element);
+      } catch (Throwable t) {
+        failures.add(index, t);
+      }
+      index++;
+    }
+
+    if (index != values.length) {
+      throw new ConcurrentModificationException();
+    }
+    return new TryDoubleBatch(values, index, failures);
+  }
+
+  /**
+   * Applies the function to every element of the source, recording its result or exception.
+   *
+   * @param <S> the type of the source elements
+   * @param source the elements to apply the function to
+   * @param function the function to apply
+   * @return new batch with the results in the order of the source
+   * @throws NullPointerException if source or function is null
+   */
+  public static <S> TryDoubleBatch map(S[] source, ThrowableToDoubleFunction<? super S> function) {
+    Objects.requireNonNull(
+        source, "TryDoubleBatch.map(Object[], ThrowableToDoubleFunction) source must not be null");
+    Objects.requireNonNull(
+        function,
+        "TryDoubleBatch.map(Object[], ThrowableToDoubleFunction) function must not be null");
+
+    double[] values = new double[source.length];
+    BatchFailures failures = new BatchFailures();
+    for (int index = 0; index < source.length; index++) {
+      try {
+        values[index] = function.applyAsDoubleUnsafe(source[index]);
+      } catch (Throwable t) {
+        failures.add(index, t);
+      }
+    }
+    return new TryDoubleBatch(values, source.length, failures);
+  }
+
+  /**
+   * Returns a builder to fill a batch element by element, when the results are not produced by a
+   * single function.
+   *
+   * @return new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @return number of elements in the batch
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return number of successful elements in the batch
+   */
+  public int successCount() {
+    return size - failures.count();
+  }
+
+  /**
+   * @return number of failed elements in the batch
+   */
+  public int failureCount() {
+    return failures.count();
+  }
+
+  /**
+   * @param index of the element
+   * @return {@code true} if the element has a value, otherwise {@code false}
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public boolean isSuccess(int index) {
+    return !isFailure(index);
+  }
+
+  /**
+   * @param index of the element
+   * @return {@code true} if the element has an exception, otherwise {@code false}
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public boolean isFailure(int index) {
+    BatchFailures.checkIndex(index, size);
+    return failures.isFailure(index);
+  }
+
+  /**
+   * If the element has a value, returns the value, otherwise throws its exception.
+   *
+   * @param index of the element
+   * @return the value of the element
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public double getAsDouble(int index) {
+    if (isFailure(index)) {
+      return ExceptionSuppressor.asUnchecked(failures.get(index));
+    }
+    return values[index];
+  }
+
+  /**
+   * Returns the successful values, in the order of the source.
+   *
+   * @return new array of successful values
+   */
+  public double[] successes() {
+    if (failures.count() == 0) {
+      return Arrays.copyOf(values, size);
+    }
+
+    double[] successes = new double[size - failures.count()];
+    for (int index = 0, rank = 0; index < size; index++) {
+      if (!failures.isFailure(index)) {
+        successes[rank++] = values[index];
+      }
+    }
+    return successes;
+  }
+
+  /**
+   * Returns a read-only view of the exceptions by the index of the failed element, iterated in the
+   * ascending order of indexes.
+   *
+   * @return map of failures
+   */
+  public Map<Integer, Throwable> failures() {
+    return failures.asMap();
+  }
+
+  /**
+   * @return the exception of the first failed element, or {@link Optional#empty()} if all the
+   *     elements succeeded
+   */
+  public Optional<Throwable> firstFailure() {
+    return failures.first();
+  }
+
+  /**
+   * Returns a read-only view of the batch as a list of {@link TryDouble}, which creates a new
+   * {@link TryDouble} for every access.
+   *
+   * @return list of results in the order of the source
+   */
+  public List<TryDouble> toTryList() {
+    return new TryList();
+  }
+
+  /** Read-only view of the batch as a list of {@link TryDouble}. */
+  private final class TryList extends AbstractList<TryDouble> implements RandomAccess {
+    @Override
+    public TryDouble get(int index) {
+      if (isFailure(index)) {
+        return TryDouble.failure(failures.get(index));
+      }
+      return TryDouble.success(values[index]);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
+  /** Builder of a {@link TryDoubleBatch}, which grows its arrays as elements are added. */
+  public static final class Builder {
+    private double[] values = new double[16];
+    private int size;
+    private final BatchFailures failures = new BatchFailures();
+
+    private Builder() {
+      // Use TryDoubleBatch.builder()
+    }
+
+    /**
+     * Appends a successful element.
+     *
+     * @param value of the element
+     * @return this builder
+     */
+    public Builder add(double value) {
+      ensureCapacity();
+      values[size++] = value;
+      return this;
+    }
+
+    /**
+     * Appends a failed element.
+     *
+     * @param exception of the element, which must be non-null
+     * @return this builder
+     * @throws NullPointerException if exception is null
+     */
+    public Builder addFailure(Throwable exception) {
+      Objects.requireNonNull(
+          exception, "TryDoubleBatch.Builder.addFailure(Throwable) argument must not be null");
+      ensureCapacity();
+      failures.add(size++, exception);
+      return this;
+    }
+
+    /**
+     * Appends an element with the outcome of the {@link TryDouble}.
+     *
+     * @param result of the element, which must be non-null
+     * @return this builder
+     * @throws NullPointerException if result is null
+     */
+    public Builder add(TryDouble result) {
+      if (Objects.requireNonNull(result).isSuccess()) {
+        return add(result.getAsDouble());
+      }
+
+      result.ifFailure(this::addFailure);
+      return this;
+    }
+
+    /**
+     * Appends all the elements of another builder.
+     *
+     * @param other builder to append the elements of
+     * @return this builder
+     */
+    public Builder addAll(Builder other) {
+      for (int index = 0; index < other.size; index++) {
+        if (other.failures.isFailure(index)) {
+          addFailure(other.failures.get(index));
+        } else {
+          add(other.values[index]);
+        }
+      }
+      return this;
+    }
+
+    /**
+     * @return new batch with the elements added so far
+     */
+    public TryDoubleBatch build() {
+      return new TryDoubleBatch(Arrays.copyOf(values, size), size, failures.copy());
+    }
+
+    private void ensureCapacity() {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, values.length * 2);
+      }
+    }
+  }
+}
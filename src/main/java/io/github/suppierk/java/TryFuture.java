@@ -0,0 +1,403 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import io.github.suppierk.java.util.concurrent.VirtualThreads;
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import io.github.suppierk.java.util.function.ThrowableSupplier;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * An asynchronous counterpart of {@link Try}, completing with {@link Try.Success} or {@link
+ * Try.Failure}.
+ *
+ * <p>Exceptions thrown by suppliers and functions are captured into {@link Try.Failure} where they
+ * happen, so the underlying {@link CompletableFuture} always completes normally and exceptions are
+ * never wrapped into {@link CompletionException}. Synchronous continuations like {@link
+ * #map(ThrowableFunction)} run inline on the thread completing this future, or on the calling
+ * thread if this future is already complete. Asynchronous continuations are not submitted to the
+ * executor at all if this future failed.
+ *
+ * <p>Unless specified otherwise, asynchronous tasks run in {@link VirtualThreads#executor()} on
+ * Java 21 and newer, and in a shared pool of daemon platform threads on older versions, so that
+ * blocking tasks do not starve {@link ForkJoinPool#commonPool()}.
+ *
+ * @param <T> the class of the value
+ */
+@SuppressWarnings("squid:S1181")
+public final class TryFuture<T> {
+  /** Future completing normally with the outcome. */
+  private final CompletableFuture<Try<T>> future;
+
+  private TryFuture(CompletableFuture<Try<T>> future) {
+    this.future = future;
+  }
+
+  /**
+   * Returns a {@link TryFuture} completed by invoking specified supplier in the default executor.
+   *
+   * @param <T> the class of the value
+   * @param supplier the supplier to retrieve the value, which must be non-null
+   * @return a new {@link TryFuture}
+   * @throws NullPointerException if supplier is null
+   */
+  public static <T> TryFuture<T> supplyAsync(ThrowableSupplier<T> supplier) {
+    return supplyAsync(supplier, DefaultExecutor.INSTANCE);
+  }
+
+  /**
+   * Returns a {@link TryFuture} completed by invoking specified supplier in the executor.
+   *
+   * @param <T> the class of the value
+   * @param supplier the supplier to retrieve the value, which must be non-null
+   * @param executor the executor to invoke the supplier in, which must be non-null
+   * @return a new {@link TryFuture}
+   * @throws NullPointerException if supplier or executor is null
+   */
+  public static <T> TryFuture<T> supplyAsync(ThrowableSupplier<T> supplier, Executor executor) {
+    Objects.requireNonNull(
+        supplier, "TryFuture.supplyAsync(ThrowableSupplier) argument must not be null");
+    Objects.requireNonNull(executor, "Executor must not be null");
+    return new TryFuture<>(CompletableFuture.supplyAsync(() -> Try.of(supplier), executor));
+  }
+
+  /**
+   * Returns an already completed {@link TryFuture}.
+   *
+   * @param <T> the class of the value
+   * @param result the outcome, which must be non-null
+   * @return a completed {@link TryFuture}
+   * @throws NullPointerException if result is null
+   */
+  public static <T> TryFuture<T> completed(Try<T> result) {
+    Objects.requireNonNull(result, "TryFuture.completed(Try) argument must not be null");
+    return new TryFuture<>(CompletableFuture.completedFuture(result));
+  }
+
+  /**
+   * Returns a {@link TryFuture} completed with the value or the exception of the stage.
+   *
+   * <p>{@link CompletionException} and {@link ExecutionException} are unwrapped, so that the
+   * resulting {@link Try.Failure} holds the original exception.
+   *
+   * @param <T> the class of the value
+   * @param stage the stage to complete with, which must be non-null
+   * @return a new {@link TryFuture}
+   * @throws NullPointerException if stage is null
+   */
+  public static <T> TryFuture<T> fromCompletionStage(CompletionStage<? extends T> stage) {
+    Objects.requireNonNull(
+        stage, "TryFuture.fromCompletionStage(CompletionStage) argument must not be null");
+    return new TryFuture<>(
+        stage
+            .handle(
+                (T value, Throwable t) ->
+                    t == null ? Try.success(value) : Try.<T>failure(unwrap(t)))
+            .toCompletableFuture());
+  }
+
+  /**
+   * Returns a {@link TryFuture} applying specified mapper to the value once it is available.
+   *
+   * <p>The mapper runs on the thread completing this future, or on the calling thread if this
+   * future is already complete.
+   *
+   * @param <U> the class of the value
+   * @param mapper the mapping function, which must be non-null
+   * @return a new {@link TryFuture}
+   * @throws NullPointerException if mapper is null
+   * @see Try#map(ThrowableFunction)
+   */
+  public <U> TryFuture<U> map(ThrowableFunction<? super T, ? extends U> mapper) {
+    Objects.requireNonNull(mapper, "TryFuture.map(ThrowableFunction) argument must not be null");
+    return new TryFuture<>(future.thenApply(result -> result.map(mapper)));
+  }
+
+  /**
+   * Returns a {@link TryFuture} applying specified mapper to the value in the default executor.
+   *
+   * @param <U> the class of the value
+   * @param mapper the mapping function, which must be non-null
+   * @return a new {@link TryFuture}
+   * @throws NullPointerException if mapper is null
+   */
+  public <U> TryFuture<U> mapAsync(ThrowableFunction<? super T, ? extends U> mapper) {
+    return mapAsync(mapper, DefaultExecutor.INSTANCE);
+  }
+
+  /**
+   * Returns a {@link TryFuture} applying specified mapper to the value in the executor.
+   *
+   * <p>If this future fails, the mapper is not submitted to the executor.
+   *
+   * @param <U> the class of the value
+   * @param mapper the mapping function, which must be non-null
+   * @param executor the executor to apply the mapper in, which must be non-null
+   * @return a new {@link TryFuture}
+   * @throws NullPointerException if mapper or executor is null
+   */
+  @SuppressWarnings("unchecked")
+  public <U> TryFuture<U> mapAsync(
+      ThrowableFunction<? super T, ? extends U> mapper, Executor executor) {
+    Objects.requireNonNull(
+        mapper, "TryFuture.mapAsync(ThrowableFunction) argument must not be null");
+    Objects.requireNonNull(executor, "Executor must not be null");
+    return new TryFuture<>(
+        future.thenCompose(
+            result ->
+                result.isFailure()
+                    ? CompletableFuture.completedFuture((Try<U>) result)
+                    : CompletableFuture.supplyAsync(() -> result.map(mapper), executor)));
+  }
+
+  /**
+   * Returns a {@link TryFuture} completing with the future returned by specified mapper.
+   *
+   * <p>The mapper runs on the thread completing this future, or on the calling thread if this
+   * future is already complete.
+   *
+   * @param <U> the class of the value
+   * @param mapper the mapping function returning non-null {@link TryFuture}, which must be non-null
+   * @return a new {@link TryFuture}
+   * @throws NullPointerException if mapper is null
+   * @see Try#flatMap(ThrowableFunction)
+   */
+  public <U> TryFuture<U> flatMap(ThrowableFunction<? super T, TryFuture<U>> mapper) {
+    Objects.requireNonNull(
+        mapper, "TryFuture.flatMap(ThrowableFunction) argument must not be null");
+    return new TryFuture<>(future.thenCompose(result -> compose(result, mapper)));
+  }
+
+  /**
+   * Returns a {@link TryFuture} completing with the future returned by specified mapper, which is
+   * invoked in the default executor.
+   *
+   * @param <U> the class of the value
+   * @param mapper the mapping function returning non-null {@link TryFuture}, which must be non-null
+   * @return a new {@link TryFuture}
+   * @throws NullPointerException if mapper is null
+   */
+  public <U> TryFuture<U> flatMapAsync(ThrowableFunction<? super T, TryFuture<U>> mapper) {
+    return flatMapAsync(mapper, DefaultExecutor.INSTANCE);
+  }
+
+  /**
+   * Returns a {@link TryFuture} completing with the future returned by specified mapper, which is
+   * invoked in the executor.
+   *
+   * <p>If this future fails, the mapper is not submitted to the executor.
+   *
+   * @param <U> the class of the value
+   * @param mapper the mapping function returning non-null {@link TryFuture}, which must be non-null
+   * @param executor the executor to invoke the mapper in, which must be non-null
+   * @return a new {@link TryFuture}
+   * @throws NullPointerException if mapper or executor is null
+   */
+  @SuppressWarnings("unchecked")
+  public <U> TryFuture<U> flatMapAsync(
+      ThrowableFunction<? super T, TryFuture<U>> mapper, Executor executor) {
+    Objects.requireNonNull(
+        mapper, "TryFuture.flatMapAsync(ThrowableFunction) argument must not be null");
+    Objects.requireNonNull(executor, "Executor must not be null");
+    return new TryFuture<>(
+        future.thenCompose(
+            result ->
+                result.isFailure()
+                    ? CompletableFuture.completedFuture((Try<U>) result)
+                    : CompletableFuture.supplyAsync(() -> compose(result, mapper), executor)
+                        .thenCompose(Function.identity())));
+  }
+
+  /**
+   * Returns a {@link TryFuture} replacing the exception with the value returned by specified
+   * function.
+   *
+   * <p>The function runs on the thread completing this future, or on the calling thread if this
+   * future is already complete.
+   *
+   * @param recovery the function computing the value from the exception, which must be non-null
+   * @return a new {@link TryFuture}
+   * @throws NullPointerException if recovery is null
+   */
+  public TryFuture<T> recover(ThrowableFunction<Throwable, ? extends T> recovery) {
+    Objects.requireNonNull(
+        recovery, "TryFuture.recover(ThrowableFunction) argument must not be null");
+    return new TryFuture<>(
+        future.thenApply(
+            result -> {
+              if (result.isSuccess()) {
+                return result;
+              }
+
+              Throwable[] exception = new Throwable[1];
+              result.ifFailure(t -> exception[0] = t);
+              return Try.apply(recovery, exception[0]);
+            }));
+  }
+
+  /**
+   * @return {@code true} if the outcome is available
+   */
+  public boolean isDone() {
+    return future.isDone();
+  }
+
+  /**
+   * Waits for the outcome.
+   *
+   * <p>Unlike {@link CompletableFuture#join()} this never throws: the exceptions are returned as
+   * {@link Try.Failure}, including {@link CancellationException} if the underlying future was
+   * cancelled.
+   *
+   * @return the outcome
+   */
+  public Try<T> join() {
+    try {
+      return future.join();
+    } catch (Throwable t) {
+      return Try.failure(unwrap(t));
+    }
+  }
+
+  /**
+   * Waits for the outcome at most for the specified time.
+   *
+   * @param timeout the maximum time to wait
+   * @param unit the time unit of the timeout argument, which must be non-null
+   * @return the outcome, or {@link Try.Failure} with {@link TimeoutException} if the time elapsed
+   *     or {@link InterruptedException} if the current thread was interrupted, in which case the
+   *     interrupt status is restored
+   * @throws NullPointerException if unit is null
+   */
+  public Try<T> join(long timeout, TimeUnit unit) {
+    Objects.requireNonNull(unit, "Time unit must not be null");
+    try {
+      return future.get(timeout, unit);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Try.failure(e);
+    } catch (Throwable t) {
+      return Try.failure(unwrap(t));
+    }
+  }
+
+  /**
+   * Returns a new {@link CompletableFuture} completing with the value, or exceptionally with the
+   * exception of this future.
+   *
+   * @return a new {@link CompletableFuture}
+   */
+  public CompletableFuture<T> toCompletableFuture() {
+    CompletableFuture<T> converted = new CompletableFuture<>();
+    future.thenAccept(
+        result -> result.ifSuccessOrElse(converted::complete, converted::completeExceptionally));
+    return converted;
+  }
+
+  /**
+   * Applies the mapper to the value of the outcome, capturing exceptions of the mapper.
+   *
+   * @param result the outcome
+   * @param mapper the mapping function
+   * @return the future to continue with
+   */
+  @SuppressWarnings("unchecked")
+  private static <T, U> CompletableFuture<Try<U>> compose(
+      Try<T> result, ThrowableFunction<? super T, TryFuture<U>> mapper) {
+    if (result.isFailure()) {
+      return CompletableFuture.completedFuture((Try<U>) result);
+    }
+
+    try {
+      return Objects.requireNonNull(
+              mapper.applyUnsafe(result.get()), "TryFuture mapper must not return null")
+          .future;
+    } catch (Throwable t) {
+      return CompletableFuture.completedFuture(Try.failure(t));
+    }
+  }
+
+  /**
+   * @param exception to unwrap
+   * @return the cause of {@link CompletionException} and {@link ExecutionException}, or the
+   *     exception itself
+   */
+  private static Throwable unwrap(Throwable exception) {
+    Throwable current = exception;
+    while ((current instanceof CompletionException || current instanceof ExecutionException)
+        && current.getCause() != null) {
+      current = current.getCause();
+    }
+    return current;
+  }
+
+  /** Executor of the asynchronous tasks without an explicit one, created on first use. */
+  private static final class DefaultExecutor {
+    /** Time after which idle platform threads terminate. */
+    private static final long IDLE_SECONDS = 60L;
+
+    private static final Executor INSTANCE =
+        VirtualThreads.isAvailable() ? VirtualThreads.executor() : platformExecutor();
+
+    private DefaultExecutor() {
+      // No instance
+    }
+
+    /**
+     * @return pool of daemon threads bounded by {@link FanOut#MAX_PLATFORM_THREADS}, which
+     *     terminate once idle
+     */
+    private static Executor platformExecutor() {
+      AtomicInteger counter = new AtomicInteger();
+      ThreadPoolExecutor pool =
+          new ThreadPoolExecutor(
+              FanOut.MAX_PLATFORM_THREADS,
+              FanOut.MAX_PLATFORM_THREADS,
+              IDLE_SECONDS,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              runnable -> {
+                Thread thread = new Thread(runnable, "try-future-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              });
+      pool.allowCoreThreadTimeOut(true);
+      return pool;
+    }
+  }
+}
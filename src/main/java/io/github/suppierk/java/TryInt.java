@@ -0,0 +1,530 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import io.github.suppierk.java.util.ExceptionSuppressor;
+import io.github.suppierk.java.util.StacklessNoSuchElementException;
+import io.github.suppierk.java.util.function.ThrowableConsumer;
+import io.github.suppierk.java.util.function.ThrowableIntConsumer;
+import io.github.suppierk.java.util.function.ThrowableIntFunction;
+import io.github.suppierk.java.util.function.ThrowableIntPredicate;
+import io.github.suppierk.java.util.function.ThrowableIntSupplier;
+import io.github.suppierk.java.util.function.ThrowableIntToDoubleFunction;
+import io.github.suppierk.java.util.function.ThrowableIntToLongFunction;
+import io.github.suppierk.java.util.function.ThrowableIntUnaryOperator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A container object that contains either an {@code int} value or exception. This is the primitive
+ * type specialization of {@link Try} for {@code int}, which keeps successful values unboxed.
+ *
+ * <p>If a value is present, {@link #isSuccess()} will return {@code true} and {@link #getAsInt()}
+ * will return the value. If exception occurred, {@link #isFailure()} will return {@code true} and
+ * {@link #getAsInt()} will throw first occurred exception.
+ *
+ * <p>This is a <a href="../lang/doc-files/ValueBased.html">value-based</a> class; use of
+ * identity-sensitive operations (including reference equality ({@code ==}), identity hash code, or
+ * synchronization) on instances of {@code TryInt} may have unpredictable results and should be
+ * avoided.
+ *
+ * @see Try
+ */
+@SuppressWarnings("squid:S1181")
+public interface TryInt {
+  /**
+   * Returns a {@link TryInt} by invoking specified supplier.
+   *
+   * @param supplier the supplier to retrieve the value
+   * @return a {@link TryInt.Success} with the value retrieved successfully or {@link
+   *     TryInt.Failure}
+   */
+  static TryInt of(ThrowableIntSupplier supplier) {
+    try {
+      return success(Objects.requireNonNull(supplier).getAsIntUnsafe());
+    } catch (Throwable t) {
+      return failure(t);
+    }
+  }
+
+  /**
+   * Returns a {@link TryInt} created from specified {@link OptionalInt}.
+   *
+   * @param optional the {@link OptionalInt} to be present
+   * @return a {@link TryInt.Success} with the value if it was present otherwise a {@link
+   *     TryInt.Failure} with {@link NoSuchElementException}
+   */
+  static TryInt fromOptional(OptionalInt optional) {
+    try {
+      if (Objects.requireNonNull(optional).isPresent()) {
+        return success(optional.getAsInt());
+      } else {
+        return failure(new StacklessNoSuchElementException("No value present"));
+      }
+    } catch (Throwable t) {
+      return failure(t);
+    }
+  }
+
+  /**
+   * Returns a {@link TryInt} with the specified value.
+   *
+   * @param value the value to be present
+   * @return a {@link TryInt.Success} with the value
+   */
+  static TryInt success(int value) {
+    return new Success(value);
+  }
+
+  /**
+   * Returns a {@link TryInt} with the specified exception.
+   *
+   * @param throwable the value to be present, which must be non-null
+   * @return a {@link TryInt.Failure} with the exception
+   * @throws NullPointerException if throwable is null
+   */
+  static TryInt failure(Throwable throwable) {
+    return new Failure(throwable);
+  }
+
+  /**
+   * Returns a {@link TryInt} with the exception of the specified type, which does not capture the
+   * execution stack trace and formats its message only when requested.
+   *
+   * @param type the type of the exception, see {@link ExceptionSuppressor#stackless(Class,
+   *     Supplier)} for the supported types
+   * @param message the supplier of the exception message
+   * @return a {@link TryInt.Failure} with the exception
+   * @throws NullPointerException if type or message is null
+   */
+  static TryInt failure(Class<? extends Throwable> type, Supplier<String> message) {
+    return new Failure(ExceptionSuppressor.stackless(type, message));
+  }
+
+  /**
+   * If this is {@link TryInt.Success}, returns the value, if this is {@link TryInt.Failure}, throws
+   * the exception stored as unchecked.
+   *
+   * @return the value held by this {@link TryInt.Success}
+   * @see TryInt#isSuccess()
+   * @see TryInt#isFailure()
+   */
+  int getAsInt();
+
+  /**
+   * @return {@code true} if there is a value present, otherwise {@code false}
+   */
+  boolean isSuccess();
+
+  /**
+   * @return {@code true} if there is an exception present, otherwise {@code false}
+   */
+  boolean isFailure();
+
+  /**
+   * If a value is present, invoke the specified consumer with the value, otherwise do nothing.
+   *
+   * @param consumer block to be executed if a value is present
+   */
+  void ifSuccess(ThrowableIntConsumer consumer);
+
+  /**
+   * If an exception is present, invoke the specified consumer with the value, otherwise do nothing.
+   *
+   * @param consumer block to be executed if an exception is present
+   */
+  void ifFailure(ThrowableConsumer<Throwable> consumer);
+
+  /**
+   * If a value is present, invoke the specified consumer with the value, otherwise invoke the
+   * specified consumer with the exception.
+   *
+   * @param valueConsumer block to be executed if a value is present
+   * @param throwableConsumer block to be executed if an exception is present
+   */
+  void ifSuccessOrElse(
+      ThrowableIntConsumer valueConsumer, ThrowableConsumer<Throwable> throwableConsumer);
+
+  /**
+   * If a value is present, and the value matches the given predicate, return a {@link TryInt}
+   * describing the value, otherwise return a failed {@link TryInt}.
+   *
+   * @param predicate a predicate to apply to the value, if present
+   * @return a {@link TryInt.Success} describing the value of this {@link TryInt} if a value is
+   *     present and the value matches the given predicate, otherwise a {@link TryInt.Failure}
+   */
+  TryInt filter(ThrowableIntPredicate predicate);
+
+  /**
+   * If a value is present, apply the provided mapping function to it, and return a {@link TryInt}
+   * describing the result. Otherwise, return a failed {@link TryInt}.
+   *
+   * @param mapper a mapping function to apply to the value, if present
+   * @return a {@link TryInt.Success} describing the result of applying a mapping function to the
+   *     value of this {@link TryInt}, if a value is present, otherwise a {@link TryInt.Failure}
+   */
+  TryInt map(ThrowableIntUnaryOperator mapper);
+
+  /**
+   * If a value is present, apply the provided {@code long}-valued mapping function to it, and
+   * return a {@link TryLong} describing the result. Otherwise, return a failed {@link TryLong}.
+   *
+   * @param mapper a mapping function to apply to the value, if present
+   * @return a {@link TryLong.Success} describing the result of applying a mapping function to the
+   *     value of this {@link TryInt}, if a value is present, otherwise a {@link TryLong.Failure}
+   */
+  TryLong mapToLong(ThrowableIntToLongFunction mapper);
+
+  /**
+   * If a value is present, apply the provided {@code double}-valued mapping function to it, and
+   * return a {@link TryDouble} describing the result. Otherwise, return a failed {@link TryDouble}.
+   *
+   * @param mapper a mapping function to apply to the value, if present
+   * @return a {@link TryDouble.Success} describing the result of applying a mapping function to the
+   *     value of this {@link TryInt}, if a value is present, otherwise a {@link TryDouble.Failure}
+   */
+  TryDouble mapToDouble(ThrowableIntToDoubleFunction mapper);
+
+  /**
+   * If a value is present, apply the provided object-valued mapping function to it, and if the
+   * result is non-null, return a {@link Try} describing the result. Otherwise, return a failed
+   * {@link Try}.
+   *
+   * @param <U> The type of the result of the mapping function
+   * @param mapper a mapping function to apply to the value, if present
+   * @return a {@link Try.Success} describing the result of applying a mapping function to the value
+   *     of this {@link TryInt}, if a value is present, otherwise a {@link Try.Failure}
+   */
+  <U> Try<U> mapToObj(ThrowableIntFunction<? extends U> mapper);
+
+  /**
+   * If a value is present, apply the provided {@link TryInt}-bearing mapping function to it, return
+   * that result, otherwise return a failed {@link TryInt}.
+   *
+   * @param mapper a mapping function to apply to the value, if present the mapping function
+   * @return the result of applying a {@link TryInt}-bearing mapping function to the value of this
+   *     {@link TryInt}, if a value is present, otherwise a {@link TryInt.Failure}
+   */
+  TryInt flatMap(ThrowableIntFunction<TryInt> mapper);
+
+  /**
+   * Convert this {@link TryInt} to {@link Try} by boxing the value.
+   *
+   * @return new {@link Try} containing boxed value or the same exception
+   */
+  Try<Integer> boxed();
+
+  /**
+   * Convert this {@link TryInt} to {@link OptionalInt} without preserving exception information.
+   *
+   * @return new {@link OptionalInt} containing value or {@link OptionalInt#empty()} if there was an
+   *     exception
+   */
+  OptionalInt toOptional();
+
+  /**
+   * Continue {@link TryInt} composition by providing alternative ways to compute desired value
+   *
+   * @param supplier to invoke in case of failure.
+   * @return new {@link TryInt} instance
+   */
+  TryInt orElseTry(ThrowableIntSupplier supplier);
+
+  /**
+   * Return the value if present, otherwise return {@code other}.
+   *
+   * @param other the value to be returned if there is a failure
+   * @return the value, if present, otherwise {@code other}
+   */
+  default int orElse(int other) {
+    return isSuccess() ? getAsInt() : other;
+  }
+
+  /**
+   * Return the value if present, otherwise invoke {@code other} and return the result of that
+   * invocation.
+   *
+   * @param other a {@link IntSupplier} whose result is returned if no value is present
+   * @return the value if present otherwise the result of {@code other.getAsInt()}
+   * @throws NullPointerException if value is not present and {@code other} is null
+   */
+  default int orElse(IntSupplier other) {
+    if (isSuccess()) {
+      return getAsInt();
+    }
+
+    return Objects.requireNonNull(other, "TryInt.orElse(IntSupplier) argument must not be null")
+        .getAsInt();
+  }
+
+  /** A container object which contains {@code int} value. */
+  class Success implements TryInt {
+    /** Value. */
+    private final int value;
+
+    /**
+     * Constructs an instance with the value present.
+     *
+     * @param value the value to be present
+     */
+    protected Success(int value) {
+      this.value = value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getAsInt() {
+      return value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSuccess() {
+      return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isFailure() {
+      return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifSuccess(ThrowableIntConsumer consumer) {
+      Objects.requireNonNull(consumer).accept(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifFailure(ThrowableConsumer<Throwable> consumer) {
+      // Do nothing
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifSuccessOrElse(
+        ThrowableIntConsumer valueConsumer, ThrowableConsumer<Throwable> throwableConsumer) {
+      Objects.requireNonNull(valueConsumer).accept(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryInt filter(ThrowableIntPredicate predicate) {
+      try {
+        if (Objects.requireNonNull(predicate).testUnsafe(value)) {
+          return this;
+        } else {
+          return failure(new StacklessNoSuchElementException("Value does not match the predicate"));
+        }
+      } catch (Throwable t) {
+        return failure(t);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryInt map(ThrowableIntUnaryOperator mapper) {
+      try {
+        return success(Objects.requireNonNull(mapper).applyAsIntUnsafe(value));
+      } catch (Throwable t) {
+        return failure(t);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryLong mapToLong(ThrowableIntToLongFunction mapper) {
+      try {
+        return TryLong.success(Objects.requireNonNull(mapper).applyAsLongUnsafe(value));
+      } catch (Throwable t) {
+        return TryLong.failure(t);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryDouble mapToDouble(ThrowableIntToDoubleFunction mapper) {
+      try {
+        return TryDouble.success(Objects.requireNonNull(mapper).applyAsDoubleUnsafe(value));
+      } catch (Throwable t) {
+        return TryDouble.failure(t);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <U> Try<U> mapToObj(ThrowableIntFunction<? extends U> mapper) {
+      try {
+        return Try.success(Objects.requireNonNull(mapper).applyUnsafe(value));
+      } catch (Throwable t) {
+        return Try.failure(t);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryInt flatMap(ThrowableIntFunction<TryInt> mapper) {
+      try {
+        return Objects.requireNonNull(mapper).applyUnsafe(value);
+      } catch (Throwable t) {
+        return failure(t);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Try<Integer> boxed() {
+      return Try.success(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public OptionalInt toOptional() {
+      return OptionalInt.of(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryInt orElseTry(ThrowableIntSupplier supplier) {
+      Objects.requireNonNull(
+          supplier, "TryInt.orElseTry(ThrowableIntSupplier) argument must not be null");
+      return this;
+    }
+  }
+
+  /** A container object which contains exception. */
+  class Failure implements TryInt {
+    /** Non-null exception. */
+    private final Throwable exception;
+
+    /**
+     * Constructs an instance with the exception present.
+     *
+     * @param exception the non-null exception to be present
+     * @throws NullPointerException if exception is null
+     */
+    protected Failure(Throwable exception) {
+      this.exception =
+          Objects.requireNonNull(exception, "TryInt.failure(Throwable) argument must not be null");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getAsInt() {
+      return ExceptionSuppressor.asUnchecked(exception);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSuccess() {
+      return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isFailure() {
+      return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifSuccess(ThrowableIntConsumer consumer) {
+      // Do nothing
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifFailure(ThrowableConsumer<Throwable> consumer) {
+      Objects.requireNonNull(consumer).accept(exception);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifSuccessOrElse(
+        ThrowableIntConsumer valueConsumer, ThrowableConsumer<Throwable> throwableConsumer) {
+      Objects.requireNonNull(throwableConsumer).accept(exception);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryInt filter(ThrowableIntPredicate predicate) {
+      return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryInt map(ThrowableIntUnaryOperator mapper) {
+      return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryLong mapToLong(ThrowableIntToLongFunction mapper) {
+      return TryLong.failure(exception);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryDouble mapToDouble(ThrowableIntToDoubleFunction mapper) {
+      return TryDouble.failure(exception);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <U> Try<U> mapToObj(ThrowableIntFunction<? extends U> mapper) {
+      return Try.failure(exception);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryInt flatMap(ThrowableIntFunction<TryInt> mapper) {
+      return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Try<Integer> boxed() {
+      return Try.failure(exception);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public OptionalInt toOptional() {
+      return OptionalInt.empty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryInt orElseTry(ThrowableIntSupplier supplier) {
+      return TryInt.of(
+          Objects.requireNonNull(
+              supplier, "TryInt.orElseTry(ThrowableIntSupplier) argument must not be null"));
+    }
+  }
+}
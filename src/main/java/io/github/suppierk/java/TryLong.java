@@ -0,0 +1,530 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import io.github.suppierk.java.util.ExceptionSuppressor;
+import io.github.suppierk.java.util.StacklessNoSuchElementException;
+import io.github.suppierk.java.util.function.ThrowableConsumer;
+import io.github.suppierk.java.util.function.ThrowableLongConsumer;
+import io.github.suppierk.java.util.function.ThrowableLongFunction;
+import io.github.suppierk.java.util.function.ThrowableLongPredicate;
+import io.github.suppierk.java.util.function.ThrowableLongSupplier;
+import io.github.suppierk.java.util.function.ThrowableLongToDoubleFunction;
+import io.github.suppierk.java.util.function.ThrowableLongToIntFunction;
+import io.github.suppierk.java.util.function.ThrowableLongUnaryOperator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A container object that contains either a {@code long} value or exception. This is the primitive
+ * type specialization of {@link Try} for {@code long}, which keeps successful values unboxed.
+ *
+ * <p>If a value is present, {@link #isSuccess()} will return {@code true} and {@link #getAsLong()}
+ * will return the value. If exception occurred, {@link #isFailure()} will return {@code true} and
+ * {@link #getAsLong()} will throw first occurred exception.
+ *
+ * <p>This is a <a href="../lang/doc-files/ValueBased.html">value-based</a> class; use of
+ * identity-sensitive operations (including reference equality ({@code ==}), identity hash code, or
+ * synchronization) on instances of {@code TryLong} may have unpredictable results and should be
+ * avoided.
+ *
+ * @see Try
+ */
+@SuppressWarnings("squid:S1181")
+public interface TryLong {
+  /**
+   * Returns a {@link TryLong} by invoking specified supplier.
+   *
+   * @param supplier the supplier to retrieve the value
+   * @return a {@link TryLong.Success} with the value retrieved successfully or {@link
+   *     TryLong.Failure}
+   */
+  static TryLong of(ThrowableLongSupplier supplier) {
+    try {
+      return success(Objects.requireNonNull(supplier).getAsLongUnsafe());
+    } catch (Throwable t) {
+      return failure(t);
+    }
+  }
+
+  /**
+   * Returns a {@link TryLong} created from specified {@link OptionalLong}.
+   *
+   * @param optional the {@link OptionalLong} to be present
+   * @return a {@link TryLong.Success} with the value if it was present otherwise a {@link
+   *     TryLong.Failure} with {@link NoSuchElementException}
+   */
+  static TryLong fromOptional(OptionalLong optional) {
+    try {
+      if (Objects.requireNonNull(optional).isPresent()) {
+        return success(optional.getAsLong());
+      } else {
+        return failure(new StacklessNoSuchElementException("No value present"));
+      }
+    } catch (Throwable t) {
+      return failure(t);
+    }
+  }
+
+  /**
+   * Returns a {@link TryLong} with the specified value.
+   *
+   * @param value the value to be present
+   * @return a {@link TryLong.Success} with the value
+   */
+  static TryLong success(long value) {
+    return new Success(value);
+  }
+
+  /**
+   * Returns a {@link TryLong} with the specified exception.
+   *
+   * @param throwable the value to be present, which must be non-null
+   * @return a {@link TryLong.Failure} with the exception
+   * @throws NullPointerException if throwable is null
+   */
+  static TryLong failure(Throwable throwable) {
+    return new Failure(throwable);
+  }
+
+  /**
+   * Returns a {@link TryLong} with the exception of the specified type, which does not capture the
+   * execution stack trace and formats its message only when requested.
+   *
+   * @param type the type of the exception, see {@link ExceptionSuppressor#stackless(Class,
+   *     Supplier)} for the supported types
+   * @param message the supplier of the exception message
+   * @return a {@link TryLong.Failure} with the exception
+   * @throws NullPointerException if type or message is null
+   */
+  static TryLong failure(Class<? extends Throwable> type, Supplier<String> message) {
+    return new Failure(ExceptionSuppressor.stackless(type, message));
+  }
+
+  /**
+   * If this is {@link TryLong.Success}, returns the value, if this is {@link TryLong.Failure},
+   * throws the exception stored as unchecked.
+   *
+   * @return the value held by this {@link TryLong.Success}
+   * @see TryLong#isSuccess()
+   * @see TryLong#isFailure()
+   */
+  long getAsLong();
+
+  /**
+   * @return {@code true} if there is a value present, otherwise {@code false}
+   */
+  boolean isSuccess();
+
+  /**
+   * @return {@code true} if there is an exception present, otherwise {@code false}
+   */
+  boolean isFailure();
+
+  /**
+   * If a value is present, invoke the specified consumer with the value, otherwise do nothing.
+   *
+   * @param consumer block to be executed if a value is present
+   */
+  void ifSuccess(ThrowableLongConsumer consumer);
+
+  /**
+   * If an exception is present, invoke the specified consumer with the value, otherwise do nothing.
+   *
+   * @param consumer block to be executed if an exception is present
+   */
+  void ifFailure(ThrowableConsumer<Throwable> consumer);
+
+  /**
+   * If a value is present, invoke the specified consumer with the value, otherwise invoke the
+   * specified consumer with the exception.
+   *
+   * @param valueConsumer block to be executed if a value is present
+   * @param throwableConsumer block to be executed if an exception is present
+   */
+  void ifSuccessOrElse(
+      ThrowableLongConsumer valueConsumer, ThrowableConsumer<Throwable> throwableConsumer);
+
+  /**
+   * If a value is present, and the value matches the given predicate, return a {@link TryLong}
+   * describing the value, otherwise return a failed {@link TryLong}.
+   *
+   * @param predicate a predicate to apply to the value, if present
+   * @return a {@link TryLong.Success} describing the value of this {@link TryLong} if a value is
+   *     present and the value matches the given predicate, otherwise a {@link TryLong.Failure}
+   */
+  TryLong filter(ThrowableLongPredicate predicate);
+
+  /**
+   * If a value is present, apply the provided mapping function to it, and return a {@link TryLong}
+   * describing the result. Otherwise, return a failed {@link TryLong}.
+   *
+   * @param mapper a mapping function to apply to the value, if present
+   * @return a {@link TryLong.Success} describing the result of applying a mapping function to the
+   *     value of this {@link TryLong}, if a value is present, otherwise a {@link TryLong.Failure}
+   */
+  TryLong map(ThrowableLongUnaryOperator mapper);
+
+  /**
+   * If a value is present, apply the provided {@code int}-valued mapping function to it, and return
+   * a {@link TryInt} describing the result. Otherwise, return a failed {@link TryInt}.
+   *
+   * @param mapper a mapping function to apply to the value, if present
+   * @return a {@link TryInt.Success} describing the result of applying a mapping function to the
+   *     value of this {@link TryLong}, if a value is present, otherwise a {@link TryInt.Failure}
+   */
+  TryInt mapToInt(ThrowableLongToIntFunction mapper);
+
+  /**
+   * If a value is present, apply the provided {@code double}-valued mapping function to it, and
+   * return a {@link TryDouble} describing the result. Otherwise, return a failed {@link TryDouble}.
+   *
+   * @param mapper a mapping function to apply to the value, if present
+   * @return a {@link TryDouble.Success} describing the result of applying a mapping function to the
+   *     value of this {@link TryLong}, if a value is present, otherwise a {@link TryDouble.Failure}
+   */
+  TryDouble mapToDouble(ThrowableLongToDoubleFunction mapper);
+
+  /**
+   * If a value is present, apply the provided object-valued mapping function to it, and if the
+   * result is non-null, return a {@link Try} describing the result. Otherwise, return a failed
+   * {@link Try}.
+   *
+   * @param <U> The type of the result of the mapping function
+   * @param mapper a mapping function to apply to the value, if present
+   * @return a {@link Try.Success} describing the result of applying a mapping function to the value
+   *     of this {@link TryLong}, if a value is present, otherwise a {@link Try.Failure}
+   */
+  <U> Try<U> mapToObj(ThrowableLongFunction<? extends U> mapper);
+
+  /**
+   * If a value is present, apply the provided {@link TryLong}-bearing mapping function to it,
+   * return that result, otherwise return a failed {@link TryLong}.
+   *
+   * @param mapper a mapping function to apply to the value, if present the mapping function
+   * @return the result of applying a {@link TryLong}-bearing mapping function to the value of this
+   *     {@link TryLong}, if a value is present, otherwise a {@link TryLong.Failure}
+   */
+  TryLong flatMap(ThrowableLongFunction<TryLong> mapper);
+
+  /**
+   * Convert this {@link TryLong} to {@link Try} by boxing the value.
+   *
+   * @return new {@link Try} containing boxed value or the same exception
+   */
+  Try<Long> boxed();
+
+  /**
+   * Convert this {@link TryLong} to {@link OptionalLong} without preserving exception information.
+   *
+   * @return new {@link OptionalLong} containing value or {@link OptionalLong#empty()} if there was
+   *     an exception
+   */
+  OptionalLong toOptional();
+
+  /**
+   * Continue {@link TryLong} composition by providing alternative ways to compute desired value
+   *
+   * @param supplier to invoke in case of failure.
+   * @return new {@link TryLong} instance
+   */
+  TryLong orElseTry(ThrowableLongSupplier supplier);
+
+  /**
+   * Return the value if present, otherwise return {@code other}.
+   *
+   * @param other the value to be returned if there is a failure
+   * @return the value, if present, otherwise {@code other}
+   */
+  default long orElse(long other) {
+    return isSuccess() ? getAsLong() : other;
+  }
+
+  /**
+   * Return the value if present, otherwise invoke {@code other} and return the result of that
+   * invocation.
+   *
+   * @param other a {@link LongSupplier} whose result is returned if no value is present
+   * @return the value if present otherwise the result of {@code other.getAsLong()}
+   * @throws NullPointerException if value is not present and {@code other} is null
+   */
+  default long orElse(LongSupplier other) {
+    if (isSuccess()) {
+      return getAsLong();
+    }
+
+    return Objects.requireNonNull(other, "TryLong.orElse(LongSupplier) argument must not be null")
+        .getAsLong();
+  }
+
+  /** A container object which contains {@code long} value. */
+  class Success implements TryLong {
+    /** Value. */
+    private final long value;
+
+    /**
+     * Constructs an instance with the value present.
+     *
+     * @param value the value to be present
+     */
+    protected Success(long value) {
+      this.value = value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getAsLong() {
+      return value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSuccess() {
+      return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isFailure() {
+      return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifSuccess(ThrowableLongConsumer consumer) {
+      Objects.requireNonNull(consumer).accept(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifFailure(ThrowableConsumer<Throwable> consumer) {
+      // Do nothing
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifSuccessOrElse(
+        ThrowableLongConsumer valueConsumer, ThrowableConsumer<Throwable> throwableConsumer) {
+      Objects.requireNonNull(valueConsumer).accept(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryLong filter(ThrowableLongPredicate predicate) {
+      try {
+        if (Objects.requireNonNull(predicate).testUnsafe(value)) {
+          return this;
+        } else {
+          return failure(new StacklessNoSuchElementException("Value does not match the predicate"));
+        }
+      } catch (Throwable t) {
+        return failure(t);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryLong map(ThrowableLongUnaryOperator mapper) {
+      try {
+        return success(Objects.requireNonNull(mapper).applyAsLongUnsafe(value));
+      } catch (Throwable t) {
+        return failure(t);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryInt mapToInt(ThrowableLongToIntFunction mapper) {
+      try {
+        return TryInt.success(Objects.requireNonNull(mapper).applyAsIntUnsafe(value));
+      } catch (Throwable t) {
+        return TryInt.failure(t);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryDouble mapToDouble(ThrowableLongToDoubleFunction mapper) {
+      try {
+        return TryDouble.success(Objects.requireNonNull(mapper).applyAsDoubleUnsafe(value));
+      } catch (Throwable t) {
+        return TryDouble.failure(t);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <U> Try<U> mapToObj(ThrowableLongFunction<? extends U> mapper) {
+      try {
+        return Try.success(Objects.requireNonNull(mapper).applyUnsafe(value));
+      } catch (Throwable t) {
+        return Try.failure(t);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryLong flatMap(ThrowableLongFunction<TryLong> mapper) {
+      try {
+        return Objects.requireNonNull(mapper).applyUnsafe(value);
+      } catch (Throwable t) {
+        return failure(t);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Try<Long> boxed() {
+      return Try.success(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public OptionalLong toOptional() {
+      return OptionalLong.of(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryLong orElseTry(ThrowableLongSupplier supplier) {
+      Objects.requireNonNull(
+          supplier, "TryLong.orElseTry(ThrowableLongSupplier) argument must not be null");
+      return this;
+    }
+  }
+
+  /** A container object which contains exception. */
+  class Failure implements TryLong {
+    /** Non-null exception. */
+    private final Throwable exception;
+
+    /**
+     * Constructs an instance with the exception present.
+     *
+     * @param exception the non-null exception to be present
+     * @throws NullPointerException if exception is null
+     */
+    protected Failure(Throwable exception) {
+      this.exception =
+          Objects.requireNonNull(exception, "TryLong.failure(Throwable) argument must not be null");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getAsLong() {
+      return ExceptionSuppressor.asUnchecked(exception);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSuccess() {
+      return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isFailure() {
+      return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifSuccess(ThrowableLongConsumer consumer) {
+      // Do nothing
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifFailure(ThrowableConsumer<Throwable> consumer) {
+      Objects.requireNonNull(consumer).accept(exception);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ifSuccessOrElse(
+        ThrowableLongConsumer valueConsumer, ThrowableConsumer<Throwable> throwableConsumer) {
+      Objects.requireNonNull(throwableConsumer).accept(exception);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryLong filter(ThrowableLongPredicate predicate) {
+      return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryLong map(ThrowableLongUnaryOperator mapper) {
+      return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryInt mapToInt(ThrowableLongToIntFunction mapper) {
+      return TryInt.failure(exception);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryDouble mapToDouble(ThrowableLongToDoubleFunction mapper) {
+      return TryDouble.failure(exception);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <U> Try<U> mapToObj(ThrowableLongFunction<? extends U> mapper) {
+      return Try.failure(exception);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryLong flatMap(ThrowableLongFunction<TryLong> mapper) {
+      return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Try<Long> boxed() {
+      return Try.failure(exception);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public OptionalLong toOptional() {
+      return OptionalLong.empty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TryLong orElseTry(ThrowableLongSupplier supplier) {
+      return TryLong.of(
+          Objects.requireNonNull(
+              supplier, "TryLong.orElseTry(ThrowableLongSupplier) argument must not be null"));
+    }
+  }
+}
@@ -0,0 +1,283 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import io.github.suppierk.java.util.function.ThrowableSupplier;
+import java.util.ArrayDeque;
+import java.util.Objects;
+
+/**
+ * A description of a computation which results in {@link Try}, run with a constant stack depth.
+ *
+ * <p>Unlike {@link Try}, which applies every step immediately, {@link TryProgram} records the steps
+ * as data and applies them in a single loop when {@link #run()} is called. Chains of tens of
+ * thousands of dependent steps, including mappers returning further programs, therefore neither
+ * overflow the stack nor produce deep stack traces when a step fails. Adjacent {@link
+ * #map(ThrowableFunction)} steps are applied one after another without creating intermediate {@link
+ * Try} instances.
+ *
+ * <p>Programs are immutable and can be run multiple times, every run applies the steps again.
+ *
+ * @param <T> the class of the value
+ */
+@SuppressWarnings({"squid:S1181", "unchecked"})
+public final class TryProgram<T> {
+  private static final int SUCCESS = 0;
+  private static final int FAILURE = 1;
+  private static final int SUSPEND = 2;
+  private static final int MAP = 3;
+  private static final int FLAT_MAP = 4;
+  private static final int RECOVER = 5;
+  private static final int RECOVER_WITH = 6;
+
+  /** Kind of the step. */
+  private final int kind;
+
+  /** Program this step is applied to, {@code null} for the initial steps. */
+  private final TryProgram<?> source;
+
+  /** Supplier or function of the step, {@code null} for the immediate values. */
+  private final Object function;
+
+  /** Value of the successful initial step. */
+  private final Object value;
+
+  /** Exception of the failed initial step. */
+  private final Throwable exception;
+
+  private TryProgram(
+      int kind, TryProgram<?> source, Object function, Object value, Throwable exception) {
+    this.kind = kind;
+    this.source = source;
+    this.function = function;
+    this.value = value;
+    this.exception = exception;
+  }
+
+  /**
+   * Returns a program which invokes specified supplier when run.
+   *
+   * @param <T> the class of the value
+   * @param supplier the supplier to retrieve the value, which must be non-null
+   * @return a program invoking the supplier
+   * @throws NullPointerException if supplier is null
+   */
+  public static <T> TryProgram<T> of(ThrowableSupplier<? extends T> supplier) {
+    Objects.requireNonNull(supplier, "TryProgram.of(ThrowableSupplier) argument must not be null");
+    return new TryProgram<>(SUSPEND, null, supplier, null, null);
+  }
+
+  /**
+   * Returns a program resulting in the specified value.
+   *
+   * @param <T> the class of the value
+   * @param value the value to be present
+   * @return a program resulting in {@link Try.Success}
+   */
+  public static <T> TryProgram<T> success(T value) {
+    return new TryProgram<>(SUCCESS, null, null, value, null);
+  }
+
+  /**
+   * Returns a program resulting in the specified exception.
+   *
+   * @param <T> the class of the value
+   * @param exception the exception to be present, which must be non-null
+   * @return a program resulting in {@link Try.Failure}
+   * @throws NullPointerException if exception is null
+   */
+  public static <T> TryProgram<T> failure(Throwable exception) {
+    Objects.requireNonNull(exception, "TryProgram.failure(Throwable) argument must not be null");
+    return new TryProgram<>(FAILURE, null, null, null, exception);
+  }
+
+  /**
+   * Returns a program resulting in the value or exception of the specified {@link Try}.
+   *
+   * @param <T> the class of the value
+   * @param result the {@link Try} to start from, which must be non-null
+   * @return a program resulting in the same value or exception
+   * @throws NullPointerException if result is null
+   */
+  public static <T> TryProgram<T> fromTry(Try<? extends T> result) {
+    if (Objects.requireNonNull(result, "TryProgram.fromTry(Try) argument must not be null")
+        .isSuccess()) {
+      return success(result.get());
+    }
+
+    Throwable[] exception = new Throwable[1];
+    result.ifFailure(t -> exception[0] = t);
+    return failure(exception[0]);
+  }
+
+  /**
+   * Returns a program applying specified mapper to the value of this program.
+   *
+   * @param <U> the class of the value
+   * @param mapper the mapping function, which must be non-null
+   * @return a program resulting in the mapped value, or the exception if this program or the mapper
+   *     fails
+   * @throws NullPointerException if mapper is null
+   * @see Try#map(ThrowableFunction)
+   */
+  public <U> TryProgram<U> map(ThrowableFunction<? super T, ? extends U> mapper) {
+    Objects.requireNonNull(mapper, "TryProgram.map(ThrowableFunction) argument must not be null");
+    return new TryProgram<>(MAP, this, mapper, null, null);
+  }
+
+  /**
+   * Returns a program continuing with the program returned by specified mapper for the value of
+   * this program.
+   *
+   * @param <U> the class of the value
+   * @param mapper the mapping function returning non-null program, which must be non-null
+   * @return a program resulting in the outcome of the returned program, or the exception if this
+   *     program or the mapper fails
+   * @throws NullPointerException if mapper is null
+   * @see Try#flatMap(ThrowableFunction)
+   */
+  public <U> TryProgram<U> flatMap(ThrowableFunction<? super T, TryProgram<U>> mapper) {
+    Objects.requireNonNull(
+        mapper, "TryProgram.flatMap(ThrowableFunction) argument must not be null");
+    return new TryProgram<>(FLAT_MAP, this, mapper, null, null);
+  }
+
+  /**
+   * Returns a program replacing the exception of this program with the value returned by specified
+   * function.
+   *
+   * @param recovery the function computing the value from the exception, which must be non-null
+   * @return a program resulting in the value of this program, the recovered value, or the exception
+   *     if the function fails
+   * @throws NullPointerException if recovery is null
+   */
+  public TryProgram<T> recover(ThrowableFunction<Throwable, ? extends T> recovery) {
+    Objects.requireNonNull(
+        recovery, "TryProgram.recover(ThrowableFunction) argument must not be null");
+    return new TryProgram<>(RECOVER, this, recovery, null, null);
+  }
+
+  /**
+   * Returns a program continuing with the program returned by specified function if this program
+   * fails.
+   *
+   * @param recovery the function returning non-null program for the exception, which must be
+   *     non-null
+   * @return a program resulting in the value of this program, the outcome of the returned program,
+   *     or the exception if the function fails
+   * @throws NullPointerException if recovery is null
+   */
+  public TryProgram<T> recoverWith(ThrowableFunction<Throwable, TryProgram<T>> recovery) {
+    Objects.requireNonNull(
+        recovery, "TryProgram.recoverWith(ThrowableFunction) argument must not be null");
+    return new TryProgram<>(RECOVER_WITH, this, recovery, null, null);
+  }
+
+  /**
+   * Runs the program.
+   *
+   * <p>Pending steps are kept on the heap, so the stack depth does not depend on the length of the
+   * program. Exceptions thrown by the suppliers and functions are captured into the resulting
+   * {@link Try.Failure}.
+   *
+   * @return a {@link Try.Success} with the resulting value or {@link Try.Failure}
+   */
+  public Try<T> run() {
+    ArrayDeque<TryProgram<?>> pending = new ArrayDeque<>();
+    TryProgram<?> current = this;
+    Object result = null;
+    Throwable failure = null;
+
+    while (true) {
+      // Descend to the initial step, remembering the steps to apply on the way back
+      while (current.source != null) {
+        pending.push(current);
+        current = current.source;
+      }
+
+      switch (current.kind) {
+        case SUCCESS:
+          result = current.value;
+          failure = null;
+          break;
+        case FAILURE:
+          result = null;
+          failure = current.exception;
+          break;
+        default:
+          try {
+            result = ((ThrowableSupplier<Object>) current.function).getUnsafe();
+            failure = null;
+          } catch (Throwable t) {
+            result = null;
+            failure = t;
+          }
+          break;
+      }
+
+      // Apply the remembered steps until one of them continues with another program
+      current = null;
+      while (current == null) {
+        TryProgram<?> step = pending.poll();
+        if (step == null) {
+          return failure == null ? Try.success((T) result) : Try.failure(failure);
+        }
+
+        try {
+          if (failure == null) {
+            if (step.kind == MAP) {
+              result = ((ThrowableFunction<Object, Object>) step.function).applyUnsafe(result);
+            } else if (step.kind == FLAT_MAP) {
+              current = next(step, result);
+            }
+          } else if (step.kind == RECOVER) {
+            result = ((ThrowableFunction<Throwable, Object>) step.function).applyUnsafe(failure);
+            failure = null;
+          } else if (step.kind == RECOVER_WITH) {
+            current = next(step, failure);
+          }
+        } catch (Throwable t) {
+          result = null;
+          failure = t;
+        }
+      }
+    }
+  }
+
+  /**
+   * Applies the function of the step returning the next program to run.
+   *
+   * @param step the {@link #FLAT_MAP} or {@link #RECOVER_WITH} step
+   * @param argument the value or exception to apply the function to
+   * @return the next program to run
+   * @throws Throwable if the function fails or returns null
+   */
+  private static TryProgram<?> next(TryProgram<?> step, Object argument) throws Throwable {
+    return Objects.requireNonNull(
+        ((ThrowableFunction<Object, TryProgram<?>>) step.function).applyUnsafe(argument),
+        "TryProgram mapper must not return null");
+  }
+}
@@ -3,6 +3,9 @@ package io.github.suppierk.java;
 import io.github.suppierk.java.lang.ThrowableRunnable;
 import io.github.suppierk.java.util.ThrowableComparator;
 import io.github.suppierk.java.util.function.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
 import java.util.Comparator;
 import java.util.function.*;
 
@@ -214,4 +217,291 @@ public final class UnsafeFunctions {
   public static <T> UnaryOperator<T> unsafeUnaryOperator(ThrowableUnaryOperator<T> unaryOperator) {
     return unaryOperator;
   }
+
+  public static Runnable specializedRunnable(ThrowableRunnable runnable) {
+    return FunctionSpecializer.specialize(runnable, ThrowableRunnable.class);
+  }
+
+  public static <T, U> BiConsumer<T, U> specializedBiConsumer(
+      ThrowableBiConsumer<T, U> biConsumer) {
+    return FunctionSpecializer.specialize(biConsumer, ThrowableBiConsumer.class);
+  }
+
+  public static <T, U, R> BiFunction<T, U, R> specializedBiFunction(
+      ThrowableBiFunction<T, U, R> biFunction) {
+    return FunctionSpecializer.specialize(biFunction, ThrowableBiFunction.class);
+  }
+
+  public static <T> BinaryOperator<T> specializedBinaryOperator(
+      ThrowableBinaryOperator<T> binaryOperator) {
+    return FunctionSpecializer.specialize(binaryOperator, ThrowableBinaryOperator.class);
+  }
+
+  public static <T, U> BiPredicate<T, U> specializedBiPredicate(
+      ThrowableBiPredicate<T, U> biPredicate) {
+    return FunctionSpecializer.specialize(biPredicate, ThrowableBiPredicate.class);
+  }
+
+  public static BooleanSupplier specializedBooleanSupplier(
+      ThrowableBooleanSupplier booleanSupplier) {
+    return FunctionSpecializer.specialize(booleanSupplier, ThrowableBooleanSupplier.class);
+  }
+
+  public static <T> Consumer<T> specializedConsumer(ThrowableConsumer<T> consumer) {
+    return FunctionSpecializer.specialize(consumer, ThrowableConsumer.class);
+  }
+
+  public static <T> Comparator<T> specializedComparator(ThrowableComparator<T> comparator) {
+    return FunctionSpecializer.specialize(comparator, ThrowableComparator.class);
+  }
+
+  public static DoubleBinaryOperator specializedDoubleBinaryOperator(
+      ThrowableDoubleBinaryOperator doubleBinaryOperator) {
+    return FunctionSpecializer.specialize(
+        doubleBinaryOperator, ThrowableDoubleBinaryOperator.class);
+  }
+
+  public static DoubleConsumer specializedDoubleConsumer(ThrowableDoubleConsumer doubleConsumer) {
+    return FunctionSpecializer.specialize(doubleConsumer, ThrowableDoubleConsumer.class);
+  }
+
+  public static <R> DoubleFunction<R> specializedDoubleFunction(
+      ThrowableDoubleFunction<R> doubleFunction) {
+    return FunctionSpecializer.specialize(doubleFunction, ThrowableDoubleFunction.class);
+  }
+
+  public static DoublePredicate specializedDoublePredicate(
+      ThrowableDoublePredicate doublePredicate) {
+    return FunctionSpecializer.specialize(doublePredicate, ThrowableDoublePredicate.class);
+  }
+
+  public static DoubleSupplier specializedDoubleSupplier(ThrowableDoubleSupplier doubleSupplier) {
+    return FunctionSpecializer.specialize(doubleSupplier, ThrowableDoubleSupplier.class);
+  }
+
+  public static DoubleToIntFunction specializedDoubleToIntFunction(
+      ThrowableDoubleToIntFunction doubleToIntFunction) {
+    return FunctionSpecializer.specialize(doubleToIntFunction, ThrowableDoubleToIntFunction.class);
+  }
+
+  public static DoubleToLongFunction specializedDoubleToLongFunction(
+      ThrowableDoubleToLongFunction doubleToLongFunction) {
+    return FunctionSpecializer.specialize(
+        doubleToLongFunction, ThrowableDoubleToLongFunction.class);
+  }
+
+  public static DoubleUnaryOperator specializedDoubleUnaryOperator(
+      ThrowableDoubleUnaryOperator doubleUnaryOperator) {
+    return FunctionSpecializer.specialize(doubleUnaryOperator, ThrowableDoubleUnaryOperator.class);
+  }
+
+  public static <T, R> Function<T, R> specializedFunction(ThrowableFunction<T, R> function) {
+    return FunctionSpecializer.specialize(function, ThrowableFunction.class);
+  }
+
+  public static IntBinaryOperator specializedIntBinaryOperator(
+      ThrowableIntBinaryOperator intBinaryOperator) {
+    return FunctionSpecializer.specialize(intBinaryOperator, ThrowableIntBinaryOperator.class);
+  }
+
+  public static IntConsumer specializedIntConsumer(ThrowableIntConsumer intConsumer) {
+    return FunctionSpecializer.specialize(intConsumer, ThrowableIntConsumer.class);
+  }
+
+  public static <R> IntFunction<R> specializedIntFunction(ThrowableIntFunction<R> intFunction) {
+    return FunctionSpecializer.specialize(intFunction, ThrowableIntFunction.class);
+  }
+
+  public static IntPredicate specializedIntPredicate(ThrowableIntPredicate intPredicate) {
+    return FunctionSpecializer.specialize(intPredicate, ThrowableIntPredicate.class);
+  }
+
+  public static IntSupplier specializedIntSupplier(ThrowableIntSupplier intSupplier) {
+    return FunctionSpecializer.specialize(intSupplier, ThrowableIntSupplier.class);
+  }
+
+  public static IntToDoubleFunction specializedIntToDoubleFunction(
+      ThrowableIntToDoubleFunction intToDoubleFunction) {
+    return FunctionSpecializer.specialize(intToDoubleFunction, ThrowableIntToDoubleFunction.class);
+  }
+
+  public static IntToLongFunction specializedIntToLongFunction(
+      ThrowableIntToLongFunction intToLongFunction) {
+    return FunctionSpecializer.specialize(intToLongFunction, ThrowableIntToLongFunction.class);
+  }
+
+  public static IntUnaryOperator specializedIntUnaryOperator(
+      ThrowableIntUnaryOperator intUnaryOperator) {
+    return FunctionSpecializer.specialize(intUnaryOperator, ThrowableIntUnaryOperator.class);
+  }
+
+  public static LongBinaryOperator specializedLongBinaryOperator(
+      ThrowableLongBinaryOperator longBinaryOperator) {
+    return FunctionSpecializer.specialize(longBinaryOperator, ThrowableLongBinaryOperator.class);
+  }
+
+  public static LongConsumer specializedLongConsumer(ThrowableLongConsumer longConsumer) {
+    return FunctionSpecializer.specialize(longConsumer, ThrowableLongConsumer.class);
+  }
+
+  public static <R> LongFunction<R> specializedLongFunction(ThrowableLongFunction<R> longFunction) {
+    return FunctionSpecializer.specialize(longFunction, ThrowableLongFunction.class);
+  }
+
+  public static LongPredicate specializedLongPredicate(ThrowableLongPredicate longPredicate) {
+    return FunctionSpecializer.specialize(longPredicate, ThrowableLongPredicate.class);
+  }
+
+  public static LongSupplier specializedLongSupplier(ThrowableLongSupplier longSupplier) {
+    return FunctionSpecializer.specialize(longSupplier, ThrowableLongSupplier.class);
+  }
+
+  public static LongToDoubleFunction specializedLongToDoubleFunction(
+      ThrowableLongToDoubleFunction longToDoubleFunction) {
+    return FunctionSpecializer.specialize(
+        longToDoubleFunction, ThrowableLongToDoubleFunction.class);
+  }
+
+  public static LongToIntFunction specializedLongToIntFunction(
+      ThrowableLongToIntFunction longToIntFunction) {
+    return FunctionSpecializer.specialize(longToIntFunction, ThrowableLongToIntFunction.class);
+  }
+
+  public static LongUnaryOperator specializedLongUnaryOperator(
+      ThrowableLongUnaryOperator longUnaryOperator) {
+    return FunctionSpecializer.specialize(longUnaryOperator, ThrowableLongUnaryOperator.class);
+  }
+
+  public static <T> ObjDoubleConsumer<T> specializedObjDoubleConsumer(
+      ThrowableObjDoubleConsumer<T> objDoubleConsumer) {
+    return FunctionSpecializer.specialize(objDoubleConsumer, ThrowableObjDoubleConsumer.class);
+  }
+
+  public static <T> ObjIntConsumer<T> specializedObjIntConsumer(
+      ThrowableObjIntConsumer<T> objIntConsumer) {
+    return FunctionSpecializer.specialize(objIntConsumer, ThrowableObjIntConsumer.class);
+  }
+
+  public static <T> ObjLongConsumer<T> specializedObjLongConsumer(
+      ThrowableObjLongConsumer<T> objLongConsumer) {
+    return FunctionSpecializer.specialize(objLongConsumer, ThrowableObjLongConsumer.class);
+  }
+
+  public static <T> Predicate<T> specializedPredicate(ThrowablePredicate<T> predicate) {
+    return FunctionSpecializer.specialize(predicate, ThrowablePredicate.class);
+  }
+
+  public static <T> Supplier<T> specializedSupplier(ThrowableSupplier<T> supplier) {
+    return FunctionSpecializer.specialize(supplier, ThrowableSupplier.class);
+  }
+
+  public static <T, U> ToDoubleBiFunction<T, U> specializedToDoubleBiFunction(
+      ThrowableToDoubleBiFunction<T, U> toDoubleBiFunction) {
+    return FunctionSpecializer.specialize(toDoubleBiFunction, ThrowableToDoubleBiFunction.class);
+  }
+
+  public static <T> ToDoubleFunction<T> specializedToDoubleFunction(
+      ThrowableToDoubleFunction<T> toDoubleFunction) {
+    return FunctionSpecializer.specialize(toDoubleFunction, ThrowableToDoubleFunction.class);
+  }
+
+  public static <T, U> ToIntBiFunction<T, U> specializedToIntBiFunction(
+      ThrowableToIntBiFunction<T, U> toIntBiFunction) {
+    return FunctionSpecializer.specialize(toIntBiFunction, ThrowableToIntBiFunction.class);
+  }
+
+  public static <T> ToIntFunction<T> specializedToIntFunction(
+      ThrowableToIntFunction<T> toIntFunction) {
+    return FunctionSpecializer.specialize(toIntFunction, ThrowableToIntFunction.class);
+  }
+
+  public static <T, U> ToLongBiFunction<T, U> specializedToLongBiFunction(
+      ThrowableToLongBiFunction<T, U> toLongBiFunction) {
+    return FunctionSpecializer.specialize(toLongBiFunction, ThrowableToLongBiFunction.class);
+  }
+
+  public static <T> ToLongFunction<T> specializedToLongFunction(
+      ThrowableToLongFunction<T> toLongFunction) {
+    return FunctionSpecializer.specialize(toLongFunction, ThrowableToLongFunction.class);
+  }
+
+  public static <T> UnaryOperator<T> specializedUnaryOperator(
+      ThrowableUnaryOperator<T> unaryOperator) {
+    return FunctionSpecializer.specialize(unaryOperator, ThrowableUnaryOperator.class);
+  }
+
+  /**
+   * Creates an implementation of the functional interface which invokes the public method directly,
+   * without reflection. Checked exceptions thrown by the method are passed through as is.
+   *
+   * <p>Instance methods take the receiver as the first argument of the functional method, like
+   * {@code String::length} implements {@code ThrowableToIntFunction<String>}. Results are cached
+   * per method and functional interface.
+   *
+   * <p>Methods of classes which the class loader of this library cannot see, like plugin classes of
+   * a child class loader, are invoked through a method handle with boxed arguments instead. Pass a
+   * lookup of the declaring class to {@link #fromMethod(MethodHandles.Lookup, Method, Class)} to
+   * invoke them directly.
+   *
+   * @param <F> the type of the functional interface
+   * @param method the method to invoke
+   * @param type the functional interface to implement, for example {@code ThrowableFunction.class}
+   * @return the functional interface implementation invoking the method
+   * @throws IllegalArgumentException if the method does not match the functional method of the type
+   */
+  public static <F> F fromMethod(Method method, Class<F> type) {
+    return MethodInvokers.fromMethod(MethodHandles.publicLookup(), method, type);
+  }
+
+  /**
+   * Creates an implementation of the functional interface which invokes the method accessible from
+   * the lookup directly, without reflection.
+   *
+   * @param <F> the type of the functional interface
+   * @param lookup the lookup having access to the method, usually {@link MethodHandles#lookup()}
+   * @param method the method to invoke
+   * @param type the functional interface to implement
+   * @return the functional interface implementation invoking the method
+   * @throws IllegalArgumentException if the method does not match the functional method of the type
+   * @see #fromMethod(Method, Class)
+   */
+  public static <F> F fromMethod(MethodHandles.Lookup lookup, Method method, Class<F> type) {
+    return MethodInvokers.fromMethod(lookup, method, type);
+  }
+
+  /**
+   * Creates an implementation of the functional interface which invokes the method handle.
+   *
+   * <p>Direct method handles, like the ones returned by {@link MethodHandles.Lookup#findVirtual},
+   * are invoked directly. Other method handles are invoked with boxed arguments. Results are not
+   * cached, so keep them along with the method handle.
+   *
+   * @param <F> the type of the functional interface
+   * @param methodHandle the method handle to invoke
+   * @param type the functional interface to implement
+   * @return the functional interface implementation invoking the method handle
+   * @throws IllegalArgumentException if the method handle does not match the functional method of
+   *     the type
+   */
+  public static <F> F fromMethodHandle(MethodHandle methodHandle, Class<F> type) {
+    return MethodInvokers.fromMethodHandle(MethodHandles.publicLookup(), methodHandle, type);
+  }
+
+  /**
+   * Creates an implementation of the functional interface which invokes the method handle, using
+   * the lookup to access the method behind it.
+   *
+   * @param <F> the type of the functional interface
+   * @param lookup the lookup having access to the method, usually {@link MethodHandles#lookup()}
+   * @param methodHandle the method handle to invoke
+   * @param type the functional interface to implement
+   * @return the functional interface implementation invoking the method handle
+   * @throws IllegalArgumentException if the method handle does not match the functional method of
+   *     the type
+   * @see #fromMethodHandle(MethodHandle, Class)
+   */
+  public static <F> F fromMethodHandle(
+      MethodHandles.Lookup lookup, MethodHandle methodHandle, Class<F> type) {
+    return MethodInvokers.fromMethodHandle(lookup, methodHandle, type);
+  }
 }
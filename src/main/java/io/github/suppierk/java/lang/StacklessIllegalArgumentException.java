@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.lang;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Thrown to indicate that a method has been passed an illegal or inappropriate argument.
+ *
+ * <p>Unlike {@link IllegalArgumentException} this exception does not capture the execution stack
+ * trace and formats its message only when {@link #getMessage()} is called, which makes it cheap
+ * enough for failures that are expected to happen often, like validation errors or empty results.
+ *
+ * @see IllegalArgumentException
+ */
+public class StacklessIllegalArgumentException extends IllegalArgumentException {
+  private static final long serialVersionUID = 1L;
+
+  /** Supplier of the detail message, cleared once the message is formatted. */
+  private transient volatile Supplier<String> messageSupplier;
+
+  /** Detail message, formatted on first access. */
+  private volatile String message;
+
+  /**
+   * Constructs a new exception with the specified detail message.
+   *
+   * @param message the detail message
+   */
+  public StacklessIllegalArgumentException(String message) {
+    super();
+    this.message = message;
+  }
+
+  /**
+   * Constructs a new exception with the detail message computed on first access.
+   *
+   * @param messageSupplier the supplier of the detail message, which must be non-null
+   * @throws NullPointerException if messageSupplier is null
+   */
+  public StacklessIllegalArgumentException(Supplier<String> messageSupplier) {
+    super();
+    this.messageSupplier =
+        Objects.requireNonNull(messageSupplier, "Message supplier must not be null");
+  }
+
+  /**
+   * Returns the detail message string of this exception, formatting it on first access.
+   *
+   * @return the detail message string of this exception instance (which may be {@code null})
+   */
+  @Override
+  public String getMessage() {
+    if (messageSupplier != null) {
+      // Instances are shared between threads, so the supplier must run once and publish the message
+      synchronized (this) {
+        Supplier<String> supplier = messageSupplier;
+        if (supplier != null) {
+          message = supplier.get();
+          messageSupplier = null;
+        }
+      }
+    }
+    return message;
+  }
+
+  /**
+   * Does not fill in the execution stack trace.
+   *
+   * @return a reference to this {@code Throwable} instance
+   */
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+
+  /**
+   * Formats the detail message before serialization, since its supplier is not serializable.
+   *
+   * @param out the stream to write this exception to
+   * @throws IOException if an I/O error occurs
+   */
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    getMessage();
+    out.defaultWriteObject();
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator closing the resource behind the source spliterator once any of its splits fails.
+ *
+ * @param <T> the type of the elements
+ */
+@SuppressWarnings("squid:S1181")
+final class ClosingSpliterator<T> implements Spliterator<T> {
+  private final Spliterator<T> spliterator;
+  private final Closer closer;
+
+  ClosingSpliterator(Spliterator<T> spliterator, Closer closer) {
+    this.spliterator = spliterator;
+    this.closer = closer;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    try {
+      return spliterator.tryAdvance(action);
+    } catch (Throwable throwable) {
+      return closer.fail(throwable);
+    }
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super T> action) {
+    try {
+      spliterator.forEachRemaining(action);
+    } catch (Throwable throwable) {
+      closer.fail(throwable);
+    }
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    try {
+      final Spliterator<T> split = spliterator.trySplit();
+      return split == null ? null : new ClosingSpliterator<>(split, closer);
+    } catch (Throwable throwable) {
+      return closer.fail(throwable);
+    }
+  }
+
+  @Override
+  public long estimateSize() {
+    return spliterator.estimateSize();
+  }
+
+  @Override
+  public long getExactSizeIfKnown() {
+    return spliterator.getExactSizeIfKnown();
+  }
+
+  @Override
+  public int characteristics() {
+    return spliterator.characteristics();
+  }
+
+  @Override
+  public Comparator<? super T> getComparator() {
+    return spliterator.getComparator();
+  }
+
+  /** Closes the resource at most once, either on the stream close or on the first failure. */
+  static final class Closer implements Runnable {
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AutoCloseable resource;
+
+    Closer(AutoCloseable resource) {
+      this.resource = Objects.requireNonNull(resource, "Resource must not be null");
+    }
+
+    /** Closes the resource, rethrowing the exception of closing it as is. */
+    @Override
+    public void run() {
+      if (closed.compareAndSet(false, true)) {
+        try {
+          resource.close();
+        } catch (Throwable throwable) {
+          ExceptionSuppressor.asUnchecked(throwable);
+        }
+      }
+    }
+
+    /**
+     * Closes the resource and rethrows the exception.
+     *
+     * @param <R> is return type of method caller if needed
+     * @param exception to rethrow, with the exception of closing the resource added as suppressed
+     * @return nothing, the exception is rethrown as is
+     */
+    <R> R fail(Throwable exception) {
+      if (closed.compareAndSet(false, true)) {
+        try {
+          resource.close();
+        } catch (Throwable throwable) {
+          if (throwable != exception) {
+            exception.addSuppressed(throwable);
+          }
+        }
+      }
+      return ExceptionSuppressor.asUnchecked(exception);
+    }
+  }
+}
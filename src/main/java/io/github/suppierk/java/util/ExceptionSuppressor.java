@@ -24,6 +24,14 @@
 
 package io.github.suppierk.java.util;
 
+import io.github.suppierk.java.lang.StacklessException;
+import io.github.suppierk.java.lang.StacklessIllegalArgumentException;
+import io.github.suppierk.java.lang.StacklessIllegalStateException;
+import io.github.suppierk.java.lang.StacklessRuntimeException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
 /** Small utility taken from Apache commons-lang ExceptionUtils class */
 public interface ExceptionSuppressor {
   /**
@@ -41,4 +49,46 @@ public interface ExceptionSuppressor {
   static <R, T extends Throwable> R asUnchecked(final Throwable throwable) throws T {
     throw (T) throwable;
   }
+
+  /**
+   * Creates an exception of the specified type, which does not capture the execution stack trace
+   * and formats its message on first access.
+   *
+   * <p>{@link NoSuchElementException}, {@link IllegalArgumentException}, {@link
+   * IllegalStateException}, {@link RuntimeException} and {@link Exception} are created as their
+   * {@code Stackless*} subclasses, so {@code catch} blocks for the requested type keep working.
+   * Other types are created through their public {@code (String)} constructor with the message
+   * formatted immediately.
+   *
+   * @param type of exception to create
+   * @param message supplier of the detail message
+   * @param <X> is exception type to create
+   * @return new exception instance of the specified type
+   * @throws NullPointerException if type or message is null
+   * @throws IllegalArgumentException if type is not one of the above and has no public {@code
+   *     (String)} constructor
+   */
+  static <X extends Throwable> X stackless(Class<X> type, Supplier<String> message) {
+    Objects.requireNonNull(type, "Exception type must not be null");
+    Objects.requireNonNull(message, "Message supplier must not be null");
+
+    if (type == NoSuchElementException.class) {
+      return type.cast(new StacklessNoSuchElementException(message));
+    } else if (type == IllegalArgumentException.class) {
+      return type.cast(new StacklessIllegalArgumentException(message));
+    } else if (type == IllegalStateException.class) {
+      return type.cast(new StacklessIllegalStateException(message));
+    } else if (type == RuntimeException.class) {
+      return type.cast(new StacklessRuntimeException(message));
+    } else if (type == Exception.class) {
+      return type.cast(new StacklessException(message));
+    }
+
+    try {
+      return type.getConstructor(String.class).newInstance(message.get());
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException(
+          type.getName() + " does not have a public (String) constructor", e);
+    }
+  }
 }
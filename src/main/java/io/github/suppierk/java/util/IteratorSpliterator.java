@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over a throwable iterator, which splits off batches of elements into arrays, growing
+ * by {@value #BATCH_UNIT} elements per split like the spliterators of {@link Spliterators}.
+ *
+ * @param <T> the type of the elements
+ */
+final class IteratorSpliterator<T> implements ThrowableSpliterator<T> {
+  static final int BATCH_UNIT = 1 << 10;
+  static final int MAX_BATCH = 1 << 25;
+
+  private final ThrowableIterator<? extends T> iterator;
+  private final int characteristics;
+  private long estimate;
+  private int batch;
+
+  IteratorSpliterator(
+      ThrowableIterator<? extends T> iterator, long sizeEstimate, int characteristics) {
+    this.iterator = iterator;
+    this.estimate = sizeEstimate;
+    this.characteristics =
+        (characteristics & Spliterator.SIZED) != 0
+            ? characteristics | Spliterator.SUBSIZED
+            : characteristics;
+  }
+
+  @Override
+  public boolean tryAdvanceUnsafe(Consumer<? super T> action) throws Throwable {
+    if (action == null) {
+      throw new NullPointerException("Action must not be null");
+    }
+
+    if (!iterator.hasNextUnsafe()) {
+      return false;
+    }
+
+    action.accept(iterator.nextUnsafe());
+    return true;
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    try {
+      if (estimate <= 1 || !iterator.hasNextUnsafe()) {
+        return null;
+      }
+
+      final int size = (int) Math.min(Math.min(batch + (long) BATCH_UNIT, MAX_BATCH), estimate);
+      final Object[] elements = new Object[size];
+      int count = 0;
+      do {
+        elements[count] = iterator.nextUnsafe();
+      } while (++count < size && iterator.hasNextUnsafe());
+
+      batch = count;
+      if (estimate != Long.MAX_VALUE) {
+        estimate -= count;
+      }
+      return Spliterators.spliterator(elements, 0, count, characteristics);
+    } catch (Throwable throwable) {
+      return ExceptionSuppressor.asUnchecked(throwable);
+    }
+  }
+
+  @Override
+  public long estimateSize() {
+    return estimate;
+  }
+
+  @Override
+  public int characteristics() {
+    return characteristics;
+  }
+
+  @Override
+  public Comparator<? super T> getComparator() {
+    if (hasCharacteristics(Spliterator.SORTED)) {
+      return null;
+    }
+    throw new IllegalStateException();
+  }
+}
@@ -24,15 +24,24 @@
 
 package io.github.suppierk.java.util;
 
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import io.github.suppierk.java.util.function.ThrowableToDoubleFunction;
+import io.github.suppierk.java.util.function.ThrowableToIntFunction;
+import io.github.suppierk.java.util.function.ThrowableToLongFunction;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * A comparison function, which imposes a <i>total ordering</i> on some collection of objects.
@@ -179,4 +188,252 @@ public interface ThrowableComparator<T> extends Comparator<T> {
       return ExceptionSuppressor.asUnchecked(throwable);
     }
   }
+
+  /**
+   * Returns a comparator that imposes the reverse ordering of this comparator.
+   *
+   * @return a comparator that imposes the reverse ordering of this comparator.
+   */
+  @Override
+  default ThrowableComparator<T> reversed() {
+    return (c1, c2) -> compareUnsafe(c2, c1);
+  }
+
+  /**
+   * Returns a lexicographic-order comparator with another comparator. If this {@code Comparator}
+   * considers two elements equal, i.e. {@code compare(a, b) == 0}, {@code other} is used to
+   * determine the order.
+   *
+   * @param other the other comparator to be used when this comparator compares two objects that are
+   *     equal.
+   * @return a lexicographic-order comparator composed of this and then the other comparator
+   * @throws NullPointerException if the argument is null.
+   * @see #thenComparing(ThrowableComparator)
+   */
+  @Override
+  default ThrowableComparator<T> thenComparing(Comparator<? super T> other) {
+    Objects.requireNonNull(other);
+    return (c1, c2) -> {
+      int res = compareUnsafe(c1, c2);
+      return (res != 0) ? res : other.compare(c1, c2);
+    };
+  }
+
+  /**
+   * Returns a lexicographic-order comparator with another comparator. If this {@code Comparator}
+   * considers two elements equal, i.e. {@code compare(a, b) == 0}, {@code other} is used to
+   * determine the order.
+   *
+   * <p>Both comparators are called directly within the single exception boundary of the composed
+   * comparator, so {@code other} may throw checked exceptions as well.
+   *
+   * @param other the other comparator to be used when this comparator compares two objects that are
+   *     equal.
+   * @return a lexicographic-order comparator composed of this and then the other comparator
+   * @throws NullPointerException if the argument is null.
+   */
+  default ThrowableComparator<T> thenComparing(ThrowableComparator<? super T> other) {
+    Objects.requireNonNull(other);
+    return (c1, c2) -> {
+      int res = compareUnsafe(c1, c2);
+      return (res != 0) ? res : other.compareUnsafe(c1, c2);
+    };
+  }
+
+  /**
+   * Returns a lexicographic-order comparator with a function that extracts a key to be compared
+   * with the given {@code Comparator}.
+   *
+   * @param <U> the type of the sort key
+   * @param keyExtractor the function used to extract the sort key
+   * @param keyComparator the {@code Comparator} used to compare the sort key
+   * @return a lexicographic-order comparator composed of this comparator and then comparing on the
+   *     key extracted by the keyExtractor function
+   * @throws NullPointerException if either argument is null.
+   * @see #thenComparing(ThrowableFunction, Comparator)
+   */
+  @Override
+  default <U> ThrowableComparator<T> thenComparing(
+      Function<? super T, ? extends U> keyExtractor, Comparator<? super U> keyComparator) {
+    Objects.requireNonNull(keyExtractor);
+    Objects.requireNonNull(keyComparator);
+    return thenComparing(
+        (ThrowableComparator<T>)
+            (c1, c2) -> keyComparator.compare(keyExtractor.apply(c1), keyExtractor.apply(c2)));
+  }
+
+  /**
+   * Returns a lexicographic-order comparator with a function that extracts a key to be compared
+   * with the given {@code Comparator}.
+   *
+   * <p>The key extractor is called directly within the single exception boundary of the composed
+   * comparator, so it may throw checked exceptions as well.
+   *
+   * @param <U> the type of the sort key
+   * @param keyExtractor the function used to extract the sort key
+   * @param keyComparator the {@code Comparator} used to compare the sort key
+   * @return a lexicographic-order comparator composed of this comparator and then comparing on the
+   *     key extracted by the keyExtractor function
+   * @throws NullPointerException if either argument is null.
+   */
+  default <U> ThrowableComparator<T> thenComparing(
+      ThrowableFunction<? super T, ? extends U> keyExtractor, Comparator<? super U> keyComparator) {
+    Objects.requireNonNull(keyExtractor);
+    Objects.requireNonNull(keyComparator);
+    return thenComparing(
+        (ThrowableComparator<T>)
+            (c1, c2) ->
+                keyComparator.compare(keyExtractor.applyUnsafe(c1), keyExtractor.applyUnsafe(c2)));
+  }
+
+  /**
+   * Returns a lexicographic-order comparator with a function that extracts a {@code Comparable}
+   * sort key.
+   *
+   * @param <U> the type of the {@link Comparable} sort key
+   * @param keyExtractor the function used to extract the {@link Comparable} sort key
+   * @return a lexicographic-order comparator composed of this and then the {@link Comparable} sort
+   *     key.
+   * @throws NullPointerException if the argument is null.
+   * @see #thenComparing(ThrowableFunction)
+   */
+  @Override
+  default <U extends Comparable<? super U>> ThrowableComparator<T> thenComparing(
+      Function<? super T, ? extends U> keyExtractor) {
+    Objects.requireNonNull(keyExtractor);
+    return thenComparing(
+        (ThrowableComparator<T>)
+            (c1, c2) -> keyExtractor.apply(c1).compareTo(keyExtractor.apply(c2)));
+  }
+
+  /**
+   * Returns a lexicographic-order comparator with a function that extracts a {@code Comparable}
+   * sort key.
+   *
+   * <p>The key extractor is called directly within the single exception boundary of the composed
+   * comparator, so it may throw checked exceptions as well.
+   *
+   * @param <U> the type of the {@link Comparable} sort key
+   * @param keyExtractor the function used to extract the {@link Comparable} sort key
+   * @return a lexicographic-order comparator composed of this and then the {@link Comparable} sort
+   *     key.
+   * @throws NullPointerException if the argument is null.
+   */
+  default <U extends Comparable<? super U>> ThrowableComparator<T> thenComparing(
+      ThrowableFunction<? super T, ? extends U> keyExtractor) {
+    Objects.requireNonNull(keyExtractor);
+    return thenComparing(
+        (ThrowableComparator<T>)
+            (c1, c2) -> keyExtractor.applyUnsafe(c1).compareTo(keyExtractor.applyUnsafe(c2)));
+  }
+
+  /**
+   * Returns a lexicographic-order comparator with a function that extracts a {@code int} sort key.
+   *
+   * @param keyExtractor the function used to extract the {@code int} sort key
+   * @return a lexicographic-order comparator composed of this and then the {@code int} sort key
+   * @throws NullPointerException if the argument is null.
+   * @see #thenComparingInt(ThrowableToIntFunction)
+   */
+  @Override
+  default ThrowableComparator<T> thenComparingInt(ToIntFunction<? super T> keyExtractor) {
+    Objects.requireNonNull(keyExtractor);
+    return thenComparing(
+        (ThrowableComparator<T>)
+            (c1, c2) -> Integer.compare(keyExtractor.applyAsInt(c1), keyExtractor.applyAsInt(c2)));
+  }
+
+  /**
+   * Returns a lexicographic-order comparator with a function that extracts a {@code int} sort key.
+   *
+   * <p>The key extractor is called directly within the single exception boundary of the composed
+   * comparator without boxing, so it may throw checked exceptions as well.
+   *
+   * @param keyExtractor the function used to extract the {@code int} sort key
+   * @return a lexicographic-order comparator composed of this and then the {@code int} sort key
+   * @throws NullPointerException if the argument is null.
+   */
+  default ThrowableComparator<T> thenComparingInt(ThrowableToIntFunction<? super T> keyExtractor) {
+    Objects.requireNonNull(keyExtractor);
+    return thenComparing(
+        (ThrowableComparator<T>)
+            (c1, c2) ->
+                Integer.compare(
+                    keyExtractor.applyAsIntUnsafe(c1), keyExtractor.applyAsIntUnsafe(c2)));
+  }
+
+  /**
+   * Returns a lexicographic-order comparator with a function that extracts a {@code long} sort key.
+   *
+   * @param keyExtractor the function used to extract the {@code long} sort key
+   * @return a lexicographic-order comparator composed of this and then the {@code long} sort key
+   * @throws NullPointerException if the argument is null.
+   * @see #thenComparingLong(ThrowableToLongFunction)
+   */
+  @Override
+  default ThrowableComparator<T> thenComparingLong(ToLongFunction<? super T> keyExtractor) {
+    Objects.requireNonNull(keyExtractor);
+    return thenComparing(
+        (ThrowableComparator<T>)
+            (c1, c2) -> Long.compare(keyExtractor.applyAsLong(c1), keyExtractor.applyAsLong(c2)));
+  }
+
+  /**
+   * Returns a lexicographic-order comparator with a function that extracts a {@code long} sort key.
+   *
+   * <p>The key extractor is called directly within the single exception boundary of the composed
+   * comparator without boxing, so it may throw checked exceptions as well.
+   *
+   * @param keyExtractor the function used to extract the {@code long} sort key
+   * @return a lexicographic-order comparator composed of this and then the {@code long} sort key
+   * @throws NullPointerException if the argument is null.
+   */
+  default ThrowableComparator<T> thenComparingLong(
+      ThrowableToLongFunction<? super T> keyExtractor) {
+    Objects.requireNonNull(keyExtractor);
+    return thenComparing(
+        (ThrowableComparator<T>)
+            (c1, c2) ->
+                Long.compare(
+                    keyExtractor.applyAsLongUnsafe(c1), keyExtractor.applyAsLongUnsafe(c2)));
+  }
+
+  /**
+   * Returns a lexicographic-order comparator with a function that extracts a {@code double} sort
+   * key.
+   *
+   * @param keyExtractor the function used to extract the {@code double} sort key
+   * @return a lexicographic-order comparator composed of this and then the {@code double} sort key
+   * @throws NullPointerException if the argument is null.
+   * @see #thenComparingDouble(ThrowableToDoubleFunction)
+   */
+  @Override
+  default ThrowableComparator<T> thenComparingDouble(ToDoubleFunction<? super T> keyExtractor) {
+    Objects.requireNonNull(keyExtractor);
+    return thenComparing(
+        (ThrowableComparator<T>)
+            (c1, c2) ->
+                Double.compare(keyExtractor.applyAsDouble(c1), keyExtractor.applyAsDouble(c2)));
+  }
+
+  /**
+   * Returns a lexicographic-order comparator with a function that extracts a {@code double} sort
+   * key.
+   *
+   * <p>The key extractor is called directly within the single exception boundary of the composed
+   * comparator without boxing, so it may throw checked exceptions as well.
+   *
+   * @param keyExtractor the function used to extract the {@code double} sort key
+   * @return a lexicographic-order comparator composed of this and then the {@code double} sort key
+   * @throws NullPointerException if the argument is null.
+   */
+  default ThrowableComparator<T> thenComparingDouble(
+      ThrowableToDoubleFunction<? super T> keyExtractor) {
+    Objects.requireNonNull(keyExtractor);
+    return thenComparing(
+        (ThrowableComparator<T>)
+            (c1, c2) ->
+                Double.compare(
+                    keyExtractor.applyAsDoubleUnsafe(c1), keyExtractor.applyAsDoubleUnsafe(c2)));
+  }
 }
@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+/**
+ * An iterator over a collection, like a cursor over a file, a socket or a database result set.
+ *
+ * <p>This is a {@link Iterator} whose {@link #hasNextUnsafe()} and {@link #nextUnsafe()} methods
+ * may throw, and its {@link #hasNext()} and {@link #next()} methods rethrow such exceptions as is.
+ *
+ * @param <E> the type of elements returned by this iterator
+ * @see Iterator
+ */
+@SuppressWarnings("squid:S112")
+public interface ThrowableIterator<E> extends Iterator<E> {
+  /**
+   * Returns {@code true} if the iteration has more elements.
+   *
+   * @return {@code true} if the iteration has more elements
+   * @throws Throwable occurred during processing
+   */
+  boolean hasNextUnsafe() throws Throwable;
+
+  /**
+   * Returns the next element in the iteration.
+   *
+   * @return the next element in the iteration
+   * @throws NoSuchElementException if the iteration has no more elements
+   * @throws Throwable occurred during processing
+   */
+  E nextUnsafe() throws Throwable;
+
+  /**
+   * Returns {@code true} if the iteration has more elements.
+   *
+   * @return {@code true} if the iteration has more elements
+   */
+  @Override
+  default boolean hasNext() {
+    try {
+      return hasNextUnsafe();
+    } catch (Throwable throwable) {
+      return ExceptionSuppressor.asUnchecked(throwable);
+    }
+  }
+
+  /**
+   * Returns the next element in the iteration.
+   *
+   * @return the next element in the iteration
+   * @throws NoSuchElementException if the iteration has no more elements
+   */
+  @Override
+  default E next() {
+    try {
+      return nextUnsafe();
+    } catch (Throwable throwable) {
+      return ExceptionSuppressor.asUnchecked(throwable);
+    }
+  }
+
+  /**
+   * Returns a spliterator over the remaining elements, which splits off growing batches of elements
+   * into arrays for parallel processing.
+   *
+   * <p>If the characteristics include {@link Spliterator#SIZED}, the size estimate must be the
+   * exact number of the remaining elements.
+   *
+   * @param sizeEstimate the estimated number of the remaining elements, or {@link Long#MAX_VALUE}
+   *     if unknown
+   * @param characteristics of the elements, like {@link Spliterator#ORDERED}
+   * @return new spliterator
+   * @see java.util.Spliterators#spliterator(Iterator, long, int)
+   */
+  default ThrowableSpliterator<E> spliterator(long sizeEstimate, int characteristics) {
+    return new IteratorSpliterator<>(this, sizeEstimate, characteristics);
+  }
+
+  /**
+   * Returns a sequential ordered stream of the remaining elements, which closes the resource when
+   * the stream is closed or fails.
+   *
+   * @param <T> the type of the elements
+   * @param iterator over the elements, which must be non-null
+   * @param resource backing the iterator, which must be non-null
+   * @return new stream
+   * @throws NullPointerException if any argument is null
+   * @see ThrowableSpliterator#stream(ThrowableSpliterator, boolean, AutoCloseable)
+   */
+  static <T> Stream<T> stream(ThrowableIterator<T> iterator, AutoCloseable resource) {
+    Objects.requireNonNull(iterator, "Iterator must not be null");
+    return ThrowableSpliterator.stream(
+        iterator.spliterator(Long.MAX_VALUE, Spliterator.ORDERED), false, resource);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An object for traversing and partitioning elements of a source, like a cursor over a file, a
+ * socket or a database result set.
+ *
+ * <p>This is a {@link Spliterator} whose {@link #tryAdvanceUnsafe(Consumer)} method may throw, and
+ * its {@link #tryAdvance(Consumer)} method rethrows such exceptions as is.
+ *
+ * @param <T> the type of elements returned by this spliterator
+ * @see Spliterator
+ */
+@SuppressWarnings("squid:S112")
+public interface ThrowableSpliterator<T> extends Spliterator<T> {
+  /**
+   * If a remaining element exists, performs the given action on it, returning {@code true}; else
+   * returns {@code false}.
+   *
+   * @param action the action
+   * @return {@code false} if no remaining elements existed upon entry to this method, else {@code
+   *     true}
+   * @throws NullPointerException if the specified action is null
+   * @throws Throwable occurred during processing
+   */
+  boolean tryAdvanceUnsafe(Consumer<? super T> action) throws Throwable;
+
+  /**
+   * If a remaining element exists, performs the given action on it, returning {@code true}; else
+   * returns {@code false}.
+   *
+   * @param action the action
+   * @return {@code false} if no remaining elements existed upon entry to this method, else {@code
+   *     true}
+   * @throws NullPointerException if the specified action is null
+   */
+  @Override
+  default boolean tryAdvance(Consumer<? super T> action) {
+    try {
+      return tryAdvanceUnsafe(action);
+    } catch (Throwable throwable) {
+      return ExceptionSuppressor.asUnchecked(throwable);
+    }
+  }
+
+  /**
+   * Returns a stream of the elements, which closes the resource when the stream is closed or fails.
+   *
+   * <p>Any exception thrown while traversing or splitting the elements, including the exceptions of
+   * the stream operations, closes the resource and is rethrown as is, with the exception of closing
+   * the resource added as suppressed. The resource is closed at most once.
+   *
+   * @param <T> the type of the elements
+   * @param spliterator over the elements, which must be non-null
+   * @param parallel {@code true} to return a parallel stream
+   * @param resource backing the spliterator, which must be non-null
+   * @return new stream
+   * @throws NullPointerException if any argument is null
+   * @see StreamSupport#stream(Spliterator, boolean)
+   */
+  static <T> Stream<T> stream(
+      ThrowableSpliterator<T> spliterator, boolean parallel, AutoCloseable resource) {
+    Objects.requireNonNull(spliterator, "Spliterator must not be null");
+    final ClosingSpliterator.Closer closer = new ClosingSpliterator.Closer(resource);
+    return StreamSupport.stream(new ClosingSpliterator<>(spliterator, closer), parallel)
+        .onClose(closer);
+  }
+}
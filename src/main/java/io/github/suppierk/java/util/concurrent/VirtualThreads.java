@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.concurrent;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Access to virtual threads from code compiled for Java 8.
+ *
+ * <p>On Java 21 and newer every task submitted to {@link #executor()} runs in its own virtual
+ * thread, on older versions tasks run in {@link ForkJoinPool#commonPool()}.
+ */
+@SuppressWarnings("squid:S1181")
+public final class VirtualThreads {
+  /** {@code Executors.newVirtualThreadPerTaskExecutor()}, or {@code null} if not available. */
+  private static final MethodHandle FACTORY = findFactory();
+
+  /**
+   * Shared executor, which does not need to be shut down since virtual threads are daemons. Only
+   * its {@link Executor#execute(Runnable)} is exposed, so callers cannot shut it down for others.
+   */
+  private static final Executor SHARED =
+      newVirtualThreadPerTaskExecutor().<Executor>map(executor -> executor::execute).orElse(null);
+
+  private VirtualThreads() {
+    // Utility class
+  }
+
+  /**
+   * @return {@code true} if the runtime supports virtual threads
+   */
+  public static boolean isAvailable() {
+    return FACTORY != null;
+  }
+
+  /**
+   * Returns the shared executor starting a virtual thread per task if the runtime supports virtual
+   * threads, otherwise {@link ForkJoinPool#commonPool()}.
+   *
+   * <p>The virtual thread executor is not an {@link ExecutorService}, so it cannot be shut down.
+   *
+   * @return shared executor
+   */
+  public static Executor executor() {
+    return SHARED != null ? SHARED : ForkJoinPool.commonPool();
+  }
+
+  /**
+   * Returns a new executor starting a virtual thread per task, which the caller must shut down.
+   *
+   * @return the result of {@code Executors.newVirtualThreadPerTaskExecutor()}, or empty {@link
+   *     Optional} if the runtime does not support virtual threads
+   */
+  public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+    if (FACTORY == null) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.of((ExecutorService) FACTORY.invokeExact());
+    } catch (Throwable t) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * @return handle of {@code Executors.newVirtualThreadPerTaskExecutor()}, or {@code null} if the
+   *     runtime does not have it
+   */
+  private static MethodHandle findFactory() {
+    try {
+      return MethodHandles.publicLookup()
+          .findStatic(
+              Executors.class,
+              "newVirtualThreadPerTaskExecutor",
+              MethodType.methodType(ExecutorService.class));
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+}
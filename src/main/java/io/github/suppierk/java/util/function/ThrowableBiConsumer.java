@@ -25,6 +25,7 @@
 package io.github.suppierk.java.util.function;
 
 import io.github.suppierk.java.util.ExceptionSuppressor;
+import java.util.Objects;
 import java.util.function.BiConsumer;
 
 /**
@@ -67,4 +68,47 @@ public interface ThrowableBiConsumer<T, U> extends BiConsumer<T, U> {
       ExceptionSuppressor.asUnchecked(throwable);
     }
   }
+
+  /**
+   * Returns a composed {@code ThrowableBiConsumer} that performs, in sequence, this operation
+   * followed by the {@code after} operation. If performing either operation throws an exception, it
+   * is relayed to the caller of the composed operation. If performing this operation throws an
+   * exception, the {@code after} operation will not be performed.
+   *
+   * @param after the operation to perform after this operation
+   * @return a composed {@code ThrowableBiConsumer} that performs in sequence this operation
+   *     followed by the {@code after} operation
+   * @throws NullPointerException if after is null
+   * @see #andThen(ThrowableBiConsumer)
+   */
+  @Override
+  default ThrowableBiConsumer<T, U> andThen(BiConsumer<? super T, ? super U> after) {
+    Objects.requireNonNull(after);
+    return (t, u) -> {
+      acceptUnsafe(t, u);
+      after.accept(t, u);
+    };
+  }
+
+  /**
+   * Returns a composed {@code ThrowableBiConsumer} that performs, in sequence, this operation
+   * followed by the {@code after} operation. If performing either operation throws an exception, it
+   * is relayed to the caller of the composed operation. If performing this operation throws an
+   * exception, the {@code after} operation will not be performed.
+   *
+   * <p>Both operations are called directly within the single exception boundary of the composed
+   * operation, so {@code after} may throw checked exceptions as well.
+   *
+   * @param after the operation to perform after this operation
+   * @return a composed {@code ThrowableBiConsumer} that performs in sequence this operation
+   *     followed by the {@code after} operation
+   * @throws NullPointerException if after is null
+   */
+  default ThrowableBiConsumer<T, U> andThen(ThrowableBiConsumer<? super T, ? super U> after) {
+    Objects.requireNonNull(after);
+    return (t, u) -> {
+      acceptUnsafe(t, u);
+      after.acceptUnsafe(t, u);
+    };
+  }
 }
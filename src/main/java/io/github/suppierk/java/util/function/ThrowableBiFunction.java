@@ -25,6 +25,7 @@
 package io.github.suppierk.java.util.function;
 
 import io.github.suppierk.java.util.ExceptionSuppressor;
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -71,4 +72,42 @@ public interface ThrowableBiFunction<T, U, R> extends BiFunction<T, U, R> {
       return ExceptionSuppressor.asUnchecked(throwable);
     }
   }
+
+  /**
+   * Returns a composed function that first applies this function to its input, and then applies the
+   * {@code after} function to the result. If evaluation of either function throws an exception, it
+   * is relayed to the caller of the composed function.
+   *
+   * @param <V> the type of output of the {@code after} function, and of the composed function
+   * @param after the function to apply after this function is applied
+   * @return a composed function that first applies this function and then applies the {@code after}
+   *     function
+   * @throws NullPointerException if after is null
+   * @see #andThen(ThrowableFunction)
+   */
+  @Override
+  default <V> ThrowableBiFunction<T, U, V> andThen(Function<? super R, ? extends V> after) {
+    Objects.requireNonNull(after);
+    return (t, u) -> after.apply(applyUnsafe(t, u));
+  }
+
+  /**
+   * Returns a composed function that first applies this function to its input, and then applies the
+   * {@code after} function to the result. If evaluation of either function throws an exception, it
+   * is relayed to the caller of the composed function.
+   *
+   * <p>Both functions are called directly within the single exception boundary of the composed
+   * function, so {@code after} may throw checked exceptions as well.
+   *
+   * @param <V> the type of output of the {@code after} function, and of the composed function
+   * @param after the function to apply after this function is applied
+   * @return a composed function that first applies this function and then applies the {@code after}
+   *     function
+   * @throws NullPointerException if after is null
+   */
+  default <V> ThrowableBiFunction<T, U, V> andThen(
+      ThrowableFunction<? super R, ? extends V> after) {
+    Objects.requireNonNull(after);
+    return (t, u) -> after.applyUnsafe(applyUnsafe(t, u));
+  }
 }
@@ -25,6 +25,7 @@
 package io.github.suppierk.java.util.function;
 
 import io.github.suppierk.java.util.ExceptionSuppressor;
+import java.util.Objects;
 import java.util.function.BiPredicate;
 
 /**
@@ -69,4 +70,84 @@ public interface ThrowableBiPredicate<T, U> extends BiPredicate<T, U> {
       return ExceptionSuppressor.asUnchecked(throwable);
     }
   }
+
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical AND of this predicate
+   * and another. When evaluating the composed predicate, if this predicate is {@code false}, then
+   * the {@code other} predicate is not evaluated.
+   *
+   * @param other a predicate that will be logically-ANDed with this predicate
+   * @return a composed predicate that represents the short-circuiting logical AND of this predicate
+   *     and the {@code other} predicate
+   * @throws NullPointerException if other is null
+   * @see #and(ThrowableBiPredicate)
+   */
+  @Override
+  default ThrowableBiPredicate<T, U> and(BiPredicate<? super T, ? super U> other) {
+    Objects.requireNonNull(other);
+    return (t, u) -> testUnsafe(t, u) && other.test(t, u);
+  }
+
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical AND of this predicate
+   * and another. When evaluating the composed predicate, if this predicate is {@code false}, then
+   * the {@code other} predicate is not evaluated.
+   *
+   * <p>Both predicates are called directly within the single exception boundary of the composed
+   * predicate, so {@code other} may throw checked exceptions as well.
+   *
+   * @param other a predicate that will be logically-ANDed with this predicate
+   * @return a composed predicate that represents the short-circuiting logical AND of this predicate
+   *     and the {@code other} predicate
+   * @throws NullPointerException if other is null
+   */
+  default ThrowableBiPredicate<T, U> and(ThrowableBiPredicate<? super T, ? super U> other) {
+    Objects.requireNonNull(other);
+    return (t, u) -> testUnsafe(t, u) && other.testUnsafe(t, u);
+  }
+
+  /**
+   * Returns a predicate that represents the logical negation of this predicate.
+   *
+   * @return a predicate that represents the logical negation of this predicate
+   */
+  @Override
+  default ThrowableBiPredicate<T, U> negate() {
+    return (t, u) -> !testUnsafe(t, u);
+  }
+
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical OR of this predicate
+   * and another. When evaluating the composed predicate, if this predicate is {@code true}, then
+   * the {@code other} predicate is not evaluated.
+   *
+   * @param other a predicate that will be logically-ORed with this predicate
+   * @return a composed predicate that represents the short-circuiting logical OR of this predicate
+   *     and the {@code other} predicate
+   * @throws NullPointerException if other is null
+   * @see #or(ThrowableBiPredicate)
+   */
+  @Override
+  default ThrowableBiPredicate<T, U> or(BiPredicate<? super T, ? super U> other) {
+    Objects.requireNonNull(other);
+    return (t, u) -> testUnsafe(t, u) || other.test(t, u);
+  }
+
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical OR of this predicate
+   * and another. When evaluating the composed predicate, if this predicate is {@code true}, then
+   * the {@code other} predicate is not evaluated.
+   *
+   * <p>Both predicates are called directly within the single exception boundary of the composed
+   * predicate, so {@code other} may throw checked exceptions as well.
+   *
+   * @param other a predicate that will be logically-ORed with this predicate
+   * @return a composed predicate that represents the short-circuiting logical OR of this predicate
+   *     and the {@code other} predicate
+   * @throws NullPointerException if other is null
+   */
+  default ThrowableBiPredicate<T, U> or(ThrowableBiPredicate<? super T, ? super U> other) {
+    Objects.requireNonNull(other);
+    return (t, u) -> testUnsafe(t, u) || other.testUnsafe(t, u);
+  }
 }
@@ -29,6 +29,7 @@ import java.util.Comparator;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 /**
@@ -72,6 +73,44 @@ public interface ThrowableBinaryOperator<T> extends BinaryOperator<T> {
     }
   }
 
+  /**
+   * Returns a composed function that first applies this function to its input, and then applies the
+   * {@code after} function to the result. If evaluation of either function throws an exception, it
+   * is relayed to the caller of the composed function.
+   *
+   * @param <V> the type of output of the {@code after} function, and of the composed function
+   * @param after the function to apply after this function is applied
+   * @return a composed function that first applies this function and then applies the {@code after}
+   *     function
+   * @throws NullPointerException if after is null
+   * @see #andThen(ThrowableFunction)
+   */
+  @Override
+  default <V> ThrowableBiFunction<T, T, V> andThen(Function<? super T, ? extends V> after) {
+    Objects.requireNonNull(after);
+    return (t, u) -> after.apply(applyUnsafe(t, u));
+  }
+
+  /**
+   * Returns a composed function that first applies this function to its input, and then applies the
+   * {@code after} function to the result. If evaluation of either function throws an exception, it
+   * is relayed to the caller of the composed function.
+   *
+   * <p>Both functions are called directly within the single exception boundary of the composed
+   * function, so {@code after} may throw checked exceptions as well.
+   *
+   * @param <V> the type of output of the {@code after} function, and of the composed function
+   * @param after the function to apply after this function is applied
+   * @return a composed function that first applies this function and then applies the {@code after}
+   *     function
+   * @throws NullPointerException if after is null
+   */
+  default <V> ThrowableBiFunction<T, T, V> andThen(
+      ThrowableFunction<? super T, ? extends V> after) {
+    Objects.requireNonNull(after);
+    return (t, u) -> after.applyUnsafe(applyUnsafe(t, u));
+  }
+
   /**
    * Returns a {@link ThrowableBinaryOperator} which returns the lesser of two elements according to
    * the specified {@code Comparator}.
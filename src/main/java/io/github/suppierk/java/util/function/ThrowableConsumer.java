@@ -25,6 +25,7 @@
 package io.github.suppierk.java.util.function;
 
 import io.github.suppierk.java.util.ExceptionSuppressor;
+import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
@@ -63,4 +64,47 @@ public interface ThrowableConsumer<T> extends Consumer<T> {
       ExceptionSuppressor.asUnchecked(throwable);
     }
   }
+
+  /**
+   * Returns a composed {@code ThrowableConsumer} that performs, in sequence, this operation
+   * followed by the {@code after} operation. If performing either operation throws an exception, it
+   * is relayed to the caller of the composed operation. If performing this operation throws an
+   * exception, the {@code after} operation will not be performed.
+   *
+   * @param after the operation to perform after this operation
+   * @return a composed {@code ThrowableConsumer} that performs in sequence this operation followed
+   *     by the {@code after} operation
+   * @throws NullPointerException if after is null
+   * @see #andThen(ThrowableConsumer)
+   */
+  @Override
+  default ThrowableConsumer<T> andThen(Consumer<? super T> after) {
+    Objects.requireNonNull(after);
+    return (t) -> {
+      acceptUnsafe(t);
+      after.accept(t);
+    };
+  }
+
+  /**
+   * Returns a composed {@code ThrowableConsumer} that performs, in sequence, this operation
+   * followed by the {@code after} operation. If performing either operation throws an exception, it
+   * is relayed to the caller of the composed operation. If performing this operation throws an
+   * exception, the {@code after} operation will not be performed.
+   *
+   * <p>Both operations are called directly within the single exception boundary of the composed
+   * operation, so {@code after} may throw checked exceptions as well.
+   *
+   * @param after the operation to perform after this operation
+   * @return a composed {@code ThrowableConsumer} that performs in sequence this operation followed
+   *     by the {@code after} operation
+   * @throws NullPointerException if after is null
+   */
+  default ThrowableConsumer<T> andThen(ThrowableConsumer<? super T> after) {
+    Objects.requireNonNull(after);
+    return (t) -> {
+      acceptUnsafe(t);
+      after.acceptUnsafe(t);
+    };
+  }
 }
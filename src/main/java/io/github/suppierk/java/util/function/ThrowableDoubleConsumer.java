@@ -25,6 +25,7 @@
 package io.github.suppierk.java.util.function;
 
 import io.github.suppierk.java.util.ExceptionSuppressor;
+import java.util.Objects;
 import java.util.function.DoubleConsumer;
 
 /**
@@ -65,4 +66,47 @@ public interface ThrowableDoubleConsumer extends DoubleConsumer {
       ExceptionSuppressor.asUnchecked(throwable);
     }
   }
+
+  /**
+   * Returns a composed {@code ThrowableDoubleConsumer} that performs, in sequence, this operation
+   * followed by the {@code after} operation. If performing either operation throws an exception, it
+   * is relayed to the caller of the composed operation. If performing this operation throws an
+   * exception, the {@code after} operation will not be performed.
+   *
+   * @param after the operation to perform after this operation
+   * @return a composed {@code ThrowableDoubleConsumer} that performs in sequence this operation
+   *     followed by the {@code after} operation
+   * @throws NullPointerException if after is null
+   * @see #andThen(ThrowableDoubleConsumer)
+   */
+  @Override
+  default ThrowableDoubleConsumer andThen(DoubleConsumer after) {
+    Objects.requireNonNull(after);
+    return (value) -> {
+      acceptUnsafe(value);
+      after.accept(value);
+    };
+  }
+
+  /**
+   * Returns a composed {@code ThrowableDoubleConsumer} that performs, in sequence, this operation
+   * followed by the {@code after} operation. If performing either operation throws an exception, it
+   * is relayed to the caller of the composed operation. If performing this operation throws an
+   * exception, the {@code after} operation will not be performed.
+   *
+   * <p>Both operations are called directly within the single exception boundary of the composed
+   * operation, so {@code after} may throw checked exceptions as well.
+   *
+   * @param after the operation to perform after this operation
+   * @return a composed {@code ThrowableDoubleConsumer} that performs in sequence this operation
+   *     followed by the {@code after} operation
+   * @throws NullPointerException if after is null
+   */
+  default ThrowableDoubleConsumer andThen(ThrowableDoubleConsumer after) {
+    Objects.requireNonNull(after);
+    return (value) -> {
+      acceptUnsafe(value);
+      after.acceptUnsafe(value);
+    };
+  }
 }
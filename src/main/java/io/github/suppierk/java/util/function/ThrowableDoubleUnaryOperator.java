@@ -25,6 +25,7 @@
 package io.github.suppierk.java.util.function;
 
 import io.github.suppierk.java.util.ExceptionSuppressor;
+import java.util.Objects;
 import java.util.function.DoubleUnaryOperator;
 
 /**
@@ -67,6 +68,76 @@ public interface ThrowableDoubleUnaryOperator extends DoubleUnaryOperator {
     }
   }
 
+  /**
+   * Returns a composed operator that first applies the {@code before} operator to its input, and
+   * then applies this operator to the result. If evaluation of either operator throws an exception,
+   * it is relayed to the caller of the composed operator.
+   *
+   * @param before the operator to apply before this operator is applied
+   * @return a composed operator that first applies the {@code before} operator and then applies
+   *     this operator
+   * @throws NullPointerException if before is null
+   * @see #compose(ThrowableDoubleUnaryOperator)
+   */
+  @Override
+  default ThrowableDoubleUnaryOperator compose(DoubleUnaryOperator before) {
+    Objects.requireNonNull(before);
+    return v -> applyAsDoubleUnsafe(before.applyAsDouble(v));
+  }
+
+  /**
+   * Returns a composed operator that first applies the {@code before} operator to its input, and
+   * then applies this operator to the result. If evaluation of either operator throws an exception,
+   * it is relayed to the caller of the composed operator.
+   *
+   * <p>Both operators are called directly within the single exception boundary of the composed
+   * operator without boxing, so {@code before} may throw checked exceptions as well.
+   *
+   * @param before the operator to apply before this operator is applied
+   * @return a composed operator that first applies the {@code before} operator and then applies
+   *     this operator
+   * @throws NullPointerException if before is null
+   */
+  default ThrowableDoubleUnaryOperator compose(ThrowableDoubleUnaryOperator before) {
+    Objects.requireNonNull(before);
+    return v -> applyAsDoubleUnsafe(before.applyAsDoubleUnsafe(v));
+  }
+
+  /**
+   * Returns a composed operator that first applies this operator to its input, and then applies the
+   * {@code after} operator to the result. If evaluation of either operator throws an exception, it
+   * is relayed to the caller of the composed operator.
+   *
+   * @param after the operator to apply after this operator is applied
+   * @return a composed operator that first applies this operator and then applies the {@code after}
+   *     operator
+   * @throws NullPointerException if after is null
+   * @see #andThen(ThrowableDoubleUnaryOperator)
+   */
+  @Override
+  default ThrowableDoubleUnaryOperator andThen(DoubleUnaryOperator after) {
+    Objects.requireNonNull(after);
+    return t -> after.applyAsDouble(applyAsDoubleUnsafe(t));
+  }
+
+  /**
+   * Returns a composed operator that first applies this operator to its input, and then applies the
+   * {@code after} operator to the result. If evaluation of either operator throws an exception, it
+   * is relayed to the caller of the composed operator.
+   *
+   * <p>Both operators are called directly within the single exception boundary of the composed
+   * operator without boxing, so {@code after} may throw checked exceptions as well.
+   *
+   * @param after the operator to apply after this operator is applied
+   * @return a composed operator that first applies this operator and then applies the {@code after}
+   *     operator
+   * @throws NullPointerException if after is null
+   */
+  default ThrowableDoubleUnaryOperator andThen(ThrowableDoubleUnaryOperator after) {
+    Objects.requireNonNull(after);
+    return t -> after.applyAsDoubleUnsafe(applyAsDoubleUnsafe(t));
+  }
+
   /**
    * Returns a unary operator that always returns its input argument.
    *
@@ -75,4 +146,32 @@ public interface ThrowableDoubleUnaryOperator extends DoubleUnaryOperator {
   static ThrowableDoubleUnaryOperator identity() {
     return t -> t;
   }
+
+  /**
+   * Returns an operator that applies the given operators in sequence, passing the result of each
+   * operator to the next one.
+   *
+   * <p>Unlike nested {@link #andThen(ThrowableDoubleUnaryOperator)} calls, the operators are called
+   * from a single loop within a single exception boundary, and the intermediate results are never
+   * boxed.
+   *
+   * @param operators the operators to apply, in order
+   * @return an operator applying all the operators in sequence, which returns its operand if there
+   *     are no operators
+   * @throws NullPointerException if operators or any of its elements is null
+   */
+  static ThrowableDoubleUnaryOperator chain(ThrowableDoubleUnaryOperator... operators) {
+    ThrowableDoubleUnaryOperator[] stages = operators.clone();
+    for (ThrowableDoubleUnaryOperator stage : stages) {
+      Objects.requireNonNull(stage);
+    }
+
+    return operand -> {
+      double result = operand;
+      for (ThrowableDoubleUnaryOperator stage : stages) {
+        result = stage.applyAsDoubleUnsafe(result);
+      }
+      return result;
+    };
+  }
 }
@@ -25,6 +25,7 @@
 package io.github.suppierk.java.util.function;
 
 import io.github.suppierk.java.util.ExceptionSuppressor;
+import java.util.Objects;
 import java.util.function.Function;
 
 /**
@@ -68,6 +69,80 @@ public interface ThrowableFunction<T, R> extends Function<T, R> {
     }
   }
 
+  /**
+   * Returns a composed function that first applies the {@code before} function to its input, and
+   * then applies this function to the result. If evaluation of either function throws an exception,
+   * it is relayed to the caller of the composed function.
+   *
+   * @param <V> the type of input to the {@code before} function, and to the composed function
+   * @param before the function to apply before this function is applied
+   * @return a composed function that first applies the {@code before} function and then applies
+   *     this function
+   * @throws NullPointerException if before is null
+   * @see #compose(ThrowableFunction)
+   */
+  @Override
+  default <V> ThrowableFunction<V, R> compose(Function<? super V, ? extends T> before) {
+    Objects.requireNonNull(before);
+    return v -> applyUnsafe(before.apply(v));
+  }
+
+  /**
+   * Returns a composed function that first applies the {@code before} function to its input, and
+   * then applies this function to the result. If evaluation of either function throws an exception,
+   * it is relayed to the caller of the composed function.
+   *
+   * <p>Both functions are called directly within the single exception boundary of the composed
+   * function, so {@code before} may throw checked exceptions as well.
+   *
+   * @param <V> the type of input to the {@code before} function, and to the composed function
+   * @param before the function to apply before this function is applied
+   * @return a composed function that first applies the {@code before} function and then applies
+   *     this function
+   * @throws NullPointerException if before is null
+   */
+  default <V> ThrowableFunction<V, R> compose(ThrowableFunction<? super V, ? extends T> before) {
+    Objects.requireNonNull(before);
+    return v -> applyUnsafe(before.applyUnsafe(v));
+  }
+
+  /**
+   * Returns a composed function that first applies this function to its input, and then applies the
+   * {@code after} function to the result. If evaluation of either function throws an exception, it
+   * is relayed to the caller of the composed function.
+   *
+   * @param <V> the type of output of the {@code after} function, and of the composed function
+   * @param after the function to apply after this function is applied
+   * @return a composed function that first applies this function and then applies the {@code after}
+   *     function
+   * @throws NullPointerException if after is null
+   * @see #andThen(ThrowableFunction)
+   */
+  @Override
+  default <V> ThrowableFunction<T, V> andThen(Function<? super R, ? extends V> after) {
+    Objects.requireNonNull(after);
+    return t -> after.apply(applyUnsafe(t));
+  }
+
+  /**
+   * Returns a composed function that first applies this function to its input, and then applies the
+   * {@code after} function to the result. If evaluation of either function throws an exception, it
+   * is relayed to the caller of the composed function.
+   *
+   * <p>Both functions are called directly within the single exception boundary of the composed
+   * function, so {@code after} may throw checked exceptions as well.
+   *
+   * @param <V> the type of output of the {@code after} function, and of the composed function
+   * @param after the function to apply after this function is applied
+   * @return a composed function that first applies this function and then applies the {@code after}
+   *     function
+   * @throws NullPointerException if after is null
+   */
+  default <V> ThrowableFunction<T, V> andThen(ThrowableFunction<? super R, ? extends V> after) {
+    Objects.requireNonNull(after);
+    return t -> after.applyUnsafe(applyUnsafe(t));
+  }
+
   /**
    * Returns a function that always returns its input argument.
    *
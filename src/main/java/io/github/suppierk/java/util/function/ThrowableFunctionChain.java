@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.function;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Builder of a {@link ThrowableFunction} which applies several functions in sequence.
+ *
+ * <p>Nested {@link ThrowableFunction#andThen(ThrowableFunction)} calls produce one lambda per
+ * stage, each calling the next one. Functions built by this class call all the stages from a single
+ * loop instead, so the stack depth and the exception boundary do not grow with the number of
+ * stages.
+ *
+ * <p>Instances are immutable, so a chain can be safely reused to build several functions.
+ *
+ * @param <T> the type of the input to the first function
+ * @param <R> the type of the result of the last function
+ */
+public final class ThrowableFunctionChain<T, R> {
+  private final ThrowableFunction<Object, Object>[] stages;
+
+  private ThrowableFunctionChain(ThrowableFunction<Object, Object>[] stages) {
+    this.stages = stages;
+  }
+
+  /**
+   * Starts a new chain with the specified function.
+   *
+   * @param <T> the type of the input to the function
+   * @param <R> the type of the result of the function
+   * @param first the function to apply first
+   * @return a new chain
+   * @throws NullPointerException if first is null
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static <T, R> ThrowableFunctionChain<T, R> of(
+      ThrowableFunction<? super T, ? extends R> first) {
+    return new ThrowableFunctionChain<>(
+        new ThrowableFunction[] {Objects.requireNonNull(first, "Function must not be null")});
+  }
+
+  /**
+   * Returns a new chain which applies the specified function to the result of this chain.
+   *
+   * @param <V> the type of the result of the function
+   * @param next the function to apply after the functions of this chain
+   * @return a new chain
+   * @throws NullPointerException if next is null
+   */
+  @SuppressWarnings("unchecked")
+  public <V> ThrowableFunctionChain<T, V> then(ThrowableFunction<? super R, ? extends V> next) {
+    ThrowableFunction<Object, Object>[] extended = Arrays.copyOf(stages, stages.length + 1);
+    extended[stages.length] =
+        (ThrowableFunction<Object, Object>)
+            Objects.requireNonNull(next, "Function must not be null");
+    return new ThrowableFunctionChain<>(extended);
+  }
+
+  /**
+   * Builds a function which applies all the functions of this chain in sequence.
+   *
+   * @return a function applying all the functions of this chain
+   */
+  @SuppressWarnings("unchecked")
+  public ThrowableFunction<T, R> build() {
+    if (stages.length == 1) {
+      return (ThrowableFunction<T, R>) stages[0];
+    }
+
+    ThrowableFunction<Object, Object>[] fused = stages;
+    return t -> {
+      Object result = t;
+      for (ThrowableFunction<Object, Object> stage : fused) {
+        result = stage.applyUnsafe(result);
+      }
+      return (R) result;
+    };
+  }
+}
@@ -25,6 +25,7 @@
 package io.github.suppierk.java.util.function;
 
 import io.github.suppierk.java.util.ExceptionSuppressor;
+import java.util.Objects;
 import java.util.function.IntPredicate;
 
 /**
@@ -65,4 +66,84 @@ public interface ThrowableIntPredicate extends IntPredicate {
       return ExceptionSuppressor.asUnchecked(throwable);
     }
   }
+
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical AND of this predicate
+   * and another. When evaluating the composed predicate, if this predicate is {@code false}, then
+   * the {@code other} predicate is not evaluated.
+   *
+   * @param other a predicate that will be logically-ANDed with this predicate
+   * @return a composed predicate that represents the short-circuiting logical AND of this predicate
+   *     and the {@code other} predicate
+   * @throws NullPointerException if other is null
+   * @see #and(ThrowableIntPredicate)
+   */
+  @Override
+  default ThrowableIntPredicate and(IntPredicate other) {
+    Objects.requireNonNull(other);
+    return (value) -> testUnsafe(value) && other.test(value);
+  }
+
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical AND of this predicate
+   * and another. When evaluating the composed predicate, if this predicate is {@code false}, then
+   * the {@code other} predicate is not evaluated.
+   *
+   * <p>Both predicates are called directly within the single exception boundary of the composed
+   * predicate, so {@code other} may throw checked exceptions as well.
+   *
+   * @param other a predicate that will be logically-ANDed with this predicate
+   * @return a composed predicate that represents the short-circuiting logical AND of this predicate
+   *     and the {@code other} predicate
+   * @throws NullPointerException if other is null
+   */
+  default ThrowableIntPredicate and(ThrowableIntPredicate other) {
+    Objects.requireNonNull(other);
+    return (value) -> testUnsafe(value) && other.testUnsafe(value);
+  }
+
+  /**
+   * Returns a predicate that represents the logical negation of this predicate.
+   *
+   * @return a predicate that represents the logical negation of this predicate
+   */
+  @Override
+  default ThrowableIntPredicate negate() {
+    return (value) -> !testUnsafe(value);
+  }
+
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical OR of this predicate
+   * and another. When evaluating the composed predicate, if this predicate is {@code true}, then
+   * the {@code other} predicate is not evaluated.
+   *
+   * @param other a predicate that will be logically-ORed with this predicate
+   * @return a composed predicate that represents the short-circuiting logical OR of this predicate
+   *     and the {@code other} predicate
+   * @throws NullPointerException if other is null
+   * @see #or(ThrowableIntPredicate)
+   */
+  @Override
+  default ThrowableIntPredicate or(IntPredicate other) {
+    Objects.requireNonNull(other);
+    return (value) -> testUnsafe(value) || other.test(value);
+  }
+
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical OR of this predicate
+   * and another. When evaluating the composed predicate, if this predicate is {@code true}, then
+   * the {@code other} predicate is not evaluated.
+   *
+   * <p>Both predicates are called directly within the single exception boundary of the composed
+   * predicate, so {@code other} may throw checked exceptions as well.
+   *
+   * @param other a predicate that will be logically-ORed with this predicate
+   * @return a composed predicate that represents the short-circuiting logical OR of this predicate
+   *     and the {@code other} predicate
+   * @throws NullPointerException if other is null
+   */
+  default ThrowableIntPredicate or(ThrowableIntPredicate other) {
+    Objects.requireNonNull(other);
+    return (value) -> testUnsafe(value) || other.testUnsafe(value);
+  }
 }
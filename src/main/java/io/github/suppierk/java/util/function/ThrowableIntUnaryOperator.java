@@ -25,6 +25,7 @@
 package io.github.suppierk.java.util.function;
 
 import io.github.suppierk.java.util.ExceptionSuppressor;
+import java.util.Objects;
 import java.util.function.IntUnaryOperator;
 
 /**
@@ -67,6 +68,76 @@ public interface ThrowableIntUnaryOperator extends IntUnaryOperator {
     }
   }
 
+  /**
+   * Returns a composed operator that first applies the {@code before} operator to its input, and
+   * then applies this operator to the result. If evaluation of either operator throws an exception,
+   * it is relayed to the caller of the composed operator.
+   *
+   * @param before the operator to apply before this operator is applied
+   * @return a composed operator that first applies the {@code before} operator and then applies
+   *     this operator
+   * @throws NullPointerException if before is null
+   * @see #compose(ThrowableIntUnaryOperator)
+   */
+  @Override
+  default ThrowableIntUnaryOperator compose(IntUnaryOperator before) {
+    Objects.requireNonNull(before);
+    return v -> applyAsIntUnsafe(before.applyAsInt(v));
+  }
+
+  /**
+   * Returns a composed operator that first applies the {@code before} operator to its input, and
+   * then applies this operator to the result. If evaluation of either operator throws an exception,
+   * it is relayed to the caller of the composed operator.
+   *
+   * <p>Both operators are called directly within the single exception boundary of the composed
+   * operator without boxing, so {@code before} may throw checked exceptions as well.
+   *
+   * @param before the operator to apply before this operator is applied
+   * @return a composed operator that first applies the {@code before} operator and then applies
+   *     this operator
+   * @throws NullPointerException if before is null
+   */
+  default ThrowableIntUnaryOperator compose(ThrowableIntUnaryOperator before) {
+    Objects.requireNonNull(before);
+    return v -> applyAsIntUnsafe(before.applyAsIntUnsafe(v));
+  }
+
+  /**
+   * Returns a composed operator that first applies this operator to its input, and then applies the
+   * {@code after} operator to the result. If evaluation of either operator throws an exception, it
+   * is relayed to the caller of the composed operator.
+   *
+   * @param after the operator to apply after this operator is applied
+   * @return a composed operator that first applies this operator and then applies the {@code after}
+   *     operator
+   * @throws NullPointerException if after is null
+   * @see #andThen(ThrowableIntUnaryOperator)
+   */
+  @Override
+  default ThrowableIntUnaryOperator andThen(IntUnaryOperator after) {
+    Objects.requireNonNull(after);
+    return t -> after.applyAsInt(applyAsIntUnsafe(t));
+  }
+
+  /**
+   * Returns a composed operator that first applies this operator to its input, and then applies the
+   * {@code after} operator to the result. If evaluation of either operator throws an exception, it
+   * is relayed to the caller of the composed operator.
+   *
+   * <p>Both operators are called directly within the single exception boundary of the composed
+   * operator without boxing, so {@code after} may throw checked exceptions as well.
+   *
+   * @param after the operator to apply after this operator is applied
+   * @return a composed operator that first applies this operator and then applies the {@code after}
+   *     operator
+   * @throws NullPointerException if after is null
+   */
+  default ThrowableIntUnaryOperator andThen(ThrowableIntUnaryOperator after) {
+    Objects.requireNonNull(after);
+    return t -> after.applyAsIntUnsafe(applyAsIntUnsafe(t));
+  }
+
   /**
    * Returns a unary operator that always returns its input argument.
    *
@@ -75,4 +146,32 @@ public interface ThrowableIntUnaryOperator extends IntUnaryOperator {
   static ThrowableIntUnaryOperator identity() {
     return t -> t;
   }
+
+  /**
+   * Returns an operator that applies the given operators in sequence, passing the result of each
+   * operator to the next one.
+   *
+   * <p>Unlike nested {@link #andThen(ThrowableIntUnaryOperator)} calls, the operators are called
+   * from a single loop within a single exception boundary, and the intermediate results are never
+   * boxed.
+   *
+   * @param operators the operators to apply, in order
+   * @return an operator applying all the operators in sequence, which returns its operand if there
+   *     are no operators
+   * @throws NullPointerException if operators or any of its elements is null
+   */
+  static ThrowableIntUnaryOperator chain(ThrowableIntUnaryOperator... operators) {
+    ThrowableIntUnaryOperator[] stages = operators.clone();
+    for (ThrowableIntUnaryOperator stage : stages) {
+      Objects.requireNonNull(stage);
+    }
+
+    return operand -> {
+      int result = operand;
+      for (ThrowableIntUnaryOperator stage : stages) {
+        result = stage.applyAsIntUnsafe(result);
+      }
+      return result;
+    };
+  }
 }
@@ -25,6 +25,7 @@
 package io.github.suppierk.java.util.function;
 
 import io.github.suppierk.java.util.ExceptionSuppressor;
+import java.util.Objects;
 import java.util.function.LongConsumer;
 
 /**
@@ -64,4 +65,47 @@ public interface ThrowableLongConsumer extends LongConsumer {
       ExceptionSuppressor.asUnchecked(throwable);
     }
   }
+
+  /**
+   * Returns a composed {@code ThrowableLongConsumer} that performs, in sequence, this operation
+   * followed by the {@code after} operation. If performing either operation throws an exception, it
+   * is relayed to the caller of the composed operation. If performing this operation throws an
+   * exception, the {@code after} operation will not be performed.
+   *
+   * @param after the operation to perform after this operation
+   * @return a composed {@code ThrowableLongConsumer} that performs in sequence this operation
+   *     followed by the {@code after} operation
+   * @throws NullPointerException if after is null
+   * @see #andThen(ThrowableLongConsumer)
+   */
+  @Override
+  default ThrowableLongConsumer andThen(LongConsumer after) {
+    Objects.requireNonNull(after);
+    return (value) -> {
+      acceptUnsafe(value);
+      after.accept(value);
+    };
+  }
+
+  /**
+   * Returns a composed {@code ThrowableLongConsumer} that performs, in sequence, this operation
+   * followed by the {@code after} operation. If performing either operation throws an exception, it
+   * is relayed to the caller of the composed operation. If performing this operation throws an
+   * exception, the {@code after} operation will not be performed.
+   *
+   * <p>Both operations are called directly within the single exception boundary of the composed
+   * operation, so {@code after} may throw checked exceptions as well.
+   *
+   * @param after the operation to perform after this operation
+   * @return a composed {@code ThrowableLongConsumer} that performs in sequence this operation
+   *     followed by the {@code after} operation
+   * @throws NullPointerException if after is null
+   */
+  default ThrowableLongConsumer andThen(ThrowableLongConsumer after) {
+    Objects.requireNonNull(after);
+    return (value) -> {
+      acceptUnsafe(value);
+      after.acceptUnsafe(value);
+    };
+  }
 }
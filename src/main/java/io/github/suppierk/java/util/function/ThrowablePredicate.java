@@ -66,6 +66,86 @@ public interface ThrowablePredicate<T> extends Predicate<T> {
     }
   }
 
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical AND of this predicate
+   * and another. When evaluating the composed predicate, if this predicate is {@code false}, then
+   * the {@code other} predicate is not evaluated.
+   *
+   * @param other a predicate that will be logically-ANDed with this predicate
+   * @return a composed predicate that represents the short-circuiting logical AND of this predicate
+   *     and the {@code other} predicate
+   * @throws NullPointerException if other is null
+   * @see #and(ThrowablePredicate)
+   */
+  @Override
+  default ThrowablePredicate<T> and(Predicate<? super T> other) {
+    Objects.requireNonNull(other);
+    return (t) -> testUnsafe(t) && other.test(t);
+  }
+
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical AND of this predicate
+   * and another. When evaluating the composed predicate, if this predicate is {@code false}, then
+   * the {@code other} predicate is not evaluated.
+   *
+   * <p>Both predicates are called directly within the single exception boundary of the composed
+   * predicate, so {@code other} may throw checked exceptions as well.
+   *
+   * @param other a predicate that will be logically-ANDed with this predicate
+   * @return a composed predicate that represents the short-circuiting logical AND of this predicate
+   *     and the {@code other} predicate
+   * @throws NullPointerException if other is null
+   */
+  default ThrowablePredicate<T> and(ThrowablePredicate<? super T> other) {
+    Objects.requireNonNull(other);
+    return (t) -> testUnsafe(t) && other.testUnsafe(t);
+  }
+
+  /**
+   * Returns a predicate that represents the logical negation of this predicate.
+   *
+   * @return a predicate that represents the logical negation of this predicate
+   */
+  @Override
+  default ThrowablePredicate<T> negate() {
+    return (t) -> !testUnsafe(t);
+  }
+
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical OR of this predicate
+   * and another. When evaluating the composed predicate, if this predicate is {@code true}, then
+   * the {@code other} predicate is not evaluated.
+   *
+   * @param other a predicate that will be logically-ORed with this predicate
+   * @return a composed predicate that represents the short-circuiting logical OR of this predicate
+   *     and the {@code other} predicate
+   * @throws NullPointerException if other is null
+   * @see #or(ThrowablePredicate)
+   */
+  @Override
+  default ThrowablePredicate<T> or(Predicate<? super T> other) {
+    Objects.requireNonNull(other);
+    return (t) -> testUnsafe(t) || other.test(t);
+  }
+
+  /**
+   * Returns a composed predicate that represents a short-circuiting logical OR of this predicate
+   * and another. When evaluating the composed predicate, if this predicate is {@code true}, then
+   * the {@code other} predicate is not evaluated.
+   *
+   * <p>Both predicates are called directly within the single exception boundary of the composed
+   * predicate, so {@code other} may throw checked exceptions as well.
+   *
+   * @param other a predicate that will be logically-ORed with this predicate
+   * @return a composed predicate that represents the short-circuiting logical OR of this predicate
+   *     and the {@code other} predicate
+   * @throws NullPointerException if other is null
+   */
+  default ThrowablePredicate<T> or(ThrowablePredicate<? super T> other) {
+    Objects.requireNonNull(other);
+    return (t) -> testUnsafe(t) || other.testUnsafe(t);
+  }
+
   /**
    * Returns a predicate that tests if two arguments are equal according to {@link
    * Objects#equals(Object, Object)}.
@@ -25,6 +25,7 @@
 package io.github.suppierk.java.util.function;
 
 import io.github.suppierk.java.util.ExceptionSuppressor;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -71,6 +72,80 @@ public interface ThrowableUnaryOperator<T> extends UnaryOperator<T> {
     }
   }
 
+  /**
+   * Returns a composed function that first applies the {@code before} function to its input, and
+   * then applies this function to the result. If evaluation of either function throws an exception,
+   * it is relayed to the caller of the composed function.
+   *
+   * @param <V> the type of input to the {@code before} function, and to the composed function
+   * @param before the function to apply before this function is applied
+   * @return a composed function that first applies the {@code before} function and then applies
+   *     this function
+   * @throws NullPointerException if before is null
+   * @see #compose(ThrowableFunction)
+   */
+  @Override
+  default <V> ThrowableFunction<V, T> compose(Function<? super V, ? extends T> before) {
+    Objects.requireNonNull(before);
+    return v -> applyUnsafe(before.apply(v));
+  }
+
+  /**
+   * Returns a composed function that first applies the {@code before} function to its input, and
+   * then applies this function to the result. If evaluation of either function throws an exception,
+   * it is relayed to the caller of the composed function.
+   *
+   * <p>Both functions are called directly within the single exception boundary of the composed
+   * function, so {@code before} may throw checked exceptions as well.
+   *
+   * @param <V> the type of input to the {@code before} function, and to the composed function
+   * @param before the function to apply before this function is applied
+   * @return a composed function that first applies the {@code before} function and then applies
+   *     this function
+   * @throws NullPointerException if before is null
+   */
+  default <V> ThrowableFunction<V, T> compose(ThrowableFunction<? super V, ? extends T> before) {
+    Objects.requireNonNull(before);
+    return v -> applyUnsafe(before.applyUnsafe(v));
+  }
+
+  /**
+   * Returns a composed function that first applies this function to its input, and then applies the
+   * {@code after} function to the result. If evaluation of either function throws an exception, it
+   * is relayed to the caller of the composed function.
+   *
+   * @param <V> the type of output of the {@code after} function, and of the composed function
+   * @param after the function to apply after this function is applied
+   * @return a composed function that first applies this function and then applies the {@code after}
+   *     function
+   * @throws NullPointerException if after is null
+   * @see #andThen(ThrowableFunction)
+   */
+  @Override
+  default <V> ThrowableFunction<T, V> andThen(Function<? super T, ? extends V> after) {
+    Objects.requireNonNull(after);
+    return t -> after.apply(applyUnsafe(t));
+  }
+
+  /**
+   * Returns a composed function that first applies this function to its input, and then applies the
+   * {@code after} function to the result. If evaluation of either function throws an exception, it
+   * is relayed to the caller of the composed function.
+   *
+   * <p>Both functions are called directly within the single exception boundary of the composed
+   * function, so {@code after} may throw checked exceptions as well.
+   *
+   * @param <V> the type of output of the {@code after} function, and of the composed function
+   * @param after the function to apply after this function is applied
+   * @return a composed function that first applies this function and then applies the {@code after}
+   *     function
+   * @throws NullPointerException if after is null
+   */
+  default <V> ThrowableFunction<T, V> andThen(ThrowableFunction<? super T, ? extends V> after) {
+    Objects.requireNonNull(after);
+    return t -> after.applyUnsafe(applyUnsafe(t));
+  }
+
   /**
    * Returns a unary operator that always returns its input argument.
    *
@@ -80,4 +155,34 @@ public interface ThrowableUnaryOperator<T> extends UnaryOperator<T> {
   static <T> ThrowableUnaryOperator<T> identity() {
     return t -> t;
   }
+
+  /**
+   * Returns an operator that applies the given operators in sequence, passing the result of each
+   * operator to the next one.
+   *
+   * <p>Unlike nested {@link #andThen(ThrowableFunction)} calls, the operators are called from a
+   * single loop within a single exception boundary.
+   *
+   * @param <T> the type of the operand and result of the operators
+   * @param operators the operators to apply, in order
+   * @return an operator applying all the operators in sequence, which returns its operand if there
+   *     are no operators
+   * @throws NullPointerException if operators or any of its elements is null
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs") // Elements are only read from the private copy of the array
+  static <T> ThrowableUnaryOperator<T> chain(ThrowableUnaryOperator<T>... operators) {
+    ThrowableUnaryOperator<T>[] stages = operators.clone();
+    for (ThrowableUnaryOperator<T> stage : stages) {
+      Objects.requireNonNull(stage);
+    }
+
+    return operand -> {
+      T result = operand;
+      for (ThrowableUnaryOperator<T> stage : stages) {
+        result = stage.applyUnsafe(result);
+      }
+      return result;
+    };
+  }
 }
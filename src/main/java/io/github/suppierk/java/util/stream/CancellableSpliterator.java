@@ -0,0 +1,218 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Spliterator which stops producing elements once the pipeline is cancelled.
+ *
+ * <p>The size of the source is reported as an estimate only, since cancellation can end the
+ * traversal before all elements are produced.
+ *
+ * @param <T> the type of the elements
+ */
+final class CancellableSpliterator<T> implements Spliterator<T> {
+  /** Characteristics which do not hold once cancellation may end the traversal early. */
+  private static final int UNSIZED = Spliterator.SIZED | Spliterator.SUBSIZED;
+
+  private final Spliterator<T> source;
+  private final Cancellation cancellation;
+
+  CancellableSpliterator(Spliterator<T> source, Cancellation cancellation) {
+    this.source = source;
+    this.cancellation = cancellation;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    return !cancellation.isCancelled() && source.tryAdvance(action);
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super T> action) {
+    while (!cancellation.isCancelled() && source.tryAdvance(action)) {
+      // Check the flag between elements
+    }
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    Spliterator<T> split = source.trySplit();
+    return split == null ? null : new CancellableSpliterator<>(split, cancellation);
+  }
+
+  @Override
+  public long estimateSize() {
+    return source.estimateSize();
+  }
+
+  @Override
+  public int characteristics() {
+    return source.characteristics() & ~UNSIZED;
+  }
+
+  @Override
+  public Comparator<? super T> getComparator() {
+    return source.getComparator();
+  }
+
+  /** Spliterator of int values which stops producing elements once the pipeline is cancelled. */
+  static final class OfInt implements Spliterator.OfInt {
+    private final Spliterator.OfInt source;
+    private final Cancellation cancellation;
+
+    OfInt(Spliterator.OfInt source, Cancellation cancellation) {
+      this.source = source;
+      this.cancellation = cancellation;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+      return !cancellation.isCancelled() && source.tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+      while (!cancellation.isCancelled() && source.tryAdvance(action)) {
+        // Check the flag between elements
+      }
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+      Spliterator.OfInt split = source.trySplit();
+      return split == null ? null : new CancellableSpliterator.OfInt(split, cancellation);
+    }
+
+    @Override
+    public long estimateSize() {
+      return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return source.characteristics() & ~UNSIZED;
+    }
+
+    @Override
+    public Comparator<? super Integer> getComparator() {
+      return source.getComparator();
+    }
+  }
+
+  /** Spliterator of long values which stops producing elements once the pipeline is cancelled. */
+  static final class OfLong implements Spliterator.OfLong {
+    private final Spliterator.OfLong source;
+    private final Cancellation cancellation;
+
+    OfLong(Spliterator.OfLong source, Cancellation cancellation) {
+      this.source = source;
+      this.cancellation = cancellation;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      return !cancellation.isCancelled() && source.tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      while (!cancellation.isCancelled() && source.tryAdvance(action)) {
+        // Check the flag between elements
+      }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+      Spliterator.OfLong split = source.trySplit();
+      return split == null ? null : new CancellableSpliterator.OfLong(split, cancellation);
+    }
+
+    @Override
+    public long estimateSize() {
+      return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return source.characteristics() & ~UNSIZED;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+      return source.getComparator();
+    }
+  }
+
+  /** Spliterator of double values which stops producing elements once the pipeline is cancelled. */
+  static final class OfDouble implements Spliterator.OfDouble {
+    private final Spliterator.OfDouble source;
+    private final Cancellation cancellation;
+
+    OfDouble(Spliterator.OfDouble source, Cancellation cancellation) {
+      this.source = source;
+      this.cancellation = cancellation;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+      return !cancellation.isCancelled() && source.tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+      while (!cancellation.isCancelled() && source.tryAdvance(action)) {
+        // Check the flag between elements
+      }
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+      Spliterator.OfDouble split = source.trySplit();
+      return split == null ? null : new CancellableSpliterator.OfDouble(split, cancellation);
+    }
+
+    @Override
+    public long estimateSize() {
+      return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return source.characteristics() & ~UNSIZED;
+    }
+
+    @Override
+    public Comparator<? super Double> getComparator() {
+      return source.getComparator();
+    }
+  }
+}
@@ -0,0 +1,532 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import io.github.suppierk.java.util.ExceptionSuppressor;
+import io.github.suppierk.java.util.ThrowableComparator;
+import io.github.suppierk.java.util.function.ThrowableBiConsumer;
+import io.github.suppierk.java.util.function.ThrowableBinaryOperator;
+import io.github.suppierk.java.util.function.ThrowableConsumer;
+import io.github.suppierk.java.util.function.ThrowableDoubleBinaryOperator;
+import io.github.suppierk.java.util.function.ThrowableDoubleConsumer;
+import io.github.suppierk.java.util.function.ThrowableDoubleFunction;
+import io.github.suppierk.java.util.function.ThrowableDoublePredicate;
+import io.github.suppierk.java.util.function.ThrowableDoubleToIntFunction;
+import io.github.suppierk.java.util.function.ThrowableDoubleToLongFunction;
+import io.github.suppierk.java.util.function.ThrowableDoubleUnaryOperator;
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import io.github.suppierk.java.util.function.ThrowableIntBinaryOperator;
+import io.github.suppierk.java.util.function.ThrowableIntConsumer;
+import io.github.suppierk.java.util.function.ThrowableIntFunction;
+import io.github.suppierk.java.util.function.ThrowableIntPredicate;
+import io.github.suppierk.java.util.function.ThrowableIntToDoubleFunction;
+import io.github.suppierk.java.util.function.ThrowableIntToLongFunction;
+import io.github.suppierk.java.util.function.ThrowableIntUnaryOperator;
+import io.github.suppierk.java.util.function.ThrowableLongBinaryOperator;
+import io.github.suppierk.java.util.function.ThrowableLongConsumer;
+import io.github.suppierk.java.util.function.ThrowableLongFunction;
+import io.github.suppierk.java.util.function.ThrowableLongPredicate;
+import io.github.suppierk.java.util.function.ThrowableLongToDoubleFunction;
+import io.github.suppierk.java.util.function.ThrowableLongToIntFunction;
+import io.github.suppierk.java.util.function.ThrowableLongUnaryOperator;
+import io.github.suppierk.java.util.function.ThrowablePredicate;
+import io.github.suppierk.java.util.function.ThrowableSupplier;
+import io.github.suppierk.java.util.function.ThrowableToDoubleFunction;
+import io.github.suppierk.java.util.function.ThrowableToIntFunction;
+import io.github.suppierk.java.util.function.ThrowableToLongFunction;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cancellation flag shared by all splits of a throwable stream pipeline.
+ *
+ * <p>Functions passed to the pipeline are wrapped to record the first exception they throw, and the
+ * source spliterators stop producing elements once it is recorded, so the remaining splits of a
+ * parallel stream stop at their next element instead of running to completion.
+ */
+@SuppressWarnings("squid:S1181")
+final class Cancellation {
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+  private volatile boolean cancelled;
+
+  /**
+   * @return {@code true} if the pipeline failed or was cancelled
+   */
+  boolean isCancelled() {
+    return cancelled;
+  }
+
+  /** Stops the pipeline without a failure. */
+  void cancel() {
+    cancelled = true;
+  }
+
+  /**
+   * Records the exception if it is the first one and stops the pipeline.
+   *
+   * @param <R> is return type of method caller if needed
+   * @param exception to record and rethrow
+   * @return nothing, the exception is rethrown as is
+   */
+  <R> R fail(Throwable exception) {
+    failure.compareAndSet(null, exception);
+    cancelled = true;
+    return ExceptionSuppressor.asUnchecked(exception);
+  }
+
+  /**
+   * Runs the terminal operation, in the pool if it is specified, and rethrows the first recorded
+   * exception if the operation fails.
+   *
+   * @param <R> the type of the result
+   * @param pool to run the operation in, or {@code null} to run it in the current thread
+   * @param operation to run
+   * @return the result of the operation
+   */
+  <R> R terminal(ForkJoinPool pool, Supplier<R> operation) {
+    try {
+      return pool == null ? operation.get() : pool.submit(operation::get).get();
+    } catch (InterruptedException e) {
+      cancel();
+      Thread.currentThread().interrupt();
+      return ExceptionSuppressor.asUnchecked(e);
+    } catch (Throwable t) {
+      Throwable first = failure.get();
+      if (first == null) {
+        first = t instanceof ExecutionException && t.getCause() != null ? t.getCause() : t;
+      }
+      return ExceptionSuppressor.asUnchecked(first);
+    }
+  }
+
+  /** Wraps a function, failing the pipeline with its exceptions. */
+  <T, R> Function<T, R> function(ThrowableFunction<? super T, ? extends R> function) {
+    Objects.requireNonNull(function, "Function must not be null");
+    return t -> {
+      try {
+        return function.applyUnsafe(t);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a predicate, failing the pipeline with its exceptions. */
+  <T> Predicate<T> predicate(ThrowablePredicate<? super T> predicate) {
+    Objects.requireNonNull(predicate, "Predicate must not be null");
+    return t -> {
+      try {
+        return predicate.testUnsafe(t);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a consumer, failing the pipeline with its exceptions. */
+  <T> Consumer<T> consumer(ThrowableConsumer<? super T> consumer) {
+    Objects.requireNonNull(consumer, "Consumer must not be null");
+    return t -> {
+      try {
+        consumer.acceptUnsafe(t);
+      } catch (Throwable e) {
+        fail(e);
+      }
+    };
+  }
+
+  /** Wraps a supplier, failing the pipeline with its exceptions. */
+  <T> Supplier<T> supplier(ThrowableSupplier<? extends T> supplier) {
+    Objects.requireNonNull(supplier, "Supplier must not be null");
+    return () -> {
+      try {
+        return supplier.getUnsafe();
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a bi-consumer, failing the pipeline with its exceptions. */
+  <T, U> BiConsumer<T, U> biConsumer(ThrowableBiConsumer<? super T, ? super U> consumer) {
+    Objects.requireNonNull(consumer, "Consumer must not be null");
+    return (t, u) -> {
+      if (cancelled) {
+        return;
+      }
+
+      try {
+        consumer.acceptUnsafe(t, u);
+      } catch (Throwable e) {
+        fail(e);
+      }
+    };
+  }
+
+  /** Wraps a binary operator, failing the pipeline with its exceptions. */
+  <T> BinaryOperator<T> binaryOperator(ThrowableBinaryOperator<T> operator) {
+    Objects.requireNonNull(operator, "Operator must not be null");
+    return (t, u) -> {
+      try {
+        return operator.applyUnsafe(t, u);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a comparator, failing the pipeline with its exceptions. */
+  <T> Comparator<T> comparator(ThrowableComparator<? super T> comparator) {
+    Objects.requireNonNull(comparator, "Comparator must not be null");
+    return (t, u) -> {
+      try {
+        return comparator.compareUnsafe(t, u);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps an int predicate, failing the pipeline with its exceptions. */
+  IntPredicate intPredicate(ThrowableIntPredicate predicate) {
+    Objects.requireNonNull(predicate, "Predicate must not be null");
+    return value -> {
+      try {
+        return predicate.testUnsafe(value);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps an int unary operator, failing the pipeline with its exceptions. */
+  IntUnaryOperator intUnaryOperator(ThrowableIntUnaryOperator operator) {
+    Objects.requireNonNull(operator, "Operator must not be null");
+    return value -> {
+      try {
+        return operator.applyAsIntUnsafe(value);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps an int binary operator, failing the pipeline with its exceptions. */
+  IntBinaryOperator intBinaryOperator(ThrowableIntBinaryOperator operator) {
+    Objects.requireNonNull(operator, "Operator must not be null");
+    return (left, right) -> {
+      try {
+        return operator.applyAsIntUnsafe(left, right);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps an int consumer, failing the pipeline with its exceptions. */
+  IntConsumer intConsumer(ThrowableIntConsumer consumer) {
+    Objects.requireNonNull(consumer, "Consumer must not be null");
+    return value -> {
+      try {
+        consumer.acceptUnsafe(value);
+      } catch (Throwable e) {
+        fail(e);
+      }
+    };
+  }
+
+  /** Wraps a function of int values, failing the pipeline with its exceptions. */
+  <R> IntFunction<R> intFunction(ThrowableIntFunction<? extends R> function) {
+    Objects.requireNonNull(function, "Function must not be null");
+    return value -> {
+      try {
+        return function.applyUnsafe(value);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps an int-valued function, failing the pipeline with its exceptions. */
+  <T> ToIntFunction<T> toIntFunction(ThrowableToIntFunction<? super T> function) {
+    Objects.requireNonNull(function, "Function must not be null");
+    return t -> {
+      try {
+        return function.applyAsIntUnsafe(t);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps an int-to-long function, failing the pipeline with its exceptions. */
+  IntToLongFunction intToLongFunction(ThrowableIntToLongFunction function) {
+    Objects.requireNonNull(function, "Function must not be null");
+    return value -> {
+      try {
+        return function.applyAsLongUnsafe(value);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps an int-to-double function, failing the pipeline with its exceptions. */
+  IntToDoubleFunction intToDoubleFunction(ThrowableIntToDoubleFunction function) {
+    Objects.requireNonNull(function, "Function must not be null");
+    return value -> {
+      try {
+        return function.applyAsDoubleUnsafe(value);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a long predicate, failing the pipeline with its exceptions. */
+  LongPredicate longPredicate(ThrowableLongPredicate predicate) {
+    Objects.requireNonNull(predicate, "Predicate must not be null");
+    return value -> {
+      try {
+        return predicate.testUnsafe(value);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a long unary operator, failing the pipeline with its exceptions. */
+  LongUnaryOperator longUnaryOperator(ThrowableLongUnaryOperator operator) {
+    Objects.requireNonNull(operator, "Operator must not be null");
+    return value -> {
+      try {
+        return operator.applyAsLongUnsafe(value);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a long binary operator, failing the pipeline with its exceptions. */
+  LongBinaryOperator longBinaryOperator(ThrowableLongBinaryOperator operator) {
+    Objects.requireNonNull(operator, "Operator must not be null");
+    return (left, right) -> {
+      try {
+        return operator.applyAsLongUnsafe(left, right);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a long consumer, failing the pipeline with its exceptions. */
+  LongConsumer longConsumer(ThrowableLongConsumer consumer) {
+    Objects.requireNonNull(consumer, "Consumer must not be null");
+    return value -> {
+      try {
+        consumer.acceptUnsafe(value);
+      } catch (Throwable e) {
+        fail(e);
+      }
+    };
+  }
+
+  /** Wraps a function of long values, failing the pipeline with its exceptions. */
+  <R> LongFunction<R> longFunction(ThrowableLongFunction<? extends R> function) {
+    Objects.requireNonNull(function, "Function must not be null");
+    return value -> {
+      try {
+        return function.applyUnsafe(value);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a long-valued function, failing the pipeline with its exceptions. */
+  <T> ToLongFunction<T> toLongFunction(ThrowableToLongFunction<? super T> function) {
+    Objects.requireNonNull(function, "Function must not be null");
+    return t -> {
+      try {
+        return function.applyAsLongUnsafe(t);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a long-to-int function, failing the pipeline with its exceptions. */
+  LongToIntFunction longToIntFunction(ThrowableLongToIntFunction function) {
+    Objects.requireNonNull(function, "Function must not be null");
+    return value -> {
+      try {
+        return function.applyAsIntUnsafe(value);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a long-to-double function, failing the pipeline with its exceptions. */
+  LongToDoubleFunction longToDoubleFunction(ThrowableLongToDoubleFunction function) {
+    Objects.requireNonNull(function, "Function must not be null");
+    return value -> {
+      try {
+        return function.applyAsDoubleUnsafe(value);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a double predicate, failing the pipeline with its exceptions. */
+  DoublePredicate doublePredicate(ThrowableDoublePredicate predicate) {
+    Objects.requireNonNull(predicate, "Predicate must not be null");
+    return value -> {
+      try {
+        return predicate.testUnsafe(value);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a double unary operator, failing the pipeline with its exceptions. */
+  DoubleUnaryOperator doubleUnaryOperator(ThrowableDoubleUnaryOperator operator) {
+    Objects.requireNonNull(operator, "Operator must not be null");
+    return value -> {
+      try {
+        return operator.applyAsDoubleUnsafe(value);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a double binary operator, failing the pipeline with its exceptions. */
+  DoubleBinaryOperator doubleBinaryOperator(ThrowableDoubleBinaryOperator operator) {
+    Objects.requireNonNull(operator, "Operator must not be null");
+    return (left, right) -> {
+      try {
+        return operator.applyAsDoubleUnsafe(left, right);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a double consumer, failing the pipeline with its exceptions. */
+  DoubleConsumer doubleConsumer(ThrowableDoubleConsumer consumer) {
+    Objects.requireNonNull(consumer, "Consumer must not be null");
+    return value -> {
+      try {
+        consumer.acceptUnsafe(value);
+      } catch (Throwable e) {
+        fail(e);
+      }
+    };
+  }
+
+  /** Wraps a function of double values, failing the pipeline with its exceptions. */
+  <R> DoubleFunction<R> doubleFunction(ThrowableDoubleFunction<? extends R> function) {
+    Objects.requireNonNull(function, "Function must not be null");
+    return value -> {
+      try {
+        return function.applyUnsafe(value);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a double-valued function, failing the pipeline with its exceptions. */
+  <T> ToDoubleFunction<T> toDoubleFunction(ThrowableToDoubleFunction<? super T> function) {
+    Objects.requireNonNull(function, "Function must not be null");
+    return t -> {
+      try {
+        return function.applyAsDoubleUnsafe(t);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a double-to-int function, failing the pipeline with its exceptions. */
+  DoubleToIntFunction doubleToIntFunction(ThrowableDoubleToIntFunction function) {
+    Objects.requireNonNull(function, "Function must not be null");
+    return value -> {
+      try {
+        return function.applyAsIntUnsafe(value);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+
+  /** Wraps a double-to-long function, failing the pipeline with its exceptions. */
+  DoubleToLongFunction doubleToLongFunction(ThrowableDoubleToLongFunction function) {
+    Objects.requireNonNull(function, "Function must not be null");
+    return value -> {
+      try {
+        return function.applyAsLongUnsafe(value);
+      } catch (Throwable e) {
+        return fail(e);
+      }
+    };
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import java.util.stream.Collector;
+
+/**
+ * Collector which can stop the pipeline it collects, like a fail-fast collector seeing a failure.
+ *
+ * <p>{@link ThrowableStream} binds such collectors to its own cancellation, so that the source
+ * stops producing elements once the collector cancels it. Used with plain streams, the collector
+ * stops accumulating instead, while the upstream keeps running.
+ *
+ * @param <T> the type of input elements
+ * @param <A> the mutable accumulation type
+ * @param <R> the result type
+ */
+interface CancellingCollector<T, A, R> extends Collector<T, A, R> {
+  /**
+   * @param cancellation to cancel
+   * @return collector cancelling the specified cancellation
+   */
+  Collector<T, A, R> bind(Cancellation cancellation);
+
+  /**
+   * @param <T> the type of input elements
+   * @param <A> the mutable accumulation type
+   * @param <R> the result type
+   * @param collector to bind if it supports cancellation
+   * @param cancellation to bind the collector to
+   * @return bound collector, or the collector as is
+   */
+  static <T, A, R> Collector<T, A, R> bind(
+      Collector<T, A, R> collector, Cancellation cancellation) {
+    if (collector instanceof CancellingCollector) {
+      return ((CancellingCollector<T, A, R>) collector).bind(cancellation);
+    } else if (collector instanceof ThrowableCollector) {
+      return ((ThrowableCollector<T, A, R>) collector).bind(cancellation);
+    }
+    return collector;
+  }
+}
@@ -0,0 +1,436 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import io.github.suppierk.java.Try;
+import io.github.suppierk.java.util.ExceptionSuppressor;
+import io.github.suppierk.java.util.concurrent.VirtualThreads;
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Applies a throwable function to the elements of a sequential source with bounded concurrency.
+ *
+ * <p>Unlike {@code Stream.parallel().map(...)}, which splits the source by element count and runs
+ * in {@link java.util.concurrent.ForkJoinPool#commonPool()}, this pulls elements one by one from an
+ * {@link Iterator} or a {@link Stream} and keeps at most {@code maxConcurrency} calls in flight in
+ * the chosen executor. Elements are pulled only as results are consumed, so at most {@code
+ * maxConcurrency} elements and results are held at any time, no matter how long the source is.
+ *
+ * <p>By default results are emitted in the order of the source, with completed results waiting for
+ * the earlier ones to complete. {@link #unordered()} emits results as soon as they complete.
+ *
+ * <p>Closing the resulting stream cancels and interrupts the calls in flight and closes the source
+ * stream, so use it in a try-with-resources statement when it may not be consumed completely.
+ *
+ * <pre>{@code
+ * ConcurrentMapper<URI, Page> fetcher = ConcurrentMapper.of(client::fetch, 32).executor(executor);
+ * try (Stream<Try<Page>> pages = fetcher.map(uris)) {
+ *   pages.forEach(page -> page.ifSuccessOrElse(this::store, this::report));
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the elements
+ * @param <R> the type of the results
+ */
+public final class ConcurrentMapper<T, R> {
+  /** Time after which idle threads of the default pool terminate before Java 21. */
+  private static final long IDLE_SECONDS = 60L;
+
+  private final ThrowableFunction<? super T, ? extends R> function;
+  private final int maxConcurrency;
+
+  /** Executor to run the function in, or {@code null} to use the default one. */
+  private final Executor executor;
+
+  private final boolean ordered;
+
+  private ConcurrentMapper(
+      ThrowableFunction<? super T, ? extends R> function,
+      int maxConcurrency,
+      Executor executor,
+      boolean ordered) {
+    this.function = function;
+    this.maxConcurrency = maxConcurrency;
+    this.executor = executor;
+    this.ordered = ordered;
+  }
+
+  /**
+   * Returns an ordered mapper running the function in {@link VirtualThreads#executor()}.
+   *
+   * <p>Before Java 21, where virtual threads are not available, the function runs in a dedicated
+   * pool of at most {@code maxConcurrency} daemon threads, so blocking calls do not starve {@link
+   * java.util.concurrent.ForkJoinPool#commonPool()}. The pool is created once the resulting stream
+   * is traversed and shut down once the traversal ends or the stream is closed.
+   *
+   * @param <T> the type of the elements
+   * @param <R> the type of the results
+   * @param function the function to apply, which must be non-null
+   * @param maxConcurrency the maximum number of calls in flight
+   * @return new mapper
+   * @throws NullPointerException if function is null
+   * @throws IllegalArgumentException if maxConcurrency is not positive
+   */
+  public static <T, R> ConcurrentMapper<T, R> of(
+      ThrowableFunction<? super T, ? extends R> function, int maxConcurrency) {
+    Objects.requireNonNull(function, "Function must not be null");
+    if (maxConcurrency <= 0) {
+      throw new IllegalArgumentException("Maximum concurrency must be positive: " + maxConcurrency);
+    }
+    return new ConcurrentMapper<>(function, maxConcurrency, null, true);
+  }
+
+  /**
+   * @param maxConcurrency the maximum number of calls in flight
+   * @return new pool of daemon threads, which terminate once idle
+   */
+  private static ExecutorService newPlatformExecutor(int maxConcurrency) {
+    ThreadFactory threads = Executors.defaultThreadFactory();
+    ThreadPoolExecutor pool =
+        new ThreadPoolExecutor(
+            maxConcurrency,
+            maxConcurrency,
+            IDLE_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            task -> {
+              Thread thread = threads.newThread(task);
+              thread.setDaemon(true);
+              return thread;
+            });
+    pool.allowCoreThreadTimeOut(true);
+    return pool;
+  }
+
+  /**
+   * Returns a mapper running the function in the executor.
+   *
+   * <p>The executor is expected to run at least {@code maxConcurrency} tasks at once, otherwise
+   * calls in flight wait for each other.
+   *
+   * @param executor the executor to run the function in, which must be non-null
+   * @return new mapper
+   * @throws NullPointerException if executor is null
+   */
+  public ConcurrentMapper<T, R> executor(Executor executor) {
+    Objects.requireNonNull(executor, "Executor must not be null");
+    return new ConcurrentMapper<>(function, maxConcurrency, executor, ordered);
+  }
+
+  /**
+   * Returns a mapper emitting results in the order they complete rather than the order of the
+   * source.
+   *
+   * @return new mapper
+   */
+  public ConcurrentMapper<T, R> unordered() {
+    return new ConcurrentMapper<>(function, maxConcurrency, executor, false);
+  }
+
+  /**
+   * Returns a stream of the results, with exceptions of the function emitted as {@link
+   * Try.Failure}.
+   *
+   * <p>Exceptions thrown by the source itself are propagated to the consumer of the stream.
+   *
+   * @param source the source of the elements, which must be non-null
+   * @return new stream of results
+   * @throws NullPointerException if source is null
+   */
+  public Stream<Try<R>> map(Iterator<? extends T> source) {
+    Objects.requireNonNull(source, "Source must not be null");
+    return stream(new Results(source));
+  }
+
+  /**
+   * Returns a stream of the results, with exceptions of the function emitted as {@link
+   * Try.Failure}.
+   *
+   * <p>Closing the resulting stream closes the source stream as well.
+   *
+   * @param source the source of the elements, which must be non-null
+   * @return new stream of results
+   * @throws NullPointerException if source is null
+   * @see #map(Iterator)
+   */
+  public Stream<Try<R>> map(Stream<? extends T> source) {
+    Objects.requireNonNull(source, "Source must not be null");
+    return map(source.iterator()).onClose(source::close);
+  }
+
+  /**
+   * Returns a stream of the results, which aborts on the first exception of the function.
+   *
+   * <p>The exception is thrown as is from the terminal operation of the stream, and the calls in
+   * flight are cancelled. In ordered mode the results preceding the failed element in the source
+   * are emitted first.
+   *
+   * @param source the source of the elements, which must be non-null
+   * @return new stream of results
+   * @throws NullPointerException if source is null
+   */
+  public Stream<R> mapFailFast(Iterator<? extends T> source) {
+    Objects.requireNonNull(source, "Source must not be null");
+    Results results = new Results(source);
+    Iterator<R> values =
+        new Iterator<R>() {
+          @Override
+          public boolean hasNext() {
+            return results.hasNext();
+          }
+
+          @Override
+          public R next() {
+            Try<R> result = results.next();
+            if (result.isFailure()) {
+              results.close();
+            }
+            return result.get();
+          }
+        };
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(values, characteristics()), false)
+        .onClose(results::close);
+  }
+
+  /**
+   * Returns a stream of the results, which aborts on the first exception of the function.
+   *
+   * <p>Closing the resulting stream closes the source stream as well.
+   *
+   * @param source the source of the elements, which must be non-null
+   * @return new stream of results
+   * @throws NullPointerException if source is null
+   * @see #mapFailFast(Iterator)
+   */
+  public Stream<R> mapFailFast(Stream<? extends T> source) {
+    Objects.requireNonNull(source, "Source must not be null");
+    return mapFailFast(source.iterator()).onClose(source::close);
+  }
+
+  /**
+   * @param results to stream
+   * @return stream closing the results
+   */
+  private Stream<Try<R>> stream(Results results) {
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(results, characteristics()), false)
+        .onClose(results::close);
+  }
+
+  /**
+   * @return characteristics of the resulting streams
+   */
+  private int characteristics() {
+    return ordered ? Spliterator.ORDERED | Spliterator.NONNULL : Spliterator.NONNULL;
+  }
+
+  /** Call of the function for a single element. */
+  private final class Task extends FutureTask<Try<R>> {
+    /** Queue to add this task to once completed, {@code null} in ordered mode. */
+    private final BlockingQueue<Task> completed;
+
+    private Task(T element, BlockingQueue<Task> completed) {
+      super(() -> Try.apply(function, element));
+      this.completed = completed;
+    }
+
+    /**
+     * Completes this task with the exception of the executor.
+     *
+     * @param exception to complete with
+     */
+    private void reject(RejectedExecutionException exception) {
+      setException(exception);
+    }
+
+    @Override
+    protected void done() {
+      if (completed != null) {
+        completed.add(this);
+      }
+    }
+  }
+
+  /**
+   * Pulls elements from the source and keeps the calls in flight up to the maximum concurrency.
+   *
+   * <p>Accessed by the consuming thread only, tasks communicate with it through {@link #completed}.
+   */
+  private final class Results implements Iterator<Try<R>> {
+    private final Iterator<? extends T> source;
+
+    /** Tasks in the order of the source, in ordered mode. */
+    private final ArrayDeque<Task> pending;
+
+    /** Tasks in flight and completed tasks not taken yet, in unordered mode. */
+    private final Set<Task> running;
+
+    /** Completed tasks in the order of completion, in unordered mode. */
+    private final BlockingQueue<Task> completed;
+
+    /** Pool of the default executor before Java 21, created on the first call. */
+    private ExecutorService pool;
+
+    private boolean closed;
+
+    private Results(Iterator<? extends T> source) {
+      this.source = source;
+      this.pending = ordered ? new ArrayDeque<>(maxConcurrency) : null;
+      this.running = ordered ? null : new HashSet<>();
+      this.completed = ordered ? null : new LinkedBlockingQueue<>();
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (closed) {
+        return false;
+      }
+
+      fill();
+      if (size() == 0) {
+        closed = true;
+        shutdownPool();
+        return false;
+      }
+      return true;
+    }
+
+    @Override
+    public Try<R> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException("No more results");
+      }
+
+      try {
+        Task task;
+        if (ordered) {
+          task = pending.poll();
+        } else {
+          task = completed.take();
+          running.remove(task);
+        }
+        return task.get();
+      } catch (InterruptedException e) {
+        close();
+        Thread.currentThread().interrupt();
+        return ExceptionSuppressor.asUnchecked(e);
+      } catch (ExecutionException e) {
+        return Try.failure(e.getCause());
+      }
+    }
+
+    /** Cancels the calls in flight and stops pulling the source. */
+    private void close() {
+      if (closed && size() == 0) {
+        return;
+      }
+
+      closed = true;
+      Iterable<Task> tasks = ordered ? pending : running;
+      for (Task task : tasks) {
+        task.cancel(true);
+      }
+      if (ordered) {
+        pending.clear();
+      } else {
+        running.clear();
+        completed.clear();
+      }
+      shutdownPool();
+    }
+
+    /**
+     * @return the executor of the mapper, or the default one if none was specified
+     */
+    private Executor taskExecutor() {
+      if (executor != null) {
+        return executor;
+      }
+      if (VirtualThreads.isAvailable()) {
+        return VirtualThreads.executor();
+      }
+
+      if (pool == null) {
+        pool = newPlatformExecutor(maxConcurrency);
+      }
+      return pool;
+    }
+
+    /** Shuts down the pool of the default executor, if it was created. */
+    private void shutdownPool() {
+      if (pool != null) {
+        pool.shutdownNow();
+        pool = null;
+      }
+    }
+
+    /** Submits elements of the source until the maximum concurrency is reached. */
+    private void fill() {
+      while (size() < maxConcurrency && source.hasNext()) {
+        Task task = new Task(source.next(), completed);
+        if (ordered) {
+          pending.add(task);
+        } else {
+          running.add(task);
+        }
+
+        try {
+          taskExecutor().execute(task);
+        } catch (RejectedExecutionException e) {
+          task.reject(e);
+        }
+      }
+    }
+
+    /**
+     * @return number of tasks in flight or completed but not taken yet
+     */
+    private int size() {
+      return ordered ? pending.size() : running.size();
+    }
+  }
+}
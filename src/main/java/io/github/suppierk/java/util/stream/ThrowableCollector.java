@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import io.github.suppierk.java.util.function.ThrowableBiConsumer;
+import io.github.suppierk.java.util.function.ThrowableBinaryOperator;
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import io.github.suppierk.java.util.function.ThrowableSupplier;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * {@link Collector} built from functions which may throw, like accumulators writing to files.
+ *
+ * <p>Used with {@link java.util.stream.Stream#collect(Collector)}, the exceptions are rethrown as
+ * is. Used with {@link ThrowableStream#collect(Collector)}, the first exception also stops the
+ * accumulation and combination in the other splits of a parallel stream, and is rethrown even if
+ * the parallel stream framework would report a copy of it.
+ *
+ * @param <T> the type of input elements
+ * @param <A> the mutable accumulation type
+ * @param <R> the result type
+ */
+public final class ThrowableCollector<T, A, R> implements Collector<T, A, R> {
+  private final ThrowableSupplier<A> supplier;
+  private final ThrowableBiConsumer<A, ? super T> accumulator;
+  private final ThrowableBinaryOperator<A> combiner;
+  private final ThrowableFunction<A, R> finisher;
+  private final Set<Characteristics> characteristics;
+
+  private ThrowableCollector(
+      ThrowableSupplier<A> supplier,
+      ThrowableBiConsumer<A, ? super T> accumulator,
+      ThrowableBinaryOperator<A> combiner,
+      ThrowableFunction<A, R> finisher,
+      Set<Characteristics> characteristics) {
+    this.supplier = Objects.requireNonNull(supplier, "Supplier must not be null");
+    this.accumulator = Objects.requireNonNull(accumulator, "Accumulator must not be null");
+    this.combiner = Objects.requireNonNull(combiner, "Combiner must not be null");
+    this.finisher = Objects.requireNonNull(finisher, "Finisher must not be null");
+    this.characteristics = characteristics;
+  }
+
+  /**
+   * Returns a collector with the specified functions, which finishes with the accumulation.
+   *
+   * @param <T> the type of input elements
+   * @param <R> the mutable accumulation and the result type
+   * @param supplier creating new accumulation, which must be non-null
+   * @param accumulator adding an element to the accumulation, which must be non-null
+   * @param combiner merging two accumulations, which must be non-null
+   * @param characteristics of the collector, in addition to {@link Characteristics#IDENTITY_FINISH}
+   * @return new collector
+   * @throws NullPointerException if any argument is null
+   * @see Collector#of(Supplier, BiConsumer, BinaryOperator, Characteristics...)
+   */
+  public static <T, R> ThrowableCollector<T, R, R> of(
+      ThrowableSupplier<R> supplier,
+      ThrowableBiConsumer<R, ? super T> accumulator,
+      ThrowableBinaryOperator<R> combiner,
+      Characteristics... characteristics) {
+    Objects.requireNonNull(characteristics, "Characteristics must not be null");
+    Set<Characteristics> set = EnumSet.of(Characteristics.IDENTITY_FINISH, characteristics);
+    return new ThrowableCollector<>(
+        supplier, accumulator, combiner, r -> r, Collections.unmodifiableSet(set));
+  }
+
+  /**
+   * Returns a collector with the specified functions.
+   *
+   * @param <T> the type of input elements
+   * @param <A> the mutable accumulation type
+   * @param <R> the result type
+   * @param supplier creating new accumulation, which must be non-null
+   * @param accumulator adding an element to the accumulation, which must be non-null
+   * @param combiner merging two accumulations, which must be non-null
+   * @param finisher transforming the accumulation into the result, which must be non-null
+   * @param characteristics of the collector
+   * @return new collector
+   * @throws NullPointerException if any argument is null
+   * @see Collector#of(Supplier, BiConsumer, BinaryOperator, Function, Characteristics...)
+   */
+  public static <T, A, R> ThrowableCollector<T, A, R> of(
+      ThrowableSupplier<A> supplier,
+      ThrowableBiConsumer<A, ? super T> accumulator,
+      ThrowableBinaryOperator<A> combiner,
+      ThrowableFunction<A, R> finisher,
+      Characteristics... characteristics) {
+    Objects.requireNonNull(characteristics, "Characteristics must not be null");
+    Set<Characteristics> set = EnumSet.noneOf(Characteristics.class);
+    Collections.addAll(set, characteristics);
+    return new ThrowableCollector<>(
+        supplier, accumulator, combiner, finisher, Collections.unmodifiableSet(set));
+  }
+
+  /**
+   * Returns a collector cancelling the specified cancellation on the first exception, which skips
+   * the accumulation and combination once the cancellation is cancelled.
+   *
+   * @param cancellation to cancel
+   * @return new collector
+   */
+  Collector<T, A, R> bind(Cancellation cancellation) {
+    ThrowableBinaryOperator<A> skippingCombiner =
+        (left, right) -> cancellation.isCancelled() ? left : combiner.applyUnsafe(left, right);
+    return Collector.of(
+        cancellation.supplier(supplier),
+        cancellation.<A, T>biConsumer(accumulator),
+        cancellation.binaryOperator(skippingCombiner),
+        cancellation.function(finisher),
+        characteristics.toArray(new Characteristics[0]));
+  }
+
+  @Override
+  public Supplier<A> supplier() {
+    return supplier;
+  }
+
+  @Override
+  public BiConsumer<A, T> accumulator() {
+    return accumulator::accept;
+  }
+
+  @Override
+  public BinaryOperator<A> combiner() {
+    return combiner;
+  }
+
+  @Override
+  public Function<A, R> finisher() {
+    return finisher;
+  }
+
+  @Override
+  public Set<Characteristics> characteristics() {
+    return characteristics;
+  }
+}
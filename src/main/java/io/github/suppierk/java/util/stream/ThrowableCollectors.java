@@ -0,0 +1,463 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import io.github.suppierk.java.Try;
+import io.github.suppierk.java.util.function.ThrowableBinaryOperator;
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import io.github.suppierk.java.util.function.ThrowablePredicate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collector.Characteristics;
+import java.util.stream.Collectors;
+
+/**
+ * Grouping, partitioning and reduction collectors accepting functions which may throw.
+ *
+ * <p>Exceptions are rethrown as is, so the collection fails on the first one, and collected from a
+ * {@link ThrowableStream} the other splits stop as well. To keep collecting instead, wrap the
+ * downstream collector with {@link #catching(Collector)}, which turns the exceptions of each group
+ * into a failed {@link Try} of that group.
+ *
+ * <p>{@code groupingBy} and {@code partitioningBy} keep a map per split of a parallel stream and
+ * merge the maps pairwise, preserving the encounter order within each group. Their {@code
+ * Concurrent} variants keep a map per thread instead, which is merged once at the end, so threads
+ * never contend on hot keys like they do in {@link Collectors#groupingByConcurrent(Function)}, at
+ * the cost of the encounter order.
+ */
+@SuppressWarnings("squid:S1181")
+public final class ThrowableCollectors {
+  private static final List<Boolean> PARTITIONS = Arrays.asList(false, true);
+
+  private ThrowableCollectors() {
+    // Utility class
+  }
+
+  /**
+   * Returns a collector grouping the elements into lists by the key of the classifier.
+   *
+   * @param <T> the type of input elements
+   * @param <K> the type of the keys
+   * @param classifier mapping the elements to non-null keys, which must be non-null
+   * @return collector of new map from the keys to the lists of their elements
+   * @throws NullPointerException if classifier is null
+   * @see Collectors#groupingBy(Function)
+   */
+  public static <T, K> ThrowableCollector<T, ?, Map<K, List<T>>> groupingBy(
+      ThrowableFunction<? super T, ? extends K> classifier) {
+    return groupingBy(classifier, Collectors.toList());
+  }
+
+  /**
+   * Returns a collector grouping the elements by the key of the classifier and collecting every
+   * group with the downstream collector.
+   *
+   * @param <T> the type of input elements
+   * @param <K> the type of the keys
+   * @param <A> the mutable accumulation type of the downstream collector
+   * @param <D> the result type of the downstream collector
+   * @param classifier mapping the elements to non-null keys, which must be non-null
+   * @param downstream collecting the elements of every group, which must be non-null
+   * @return collector of new map from the keys to the results of the downstream collector
+   * @throws NullPointerException if any argument is null
+   * @see Collectors#groupingBy(Function, Collector)
+   */
+  public static <T, K, A, D> ThrowableCollector<T, ?, Map<K, D>> groupingBy(
+      ThrowableFunction<? super T, ? extends K> classifier, Collector<? super T, A, D> downstream) {
+    Objects.requireNonNull(classifier, "Classifier must not be null");
+    Objects.requireNonNull(downstream, "Downstream must not be null");
+    return grouping(classifier, downstream, Collections.emptyList());
+  }
+
+  /**
+   * Returns a collector grouping the elements into lists by the key of the classifier, with a map
+   * per thread merged once at the end.
+   *
+   * @param <T> the type of input elements
+   * @param <K> the type of the keys
+   * @param classifier mapping the elements to non-null keys, which must be non-null
+   * @return collector of new map from the keys to the lists of their elements in no particular
+   *     order
+   * @throws NullPointerException if classifier is null
+   * @see Collectors#groupingByConcurrent(Function)
+   */
+  public static <T, K> ThrowableCollector<T, ?, Map<K, List<T>>> groupingByConcurrent(
+      ThrowableFunction<? super T, ? extends K> classifier) {
+    return groupingByConcurrent(classifier, Collectors.toList());
+  }
+
+  /**
+   * Returns a collector grouping the elements by the key of the classifier and collecting every
+   * group with the downstream collector, with a map per thread merged once at the end.
+   *
+   * <p>The downstream collector accumulates the elements of a thread only, so it does not have to
+   * be thread-safe, but it sees the elements in no particular order.
+   *
+   * @param <T> the type of input elements
+   * @param <K> the type of the keys
+   * @param <A> the mutable accumulation type of the downstream collector
+   * @param <D> the result type of the downstream collector
+   * @param classifier mapping the elements to non-null keys, which must be non-null
+   * @param downstream collecting the elements of every group, which must be non-null
+   * @return collector of new map from the keys to the results of the downstream collector
+   * @throws NullPointerException if any argument is null
+   * @see Collectors#groupingByConcurrent(Function, Collector)
+   */
+  public static <T, K, A, D> ThrowableCollector<T, ?, Map<K, D>> groupingByConcurrent(
+      ThrowableFunction<? super T, ? extends K> classifier, Collector<? super T, A, D> downstream) {
+    Objects.requireNonNull(classifier, "Classifier must not be null");
+    Objects.requireNonNull(downstream, "Downstream must not be null");
+    return stripedGrouping(classifier, downstream, Collections.emptyList());
+  }
+
+  /**
+   * Returns a collector partitioning the elements into lists by the predicate.
+   *
+   * @param <T> the type of input elements
+   * @param predicate classifying the elements, which must be non-null
+   * @return collector of new map with both {@code false} and {@code true} keys
+   * @throws NullPointerException if predicate is null
+   * @see Collectors#partitioningBy(java.util.function.Predicate)
+   */
+  public static <T> ThrowableCollector<T, ?, Map<Boolean, List<T>>> partitioningBy(
+      ThrowablePredicate<? super T> predicate) {
+    return partitioningBy(predicate, Collectors.toList());
+  }
+
+  /**
+   * Returns a collector partitioning the elements by the predicate and collecting every partition
+   * with the downstream collector.
+   *
+   * @param <T> the type of input elements
+   * @param <A> the mutable accumulation type of the downstream collector
+   * @param <D> the result type of the downstream collector
+   * @param predicate classifying the elements, which must be non-null
+   * @param downstream collecting the elements of every partition, which must be non-null
+   * @return collector of new map with both {@code false} and {@code true} keys
+   * @throws NullPointerException if any argument is null
+   * @see Collectors#partitioningBy(java.util.function.Predicate, Collector)
+   */
+  public static <T, A, D> ThrowableCollector<T, ?, Map<Boolean, D>> partitioningBy(
+      ThrowablePredicate<? super T> predicate, Collector<? super T, A, D> downstream) {
+    Objects.requireNonNull(predicate, "Predicate must not be null");
+    Objects.requireNonNull(downstream, "Downstream must not be null");
+    return grouping(predicate::testUnsafe, downstream, PARTITIONS);
+  }
+
+  /**
+   * Returns a collector partitioning the elements by the predicate and collecting every partition
+   * with the downstream collector, with a map per thread merged once at the end.
+   *
+   * @param <T> the type of input elements
+   * @param <A> the mutable accumulation type of the downstream collector
+   * @param <D> the result type of the downstream collector
+   * @param predicate classifying the elements, which must be non-null
+   * @param downstream collecting the elements of every partition, which must be non-null
+   * @return collector of new map with both {@code false} and {@code true} keys
+   * @throws NullPointerException if any argument is null
+   * @see #groupingByConcurrent(ThrowableFunction, Collector)
+   */
+  public static <T, A, D> ThrowableCollector<T, ?, Map<Boolean, D>> partitioningByConcurrent(
+      ThrowablePredicate<? super T> predicate, Collector<? super T, A, D> downstream) {
+    Objects.requireNonNull(predicate, "Predicate must not be null");
+    Objects.requireNonNull(downstream, "Downstream must not be null");
+    return stripedGrouping(predicate::testUnsafe, downstream, PARTITIONS);
+  }
+
+  /**
+   * Returns a collector reducing the elements with the operator.
+   *
+   * @param <T> the type of input elements
+   * @param identity the identity value of the operator
+   * @param operator combining two values, which must be non-null
+   * @return collector of the reduced value, or the identity if there are no elements
+   * @throws NullPointerException if operator is null
+   * @see Collectors#reducing(Object, BinaryOperator)
+   */
+  public static <T> ThrowableCollector<T, ?, T> reducing(
+      T identity, ThrowableBinaryOperator<T> operator) {
+    Objects.requireNonNull(operator, "Operator must not be null");
+    return ThrowableCollector.<T, Box<T>, T>of(
+        () -> new Box<>(identity),
+        (box, element) -> box.value = operator.applyUnsafe(box.value, element),
+        (left, right) -> {
+          left.value = operator.applyUnsafe(left.value, right.value);
+          return left;
+        },
+        box -> box.value);
+  }
+
+  /**
+   * Returns a collector mapping the elements and reducing the mapped values with the operator.
+   *
+   * @param <T> the type of input elements
+   * @param <U> the type of the mapped values
+   * @param identity the identity value of the operator
+   * @param mapper mapping the elements, which must be non-null
+   * @param operator combining two values, which must be non-null
+   * @return collector of the reduced value, or the identity if there are no elements
+   * @throws NullPointerException if mapper or operator is null
+   * @see Collectors#reducing(Object, Function, BinaryOperator)
+   */
+  public static <T, U> ThrowableCollector<T, ?, U> reducing(
+      U identity,
+      ThrowableFunction<? super T, ? extends U> mapper,
+      ThrowableBinaryOperator<U> operator) {
+    Objects.requireNonNull(mapper, "Mapper must not be null");
+    Objects.requireNonNull(operator, "Operator must not be null");
+    return ThrowableCollector.<T, Box<U>, U>of(
+        () -> new Box<>(identity),
+        (box, element) -> box.value = operator.applyUnsafe(box.value, mapper.applyUnsafe(element)),
+        (left, right) -> {
+          left.value = operator.applyUnsafe(left.value, right.value);
+          return left;
+        },
+        box -> box.value);
+  }
+
+  /**
+   * Returns a collector catching the exceptions of the downstream collector.
+   *
+   * <p>Once the downstream collector throws, the remaining elements are ignored and the result is a
+   * failure with that exception. Used as the downstream collector of grouping, this routes the
+   * exceptions to the group of the element which caused them.
+   *
+   * @param <T> the type of input elements
+   * @param <A> the mutable accumulation type of the downstream collector
+   * @param <D> the result type of the downstream collector
+   * @param downstream to catch the exceptions of, which must be non-null
+   * @return collector of {@link Try.Success} with the result of the downstream collector, or {@link
+   *     Try.Failure} with its first exception
+   * @throws NullPointerException if downstream is null
+   */
+  public static <T, A, D> ThrowableCollector<T, ?, Try<D>> catching(
+      Collector<? super T, A, D> downstream) {
+    Objects.requireNonNull(downstream, "Downstream must not be null");
+    final Supplier<A> supplier = downstream.supplier();
+    final BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+    final BinaryOperator<A> combiner = downstream.combiner();
+    final Function<A, D> finisher = downstream.finisher();
+    final Characteristics[] characteristics =
+        downstream.characteristics().contains(Characteristics.UNORDERED)
+            ? new Characteristics[] {Characteristics.UNORDERED}
+            : new Characteristics[0];
+    return ThrowableCollector.<T, Caught<A>, Try<D>>of(
+        () -> Caught.of(supplier),
+        (caught, element) -> {
+          if (caught.failure == null) {
+            try {
+              accumulator.accept(caught.container, element);
+            } catch (Throwable t) {
+              caught.failure = t;
+            }
+          }
+        },
+        (left, right) -> {
+          if (left.failure != null) {
+            return left;
+          } else if (right.failure != null) {
+            return right;
+          }
+
+          try {
+            left.container = combiner.apply(left.container, right.container);
+          } catch (Throwable t) {
+            left.failure = t;
+          }
+          return left;
+        },
+        caught -> {
+          if (caught.failure != null) {
+            return Try.failure(caught.failure);
+          }
+
+          try {
+            return Try.success(finisher.apply(caught.container));
+          } catch (Throwable t) {
+            return Try.failure(t);
+          }
+        },
+        characteristics);
+  }
+
+  private static <T, K, A, D> ThrowableCollector<T, ?, Map<K, D>> grouping(
+      ThrowableFunction<? super T, ? extends K> classifier,
+      Collector<? super T, A, D> downstream,
+      Collection<K> keys) {
+    final Supplier<A> supplier = downstream.supplier();
+    final BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+    final BinaryOperator<A> combiner = downstream.combiner();
+    return ThrowableCollector.<T, Map<K, A>, Map<K, D>>of(
+        HashMap::new,
+        (groups, element) -> accumulate(groups, classifier, supplier, accumulator, element),
+        (left, right) -> merge(left, right, combiner),
+        groups -> finish(groups, downstream, keys));
+  }
+
+  private static <T, K, A, D> ThrowableCollector<T, ?, Map<K, D>> stripedGrouping(
+      ThrowableFunction<? super T, ? extends K> classifier,
+      Collector<? super T, A, D> downstream,
+      Collection<K> keys) {
+    final Supplier<A> supplier = downstream.supplier();
+    final BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+    final BinaryOperator<A> combiner = downstream.combiner();
+    return ThrowableCollector.<T, Stripes<K, A>, Map<K, D>>of(
+        Stripes::new,
+        (stripes, element) ->
+            accumulate(stripes.local(), classifier, supplier, accumulator, element),
+        (left, right) -> left.combine(right, combiner),
+        stripes -> finish(stripes.groups(combiner), downstream, keys),
+        Characteristics.CONCURRENT,
+        Characteristics.UNORDERED);
+  }
+
+  private static <T, K, A> void accumulate(
+      Map<K, A> groups,
+      ThrowableFunction<? super T, ? extends K> classifier,
+      Supplier<A> supplier,
+      BiConsumer<A, ? super T> accumulator,
+      T element)
+      throws Throwable {
+    final K key =
+        Objects.requireNonNull(
+            classifier.applyUnsafe(element), "Element cannot be mapped to a null key");
+    A container = groups.get(key);
+    if (container == null) {
+      container = supplier.get();
+      groups.put(key, container);
+    }
+    accumulator.accept(container, element);
+  }
+
+  private static <K, A> Map<K, A> merge(
+      Map<K, A> left, Map<K, A> right, BinaryOperator<A> combiner) {
+    for (Map.Entry<K, A> entry : right.entrySet()) {
+      final A container = left.get(entry.getKey());
+      left.put(
+          entry.getKey(),
+          container == null ? entry.getValue() : combiner.apply(container, entry.getValue()));
+    }
+    return left;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K, A, D> Map<K, D> finish(
+      Map<K, A> groups, Collector<?, A, D> downstream, Collection<K> keys) {
+    for (K key : keys) {
+      if (!groups.containsKey(key)) {
+        groups.put(key, downstream.supplier().get());
+      }
+    }
+
+    if (downstream.characteristics().contains(Characteristics.IDENTITY_FINISH)) {
+      return (Map<K, D>) groups;
+    }
+
+    final Function<A, D> finisher = downstream.finisher();
+    final Map<K, D> result = new HashMap<>((int) (groups.size() / 0.75f) + 1);
+    for (Map.Entry<K, A> entry : groups.entrySet()) {
+      result.put(entry.getKey(), finisher.apply(entry.getValue()));
+    }
+    return result;
+  }
+
+  /** Maps of the groups, one per accumulating thread. */
+  private static final class Stripes<K, A> {
+    private final Map<Thread, Map<K, A>> stripes = new ConcurrentHashMap<>();
+
+    /**
+     * @return map of the groups of the current thread
+     */
+    private Map<K, A> local() {
+      final Thread thread = Thread.currentThread();
+      Map<K, A> groups = stripes.get(thread);
+      if (groups == null) {
+        groups = new HashMap<>();
+        stripes.put(thread, groups);
+      }
+      return groups;
+    }
+
+    private Stripes<K, A> combine(Stripes<K, A> other, BinaryOperator<A> combiner) {
+      for (Map.Entry<Thread, Map<K, A>> entry : other.stripes.entrySet()) {
+        final Map<K, A> groups = stripes.get(entry.getKey());
+        if (groups == null) {
+          stripes.put(entry.getKey(), entry.getValue());
+        } else {
+          merge(groups, entry.getValue(), combiner);
+        }
+      }
+      return this;
+    }
+
+    /**
+     * @param combiner merging the containers of the same key
+     * @return new map of the groups of all threads
+     */
+    private Map<K, A> groups(BinaryOperator<A> combiner) {
+      final Map<K, A> groups = new HashMap<>();
+      for (Map<K, A> local : stripes.values()) {
+        merge(groups, local, combiner);
+      }
+      return groups;
+    }
+  }
+
+  /** Mutable reduction value. */
+  private static final class Box<T> {
+    private T value;
+
+    private Box(T value) {
+      this.value = value;
+    }
+  }
+
+  /** Downstream container with the first exception of the downstream collector. */
+  private static final class Caught<A> {
+    private A container;
+    private Throwable failure;
+
+    private static <A> Caught<A> of(Supplier<A> supplier) {
+      final Caught<A> caught = new Caught<>();
+      try {
+        caught.container = supplier.get();
+      } catch (Throwable t) {
+        caught.failure = t;
+      }
+      return caught;
+    }
+  }
+}
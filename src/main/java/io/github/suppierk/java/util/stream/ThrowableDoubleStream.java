@@ -0,0 +1,372 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import io.github.suppierk.java.util.function.ThrowableDoubleBinaryOperator;
+import io.github.suppierk.java.util.function.ThrowableDoubleConsumer;
+import io.github.suppierk.java.util.function.ThrowableDoubleFunction;
+import io.github.suppierk.java.util.function.ThrowableDoublePredicate;
+import io.github.suppierk.java.util.function.ThrowableDoubleToIntFunction;
+import io.github.suppierk.java.util.function.ThrowableDoubleToLongFunction;
+import io.github.suppierk.java.util.function.ThrowableDoubleUnaryOperator;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An {@link DoubleStream} facade accepting the throwable functional interfaces for {@code double}
+ * values, which keeps the elements unboxed.
+ *
+ * <p>Like {@link ThrowableStream}, exceptions thrown by the functions are propagated as is from the
+ * terminal operation and the first exception stops every split of a parallel stream at its next
+ * element. Parallel reductions accumulate a partial result per split and combine them afterwards,
+ * so no state is shared between the threads.
+ *
+ * @see ThrowableStream
+ */
+public final class ThrowableDoubleStream implements AutoCloseable {
+  /** Source stream until the first operation, then the cancellable pipeline. */
+  private final DoubleStream stream;
+
+  /** Whether {@link #stream} is the cancellable pipeline already. */
+  private final boolean cancellable;
+
+  private final Cancellation cancellation;
+  private final ForkJoinPool pool;
+
+  ThrowableDoubleStream(
+      DoubleStream stream, boolean cancellable, Cancellation cancellation, ForkJoinPool pool) {
+    this.stream = stream;
+    this.cancellable = cancellable;
+    this.cancellation = cancellation;
+    this.pool = pool;
+  }
+
+  /**
+   * Returns a throwable stream of the elements of the stream.
+   *
+   * @param stream the source of the elements, which must be non-null
+   * @return new throwable stream, parallel if the stream is parallel
+   * @throws NullPointerException if stream is null
+   */
+  public static ThrowableDoubleStream of(DoubleStream stream) {
+    Objects.requireNonNull(stream, "Stream must not be null");
+    return new ThrowableDoubleStream(stream, false, new Cancellation(), null);
+  }
+
+  /**
+   * Returns a sequential throwable stream of the values.
+   *
+   * @param values the elements, which must be non-null
+   * @return new throwable stream
+   * @throws NullPointerException if values is null
+   */
+  public static ThrowableDoubleStream of(double... values) {
+    Objects.requireNonNull(values, "Values must not be null");
+    return of(Arrays.stream(values));
+  }
+
+  /**
+   * @return sequential throwable stream
+   * @see DoubleStream#sequential()
+   */
+  public ThrowableDoubleStream sequential() {
+    return new ThrowableDoubleStream(stream.sequential(), cancellable, cancellation, null);
+  }
+
+  /**
+   * Returns a parallel throwable stream running in {@link ForkJoinPool#commonPool()}.
+   *
+   * @return parallel throwable stream
+   * @see DoubleStream#parallel()
+   */
+  public ThrowableDoubleStream parallel() {
+    return new ThrowableDoubleStream(stream.parallel(), cancellable, cancellation, null);
+  }
+
+  /**
+   * Returns a parallel throwable stream whose terminal operation runs in the pool.
+   *
+   * @param pool the pool to run the terminal operation in, which must be non-null
+   * @return parallel throwable stream
+   * @throws NullPointerException if pool is null
+   */
+  public ThrowableDoubleStream parallel(ForkJoinPool pool) {
+    Objects.requireNonNull(pool, "Pool must not be null");
+    return new ThrowableDoubleStream(stream.parallel(), cancellable, cancellation, pool);
+  }
+
+  /**
+   * @param predicate the predicate to test the elements with, which must be non-null
+   * @return throwable stream of the elements matching the predicate
+   * @throws NullPointerException if predicate is null
+   * @see DoubleStream#filter(DoublePredicate)
+   */
+  public ThrowableDoubleStream filter(ThrowableDoublePredicate predicate) {
+    DoublePredicate function = cancellation.doublePredicate(predicate);
+    return with(pipeline().filter(function));
+  }
+
+  /**
+   * @param mapper the function to apply to the elements, which must be non-null
+   * @return throwable stream of the results
+   * @throws NullPointerException if mapper is null
+   * @see DoubleStream#map(DoubleUnaryOperator)
+   */
+  public ThrowableDoubleStream map(ThrowableDoubleUnaryOperator mapper) {
+    DoubleUnaryOperator function = cancellation.doubleUnaryOperator(mapper);
+    return with(pipeline().map(function));
+  }
+
+  /**
+   * @param <U> the type of the results
+   * @param mapper the function to apply to the elements, which must be non-null
+   * @return throwable stream of the results
+   * @throws NullPointerException if mapper is null
+   * @see DoubleStream#mapToObj(DoubleFunction)
+   */
+  public <U> ThrowableStream<U> mapToObj(ThrowableDoubleFunction<? extends U> mapper) {
+    DoubleFunction<U> function = cancellation.doubleFunction(mapper);
+    return new ThrowableStream<>(pipeline().mapToObj(function), true, cancellation, pool);
+  }
+
+  /**
+   * @param mapper the function to apply to the elements, which must be non-null
+   * @return throwable stream of the int results
+   * @throws NullPointerException if mapper is null
+   * @see DoubleStream#mapToInt(DoubleToIntFunction)
+   */
+  public ThrowableIntStream mapToInt(ThrowableDoubleToIntFunction mapper) {
+    DoubleToIntFunction function = cancellation.doubleToIntFunction(mapper);
+    return new ThrowableIntStream(pipeline().mapToInt(function), true, cancellation, pool);
+  }
+
+  /**
+   * @param mapper the function to apply to the elements, which must be non-null
+   * @return throwable stream of the long results
+   * @throws NullPointerException if mapper is null
+   * @see DoubleStream#mapToLong(DoubleToLongFunction)
+   */
+  public ThrowableLongStream mapToLong(ThrowableDoubleToLongFunction mapper) {
+    DoubleToLongFunction function = cancellation.doubleToLongFunction(mapper);
+    return new ThrowableLongStream(pipeline().mapToLong(function), true, cancellation, pool);
+  }
+
+  /**
+   * @return throwable stream of the boxed elements
+   * @see DoubleStream#boxed()
+   */
+  public ThrowableStream<Double> boxed() {
+    return new ThrowableStream<>(pipeline().boxed(), true, cancellation, pool);
+  }
+
+  /**
+   * @param action the action to perform on the elements as they are consumed, which must be
+   *     non-null
+   * @return throwable stream of the same elements
+   * @throws NullPointerException if action is null
+   * @see DoubleStream#peek(DoubleConsumer)
+   */
+  public ThrowableDoubleStream peek(ThrowableDoubleConsumer action) {
+    DoubleConsumer consumer = cancellation.doubleConsumer(action);
+    return with(pipeline().peek(consumer));
+  }
+
+  /**
+   * @return throwable stream of the distinct elements
+   * @see DoubleStream#distinct()
+   */
+  public ThrowableDoubleStream distinct() {
+    return with(pipeline().distinct());
+  }
+
+  /**
+   * @return throwable stream of the elements in ascending order
+   * @see DoubleStream#sorted()
+   */
+  public ThrowableDoubleStream sorted() {
+    return with(pipeline().sorted());
+  }
+
+  /**
+   * @param maxSize the number of elements to limit the stream to
+   * @return throwable stream of at most maxSize elements
+   * @throws IllegalArgumentException if maxSize is negative
+   * @see DoubleStream#limit(long)
+   */
+  public ThrowableDoubleStream limit(long maxSize) {
+    return with(pipeline().limit(maxSize));
+  }
+
+  /**
+   * @param n the number of leading elements to skip
+   * @return throwable stream of the remaining elements
+   * @throws IllegalArgumentException if n is negative
+   * @see DoubleStream#skip(long)
+   */
+  public ThrowableDoubleStream skip(long n) {
+    return with(pipeline().skip(n));
+  }
+
+  /**
+   * Performs the action for every element.
+   *
+   * @param action the action to perform, which must be non-null
+   * @throws NullPointerException if action is null
+   * @see DoubleStream#forEach(DoubleConsumer)
+   */
+  public void forEach(ThrowableDoubleConsumer action) {
+    DoubleConsumer consumer = cancellation.doubleConsumer(action);
+    cancellation.terminal(
+        pool,
+        () -> {
+          pipeline().forEach(consumer);
+          return null;
+        });
+  }
+
+  /**
+   * @param identity the identity value of the operator
+   * @param operator the associative operator combining two values, which must be non-null
+   * @return the result of the reduction
+   * @throws NullPointerException if operator is null
+   * @see DoubleStream#reduce(double, DoubleBinaryOperator)
+   */
+  public double reduce(double identity, ThrowableDoubleBinaryOperator operator) {
+    DoubleBinaryOperator function = cancellation.doubleBinaryOperator(operator);
+    return cancellation.terminal(pool, () -> pipeline().reduce(identity, function));
+  }
+
+  /**
+   * @param operator the associative operator combining two values, which must be non-null
+   * @return the result of the reduction, or empty {@link OptionalDouble} if there are no elements
+   * @throws NullPointerException if operator is null
+   * @see DoubleStream#reduce(DoubleBinaryOperator)
+   */
+  public OptionalDouble reduce(ThrowableDoubleBinaryOperator operator) {
+    DoubleBinaryOperator function = cancellation.doubleBinaryOperator(operator);
+    return cancellation.terminal(pool, () -> pipeline().reduce(function));
+  }
+
+  /**
+   * Sums the elements with compensated summation, each split of a parallel stream accumulating its
+   * own partial sum.
+   *
+   * @return the sum of the elements
+   * @see DoubleStream#sum()
+   */
+  public double sum() {
+    return cancellation.terminal(pool, () -> pipeline().sum());
+  }
+
+  /**
+   * @param predicate the predicate to test the elements with, which must be non-null
+   * @return {@code true} if any of the elements matches the predicate
+   * @throws NullPointerException if predicate is null
+   * @see DoubleStream#anyMatch(DoublePredicate)
+   */
+  public boolean anyMatch(ThrowableDoublePredicate predicate) {
+    DoublePredicate function = cancellation.doublePredicate(predicate);
+    return cancellation.terminal(pool, () -> pipeline().anyMatch(function));
+  }
+
+  /**
+   * @param predicate the predicate to test the elements with, which must be non-null
+   * @return {@code true} if all of the elements match the predicate or there are no elements
+   * @throws NullPointerException if predicate is null
+   * @see DoubleStream#allMatch(DoublePredicate)
+   */
+  public boolean allMatch(ThrowableDoublePredicate predicate) {
+    DoublePredicate function = cancellation.doublePredicate(predicate);
+    return cancellation.terminal(pool, () -> pipeline().allMatch(function));
+  }
+
+  /**
+   * @return the number of elements
+   * @see DoubleStream#count()
+   */
+  public long count() {
+    return cancellation.terminal(pool, () -> pipeline().count());
+  }
+
+  /**
+   * @return new array of the elements
+   * @see DoubleStream#toArray()
+   */
+  public double[] toArray() {
+    return cancellation.terminal(pool, () -> pipeline().toArray());
+  }
+
+  /**
+   * Returns the underlying {@link DoubleStream}, which still stops on the first exception but runs
+   * in {@link ForkJoinPool#commonPool()} when parallel and may throw exceptions of other splits.
+   *
+   * @return the underlying stream
+   */
+  public DoubleStream stream() {
+    return pipeline();
+  }
+
+  /** Closes the stream, invoking the close handlers of the source. */
+  @Override
+  public void close() {
+    stream.close();
+  }
+
+  /**
+   * @param next the next stage of the pipeline
+   * @return throwable stream of the next stage sharing the cancellation and the pool
+   */
+  private ThrowableDoubleStream with(DoubleStream next) {
+    return new ThrowableDoubleStream(next, true, cancellation, pool);
+  }
+
+  /**
+   * Wraps the source into the cancellable pipeline on the first operation, so that {@link
+   * #parallel()} reaches the source before its spliterator is created.
+   *
+   * @return the cancellable pipeline
+   */
+  private DoubleStream pipeline() {
+    if (cancellable) {
+      return stream;
+    }
+
+    return StreamSupport.doubleStream(
+            new CancellableSpliterator.OfDouble(stream.spliterator(), cancellation),
+            stream.isParallel())
+        .onClose(stream::close);
+  }
+}
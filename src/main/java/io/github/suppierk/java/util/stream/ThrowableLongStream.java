@@ -0,0 +1,371 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import io.github.suppierk.java.util.function.ThrowableLongBinaryOperator;
+import io.github.suppierk.java.util.function.ThrowableLongConsumer;
+import io.github.suppierk.java.util.function.ThrowableLongFunction;
+import io.github.suppierk.java.util.function.ThrowableLongPredicate;
+import io.github.suppierk.java.util.function.ThrowableLongToDoubleFunction;
+import io.github.suppierk.java.util.function.ThrowableLongToIntFunction;
+import io.github.suppierk.java.util.function.ThrowableLongUnaryOperator;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An {@link LongStream} facade accepting the throwable functional interfaces for {@code long}
+ * values, which keeps the elements unboxed.
+ *
+ * <p>Like {@link ThrowableStream}, exceptions thrown by the functions are propagated as is from the
+ * terminal operation and the first exception stops every split of a parallel stream at its next
+ * element. Parallel reductions accumulate a partial result per split and combine them afterwards,
+ * so no state is shared between the threads.
+ *
+ * @see ThrowableStream
+ */
+public final class ThrowableLongStream implements AutoCloseable {
+  /** Source stream until the first operation, then the cancellable pipeline. */
+  private final LongStream stream;
+
+  /** Whether {@link #stream} is the cancellable pipeline already. */
+  private final boolean cancellable;
+
+  private final Cancellation cancellation;
+  private final ForkJoinPool pool;
+
+  ThrowableLongStream(
+      LongStream stream, boolean cancellable, Cancellation cancellation, ForkJoinPool pool) {
+    this.stream = stream;
+    this.cancellable = cancellable;
+    this.cancellation = cancellation;
+    this.pool = pool;
+  }
+
+  /**
+   * Returns a throwable stream of the elements of the stream.
+   *
+   * @param stream the source of the elements, which must be non-null
+   * @return new throwable stream, parallel if the stream is parallel
+   * @throws NullPointerException if stream is null
+   */
+  public static ThrowableLongStream of(LongStream stream) {
+    Objects.requireNonNull(stream, "Stream must not be null");
+    return new ThrowableLongStream(stream, false, new Cancellation(), null);
+  }
+
+  /**
+   * Returns a sequential throwable stream of the values.
+   *
+   * @param values the elements, which must be non-null
+   * @return new throwable stream
+   * @throws NullPointerException if values is null
+   */
+  public static ThrowableLongStream of(long... values) {
+    Objects.requireNonNull(values, "Values must not be null");
+    return of(Arrays.stream(values));
+  }
+
+  /**
+   * @return sequential throwable stream
+   * @see LongStream#sequential()
+   */
+  public ThrowableLongStream sequential() {
+    return new ThrowableLongStream(stream.sequential(), cancellable, cancellation, null);
+  }
+
+  /**
+   * Returns a parallel throwable stream running in {@link ForkJoinPool#commonPool()}.
+   *
+   * @return parallel throwable stream
+   * @see LongStream#parallel()
+   */
+  public ThrowableLongStream parallel() {
+    return new ThrowableLongStream(stream.parallel(), cancellable, cancellation, null);
+  }
+
+  /**
+   * Returns a parallel throwable stream whose terminal operation runs in the pool.
+   *
+   * @param pool the pool to run the terminal operation in, which must be non-null
+   * @return parallel throwable stream
+   * @throws NullPointerException if pool is null
+   */
+  public ThrowableLongStream parallel(ForkJoinPool pool) {
+    Objects.requireNonNull(pool, "Pool must not be null");
+    return new ThrowableLongStream(stream.parallel(), cancellable, cancellation, pool);
+  }
+
+  /**
+   * @param predicate the predicate to test the elements with, which must be non-null
+   * @return throwable stream of the elements matching the predicate
+   * @throws NullPointerException if predicate is null
+   * @see LongStream#filter(LongPredicate)
+   */
+  public ThrowableLongStream filter(ThrowableLongPredicate predicate) {
+    LongPredicate function = cancellation.longPredicate(predicate);
+    return with(pipeline().filter(function));
+  }
+
+  /**
+   * @param mapper the function to apply to the elements, which must be non-null
+   * @return throwable stream of the results
+   * @throws NullPointerException if mapper is null
+   * @see LongStream#map(LongUnaryOperator)
+   */
+  public ThrowableLongStream map(ThrowableLongUnaryOperator mapper) {
+    LongUnaryOperator function = cancellation.longUnaryOperator(mapper);
+    return with(pipeline().map(function));
+  }
+
+  /**
+   * @param <U> the type of the results
+   * @param mapper the function to apply to the elements, which must be non-null
+   * @return throwable stream of the results
+   * @throws NullPointerException if mapper is null
+   * @see LongStream#mapToObj(LongFunction)
+   */
+  public <U> ThrowableStream<U> mapToObj(ThrowableLongFunction<? extends U> mapper) {
+    LongFunction<U> function = cancellation.longFunction(mapper);
+    return new ThrowableStream<>(pipeline().mapToObj(function), true, cancellation, pool);
+  }
+
+  /**
+   * @param mapper the function to apply to the elements, which must be non-null
+   * @return throwable stream of the int results
+   * @throws NullPointerException if mapper is null
+   * @see LongStream#mapToInt(LongToIntFunction)
+   */
+  public ThrowableIntStream mapToInt(ThrowableLongToIntFunction mapper) {
+    LongToIntFunction function = cancellation.longToIntFunction(mapper);
+    return new ThrowableIntStream(pipeline().mapToInt(function), true, cancellation, pool);
+  }
+
+  /**
+   * @param mapper the function to apply to the elements, which must be non-null
+   * @return throwable stream of the double results
+   * @throws NullPointerException if mapper is null
+   * @see LongStream#mapToDouble(LongToDoubleFunction)
+   */
+  public ThrowableDoubleStream mapToDouble(ThrowableLongToDoubleFunction mapper) {
+    LongToDoubleFunction function = cancellation.longToDoubleFunction(mapper);
+    return new ThrowableDoubleStream(pipeline().mapToDouble(function), true, cancellation, pool);
+  }
+
+  /**
+   * @return throwable stream of the boxed elements
+   * @see LongStream#boxed()
+   */
+  public ThrowableStream<Long> boxed() {
+    return new ThrowableStream<>(pipeline().boxed(), true, cancellation, pool);
+  }
+
+  /**
+   * @param action the action to perform on the elements as they are consumed, which must be
+   *     non-null
+   * @return throwable stream of the same elements
+   * @throws NullPointerException if action is null
+   * @see LongStream#peek(LongConsumer)
+   */
+  public ThrowableLongStream peek(ThrowableLongConsumer action) {
+    LongConsumer consumer = cancellation.longConsumer(action);
+    return with(pipeline().peek(consumer));
+  }
+
+  /**
+   * @return throwable stream of the distinct elements
+   * @see LongStream#distinct()
+   */
+  public ThrowableLongStream distinct() {
+    return with(pipeline().distinct());
+  }
+
+  /**
+   * @return throwable stream of the elements in ascending order
+   * @see LongStream#sorted()
+   */
+  public ThrowableLongStream sorted() {
+    return with(pipeline().sorted());
+  }
+
+  /**
+   * @param maxSize the number of elements to limit the stream to
+   * @return throwable stream of at most maxSize elements
+   * @throws IllegalArgumentException if maxSize is negative
+   * @see LongStream#limit(long)
+   */
+  public ThrowableLongStream limit(long maxSize) {
+    return with(pipeline().limit(maxSize));
+  }
+
+  /**
+   * @param n the number of leading elements to skip
+   * @return throwable stream of the remaining elements
+   * @throws IllegalArgumentException if n is negative
+   * @see LongStream#skip(long)
+   */
+  public ThrowableLongStream skip(long n) {
+    return with(pipeline().skip(n));
+  }
+
+  /**
+   * Performs the action for every element.
+   *
+   * @param action the action to perform, which must be non-null
+   * @throws NullPointerException if action is null
+   * @see LongStream#forEach(LongConsumer)
+   */
+  public void forEach(ThrowableLongConsumer action) {
+    LongConsumer consumer = cancellation.longConsumer(action);
+    cancellation.terminal(
+        pool,
+        () -> {
+          pipeline().forEach(consumer);
+          return null;
+        });
+  }
+
+  /**
+   * @param identity the identity value of the operator
+   * @param operator the associative operator combining two values, which must be non-null
+   * @return the result of the reduction
+   * @throws NullPointerException if operator is null
+   * @see LongStream#reduce(long, LongBinaryOperator)
+   */
+  public long reduce(long identity, ThrowableLongBinaryOperator operator) {
+    LongBinaryOperator function = cancellation.longBinaryOperator(operator);
+    return cancellation.terminal(pool, () -> pipeline().reduce(identity, function));
+  }
+
+  /**
+   * @param operator the associative operator combining two values, which must be non-null
+   * @return the result of the reduction, or empty {@link OptionalLong} if there are no elements
+   * @throws NullPointerException if operator is null
+   * @see LongStream#reduce(LongBinaryOperator)
+   */
+  public OptionalLong reduce(ThrowableLongBinaryOperator operator) {
+    LongBinaryOperator function = cancellation.longBinaryOperator(operator);
+    return cancellation.terminal(pool, () -> pipeline().reduce(function));
+  }
+
+  /**
+   * Sums the elements, each split of a parallel stream accumulating its own partial sum.
+   *
+   * @return the sum of the elements
+   * @see LongStream#sum()
+   */
+  public long sum() {
+    return cancellation.terminal(pool, () -> pipeline().sum());
+  }
+
+  /**
+   * @param predicate the predicate to test the elements with, which must be non-null
+   * @return {@code true} if any of the elements matches the predicate
+   * @throws NullPointerException if predicate is null
+   * @see LongStream#anyMatch(LongPredicate)
+   */
+  public boolean anyMatch(ThrowableLongPredicate predicate) {
+    LongPredicate function = cancellation.longPredicate(predicate);
+    return cancellation.terminal(pool, () -> pipeline().anyMatch(function));
+  }
+
+  /**
+   * @param predicate the predicate to test the elements with, which must be non-null
+   * @return {@code true} if all of the elements match the predicate or there are no elements
+   * @throws NullPointerException if predicate is null
+   * @see LongStream#allMatch(LongPredicate)
+   */
+  public boolean allMatch(ThrowableLongPredicate predicate) {
+    LongPredicate function = cancellation.longPredicate(predicate);
+    return cancellation.terminal(pool, () -> pipeline().allMatch(function));
+  }
+
+  /**
+   * @return the number of elements
+   * @see LongStream#count()
+   */
+  public long count() {
+    return cancellation.terminal(pool, () -> pipeline().count());
+  }
+
+  /**
+   * @return new array of the elements
+   * @see LongStream#toArray()
+   */
+  public long[] toArray() {
+    return cancellation.terminal(pool, () -> pipeline().toArray());
+  }
+
+  /**
+   * Returns the underlying {@link LongStream}, which still stops on the first exception but runs in
+   * {@link ForkJoinPool#commonPool()} when parallel and may throw exceptions of other splits.
+   *
+   * @return the underlying stream
+   */
+  public LongStream stream() {
+    return pipeline();
+  }
+
+  /** Closes the stream, invoking the close handlers of the source. */
+  @Override
+  public void close() {
+    stream.close();
+  }
+
+  /**
+   * @param next the next stage of the pipeline
+   * @return throwable stream of the next stage sharing the cancellation and the pool
+   */
+  private ThrowableLongStream with(LongStream next) {
+    return new ThrowableLongStream(next, true, cancellation, pool);
+  }
+
+  /**
+   * Wraps the source into the cancellable pipeline on the first operation, so that {@link
+   * #parallel()} reaches the source before its spliterator is created.
+   *
+   * @return the cancellable pipeline
+   */
+  private LongStream pipeline() {
+    if (cancellable) {
+      return stream;
+    }
+
+    return StreamSupport.longStream(
+            new CancellableSpliterator.OfLong(stream.spliterator(), cancellation),
+            stream.isParallel())
+        .onClose(stream::close);
+  }
+}
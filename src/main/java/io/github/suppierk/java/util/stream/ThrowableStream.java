@@ -0,0 +1,407 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import io.github.suppierk.java.util.ThrowableComparator;
+import io.github.suppierk.java.util.function.ThrowableBinaryOperator;
+import io.github.suppierk.java.util.function.ThrowableConsumer;
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import io.github.suppierk.java.util.function.ThrowablePredicate;
+import io.github.suppierk.java.util.function.ThrowableToDoubleFunction;
+import io.github.suppierk.java.util.function.ThrowableToIntFunction;
+import io.github.suppierk.java.util.function.ThrowableToLongFunction;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link Stream} facade accepting the throwable functional interfaces.
+ *
+ * <p>Exceptions thrown by the functions are propagated as is from the terminal operation, without
+ * wrapping. The first exception also cancels the pipeline: the source stops producing elements to
+ * every split of a parallel stream, so the remaining splits stop at their next element instead of
+ * processing the rest of their elements.
+ *
+ * <p>Parallel pipelines can run in a specified {@link ForkJoinPool} instead of {@link
+ * ForkJoinPool#commonPool()}, see {@link #parallel(ForkJoinPool)}.
+ *
+ * <p>Like {@link Stream}, a throwable stream may be consumed only once.
+ *
+ * @param <T> the type of the elements
+ */
+public final class ThrowableStream<T> implements AutoCloseable {
+  /** Source stream until the first operation, then the cancellable pipeline. */
+  private final Stream<T> stream;
+
+  /** Whether {@link #stream} is the cancellable pipeline already. */
+  private final boolean cancellable;
+
+  private final Cancellation cancellation;
+  private final ForkJoinPool pool;
+
+  ThrowableStream(
+      Stream<T> stream, boolean cancellable, Cancellation cancellation, ForkJoinPool pool) {
+    this.stream = stream;
+    this.cancellable = cancellable;
+    this.cancellation = cancellation;
+    this.pool = pool;
+  }
+
+  /**
+   * Returns a throwable stream of the elements of the stream.
+   *
+   * @param <T> the type of the elements
+   * @param stream the source of the elements, which must be non-null
+   * @return new throwable stream, parallel if the stream is parallel
+   * @throws NullPointerException if stream is null
+   */
+  public static <T> ThrowableStream<T> of(Stream<T> stream) {
+    Objects.requireNonNull(stream, "Stream must not be null");
+    return new ThrowableStream<>(stream, false, new Cancellation(), null);
+  }
+
+  /**
+   * Returns a sequential throwable stream of the elements of the collection.
+   *
+   * @param <T> the type of the elements
+   * @param collection the source of the elements, which must be non-null
+   * @return new throwable stream
+   * @throws NullPointerException if collection is null
+   */
+  public static <T> ThrowableStream<T> of(Collection<T> collection) {
+    Objects.requireNonNull(collection, "Collection must not be null");
+    return of(collection.stream());
+  }
+
+  /**
+   * @return sequential throwable stream
+   * @see Stream#sequential()
+   */
+  public ThrowableStream<T> sequential() {
+    return new ThrowableStream<>(stream.sequential(), cancellable, cancellation, null);
+  }
+
+  /**
+   * Returns a parallel throwable stream running in {@link ForkJoinPool#commonPool()}.
+   *
+   * @return parallel throwable stream
+   * @see Stream#parallel()
+   */
+  public ThrowableStream<T> parallel() {
+    return new ThrowableStream<>(stream.parallel(), cancellable, cancellation, null);
+  }
+
+  /**
+   * Returns a parallel throwable stream whose terminal operation runs in the pool.
+   *
+   * @param pool the pool to run the terminal operation in, which must be non-null
+   * @return parallel throwable stream
+   * @throws NullPointerException if pool is null
+   */
+  public ThrowableStream<T> parallel(ForkJoinPool pool) {
+    Objects.requireNonNull(pool, "Pool must not be null");
+    return new ThrowableStream<>(stream.parallel(), cancellable, cancellation, pool);
+  }
+
+  /**
+   * @param predicate the predicate to test the elements with, which must be non-null
+   * @return throwable stream of the elements matching the predicate
+   * @throws NullPointerException if predicate is null
+   * @see Stream#filter(Predicate)
+   */
+  public ThrowableStream<T> filter(ThrowablePredicate<? super T> predicate) {
+    Predicate<T> function = cancellation.predicate(predicate);
+    return with(pipeline().filter(function));
+  }
+
+  /**
+   * @param <R> the type of the results
+   * @param mapper the function to apply to the elements, which must be non-null
+   * @return throwable stream of the results
+   * @throws NullPointerException if mapper is null
+   * @see Stream#map(Function)
+   */
+  public <R> ThrowableStream<R> map(ThrowableFunction<? super T, ? extends R> mapper) {
+    Function<T, R> function = cancellation.function(mapper);
+    return with(pipeline().map(function));
+  }
+
+  /**
+   * @param mapper the function to apply to the elements, which must be non-null
+   * @return throwable stream of the int results
+   * @throws NullPointerException if mapper is null
+   * @see Stream#mapToInt(ToIntFunction)
+   */
+  public ThrowableIntStream mapToInt(ThrowableToIntFunction<? super T> mapper) {
+    ToIntFunction<T> function = cancellation.toIntFunction(mapper);
+    return new ThrowableIntStream(pipeline().mapToInt(function), true, cancellation, pool);
+  }
+
+  /**
+   * @param mapper the function to apply to the elements, which must be non-null
+   * @return throwable stream of the long results
+   * @throws NullPointerException if mapper is null
+   * @see Stream#mapToLong(ToLongFunction)
+   */
+  public ThrowableLongStream mapToLong(ThrowableToLongFunction<? super T> mapper) {
+    ToLongFunction<T> function = cancellation.toLongFunction(mapper);
+    return new ThrowableLongStream(pipeline().mapToLong(function), true, cancellation, pool);
+  }
+
+  /**
+   * @param mapper the function to apply to the elements, which must be non-null
+   * @return throwable stream of the double results
+   * @throws NullPointerException if mapper is null
+   * @see Stream#mapToDouble(ToDoubleFunction)
+   */
+  public ThrowableDoubleStream mapToDouble(ThrowableToDoubleFunction<? super T> mapper) {
+    ToDoubleFunction<T> function = cancellation.toDoubleFunction(mapper);
+    return new ThrowableDoubleStream(pipeline().mapToDouble(function), true, cancellation, pool);
+  }
+
+  /**
+   * @param <R> the type of the results
+   * @param mapper the function returning a stream of results for every element, which must be
+   *     non-null
+   * @return throwable stream of the results
+   * @throws NullPointerException if mapper is null
+   * @see Stream#flatMap(Function)
+   */
+  public <R> ThrowableStream<R> flatMap(
+      ThrowableFunction<? super T, ? extends Stream<? extends R>> mapper) {
+    Function<T, Stream<? extends R>> function = cancellation.function(mapper);
+    return with(pipeline().flatMap(function));
+  }
+
+  /**
+   * @param action the action to perform on the elements as they are consumed, which must be
+   *     non-null
+   * @return throwable stream of the same elements
+   * @throws NullPointerException if action is null
+   * @see Stream#peek(Consumer)
+   */
+  public ThrowableStream<T> peek(ThrowableConsumer<? super T> action) {
+    Consumer<T> consumer = cancellation.consumer(action);
+    return with(pipeline().peek(consumer));
+  }
+
+  /**
+   * @return throwable stream of the distinct elements
+   * @see Stream#distinct()
+   */
+  public ThrowableStream<T> distinct() {
+    return with(pipeline().distinct());
+  }
+
+  /**
+   * @param comparator the comparator to sort the elements with, which must be non-null
+   * @return throwable stream of the sorted elements
+   * @throws NullPointerException if comparator is null
+   * @see Stream#sorted(Comparator)
+   */
+  public ThrowableStream<T> sorted(ThrowableComparator<? super T> comparator) {
+    Comparator<T> function = cancellation.comparator(comparator);
+    return with(pipeline().sorted(function));
+  }
+
+  /**
+   * @param maxSize the number of elements to limit the stream to
+   * @return throwable stream of at most maxSize elements
+   * @throws IllegalArgumentException if maxSize is negative
+   * @see Stream#limit(long)
+   */
+  public ThrowableStream<T> limit(long maxSize) {
+    return with(pipeline().limit(maxSize));
+  }
+
+  /**
+   * @param n the number of leading elements to skip
+   * @return throwable stream of the remaining elements
+   * @throws IllegalArgumentException if n is negative
+   * @see Stream#skip(long)
+   */
+  public ThrowableStream<T> skip(long n) {
+    return with(pipeline().skip(n));
+  }
+
+  /**
+   * Performs the action for every element.
+   *
+   * @param action the action to perform, which must be non-null
+   * @throws NullPointerException if action is null
+   * @see Stream#forEach(Consumer)
+   */
+  public void forEach(ThrowableConsumer<? super T> action) {
+    Consumer<T> consumer = cancellation.consumer(action);
+    cancellation.terminal(
+        pool,
+        () -> {
+          pipeline().forEach(consumer);
+          return null;
+        });
+  }
+
+  /**
+   * Collects the elements with the collector.
+   *
+   * <p>Fail-fast collectors of {@link TryCollectors} stop the pipeline on the first failure, and
+   * {@link ThrowableCollector} stops accumulating in every split on its first exception.
+   *
+   * @param <A> the mutable accumulation type of the collector
+   * @param <R> the type of the result
+   * @param collector the collector, which must be non-null
+   * @return the result of the collector
+   * @throws NullPointerException if collector is null
+   * @see Stream#collect(Collector)
+   */
+  public <R, A> R collect(Collector<? super T, A, R> collector) {
+    Objects.requireNonNull(collector, "Collector must not be null");
+    Collector<? super T, A, R> bound = CancellingCollector.bind(collector, cancellation);
+    return cancellation.terminal(pool, () -> pipeline().collect(bound));
+  }
+
+  /**
+   * @return new list of the elements
+   */
+  public List<T> toList() {
+    return collect(Collectors.toList());
+  }
+
+  /**
+   * @param identity the identity value of the operator
+   * @param operator the associative operator combining two values, which must be non-null
+   * @return the result of the reduction
+   * @throws NullPointerException if operator is null
+   * @see Stream#reduce(Object, BinaryOperator)
+   */
+  public T reduce(T identity, ThrowableBinaryOperator<T> operator) {
+    BinaryOperator<T> function = cancellation.binaryOperator(operator);
+    return cancellation.terminal(pool, () -> pipeline().reduce(identity, function));
+  }
+
+  /**
+   * @param operator the associative operator combining two values, which must be non-null
+   * @return the result of the reduction, or empty {@link Optional} if there are no elements
+   * @throws NullPointerException if operator is null
+   * @see Stream#reduce(BinaryOperator)
+   */
+  public Optional<T> reduce(ThrowableBinaryOperator<T> operator) {
+    BinaryOperator<T> function = cancellation.binaryOperator(operator);
+    return cancellation.terminal(pool, () -> pipeline().reduce(function));
+  }
+
+  /**
+   * @param predicate the predicate to test the elements with, which must be non-null
+   * @return {@code true} if any of the elements matches the predicate
+   * @throws NullPointerException if predicate is null
+   * @see Stream#anyMatch(Predicate)
+   */
+  public boolean anyMatch(ThrowablePredicate<? super T> predicate) {
+    Predicate<T> function = cancellation.predicate(predicate);
+    return cancellation.terminal(pool, () -> pipeline().anyMatch(function));
+  }
+
+  /**
+   * @param predicate the predicate to test the elements with, which must be non-null
+   * @return {@code true} if all of the elements match the predicate or there are no elements
+   * @throws NullPointerException if predicate is null
+   * @see Stream#allMatch(Predicate)
+   */
+  public boolean allMatch(ThrowablePredicate<? super T> predicate) {
+    Predicate<T> function = cancellation.predicate(predicate);
+    return cancellation.terminal(pool, () -> pipeline().allMatch(function));
+  }
+
+  /**
+   * @return the first element, or empty {@link Optional} if there are no elements
+   * @see Stream#findFirst()
+   */
+  public Optional<T> findFirst() {
+    return cancellation.terminal(pool, pipeline()::findFirst);
+  }
+
+  /**
+   * @return the number of elements
+   * @see Stream#count()
+   */
+  public long count() {
+    return cancellation.terminal(pool, pipeline()::count);
+  }
+
+  /**
+   * Returns the underlying {@link Stream}, which still stops on the first exception but runs in
+   * {@link ForkJoinPool#commonPool()} when parallel and may throw exceptions of other splits.
+   *
+   * @return the underlying stream
+   */
+  public Stream<T> stream() {
+    return pipeline();
+  }
+
+  /** Closes the stream, invoking the close handlers of the source. */
+  @Override
+  public void close() {
+    stream.close();
+  }
+
+  /**
+   * @param <R> the type of the elements
+   * @param next the next stage of the pipeline
+   * @return throwable stream of the next stage sharing the cancellation and the pool
+   */
+  private <R> ThrowableStream<R> with(Stream<R> next) {
+    return new ThrowableStream<>(next, true, cancellation, pool);
+  }
+
+  /**
+   * Wraps the source into the cancellable pipeline on the first operation, so that {@link
+   * #parallel()} reaches the source before its spliterator is created.
+   *
+   * @return the cancellable pipeline
+   */
+  private Stream<T> pipeline() {
+    if (cancellable) {
+      return stream;
+    }
+
+    return StreamSupport.stream(
+            new CancellableSpliterator<>(stream.spliterator(), cancellation), stream.isParallel())
+        .onClose(stream::close);
+  }
+}
@@ -0,0 +1,264 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import io.github.suppierk.java.Try;
+import io.github.suppierk.java.TryBatch;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Collectors of {@link Try} elements, which traverse the elements once.
+ *
+ * <p>All collectors keep a separate container per split of a parallel stream and combine the
+ * containers by appending or merging them. Fail-fast collectors stop the pipeline on the first
+ * failure when used with {@link ThrowableStream#collect(Collector)}, so the upstream does not run
+ * for the remaining elements. With plain streams they ignore the elements following the first
+ * failure instead.
+ */
+public final class TryCollectors {
+  private TryCollectors() {
+    // Utility class
+  }
+
+  /**
+   * Returns a collector splitting the values of the successes from the exceptions of the failures.
+   *
+   * @param <T> the class of the values
+   * @return collector of {@link Partition}
+   */
+  public static <T> Collector<Try<? extends T>, ?, Partition<T>> partition() {
+    return Collector.of(
+        Partition<T>::new,
+        (partition, result) -> {
+          if (result.isSuccess()) {
+            partition.successes.add(result.get());
+          } else {
+            partition.failures.add(exception(result));
+          }
+        },
+        (left, right) -> {
+          left.successes.addAll(right.successes);
+          left.failures.addAll(right.failures);
+          return left;
+        });
+  }
+
+  /**
+   * Returns a fail-fast collector of the values, resulting in the first failure if there is any.
+   *
+   * <p>For parallel streams the resulting failure is the first one in the encounter order among the
+   * failures seen before the pipeline stopped.
+   *
+   * @param <T> the class of the values
+   * @return collector of {@link Try.Success} with new list of the values in the encounter order, or
+   *     {@link Try.Failure} with the first exception
+   */
+  public static <T> Collector<Try<? extends T>, ?, Try<List<T>>> successesOrFirstFailure() {
+    return new FailFastCollector<>(null);
+  }
+
+  /**
+   * Returns a collector of the elements into a list backed by {@link TryBatch}, which stores the
+   * values and the exceptions in arrays instead of retaining every {@link Try}.
+   *
+   * @param <T> the class of the values
+   * @return collector of unmodifiable list of {@link Try} in the encounter order
+   * @see TryBatch#toTryList()
+   */
+  public static <T> Collector<Try<? extends T>, ?, List<Try<T>>> toTryList() {
+    return Collector.of(
+        TryBatch::<T>builder,
+        TryBatch.Builder::add,
+        TryBatch.Builder::addAll,
+        builder -> builder.build().toTryList());
+  }
+
+  /**
+   * Returns a collector of the elements into {@link TryBatch}.
+   *
+   * @param <T> the class of the values
+   * @return collector of {@link TryBatch} in the encounter order
+   */
+  public static <T> Collector<Try<? extends T>, ?, TryBatch<T>> toTryBatch() {
+    return Collector.of(
+        TryBatch::<T>builder,
+        TryBatch.Builder::add,
+        TryBatch.Builder::addAll,
+        TryBatch.Builder::build);
+  }
+
+  /**
+   * Returns a collector counting the failures by the class of their exceptions.
+   *
+   * @return collector of new map from the exception class to the number of failures
+   */
+  public static Collector<Try<?>, ?, Map<Class<? extends Throwable>, Long>>
+      countingFailuresByType() {
+    return Collector.of(
+        HashMap<Class<? extends Throwable>, long[]>::new,
+        (counts, result) -> {
+          if (result.isFailure()) {
+            counts.computeIfAbsent(exception(result).getClass(), type -> new long[1])[0]++;
+          }
+        },
+        (left, right) -> {
+          right.forEach(
+              (type, count) -> left.computeIfAbsent(type, key -> new long[1])[0] += count[0]);
+          return left;
+        },
+        counts -> {
+          Map<Class<? extends Throwable>, Long> result = new HashMap<>(counts.size() * 2);
+          counts.forEach((type, count) -> result.put(type, count[0]));
+          return result;
+        },
+        Collector.Characteristics.UNORDERED);
+  }
+
+  /**
+   * @param result to get the exception of
+   * @return the exception of {@link Try.Failure}
+   */
+  private static Throwable exception(Try<?> result) {
+    Throwable[] exception = new Throwable[1];
+    result.ifFailure(t -> exception[0] = t);
+    return exception[0];
+  }
+
+  /**
+   * Values of the successes and exceptions of the failures, each in the encounter order.
+   *
+   * @param <T> the class of the values
+   */
+  public static final class Partition<T> {
+    private final List<T> successes = new ArrayList<>();
+    private final List<Throwable> failures = new ArrayList<>();
+
+    private Partition() {}
+
+    /**
+     * @return unmodifiable list of the values of the successes
+     */
+    public List<T> successes() {
+      return Collections.unmodifiableList(successes);
+    }
+
+    /**
+     * @return unmodifiable list of the exceptions of the failures
+     */
+    public List<Throwable> failures() {
+      return Collections.unmodifiableList(failures);
+    }
+  }
+
+  /** Values collected by a split, or the first failure it saw. */
+  private static final class Accumulator<T> {
+    private final List<T> values = new ArrayList<>();
+    private Throwable failure;
+  }
+
+  /**
+   * Collector of the values which cancels the pipeline on the first failure.
+   *
+   * <p>The collector itself is stateless and can be reused, the first failure is kept by the
+   * accumulation of each split. Only the instances bound to a pipeline share its cancellation.
+   *
+   * @param <T> the class of the values
+   */
+  private static final class FailFastCollector<T>
+      implements CancellingCollector<Try<? extends T>, Accumulator<T>, Try<List<T>>> {
+    /** Cancellation of the pipeline, or {@code null} if the collector is not bound to any. */
+    private final Cancellation cancellation;
+
+    private FailFastCollector(Cancellation cancellation) {
+      this.cancellation = cancellation;
+    }
+
+    @Override
+    public Collector<Try<? extends T>, Accumulator<T>, Try<List<T>>> bind(
+        Cancellation cancellation) {
+      return new FailFastCollector<>(cancellation);
+    }
+
+    @Override
+    public Supplier<Accumulator<T>> supplier() {
+      return Accumulator::new;
+    }
+
+    @Override
+    public BiConsumer<Accumulator<T>, Try<? extends T>> accumulator() {
+      return (accumulator, result) -> {
+        if (accumulator.failure != null || (cancellation != null && cancellation.isCancelled())) {
+          return;
+        }
+
+        if (result.isSuccess()) {
+          accumulator.values.add(result.get());
+        } else {
+          accumulator.failure = exception(result);
+          if (cancellation != null) {
+            cancellation.cancel();
+          }
+        }
+      };
+    }
+
+    @Override
+    public BinaryOperator<Accumulator<T>> combiner() {
+      return (left, right) -> {
+        if (left.failure == null) {
+          if (right.failure != null) {
+            return right;
+          }
+          left.values.addAll(right.values);
+        }
+        return left;
+      };
+    }
+
+    @Override
+    public Function<Accumulator<T>, Try<List<T>>> finisher() {
+      return accumulator ->
+          accumulator.failure != null
+              ? Try.failure(accumulator.failure)
+              : Try.success(accumulator.values);
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+      return EnumSet.noneOf(Characteristics.class);
+    }
+  }
+}
@@ -0,0 +1,265 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import io.github.suppierk.java.Try;
+import io.github.suppierk.java.util.ExceptionSuppressor;
+import io.github.suppierk.java.util.function.ThrowableBinaryOperator;
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import io.github.suppierk.java.util.function.ThrowablePredicate;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Gatherer;
+import java.util.stream.Gatherers;
+
+/**
+ * Stream gatherers accepting functions which may throw, available on Java 24 and newer.
+ *
+ * <p>Gatherers with {@code Try} in their names emit every exception as {@link Try.Failure} and keep
+ * going, the others fail fast and rethrow the exception as is. Unlike {@link
+ * Gatherers#mapConcurrent(int, Function)}, which rethrows failures wrapped into {@link
+ * RuntimeException}, the concurrent gatherers keep the original exception type.
+ */
+@SuppressWarnings("squid:S1181")
+public final class ThrowableGatherers {
+  private ThrowableGatherers() {
+    // Utility class
+  }
+
+  /**
+   * Returns a gatherer mapping the elements into {@link Try}.
+   *
+   * @param <T> the type of input elements
+   * @param <R> the type of the mapped values
+   * @param mapper mapping the elements, which must be non-null
+   * @return gatherer of {@link Try.Success} with the mapped value or {@link Try.Failure} with the
+   *     exception of the mapper, for every element
+   * @throws NullPointerException if mapper is null
+   */
+  public static <T, R> Gatherer<T, ?, Try<R>> mapTry(
+      ThrowableFunction<? super T, ? extends R> mapper) {
+    Objects.requireNonNull(mapper, "Mapper must not be null");
+    final Gatherer.Integrator.Greedy<Void, T, Try<R>> integrator =
+        (state, element, downstream) -> {
+          final Try<R> result = Try.apply(mapper, element);
+          return downstream.push(result);
+        };
+    return Gatherer.of(integrator);
+  }
+
+  /**
+   * Returns a gatherer of the elements matching the predicate, wrapped into {@link Try}.
+   *
+   * @param <T> the type of input elements
+   * @param predicate to test the elements with, which must be non-null
+   * @return gatherer of {@link Try.Success} for every matching element and {@link Try.Failure} for
+   *     every exception of the predicate
+   * @throws NullPointerException if predicate is null
+   */
+  public static <T> Gatherer<T, ?, Try<T>> filterTry(ThrowablePredicate<? super T> predicate) {
+    Objects.requireNonNull(predicate, "Predicate must not be null");
+    final Gatherer.Integrator.Greedy<Void, T, Try<T>> integrator =
+        (state, element, downstream) -> {
+          final boolean matches;
+          try {
+            matches = predicate.testUnsafe(element);
+          } catch (Throwable t) {
+            final Try<T> failure = Try.failure(t);
+            return downstream.push(failure);
+          }
+
+          if (!matches) {
+            return true;
+          }
+
+          final Try<T> success = Try.success(element);
+          return downstream.push(success);
+        };
+    return Gatherer.of(integrator);
+  }
+
+  /**
+   * Returns a gatherer mapping the elements concurrently on virtual threads, emitting the mapped
+   * values in the encounter order.
+   *
+   * <p>The first exception, in the encounter order, cancels the remaining mappings and is rethrown
+   * as is.
+   *
+   * @param <T> the type of input elements
+   * @param <R> the type of the mapped values
+   * @param maxConcurrency the maximum number of concurrent mappings, which must be positive
+   * @param mapper mapping the elements, which must be non-null
+   * @return gatherer of the mapped values
+   * @throws IllegalArgumentException if maxConcurrency is not positive
+   * @throws NullPointerException if mapper is null
+   * @see Gatherers#mapConcurrent(int, Function)
+   */
+  public static <T, R> Gatherer<T, ?, R> mapConcurrent(
+      int maxConcurrency, ThrowableFunction<? super T, ? extends R> mapper) {
+    requirePositive(maxConcurrency);
+    Objects.requireNonNull(mapper, "Mapper must not be null");
+    return concurrent(maxConcurrency, mapper::apply);
+  }
+
+  /**
+   * Returns a gatherer mapping the elements into {@link Try} concurrently on virtual threads,
+   * emitting them in the encounter order.
+   *
+   * @param <T> the type of input elements
+   * @param <R> the type of the mapped values
+   * @param maxConcurrency the maximum number of concurrent mappings, which must be positive
+   * @param mapper mapping the elements, which must be non-null
+   * @return gatherer of {@link Try.Success} with the mapped value or {@link Try.Failure} with the
+   *     exception of the mapper, for every element
+   * @throws IllegalArgumentException if maxConcurrency is not positive
+   * @throws NullPointerException if mapper is null
+   */
+  public static <T, R> Gatherer<T, ?, Try<R>> mapConcurrentTry(
+      int maxConcurrency, ThrowableFunction<? super T, ? extends R> mapper) {
+    requirePositive(maxConcurrency);
+    Objects.requireNonNull(mapper, "Mapper must not be null");
+    return concurrent(maxConcurrency, element -> Try.<T, R>apply(mapper, element));
+  }
+
+  /**
+   * Returns a gatherer folding every consecutive window of elements into a single value.
+   *
+   * <p>The last window may have fewer elements than the window size.
+   *
+   * @param <T> the type of input elements
+   * @param windowSize the number of elements in a window, which must be positive
+   * @param operator combining the folded value with the next element, which must be non-null
+   * @return gatherer of the folded value of every window
+   * @throws IllegalArgumentException if windowSize is not positive
+   * @throws NullPointerException if operator is null
+   * @see Gatherers#windowFixed(int)
+   */
+  public static <T> Gatherer<T, ?, T> windowFold(
+      int windowSize, ThrowableBinaryOperator<T> operator) {
+    if (windowSize < 1) {
+      throw new IllegalArgumentException("Window size must be positive");
+    }
+    Objects.requireNonNull(operator, "Operator must not be null");
+
+    final Supplier<Window<T>> initializer = Window::new;
+    final Gatherer.Integrator.Greedy<Window<T>, T, T> integrator =
+        (window, element, downstream) -> {
+          window.value = window.size == 0 ? element : operator.apply(window.value, element);
+          if (++window.size < windowSize) {
+            return true;
+          }
+
+          final T folded = window.value;
+          window.value = null;
+          window.size = 0;
+          return downstream.push(folded);
+        };
+    final BiConsumer<Window<T>, Gatherer.Downstream<? super T>> finisher =
+        (window, downstream) -> {
+          if (window.size > 0 && !downstream.isRejecting()) {
+            downstream.push(window.value);
+          }
+        };
+    return Gatherer.ofSequential(initializer, integrator, finisher);
+  }
+
+  private static void requirePositive(int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("Max concurrency must be positive");
+    }
+  }
+
+  private static <T, R> Gatherer<T, ?, R> concurrent(
+      int maxConcurrency, Function<? super T, ? extends R> function) {
+    final Supplier<ArrayDeque<FutureTask<R>>> initializer = ArrayDeque::new;
+    final Gatherer.Integrator.Greedy<ArrayDeque<FutureTask<R>>, T, R> integrator =
+        (tasks, element, downstream) -> {
+          try {
+            final FutureTask<R> task = new FutureTask<R>(() -> function.apply(element));
+            tasks.addLast(task);
+            Thread.startVirtualThread(task);
+
+            while (!tasks.isEmpty()
+                && (tasks.size() >= maxConcurrency || tasks.peekFirst().isDone())) {
+              if (!downstream.push(await(tasks.pollFirst()))) {
+                cancel(tasks);
+                return false;
+              }
+            }
+            return true;
+          } catch (Throwable t) {
+            cancel(tasks);
+            return ExceptionSuppressor.asUnchecked(t);
+          }
+        };
+    final BiConsumer<ArrayDeque<FutureTask<R>>, Gatherer.Downstream<? super R>> finisher =
+        (tasks, downstream) -> {
+          try {
+            while (!tasks.isEmpty() && !downstream.isRejecting()) {
+              downstream.push(await(tasks.pollFirst()));
+            }
+          } finally {
+            cancel(tasks);
+          }
+        };
+    return Gatherer.ofSequential(initializer, integrator, finisher);
+  }
+
+  /**
+   * @param task to wait for
+   * @return the result of the task
+   */
+  private static <R> R await(FutureTask<R> task) {
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return ExceptionSuppressor.asUnchecked(e);
+    } catch (ExecutionException e) {
+      return ExceptionSuppressor.asUnchecked(e.getCause());
+    }
+  }
+
+  /**
+   * @param tasks to cancel and forget
+   */
+  private static <R> void cancel(ArrayDeque<FutureTask<R>> tasks) {
+    for (FutureTask<R> task : tasks) {
+      task.cancel(true);
+    }
+    tasks.clear();
+  }
+
+  /** Folded value of the current window. */
+  private static final class Window<T> {
+    private T value;
+    private int size;
+  }
+}
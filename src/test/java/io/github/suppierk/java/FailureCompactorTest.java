@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FailureCompactorTest {
+  private static final int FAILURES = 10_000;
+
+  @Test
+  void assertEquivalentFailuresShareInstance() {
+    final FailureCompactor compactor = FailureCompactor.create();
+
+    final List<Try<Integer>> results = new ArrayList<>();
+    for (int i = 0; i < FAILURES; i++) {
+      final int shard = i;
+      results.add(
+          Try.of(
+              () -> {
+                if (shard % 2 == 0) {
+                  return shard;
+                }
+                throw new IOException("Shard " + shard + " is unavailable");
+              }));
+    }
+
+    final List<Try<Integer>> compacted = compactor.compactAll(results);
+    assertEquals(FAILURES, compacted.size());
+
+    Try<Integer> failure = null;
+    for (int i = 0; i < FAILURES; i++) {
+      if (i % 2 == 0) {
+        assertSame(results.get(i), compacted.get(i));
+      } else if (failure == null) {
+        failure = compacted.get(i);
+      } else {
+        assertSame(failure, compacted.get(i));
+      }
+    }
+
+    final List<FailureCompactor.Group> groups = compactor.groups();
+    assertEquals(1, groups.size());
+    assertEquals(FAILURES / 2, groups.get(0).count());
+    assertEquals("Shard # is unavailable", groups.get(0).messageTemplate());
+    assertInstanceOf(IOException.class, groups.get(0).exception());
+    assertThrows(IOException.class, failure::get);
+  }
+
+  @Test
+  void assertDifferentFailuresAreGrouped() {
+    final FailureCompactor compactor = FailureCompactor.create();
+
+    for (int i = 0; i < 3; i++) {
+      compactor.compact(new IOException("Read " + i));
+    }
+    compactor.compact(new IllegalStateException("Read 1"));
+    compactor.compact(new UncheckedIOException(new IOException("Read 1")));
+    compactor.compact(new UncheckedIOException(new IOException("Write 1")));
+
+    final List<FailureCompactor.Group> groups = compactor.groups();
+    assertEquals(4, groups.size());
+    assertEquals(3, groups.get(0).count());
+    assertInstanceOf(IOException.class, groups.get(0).exception());
+  }
+
+  @Test
+  void assertStackTracesAreDropped() {
+    final FailureCompactor compactor = FailureCompactor.create(3, 1);
+
+    final Throwable first = compactor.compact(new IOException("first"));
+    final IOException cause = new IOException("cause");
+    final IllegalStateException original = new IllegalStateException("second 1", cause);
+    final Throwable second = compactor.compact(original);
+
+    assertNotEquals(0, first.getStackTrace().length);
+    assertEquals(0, second.getStackTrace().length);
+    assertNotEquals(0, original.getStackTrace().length);
+    assertInstanceOf(IllegalStateException.class, second);
+    assertEquals("second 1", second.getMessage());
+    assertSame(cause, second.getCause());
+  }
+
+  @Test
+  void assertStatefulExceptionsAreNotCopied() {
+    final FailureCompactor compactor = FailureCompactor.create(3, 0);
+
+    final SQLException original = new SQLException("Connection refused", "08001", 42);
+    final Throwable compacted = compactor.compact(original);
+
+    assertSame(original, compacted);
+    assertEquals("08001", ((SQLException) compacted).getSQLState());
+    assertEquals(42, ((SQLException) compacted).getErrorCode());
+    assertNotEquals(0, original.getStackTrace().length);
+  }
+
+  @Test
+  void assertBatchIsCompacted() {
+    final FailureCompactor compactor = FailureCompactor.create();
+
+    final TryBatch.Builder<String> builder = TryBatch.builder();
+    for (int row = 0; row < 4; row++) {
+      if (row % 2 == 0) {
+        builder.add(row == 0 ? "a" : "b");
+      } else {
+        builder.addFailure(new IOException("Row " + row));
+      }
+    }
+
+    final TryBatch<String> batch = compactor.compactAll(builder.build());
+    assertEquals(4, batch.size());
+    assertEquals("a", batch.get(0));
+    assertEquals("b", batch.get(2));
+    assertSame(batch.failures().get(1), batch.failures().get(3));
+    assertEquals(2, compactor.groups().get(0).count());
+  }
+
+  @Test
+  void assertTemplate() {
+    assertNull(FailureCompactor.template(null));
+    assertEquals("message", FailureCompactor.template("message"));
+    assertEquals("#: id # of #ms", FailureCompactor.template("42: id 7 of 1200ms"));
+  }
+
+  @Test
+  void assertInvalidArguments() {
+    final FailureCompactor compactor = FailureCompactor.create();
+
+    assertThrows(IllegalArgumentException.class, () -> FailureCompactor.create(-1, 0));
+    assertThrows(IllegalArgumentException.class, () -> FailureCompactor.create(0, -1));
+    assertThrows(NullPointerException.class, () -> compactor.compact((Throwable) null));
+    assertThrows(NullPointerException.class, () -> compactor.compact((Try<Object>) null));
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class ResultTest {
+  private static final Result<String, Integer> SUCCESS_SAMPLE = Result.success(1);
+  private static final Result<String, Integer> FAILURE_SAMPLE = Result.failure("invalid");
+
+  @Test
+  void assertGet() {
+    assertEquals(1, SUCCESS_SAMPLE.get());
+    ResultException exception = assertThrows(ResultException.class, FAILURE_SAMPLE::get);
+    assertEquals("invalid", exception.getError());
+
+    Result<IOException, Integer> throwableError = Result.failure(new IOException("io"));
+    assertThrows(IOException.class, throwableError::get);
+  }
+
+  @Test
+  void assertGetError() {
+    assertThrows(NoSuchElementException.class, SUCCESS_SAMPLE::getError);
+    assertEquals("invalid", FAILURE_SAMPLE.getError());
+  }
+
+  @Test
+  void assertCreation() {
+    assertTrue(SUCCESS_SAMPLE.isSuccess());
+    assertFalse(SUCCESS_SAMPLE.isFailure());
+    assertFalse(FAILURE_SAMPLE.isSuccess());
+    assertTrue(FAILURE_SAMPLE.isFailure());
+    assertThrows(NullPointerException.class, () -> Result.failure(null));
+
+    assertEquals(1, Result.fromOptional(Optional.of(1), () -> "empty").get());
+    assertEquals("empty", Result.fromOptional(Optional.empty(), () -> "empty").getError());
+  }
+
+  @Test
+  void assertConsumers() {
+    AtomicReference<Object> seen = new AtomicReference<>();
+
+    SUCCESS_SAMPLE.ifFailure(seen::set);
+    assertNull(seen.get());
+    SUCCESS_SAMPLE.ifSuccess(seen::set);
+    assertEquals(1, seen.get());
+
+    FAILURE_SAMPLE.ifSuccess(seen::set);
+    assertEquals(1, seen.get());
+    FAILURE_SAMPLE.ifFailure(seen::set);
+    assertEquals("invalid", seen.get());
+
+    SUCCESS_SAMPLE.ifSuccessOrElse(seen::set, e -> fail("Error consumer must not be called"));
+    assertEquals(1, seen.get());
+    FAILURE_SAMPLE.ifSuccessOrElse(v -> fail("Value consumer must not be called"), seen::set);
+    assertEquals("invalid", seen.get());
+  }
+
+  @Test
+  void assertFilter() {
+    assertSame(SUCCESS_SAMPLE, SUCCESS_SAMPLE.filter(v -> v > 0, v -> "negative"));
+    assertEquals("negative", SUCCESS_SAMPLE.filter(v -> v < 0, v -> "negative").getError());
+    assertSame(FAILURE_SAMPLE, FAILURE_SAMPLE.filter(v -> v > 0, v -> "negative"));
+  }
+
+  @Test
+  void assertMap() {
+    assertEquals("1", SUCCESS_SAMPLE.map(String::valueOf).get());
+    assertEquals("invalid", FAILURE_SAMPLE.map(String::valueOf).getError());
+
+    assertEquals(1, SUCCESS_SAMPLE.mapFailure(String::length).get());
+    assertEquals(7, FAILURE_SAMPLE.mapFailure(String::length).getError());
+  }
+
+  @Test
+  void assertMappingExceptionsPropagate() {
+    assertThrows(
+        IOException.class,
+        () ->
+            SUCCESS_SAMPLE.map(
+                v -> {
+                  throw new IOException();
+                }));
+  }
+
+  @Test
+  void assertFlatMap() {
+    assertEquals(2, SUCCESS_SAMPLE.flatMap(v -> Result.<String, Integer>success(v + 1)).get());
+    assertEquals(
+        "other", SUCCESS_SAMPLE.flatMap(v -> Result.<String, Integer>failure("other")).getError());
+    assertEquals(
+        "invalid", FAILURE_SAMPLE.flatMap(v -> Result.<String, Integer>success(v + 1)).getError());
+  }
+
+  @Test
+  void assertRecoveryAndDefaults() {
+    assertSame(SUCCESS_SAMPLE, SUCCESS_SAMPLE.recover(String::length));
+    assertEquals(7, FAILURE_SAMPLE.recover(String::length).get());
+
+    assertEquals(1, SUCCESS_SAMPLE.orElse(2));
+    assertEquals(2, FAILURE_SAMPLE.orElse(2));
+    assertEquals(1, SUCCESS_SAMPLE.orElse(() -> 2));
+    assertEquals(2, FAILURE_SAMPLE.orElse(() -> 2));
+    assertThrows(NullPointerException.class, () -> FAILURE_SAMPLE.orElse((Supplier<Integer>) null));
+
+    assertEquals(Optional.of(1), SUCCESS_SAMPLE.toOptional());
+    assertEquals(Optional.empty(), FAILURE_SAMPLE.toOptional());
+  }
+
+  @Test
+  void assertTryConversion() {
+    assertEquals(1, SUCCESS_SAMPLE.toTry().get());
+    assertThrows(ResultException.class, () -> FAILURE_SAMPLE.toTry().get());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> FAILURE_SAMPLE.toTry(IllegalArgumentException::new).get());
+
+    IOException exception = new IOException();
+    Result<Throwable, String> fromFailure = Result.fromTry(Try.failure(exception));
+    assertSame(exception, fromFailure.getError());
+    assertThrows(IOException.class, () -> fromFailure.toTry().get());
+
+    Result<Throwable, String> fromSuccess = Result.fromTry(Try.success("value"));
+    assertEquals("value", fromSuccess.get());
+  }
+}
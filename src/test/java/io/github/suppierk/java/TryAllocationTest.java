@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.sun.management.ThreadMXBean;
+import io.github.suppierk.java.util.function.ThrowableBiFunction;
+import io.github.suppierk.java.util.function.ThrowableFunction;
+import io.github.suppierk.java.util.function.ThrowablePredicate;
+import io.github.suppierk.java.util.function.ThrowableSupplier;
+import io.github.suppierk.java.util.function.ThrowableToIntFunction;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Guards the allocation profile of {@link Try} combinators: a chain must not allocate anything
+ * besides the {@link Try} instances it returns, and a batch must allocate per batch, not per
+ * element.
+ *
+ * <p>Allocations are measured per thread and compared against the size of a single {@link
+ * Try.Success}, so the test does not depend on object layout of a particular JVM.
+ */
+class TryAllocationTest {
+  private static final int ITERATIONS = 100_000;
+  private static final int BATCH_SIZE = 10_000;
+  private static final int BATCH_ITERATIONS = 1_000;
+
+  // Small values stay within the Integer cache, so boxing does not allocate
+  private static final Integer VALUE = 42;
+  private static final ThrowableFunction<Integer, Integer> INCREMENT = value -> value + 1;
+  private static final ThrowableBiFunction<Integer, Integer, Integer> SUM = Integer::sum;
+  private static final ThrowablePredicate<Integer> POSITIVE = value -> value > 0;
+  private static final ThrowableFunction<Integer, Try<Integer>> WRAP = Try::success;
+  private static final Try<Integer> FAILURE = Try.failure(new IllegalStateException());
+
+  private static volatile Object sink;
+
+  private ThreadMXBean threadMXBean;
+
+  @BeforeEach
+  void setUp() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    assumeTrue(bean instanceof ThreadMXBean, "Allocation counters are not available");
+
+    threadMXBean = (ThreadMXBean) bean;
+    assumeTrue(
+        threadMXBean.isThreadAllocatedMemorySupported(), "Allocation counters are not supported");
+    threadMXBean.setThreadAllocatedMemoryEnabled(true);
+  }
+
+  @Test
+  void assertChainAllocatesOnlyResults() {
+    long success = allocatedPerOperation(() -> Try.success(VALUE));
+    assertTrue(success > 0, "Try.success must be measurable");
+
+    long chain =
+        allocatedPerOperation(
+            () -> Try.success(VALUE).map(INCREMENT).filter(POSITIVE).flatMap(WRAP));
+    assertTrue(
+        chain <= 3 * success,
+        "success + map + flatMap must allocate 3 results at most, but allocated "
+            + chain
+            + " bytes against "
+            + success
+            + " bytes per result");
+  }
+
+  @Test
+  void assertApplyAllocatesOnlyResult() {
+    long success = allocatedPerOperation(() -> Try.success(VALUE));
+
+    assertTrue(allocatedPerOperation(() -> Try.apply(INCREMENT, VALUE)) <= success);
+    assertTrue(allocatedPerOperation(() -> Try.apply(SUM, VALUE, VALUE)) <= success);
+  }
+
+  @Test
+  void assertFailureChainDoesNotAllocate() {
+    assertEquals(
+        0,
+        allocatedPerOperation(
+            () -> FAILURE.map(INCREMENT).filter(POSITIVE).flatMap(WRAP).orElse(VALUE)));
+  }
+
+  @Test
+  void assertBatchAllocatesOncePerBatch() {
+    List<Integer> source = Collections.nCopies(BATCH_SIZE, VALUE);
+    ThrowableToIntFunction<Integer> unbox = Integer::intValue;
+
+    long batch = allocatedPerOperation(() -> TryIntBatch.map(source, unbox), BATCH_ITERATIONS);
+    assertTrue(
+        batch <= (long) Integer.BYTES * BATCH_SIZE + 1024,
+        "TryIntBatch must allocate a single value array, but allocated " + batch + " bytes");
+
+    long boxed = allocatedPerOperation(() -> TryBatch.map(source, INCREMENT), BATCH_ITERATIONS);
+    long tries = allocatedPerOperation(() -> Try.success(VALUE)) * BATCH_SIZE;
+    assertTrue(
+        boxed < tries,
+        "TryBatch must allocate less than a Try per element, but allocated " + boxed + " bytes");
+  }
+
+  private long allocatedPerOperation(ThrowableSupplier<Object> operation) {
+    return allocatedPerOperation(operation, ITERATIONS);
+  }
+
+  private long allocatedPerOperation(ThrowableSupplier<Object> operation, int iterations) {
+    // First round lets class loading and compilation settle
+    measure(operation, iterations);
+    return measure(operation, iterations);
+  }
+
+  private long measure(ThrowableSupplier<Object> operation, int iterations) {
+    long threadId = Thread.currentThread().getId();
+    long before = threadMXBean.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < iterations; i++) {
+      sink = operation.get();
+    }
+    long after = threadMXBean.getThreadAllocatedBytes(threadId);
+    return (after - before) / iterations;
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TryBatchTest {
+  private static String parse(Integer value) throws IOException {
+    if (value % 3 == 0) {
+      throw new IOException("Divisible by three: " + value);
+    }
+    return "v" + value;
+  }
+
+  private static List<Integer> range(int size) {
+    return IntStream.range(0, size).boxed().collect(Collectors.toList());
+  }
+
+  @Test
+  void assertMapping() {
+    TryBatch<String> batch = TryBatch.map(range(10), TryBatchTest::parse);
+
+    assertEquals(10, batch.size());
+    assertEquals(4, batch.failureCount());
+    assertEquals(6, batch.successCount());
+    assertTrue(batch.isFailure(0));
+    assertTrue(batch.isSuccess(1));
+    assertEquals("v1", batch.get(1));
+    assertThrows(IOException.class, () -> batch.get(3));
+    assertThrows(IndexOutOfBoundsException.class, () -> batch.isFailure(10));
+
+    assertEquals(Arrays.asList("v1", "v2", "v4", "v5", "v7", "v8"), batch.successes());
+    assertEquals(Arrays.asList(0, 3, 6, 9), new ArrayList<>(batch.failures().keySet()));
+    assertEquals("Divisible by three: 6", batch.failures().get(6).getMessage());
+    assertNull(batch.failures().get(1));
+    assertEquals("Divisible by three: 0", batch.firstFailure().map(Throwable::getMessage).get());
+
+    List<Try<String>> tries = batch.toTryList();
+    assertEquals(10, tries.size());
+    assertTrue(tries.get(0).isFailure());
+    assertEquals("v2", tries.get(2).get());
+  }
+
+  @Test
+  void assertArrayMapping() {
+    TryBatch<String> batch = TryBatch.map(new Integer[] {1, 2, 4}, TryBatchTest::parse);
+    assertEquals(0, batch.failureCount());
+    assertEquals(Optional.empty(), batch.firstFailure());
+    assertEquals(Arrays.asList("v1", "v2", "v4"), batch.successes());
+    assertTrue(batch.failures().isEmpty());
+  }
+
+  @Test
+  void assertSuccessViewAcrossWords() {
+    // Failures at every third index across several mask words
+    TryBatch<String> batch = TryBatch.map(range(1000), TryBatchTest::parse);
+    List<String> expected =
+        range(1000).stream().filter(i -> i % 3 != 0).map(i -> "v" + i).collect(Collectors.toList());
+    assertEquals(expected, batch.successes());
+    assertEquals(334, batch.failures().size());
+  }
+
+  @Test
+  void assertEmptyBatch() {
+    TryBatch<String> batch = TryBatch.map(Collections.<Integer>emptyList(), TryBatchTest::parse);
+    assertEquals(0, batch.size());
+    assertTrue(batch.successes().isEmpty());
+    assertTrue(batch.toTryList().isEmpty());
+  }
+
+  @Test
+  void assertBuilder() {
+    IOException exception = new IOException();
+    TryBatch.Builder<String> builder = TryBatch.<String>builder();
+    for (int i = 0; i < 40; i++) {
+      if (i % 10 == 0) {
+        builder.addFailure(exception);
+      } else {
+        builder.add(Try.success("v" + i));
+      }
+    }
+    builder.add(Try.failure(exception));
+
+    TryBatch<String> batch = builder.build();
+    assertEquals(41, batch.size());
+    assertEquals(5, batch.failureCount());
+    assertSame(exception, batch.failures().get(40));
+
+    builder.add("after");
+    assertEquals(41, batch.size(), "Built batch must not change");
+    assertEquals(5, batch.failureCount(), "Built batch must not change");
+
+    TryBatch<String> merged = TryBatch.<String>builder().add("first").addAll(builder).build();
+    assertEquals(43, merged.size());
+    assertTrue(merged.isFailure(1));
+    assertEquals("after", merged.get(42));
+
+    assertThrows(NullPointerException.class, () -> builder.addFailure(null));
+  }
+
+  @Test
+  void assertFailureMapView() {
+    Map<Integer, Throwable> failures = TryBatch.map(range(7), TryBatchTest::parse).failures();
+    assertTrue(failures.containsKey(3));
+    assertFalse(failures.containsKey(4));
+    assertFalse(failures.containsKey(-1));
+    assertFalse(failures.containsKey("3"));
+    assertThrows(UnsupportedOperationException.class, () -> failures.remove(3));
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class TryDeferredTest {
+  @Test
+  void assertSupplierIsInvokedOnFirstAccessOnly() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Try<Integer> deferred = Try.defer(calls::incrementAndGet);
+
+    assertEquals(0, calls.get());
+    assertFalse(((Try.Deferred<Integer>) deferred).isEvaluated());
+
+    assertTrue(deferred.isSuccess());
+    assertEquals(1, deferred.get());
+    assertEquals(Optional.of(1), deferred.toOptional());
+    assertEquals(1, calls.get());
+    assertTrue(((Try.Deferred<Integer>) deferred).isEvaluated());
+  }
+
+  @Test
+  void assertFailureIsRemembered() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Try<Integer> deferred =
+        Try.defer(
+            () -> {
+              calls.incrementAndGet();
+              throw new IOException("failure");
+            });
+
+    assertTrue(deferred.isFailure());
+    assertThrows(IOException.class, deferred::get);
+    assertEquals(Optional.empty(), deferred.toOptional());
+    assertEquals(1, calls.get());
+
+    final AtomicReference<Throwable> exception = new AtomicReference<>();
+    deferred.ifFailure(exception::set);
+    assertInstanceOf(IOException.class, exception.get());
+  }
+
+  @Test
+  void assertCombinatorsStayLazy() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Try<Integer> deferred = Try.defer(calls::incrementAndGet);
+
+    final Try<String> mapped =
+        deferred
+            .map(i -> i + 1)
+            .filter(i -> i > 0)
+            .flatMap(i -> Try.success("value " + i))
+            .orElseTry(() -> "fallback");
+    assertEquals(0, calls.get());
+
+    assertEquals("value 2", mapped.get());
+    assertEquals(1, calls.get());
+
+    assertEquals(1, deferred.mapToInt(i -> i).getAsInt());
+    assertEquals(1L, deferred.mapToLong(i -> i).getAsLong());
+    assertEquals(1.0, deferred.mapToDouble(i -> i).getAsDouble());
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void assertLazyFailures() {
+    final Try<Integer> deferred = Try.defer(() -> 1);
+
+    assertThrows(NoSuchElementException.class, deferred.filter(i -> i > 1)::get);
+    assertThrows(IOException.class, deferred.map(i -> failWith(new IOException()))::get);
+    assertEquals(2, Try.<Integer>defer(() -> failWith(new IOException())).orElseTry(() -> 2).get());
+  }
+
+  @Test
+  void assertRecursiveAccessFails() {
+    final AtomicReference<Try<Integer>> self = new AtomicReference<>();
+    self.set(Try.defer(() -> self.get().get()));
+
+    assertThrows(IllegalStateException.class, self.get()::get);
+  }
+
+  @Test
+  void assertConcurrentAccessEvaluatesOnce() throws Exception {
+    final int threads = 8;
+    final AtomicInteger calls = new AtomicInteger();
+    final CountDownLatch start = new CountDownLatch(1);
+    final Try<Integer> deferred =
+        Try.defer(
+            () -> {
+              Thread.sleep(10);
+              return calls.incrementAndGet();
+            });
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return deferred.get();
+                }));
+      }
+      start.countDown();
+
+      for (Future<Integer> future : futures) {
+        assertEquals(1, future.get());
+      }
+      assertEquals(1, calls.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void assertNullArguments() {
+    assertThrows(NullPointerException.class, () -> Try.defer(null));
+
+    final Try<Integer> deferred = Try.defer(() -> 1);
+    assertThrows(NullPointerException.class, () -> deferred.map(null));
+    assertThrows(NullPointerException.class, () -> deferred.flatMap(null));
+    assertThrows(NullPointerException.class, () -> deferred.filter(null));
+    assertThrows(NullPointerException.class, () -> deferred.orElseTry(null));
+  }
+
+  private static <T> T failWith(Exception exception) throws Exception {
+    throw exception;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TryDoubleBatchTest {
+  private static double parse(String value) throws IOException {
+    if (value.isEmpty()) {
+      throw new IOException("Empty value");
+    }
+    return Double.parseDouble(value);
+  }
+
+  @Test
+  void assertMapping() {
+    TryDoubleBatch batch =
+        TryDoubleBatch.map(Arrays.asList("1", "", "3", ""), TryDoubleBatchTest::parse);
+
+    assertEquals(4, batch.size());
+    assertEquals(2, batch.failureCount());
+    assertEquals(2, batch.successCount());
+    assertEquals(3.0, batch.getAsDouble(2));
+    assertThrows(IOException.class, () -> batch.getAsDouble(1));
+    assertArrayEquals(new double[] {1.0, 3.0}, batch.successes());
+    assertEquals(Arrays.asList(1, 3), Arrays.asList(batch.failures().keySet().toArray()));
+    assertTrue(batch.firstFailure().isPresent());
+
+    List<TryDouble> tries = batch.toTryList();
+    assertTrue(tries.get(1).isFailure());
+    assertEquals(1.0, tries.get(0).getAsDouble());
+  }
+
+  @Test
+  void assertArrayMapping() {
+    TryDoubleBatch batch = TryDoubleBatch.map(new String[] {"1", "2"}, TryDoubleBatchTest::parse);
+    assertArrayEquals(new double[] {1.0, 2.0}, batch.successes());
+    assertFalse(batch.firstFailure().isPresent());
+  }
+
+  @Test
+  void assertBuilder() {
+    IOException exception = new IOException();
+    TryDoubleBatch.Builder builder = TryDoubleBatch.builder();
+    for (int i = 0; i < 20; i++) {
+      builder.add(TryDouble.success(i));
+    }
+    builder.addFailure(exception).add(TryDouble.failure(exception));
+
+    TryDoubleBatch batch = builder.build();
+    assertEquals(22, batch.size());
+    assertEquals(20, batch.successes().length);
+    assertSame(exception, batch.failures().get(21));
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import org.junit.jupiter.api.Test;
+
+class TryDoubleTest {
+  private static final TryDouble SUCCESS_SAMPLE = TryDouble.success(1.0);
+  private static final TryDouble FAILURE_SAMPLE = TryDouble.failure(new IllegalStateException());
+
+  @Test
+  void assertGet() {
+    assertEquals(1.0, SUCCESS_SAMPLE.getAsDouble());
+    assertThrows(IllegalStateException.class, FAILURE_SAMPLE::getAsDouble);
+  }
+
+  @Test
+  void assertCreationUsingSupplier() {
+    TryDouble nullSupplier = TryDouble.of(null);
+    assertTrue(nullSupplier.isFailure());
+    assertThrows(NullPointerException.class, nullSupplier::getAsDouble);
+
+    TryDouble throwableSupplier =
+        TryDouble.of(
+            () -> {
+              throw new Exception();
+            });
+    assertFalse(throwableSupplier.isSuccess());
+    assertTrue(throwableSupplier.isFailure());
+    assertThrows(Exception.class, throwableSupplier::getAsDouble);
+
+    TryDouble success = TryDouble.of(() -> 1.0);
+    assertTrue(success.isSuccess());
+    assertFalse(success.isFailure());
+    assertEquals(1.0, success.getAsDouble());
+  }
+
+  @Test
+  void assertCreationUsingOptional() {
+    assertThrows(NullPointerException.class, TryDouble.fromOptional(null)::getAsDouble);
+    assertThrows(
+        NoSuchElementException.class, TryDouble.fromOptional(OptionalDouble.empty())::getAsDouble);
+    assertEquals(1.0, TryDouble.fromOptional(OptionalDouble.of(1.0)).getAsDouble());
+  }
+
+  @Test
+  void assertCreationUsingDirectApproach() {
+    assertThrows(NullPointerException.class, () -> TryDouble.failure(null));
+  }
+
+  @Test
+  void assertConditionalExecutionDependingOnValuePresence() {
+    SUCCESS_SAMPLE.ifSuccess(value -> assertEquals(1.0, value));
+    SUCCESS_SAMPLE.ifFailure(throwable -> fail());
+    SUCCESS_SAMPLE.ifSuccessOrElse(value -> assertEquals(1.0, value), throwable -> fail());
+
+    FAILURE_SAMPLE.ifSuccess(value -> fail());
+    FAILURE_SAMPLE.ifFailure(
+        throwable -> assertEquals(IllegalStateException.class, throwable.getClass()));
+    FAILURE_SAMPLE.ifSuccessOrElse(
+        value -> fail(),
+        throwable -> assertEquals(IllegalStateException.class, throwable.getClass()));
+  }
+
+  @Test
+  void assertFiltering() {
+    assertEquals(1.0, SUCCESS_SAMPLE.filter(value -> value == 1.0).getAsDouble());
+    assertThrows(
+        NoSuchElementException.class, SUCCESS_SAMPLE.filter(value -> value != 1.0)::getAsDouble);
+    assertThrows(
+        Exception.class,
+        SUCCESS_SAMPLE.filter(
+                value -> {
+                  throw new Exception();
+                })
+            ::getAsDouble);
+    assertThrows(
+        IllegalStateException.class, FAILURE_SAMPLE.filter(value -> value == 1.0)::getAsDouble);
+  }
+
+  @Test
+  void assertMapping() {
+    assertEquals(2.0, SUCCESS_SAMPLE.map(value -> value * 2).getAsDouble());
+    assertEquals((int) 1.0, SUCCESS_SAMPLE.mapToInt(value -> (int) value).getAsInt());
+    assertEquals((long) 1.0, SUCCESS_SAMPLE.mapToLong(value -> (long) value).getAsLong());
+    assertEquals("1", SUCCESS_SAMPLE.mapToObj(value -> String.valueOf((int) value)).get());
+    assertThrows(
+        Exception.class,
+        SUCCESS_SAMPLE.map(
+                value -> {
+                  throw new Exception();
+                })
+            ::getAsDouble);
+
+    assertThrows(IllegalStateException.class, FAILURE_SAMPLE.map(value -> value * 2)::getAsDouble);
+    assertThrows(
+        IllegalStateException.class, FAILURE_SAMPLE.mapToInt(value -> (int) value)::getAsInt);
+    assertThrows(
+        IllegalStateException.class, FAILURE_SAMPLE.mapToLong(value -> (long) value)::getAsLong);
+    assertThrows(IllegalStateException.class, FAILURE_SAMPLE.mapToObj(String::valueOf)::get);
+  }
+
+  @Test
+  void assertFlatMapping() {
+    assertEquals(2.0, SUCCESS_SAMPLE.flatMap(value -> TryDouble.success(value * 2)).getAsDouble());
+    assertThrows(
+        IllegalArgumentException.class,
+        SUCCESS_SAMPLE.flatMap(value -> TryDouble.failure(new IllegalArgumentException()))
+            ::getAsDouble);
+    assertThrows(
+        IllegalStateException.class, FAILURE_SAMPLE.flatMap(TryDouble::success)::getAsDouble);
+  }
+
+  @Test
+  void assertConversionToAndFromTry() {
+    assertEquals(Double.valueOf(1.0), SUCCESS_SAMPLE.boxed().get());
+    assertThrows(IllegalStateException.class, FAILURE_SAMPLE.boxed()::get);
+
+    assertEquals(
+        1.0, Try.success(Double.valueOf(1.0)).mapToDouble(Double::doubleValue).getAsDouble());
+    assertThrows(
+        IllegalStateException.class,
+        Try.<Double>failure(new IllegalStateException()).mapToDouble(Double::doubleValue)
+            ::getAsDouble);
+  }
+
+  @Test
+  void assertConversionToOptional() {
+    assertEquals(OptionalDouble.of(1.0), SUCCESS_SAMPLE.toOptional());
+    assertEquals(OptionalDouble.empty(), FAILURE_SAMPLE.toOptional());
+  }
+
+  @Test
+  void assertRecovery() {
+    assertEquals(1.0, SUCCESS_SAMPLE.orElse(2.0));
+    assertEquals(1.0, SUCCESS_SAMPLE.orElse(() -> 2.0));
+    assertEquals(1.0, SUCCESS_SAMPLE.orElseTry(() -> 2.0).getAsDouble());
+
+    assertEquals(2.0, FAILURE_SAMPLE.orElse(2.0));
+    assertEquals(2.0, FAILURE_SAMPLE.orElse(() -> 2.0));
+    assertEquals(2.0, FAILURE_SAMPLE.orElseTry(() -> 2.0).getAsDouble());
+    assertThrows(NullPointerException.class, () -> FAILURE_SAMPLE.orElse(null));
+  }
+}
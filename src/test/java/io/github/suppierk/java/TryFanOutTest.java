@@ -0,0 +1,230 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.suppierk.java.lang.ThrowableRunnable;
+import io.github.suppierk.java.util.function.ThrowableSupplier;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TryFanOutTest {
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void assertAllOfKeepsSupplierOrder() {
+    final List<ThrowableSupplier<Integer>> suppliers = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      final int value = i;
+      suppliers.add(
+          () -> {
+            Thread.sleep(20 - value);
+            return value;
+          });
+    }
+
+    final List<Integer> values = Try.allOf(executor, suppliers).get();
+    for (int i = 0; i < 20; i++) {
+      assertEquals(i, values.get(i));
+    }
+    assertThrows(UnsupportedOperationException.class, () -> values.add(1));
+    assertEquals(Collections.emptyList(), Try.allOf(executor, Collections.emptyList()).get());
+  }
+
+  @Test
+  void assertFirstFailureCancelsSiblings() throws InterruptedException {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+
+    final ThrowableSupplier<Integer> straggler =
+        () -> {
+          started.countDown();
+          try {
+            Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+          } catch (InterruptedException e) {
+            interrupted.countDown();
+            throw e;
+          }
+          return 0;
+        };
+    final ThrowableSupplier<Integer> failing =
+        () -> {
+          started.await();
+          throw new IOException();
+        };
+
+    final Try<List<Integer>> result = Try.allOf(executor, Arrays.asList(straggler, failing));
+
+    assertThrows(IOException.class, result::get);
+    assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void assertCollectAllSuppressesUpToCap() {
+    final AtomicInteger calls = new AtomicInteger();
+    final List<ThrowableSupplier<Integer>> suppliers = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      suppliers.add(
+          () -> {
+            calls.incrementAndGet();
+            throw new IOException();
+          });
+    }
+    suppliers.add(() -> 1);
+
+    final AtomicReference<Throwable> exception = new AtomicReference<>();
+    Try.allOf(executor, suppliers, 3).ifFailure(exception::set);
+
+    assertInstanceOf(IOException.class, exception.get());
+    assertEquals(3, exception.get().getSuppressed().length);
+    assertEquals(10, calls.get());
+
+    final Throwable shared = new IOException();
+    final AtomicReference<Throwable> sharedException = new AtomicReference<>();
+    Try.allOf(executor, Arrays.asList(() -> fail(shared), () -> fail(shared)), 3)
+        .ifFailure(sharedException::set);
+    assertSame(shared, sharedException.get());
+    assertEquals(0, shared.getSuppressed().length);
+  }
+
+  @Test
+  void assertAnyOf() throws InterruptedException {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    final ThrowableSupplier<Integer> straggler =
+        () -> {
+          started.countDown();
+          try {
+            Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+          } catch (InterruptedException e) {
+            interrupted.countDown();
+            throw e;
+          }
+          return 0;
+        };
+
+    assertEquals(
+        1,
+        Try.anyOf(
+                executor,
+                Arrays.asList(
+                    straggler,
+                    () -> fail(new IOException()),
+                    () -> started.await(10, TimeUnit.SECONDS) ? 1 : 0))
+            .get());
+    assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+
+    final AtomicReference<Throwable> exception = new AtomicReference<>();
+    Try.<Integer>anyOf(
+            executor, Arrays.asList(() -> fail(new IOException()), () -> fail(new IOException())))
+        .ifFailure(exception::set);
+    assertInstanceOf(IOException.class, exception.get());
+    assertEquals(1, exception.get().getSuppressed().length);
+
+    assertThrows(NoSuchElementException.class, Try.anyOf(executor, Collections.emptyList())::get);
+  }
+
+  @Test
+  void assertAnyOfSuppressesUpToCap() {
+    final List<ThrowableSupplier<Integer>> suppliers = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      suppliers.add(() -> fail(new IOException()));
+    }
+
+    final AtomicReference<Throwable> exception = new AtomicReference<>();
+    Try.anyOf(executor, suppliers, 3).ifFailure(exception::set);
+    assertInstanceOf(IOException.class, exception.get());
+    assertEquals(3, exception.get().getSuppressed().length);
+
+    assertThrows(IllegalArgumentException.class, () -> Try.anyOf(executor, suppliers, -1));
+  }
+
+  @Test
+  void assertRunAll() {
+    final AtomicInteger calls = new AtomicInteger();
+
+    assertTrue(Try.runAll(executor, calls::incrementAndGet, calls::incrementAndGet).isSuccess());
+    assertEquals(2, calls.get());
+
+    assertThrows(
+        IOException.class,
+        Try.runAll(executor, calls::incrementAndGet, () -> fail(new IOException()))::get);
+
+    final AtomicReference<Throwable> exception = new AtomicReference<>();
+    Try.runAll(executor, 1, () -> fail(new IOException()), () -> fail(new IOException()))
+        .ifFailure(exception::set);
+    assertEquals(1, exception.get().getSuppressed().length);
+  }
+
+  @Test
+  void assertRejectedExecution() {
+    executor.shutdown();
+    assertThrows(
+        RejectedExecutionException.class,
+        Try.allOf(executor, Collections.singletonList(() -> 1))::get);
+  }
+
+  @Test
+  void assertInvalidArguments() {
+    final List<ThrowableSupplier<Integer>> suppliers = Collections.singletonList(() -> 1);
+
+    assertThrows(NullPointerException.class, () -> Try.allOf(null, suppliers));
+    assertThrows(NullPointerException.class, () -> Try.allOf(executor, null));
+    assertThrows(
+        NullPointerException.class, () -> Try.allOf(executor, Collections.singletonList(null)));
+    assertThrows(IllegalArgumentException.class, () -> Try.allOf(executor, suppliers, -1));
+    assertThrows(NullPointerException.class, () -> Try.anyOf(null, suppliers));
+    assertThrows(NullPointerException.class, () -> Try.runAll(executor, (ThrowableRunnable) null));
+  }
+
+  private static <T> T fail(Throwable exception) throws Throwable {
+    throw exception;
+  }
+}
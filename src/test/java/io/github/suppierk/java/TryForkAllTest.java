@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TryForkAllTest {
+  private static final int CALLS = 1_000;
+
+  @Test
+  void assertResultsKeepInputOrder() {
+    final List<Integer> values = new ArrayList<>();
+    for (int i = 0; i < CALLS; i++) {
+      values.add(i);
+    }
+
+    final List<Try<Integer>> results =
+        Try.forkAll(
+            values,
+            value -> {
+              if (value % 10 == 0) {
+                throw new IOException("Value " + value);
+              }
+              Thread.sleep(1);
+              return value * 2;
+            });
+
+    assertEquals(CALLS, results.size());
+    for (int i = 0; i < CALLS; i++) {
+      if (i % 10 == 0) {
+        assertThrows(IOException.class, results.get(i)::get);
+      } else {
+        assertEquals(i * 2, results.get(i).get());
+      }
+    }
+    assertThrows(UnsupportedOperationException.class, () -> results.add(Try.success(0)));
+  }
+
+  @Test
+  void assertCallsRunConcurrently() {
+    final int parties = 8;
+    final CountDownLatch latch = new CountDownLatch(parties);
+    final List<Integer> values = Collections.nCopies(parties, 1);
+
+    final List<Try<Boolean>> results =
+        Try.forkAll(
+            values,
+            value -> {
+              latch.countDown();
+              return latch.await(10, TimeUnit.SECONDS);
+            });
+
+    for (Try<Boolean> result : results) {
+      assertTrue(result.get());
+    }
+  }
+
+  @Test
+  void assertExecutorOverload() {
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final List<Try<String>> results =
+          Try.forkAll(executor, Arrays.asList(1, 2, 3), String::valueOf);
+      assertEquals("1", results.get(0).get());
+      assertEquals("3", results.get(2).get());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    final List<Try<String>> rejected = Try.forkAll(executor, Arrays.asList(1, 2), String::valueOf);
+    assertThrows(RejectedExecutionException.class, rejected.get(0)::get);
+    assertThrows(RejectedExecutionException.class, rejected.get(1)::get);
+  }
+
+  @Test
+  void assertEmptyAndNullArguments() {
+    assertEquals(Collections.emptyList(), Try.forkAll(Collections.emptyList(), value -> value));
+
+    assertThrows(NullPointerException.class, () -> Try.forkAll(null, value -> value));
+    assertThrows(NullPointerException.class, () -> Try.forkAll(Collections.singletonList(1), null));
+    assertThrows(
+        NullPointerException.class,
+        () -> Try.forkAll(null, Collections.singletonList(1), value -> value));
+  }
+}
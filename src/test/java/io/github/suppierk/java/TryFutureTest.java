@@ -0,0 +1,251 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class TryFutureTest {
+  @Test
+  void assertSupplyAsync() {
+    assertEquals(1, TryFuture.supplyAsync(() -> 1).join().get());
+    assertThrows(IOException.class, TryFuture.supplyAsync(TryFutureTest::fail).join()::get);
+
+    final CountingExecutor executor = new CountingExecutor();
+    assertEquals(1, TryFuture.supplyAsync(() -> 1, executor).join().get());
+    assertEquals(1, executor.tasks.get());
+  }
+
+  @Test
+  void assertContinuationsRunInlineWhenComplete() {
+    final Thread caller = Thread.currentThread();
+    final AtomicReference<Thread> mapper = new AtomicReference<>();
+    final AtomicReference<Thread> flatMapper = new AtomicReference<>();
+
+    final TryFuture<Integer> future =
+        TryFuture.completed(Try.success(1))
+            .map(
+                value -> {
+                  mapper.set(Thread.currentThread());
+                  return value + 1;
+                })
+            .flatMap(
+                value -> {
+                  flatMapper.set(Thread.currentThread());
+                  return TryFuture.completed(Try.success(value + 1));
+                });
+
+    assertTrue(future.isDone());
+    assertEquals(3, future.join().get());
+    assertSame(caller, mapper.get());
+    assertSame(caller, flatMapper.get());
+  }
+
+  @Test
+  void assertAsyncContinuations() {
+    final CountingExecutor executor = new CountingExecutor();
+
+    final Try<Integer> result =
+        TryFuture.completed(Try.success(1))
+            .mapAsync(value -> value + 1, executor)
+            .flatMapAsync(value -> TryFuture.completed(Try.success(value + 1)), executor)
+            .mapAsync(value -> value + 1)
+            .flatMapAsync(value -> TryFuture.supplyAsync(() -> value + 1))
+            .join();
+
+    assertEquals(5, result.get());
+    assertEquals(2, executor.tasks.get());
+  }
+
+  @Test
+  void assertAsyncMappersRunInExecutor() {
+    final Thread caller = Thread.currentThread();
+    final AtomicReference<Thread> mapper = new AtomicReference<>();
+    final AtomicReference<Thread> flatMapper = new AtomicReference<>();
+    final Executor executor = new ThreadPerTaskExecutor();
+
+    assertEquals(
+        3,
+        TryFuture.completed(Try.success(1))
+            .mapAsync(
+                value -> {
+                  mapper.set(Thread.currentThread());
+                  return value + 1;
+                },
+                executor)
+            .flatMapAsync(
+                value -> {
+                  flatMapper.set(Thread.currentThread());
+                  return TryFuture.completed(Try.success(value + 1));
+                },
+                executor)
+            .join()
+            .get());
+    assertNotSame(caller, mapper.get());
+    assertNotSame(caller, flatMapper.get());
+    assertNotSame(mapper.get(), flatMapper.get());
+  }
+
+  @Test
+  void assertDefaultExecutorIsNotCommonPool() {
+    final Thread thread = TryFuture.supplyAsync(Thread::currentThread).join().get();
+    assertNotSame(Thread.currentThread(), thread);
+    assertTrue(thread.isDaemon());
+    assertFalse(thread.getName().startsWith("ForkJoinPool.commonPool"));
+  }
+
+  @Test
+  void assertFailuresSkipExecutor() {
+    final CountingExecutor executor = new CountingExecutor();
+
+    final Try<Integer> result =
+        TryFuture.<Integer>completed(Try.failure(new IOException()))
+            .mapAsync(value -> value + 1, executor)
+            .flatMapAsync(value -> TryFuture.completed(Try.success(value)), executor)
+            .join();
+
+    assertThrows(IOException.class, result::get);
+    assertEquals(0, executor.tasks.get());
+  }
+
+  @Test
+  void assertMapperFailures() {
+    final TryFuture<Integer> future = TryFuture.completed(Try.success(1));
+
+    assertThrows(IOException.class, future.map(value -> fail()).join()::get);
+    assertThrows(IOException.class, future.mapAsync(value -> fail()).join()::get);
+    assertThrows(IOException.class, future.flatMap(value -> fail()).join()::get);
+    assertThrows(IOException.class, future.flatMapAsync(value -> fail()).join()::get);
+    assertThrows(NullPointerException.class, future.flatMap(value -> null).join()::get);
+  }
+
+  @Test
+  void assertRecover() {
+    assertEquals(
+        2,
+        TryFuture.<Integer>supplyAsync(TryFutureTest::fail)
+            .recover(t -> t instanceof IOException ? 2 : 0)
+            .join()
+            .get());
+    assertEquals(1, TryFuture.completed(Try.success(1)).recover(t -> 2).join().get());
+    assertThrows(
+        IllegalStateException.class,
+        TryFuture.<Integer>supplyAsync(TryFutureTest::fail)
+                .recover(
+                    t -> {
+                      throw new IllegalStateException();
+                    })
+                .join()
+            ::get);
+  }
+
+  @Test
+  void assertCompletionStageConversions() {
+    final CompletableFuture<Integer> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new CompletionException(new IOException()));
+
+    assertEquals(
+        1, TryFuture.fromCompletionStage(CompletableFuture.completedFuture(1)).join().get());
+    assertThrows(IOException.class, TryFuture.fromCompletionStage(failed).join()::get);
+
+    final ExecutionException exception =
+        assertThrows(
+            ExecutionException.class,
+            () -> TryFuture.<Integer>supplyAsync(TryFutureTest::fail).toCompletableFuture().get());
+    assertInstanceOf(IOException.class, exception.getCause());
+    assertEquals(1, TryFuture.completed(Try.success(1)).toCompletableFuture().join());
+  }
+
+  @Test
+  void assertJoinNeverThrows() {
+    final CompletableFuture<Integer> pending = new CompletableFuture<>();
+    final TryFuture<Integer> future = TryFuture.fromCompletionStage(pending);
+
+    assertFalse(future.isDone());
+    assertThrows(TimeoutException.class, future.join(1, TimeUnit.MILLISECONDS)::get);
+
+    pending.cancel(false);
+    assertThrows(CancellationException.class, future.join()::get);
+    assertThrows(CancellationException.class, future.join(1, TimeUnit.SECONDS)::get);
+  }
+
+  @Test
+  void assertNullArguments() {
+    final TryFuture<Integer> future = TryFuture.completed(Try.success(1));
+
+    assertThrows(NullPointerException.class, () -> TryFuture.supplyAsync(null));
+    assertThrows(NullPointerException.class, () -> TryFuture.supplyAsync(() -> 1, null));
+    assertThrows(NullPointerException.class, () -> TryFuture.completed(null));
+    assertThrows(NullPointerException.class, () -> TryFuture.fromCompletionStage(null));
+    assertThrows(NullPointerException.class, () -> future.map(null));
+    assertThrows(NullPointerException.class, () -> future.mapAsync(null));
+    assertThrows(NullPointerException.class, () -> future.mapAsync(value -> value, null));
+    assertThrows(NullPointerException.class, () -> future.flatMap(null));
+    assertThrows(NullPointerException.class, () -> future.flatMapAsync(null));
+    assertThrows(NullPointerException.class, () -> future.flatMapAsync(value -> future, null));
+    assertThrows(NullPointerException.class, () -> future.recover(null));
+    assertThrows(NullPointerException.class, () -> future.join(1, null));
+  }
+
+  private static <T> T fail() throws IOException {
+    throw new IOException();
+  }
+
+  /** Runs every task in a new thread and waits for it, so tasks complete before continuations. */
+  private static final class ThreadPerTaskExecutor implements Executor {
+    @Override
+    public void execute(Runnable command) {
+      final Thread thread = new Thread(command);
+      thread.start();
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private static final class CountingExecutor implements Executor {
+    private final AtomicInteger tasks = new AtomicInteger();
+
+    @Override
+    public void execute(Runnable command) {
+      tasks.incrementAndGet();
+      ForkJoinPool.commonPool().execute(command);
+    }
+  }
+}
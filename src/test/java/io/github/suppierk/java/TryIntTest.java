@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Test;
+
+class TryIntTest {
+  private static final TryInt SUCCESS_SAMPLE = TryInt.success(1);
+  private static final TryInt FAILURE_SAMPLE = TryInt.failure(new IllegalStateException());
+
+  @Test
+  void assertGet() {
+    assertEquals(1, SUCCESS_SAMPLE.getAsInt());
+    assertThrows(IllegalStateException.class, FAILURE_SAMPLE::getAsInt);
+  }
+
+  @Test
+  void assertCreationUsingSupplier() {
+    TryInt nullSupplier = TryInt.of(null);
+    assertTrue(nullSupplier.isFailure());
+    assertThrows(NullPointerException.class, nullSupplier::getAsInt);
+
+    TryInt throwableSupplier =
+        TryInt.of(
+            () -> {
+              throw new Exception();
+            });
+    assertFalse(throwableSupplier.isSuccess());
+    assertTrue(throwableSupplier.isFailure());
+    assertThrows(Exception.class, throwableSupplier::getAsInt);
+
+    TryInt success = TryInt.of(() -> 1);
+    assertTrue(success.isSuccess());
+    assertFalse(success.isFailure());
+    assertEquals(1, success.getAsInt());
+  }
+
+  @Test
+  void assertCreationUsingOptional() {
+    assertThrows(NullPointerException.class, TryInt.fromOptional(null)::getAsInt);
+    assertThrows(NoSuchElementException.class, TryInt.fromOptional(OptionalInt.empty())::getAsInt);
+    assertEquals(1, TryInt.fromOptional(OptionalInt.of(1)).getAsInt());
+  }
+
+  @Test
+  void assertCreationUsingDirectApproach() {
+    assertThrows(NullPointerException.class, () -> TryInt.failure(null));
+  }
+
+  @Test
+  void assertConditionalExecutionDependingOnValuePresence() {
+    SUCCESS_SAMPLE.ifSuccess(value -> assertEquals(1, value));
+    SUCCESS_SAMPLE.ifFailure(throwable -> fail());
+    SUCCESS_SAMPLE.ifSuccessOrElse(value -> assertEquals(1, value), throwable -> fail());
+
+    FAILURE_SAMPLE.ifSuccess(value -> fail());
+    FAILURE_SAMPLE.ifFailure(
+        throwable -> assertEquals(IllegalStateException.class, throwable.getClass()));
+    FAILURE_SAMPLE.ifSuccessOrElse(
+        value -> fail(),
+        throwable -> assertEquals(IllegalStateException.class, throwable.getClass()));
+  }
+
+  @Test
+  void assertFiltering() {
+    assertEquals(1, SUCCESS_SAMPLE.filter(value -> value == 1).getAsInt());
+    assertThrows(
+        NoSuchElementException.class, SUCCESS_SAMPLE.filter(value -> value != 1)::getAsInt);
+    assertThrows(
+        Exception.class,
+        SUCCESS_SAMPLE.filter(
+                value -> {
+                  throw new Exception();
+                })
+            ::getAsInt);
+    assertThrows(IllegalStateException.class, FAILURE_SAMPLE.filter(value -> value == 1)::getAsInt);
+  }
+
+  @Test
+  void assertMapping() {
+    assertEquals(2, SUCCESS_SAMPLE.map(value -> value * 2).getAsInt());
+    assertEquals((long) 1, SUCCESS_SAMPLE.mapToLong(value -> (long) value).getAsLong());
+    assertEquals((double) 1, SUCCESS_SAMPLE.mapToDouble(value -> (double) value).getAsDouble());
+    assertEquals("1", SUCCESS_SAMPLE.mapToObj(value -> String.valueOf((int) value)).get());
+    assertThrows(
+        Exception.class,
+        SUCCESS_SAMPLE.map(
+                value -> {
+                  throw new Exception();
+                })
+            ::getAsInt);
+
+    assertThrows(IllegalStateException.class, FAILURE_SAMPLE.map(value -> value * 2)::getAsInt);
+    assertThrows(
+        IllegalStateException.class, FAILURE_SAMPLE.mapToLong(value -> (long) value)::getAsLong);
+    assertThrows(
+        IllegalStateException.class,
+        FAILURE_SAMPLE.mapToDouble(value -> (double) value)::getAsDouble);
+    assertThrows(IllegalStateException.class, FAILURE_SAMPLE.mapToObj(String::valueOf)::get);
+  }
+
+  @Test
+  void assertFlatMapping() {
+    assertEquals(2, SUCCESS_SAMPLE.flatMap(value -> TryInt.success(value * 2)).getAsInt());
+    assertThrows(
+        IllegalArgumentException.class,
+        SUCCESS_SAMPLE.flatMap(value -> TryInt.failure(new IllegalArgumentException()))::getAsInt);
+    assertThrows(IllegalStateException.class, FAILURE_SAMPLE.flatMap(TryInt::success)::getAsInt);
+  }
+
+  @Test
+  void assertConversionToAndFromTry() {
+    assertEquals(Integer.valueOf(1), SUCCESS_SAMPLE.boxed().get());
+    assertThrows(IllegalStateException.class, FAILURE_SAMPLE.boxed()::get);
+
+    assertEquals(1, Try.success(Integer.valueOf(1)).mapToInt(Integer::intValue).getAsInt());
+    assertThrows(
+        IllegalStateException.class,
+        Try.<Integer>failure(new IllegalStateException()).mapToInt(Integer::intValue)::getAsInt);
+  }
+
+  @Test
+  void assertConversionToOptional() {
+    assertEquals(OptionalInt.of(1), SUCCESS_SAMPLE.toOptional());
+    assertEquals(OptionalInt.empty(), FAILURE_SAMPLE.toOptional());
+  }
+
+  @Test
+  void assertRecovery() {
+    assertEquals(1, SUCCESS_SAMPLE.orElse(2));
+    assertEquals(1, SUCCESS_SAMPLE.orElse(() -> 2));
+    assertEquals(1, SUCCESS_SAMPLE.orElseTry(() -> 2).getAsInt());
+
+    assertEquals(2, FAILURE_SAMPLE.orElse(2));
+    assertEquals(2, FAILURE_SAMPLE.orElse(() -> 2));
+    assertEquals(2, FAILURE_SAMPLE.orElseTry(() -> 2).getAsInt());
+    assertThrows(NullPointerException.class, () -> FAILURE_SAMPLE.orElse(null));
+  }
+}
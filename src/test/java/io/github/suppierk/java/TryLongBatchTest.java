@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TryLongBatchTest {
+  private static long parse(String value) throws IOException {
+    if (value.isEmpty()) {
+      throw new IOException("Empty value");
+    }
+    return Long.parseLong(value);
+  }
+
+  @Test
+  void assertMapping() {
+    TryLongBatch batch = TryLongBatch.map(Arrays.asList("1", "", "3", ""), TryLongBatchTest::parse);
+
+    assertEquals(4, batch.size());
+    assertEquals(2, batch.failureCount());
+    assertEquals(2, batch.successCount());
+    assertEquals(3L, batch.getAsLong(2));
+    assertThrows(IOException.class, () -> batch.getAsLong(1));
+    assertArrayEquals(new long[] {1L, 3L}, batch.successes());
+    assertEquals(Arrays.asList(1, 3), Arrays.asList(batch.failures().keySet().toArray()));
+    assertTrue(batch.firstFailure().isPresent());
+
+    List<TryLong> tries = batch.toTryList();
+    assertTrue(tries.get(1).isFailure());
+    assertEquals(1L, tries.get(0).getAsLong());
+  }
+
+  @Test
+  void assertArrayMapping() {
+    TryLongBatch batch = TryLongBatch.map(new String[] {"1", "2"}, TryLongBatchTest::parse);
+    assertArrayEquals(new long[] {1L, 2L}, batch.successes());
+    assertFalse(batch.firstFailure().isPresent());
+  }
+
+  @Test
+  void assertBuilder() {
+    IOException exception = new IOException();
+    TryLongBatch.Builder builder = TryLongBatch.builder();
+    for (int i = 0; i < 20; i++) {
+      builder.add(TryLong.success(i));
+    }
+    builder.addFailure(exception).add(TryLong.failure(exception));
+
+    TryLongBatch batch = builder.build();
+    assertEquals(22, batch.size());
+    assertEquals(20, batch.successes().length);
+    assertSame(exception, batch.failures().get(21));
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+
+class TryLongTest {
+  private static final TryLong SUCCESS_SAMPLE = TryLong.success(1L);
+  private static final TryLong FAILURE_SAMPLE = TryLong.failure(new IllegalStateException());
+
+  @Test
+  void assertGet() {
+    assertEquals(1L, SUCCESS_SAMPLE.getAsLong());
+    assertThrows(IllegalStateException.class, FAILURE_SAMPLE::getAsLong);
+  }
+
+  @Test
+  void assertCreationUsingSupplier() {
+    TryLong nullSupplier = TryLong.of(null);
+    assertTrue(nullSupplier.isFailure());
+    assertThrows(NullPointerException.class, nullSupplier::getAsLong);
+
+    TryLong throwableSupplier =
+        TryLong.of(
+            () -> {
+              throw new Exception();
+            });
+    assertFalse(throwableSupplier.isSuccess());
+    assertTrue(throwableSupplier.isFailure());
+    assertThrows(Exception.class, throwableSupplier::getAsLong);
+
+    TryLong success = TryLong.of(() -> 1L);
+    assertTrue(success.isSuccess());
+    assertFalse(success.isFailure());
+    assertEquals(1L, success.getAsLong());
+  }
+
+  @Test
+  void assertCreationUsingOptional() {
+    assertThrows(NullPointerException.class, TryLong.fromOptional(null)::getAsLong);
+    assertThrows(
+        NoSuchElementException.class, TryLong.fromOptional(OptionalLong.empty())::getAsLong);
+    assertEquals(1L, TryLong.fromOptional(OptionalLong.of(1L)).getAsLong());
+  }
+
+  @Test
+  void assertCreationUsingDirectApproach() {
+    assertThrows(NullPointerException.class, () -> TryLong.failure(null));
+  }
+
+  @Test
+  void assertConditionalExecutionDependingOnValuePresence() {
+    SUCCESS_SAMPLE.ifSuccess(value -> assertEquals(1L, value));
+    SUCCESS_SAMPLE.ifFailure(throwable -> fail());
+    SUCCESS_SAMPLE.ifSuccessOrElse(value -> assertEquals(1L, value), throwable -> fail());
+
+    FAILURE_SAMPLE.ifSuccess(value -> fail());
+    FAILURE_SAMPLE.ifFailure(
+        throwable -> assertEquals(IllegalStateException.class, throwable.getClass()));
+    FAILURE_SAMPLE.ifSuccessOrElse(
+        value -> fail(),
+        throwable -> assertEquals(IllegalStateException.class, throwable.getClass()));
+  }
+
+  @Test
+  void assertFiltering() {
+    assertEquals(1L, SUCCESS_SAMPLE.filter(value -> value == 1L).getAsLong());
+    assertThrows(
+        NoSuchElementException.class, SUCCESS_SAMPLE.filter(value -> value != 1L)::getAsLong);
+    assertThrows(
+        Exception.class,
+        SUCCESS_SAMPLE.filter(
+                value -> {
+                  throw new Exception();
+                })
+            ::getAsLong);
+    assertThrows(
+        IllegalStateException.class, FAILURE_SAMPLE.filter(value -> value == 1L)::getAsLong);
+  }
+
+  @Test
+  void assertMapping() {
+    assertEquals(2L, SUCCESS_SAMPLE.map(value -> value * 2).getAsLong());
+    assertEquals((int) 1L, SUCCESS_SAMPLE.mapToInt(value -> (int) value).getAsInt());
+    assertEquals((double) 1L, SUCCESS_SAMPLE.mapToDouble(value -> (double) value).getAsDouble());
+    assertEquals("1", SUCCESS_SAMPLE.mapToObj(value -> String.valueOf((int) value)).get());
+    assertThrows(
+        Exception.class,
+        SUCCESS_SAMPLE.map(
+                value -> {
+                  throw new Exception();
+                })
+            ::getAsLong);
+
+    assertThrows(IllegalStateException.class, FAILURE_SAMPLE.map(value -> value * 2)::getAsLong);
+    assertThrows(
+        IllegalStateException.class, FAILURE_SAMPLE.mapToInt(value -> (int) value)::getAsInt);
+    assertThrows(
+        IllegalStateException.class,
+        FAILURE_SAMPLE.mapToDouble(value -> (double) value)::getAsDouble);
+    assertThrows(IllegalStateException.class, FAILURE_SAMPLE.mapToObj(String::valueOf)::get);
+  }
+
+  @Test
+  void assertFlatMapping() {
+    assertEquals(2L, SUCCESS_SAMPLE.flatMap(value -> TryLong.success(value * 2)).getAsLong());
+    assertThrows(
+        IllegalArgumentException.class,
+        SUCCESS_SAMPLE.flatMap(value -> TryLong.failure(new IllegalArgumentException()))
+            ::getAsLong);
+    assertThrows(IllegalStateException.class, FAILURE_SAMPLE.flatMap(TryLong::success)::getAsLong);
+  }
+
+  @Test
+  void assertConversionToAndFromTry() {
+    assertEquals(Long.valueOf(1L), SUCCESS_SAMPLE.boxed().get());
+    assertThrows(IllegalStateException.class, FAILURE_SAMPLE.boxed()::get);
+
+    assertEquals(1L, Try.success(Long.valueOf(1L)).mapToLong(Long::longValue).getAsLong());
+    assertThrows(
+        IllegalStateException.class,
+        Try.<Long>failure(new IllegalStateException()).mapToLong(Long::longValue)::getAsLong);
+  }
+
+  @Test
+  void assertConversionToOptional() {
+    assertEquals(OptionalLong.of(1L), SUCCESS_SAMPLE.toOptional());
+    assertEquals(OptionalLong.empty(), FAILURE_SAMPLE.toOptional());
+  }
+
+  @Test
+  void assertRecovery() {
+    assertEquals(1L, SUCCESS_SAMPLE.orElse(2L));
+    assertEquals(1L, SUCCESS_SAMPLE.orElse(() -> 2L));
+    assertEquals(1L, SUCCESS_SAMPLE.orElseTry(() -> 2L).getAsLong());
+
+    assertEquals(2L, FAILURE_SAMPLE.orElse(2L));
+    assertEquals(2L, FAILURE_SAMPLE.orElse(() -> 2L));
+    assertEquals(2L, FAILURE_SAMPLE.orElseTry(() -> 2L).getAsLong());
+    assertThrows(NullPointerException.class, () -> FAILURE_SAMPLE.orElse(null));
+  }
+}
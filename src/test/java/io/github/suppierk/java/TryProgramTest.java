@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class TryProgramTest {
+  private static final int DEPTH = 100_000;
+
+  @Test
+  void assertInitialSteps() {
+    assertEquals(1, TryProgram.success(1).run().get());
+    assertThrows(IOException.class, TryProgram.failure(new IOException()).run()::get);
+    assertEquals(1, TryProgram.of(() -> 1).run().get());
+    assertThrows(IOException.class, TryProgram.of(TryProgramTest::fail).run()::get);
+    assertEquals(1, TryProgram.fromTry(Try.success(1)).run().get());
+    assertThrows(IOException.class, TryProgram.fromTry(Try.failure(new IOException())).run()::get);
+  }
+
+  @Test
+  void assertProgramIsLazy() {
+    final AtomicInteger calls = new AtomicInteger();
+    final TryProgram<Integer> program =
+        TryProgram.of(calls::incrementAndGet).map(i -> i + 1).flatMap(TryProgram::success);
+
+    assertEquals(0, calls.get());
+    assertEquals(2, program.run().get());
+    assertEquals(3, program.run().get());
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void assertLeftNestedChainIsStackSafe() {
+    TryProgram<Integer> program = TryProgram.success(0);
+    for (int i = 0; i < DEPTH; i++) {
+      program = program.flatMap(value -> TryProgram.success(value + 1)).map(value -> value + 1);
+    }
+
+    assertEquals(2 * DEPTH, program.run().get());
+  }
+
+  @Test
+  void assertRightNestedChainIsStackSafe() {
+    assertEquals(DEPTH, countDown(DEPTH, 0).run().get());
+  }
+
+  @Test
+  void assertFailureSkipsStepsAndHasShallowStackTrace() {
+    final AtomicInteger calls = new AtomicInteger();
+
+    TryProgram<Integer> program = TryProgram.success(0);
+    for (int i = 0; i < DEPTH; i++) {
+      final int step = i;
+      program =
+          program.flatMap(
+              value -> {
+                calls.incrementAndGet();
+                return step == DEPTH / 2
+                    ? TryProgram.of(TryProgramTest::fail)
+                    : TryProgram.success(value + 1);
+              });
+    }
+
+    final AtomicReference<Throwable> exception = new AtomicReference<>();
+    program.run().ifFailure(exception::set);
+
+    assertInstanceOf(IOException.class, exception.get());
+    assertEquals(DEPTH / 2 + 1, calls.get());
+    assertTrue(exception.get().getStackTrace().length < 100);
+  }
+
+  @Test
+  void assertRecovery() {
+    final Try<Integer> recovered =
+        TryProgram.<Integer>failure(new IOException())
+            .map(value -> value + 1)
+            .recover(t -> t instanceof IOException ? 1 : 0)
+            .map(value -> value + 1)
+            .run();
+    assertEquals(2, recovered.get());
+
+    final Try<Integer> recoveredWith =
+        TryProgram.<Integer>of(TryProgramTest::fail)
+            .recoverWith(t -> TryProgram.of(() -> 1))
+            .flatMap(value -> TryProgram.success(value + 1))
+            .run();
+    assertEquals(2, recoveredWith.get());
+
+    assertEquals(
+        1,
+        TryProgram.success(1).recover(t -> 0).recoverWith(t -> TryProgram.success(0)).run().get());
+
+    assertThrows(
+        IllegalStateException.class,
+        TryProgram.failure(new IOException())
+                .recover(
+                    t -> {
+                      throw new IllegalStateException();
+                    })
+                .run()
+            ::get);
+  }
+
+  @Test
+  void assertMapperFailures() {
+    assertThrows(IOException.class, TryProgram.success(1).map(value -> fail()).run()::get);
+    assertThrows(IOException.class, TryProgram.success(1).flatMap(value -> fail()).run()::get);
+    assertThrows(
+        NullPointerException.class, TryProgram.success(1).flatMap(value -> null).run()::get);
+  }
+
+  @Test
+  void assertNullArguments() {
+    final TryProgram<Integer> program = TryProgram.success(1);
+
+    assertThrows(NullPointerException.class, () -> TryProgram.of(null));
+    assertThrows(NullPointerException.class, () -> TryProgram.failure(null));
+    assertThrows(NullPointerException.class, () -> TryProgram.fromTry(null));
+    assertThrows(NullPointerException.class, () -> program.map(null));
+    assertThrows(NullPointerException.class, () -> program.flatMap(null));
+    assertThrows(NullPointerException.class, () -> program.recover(null));
+    assertThrows(NullPointerException.class, () -> program.recoverWith(null));
+  }
+
+  private static TryProgram<Integer> countDown(int remaining, int accumulator) {
+    if (remaining == 0) {
+      return TryProgram.success(accumulator);
+    }
+    return TryProgram.success(accumulator + 1).flatMap(value -> countDown(remaining - 1, value));
+  }
+
+  private static <T> T fail() throws IOException {
+    throw new IOException();
+  }
+}
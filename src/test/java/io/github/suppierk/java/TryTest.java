@@ -80,6 +80,23 @@ class TryTest {
     assertEquals("", success.get());
   }
 
+  @Test
+  void assertCreationUsingFunction() {
+    assertEquals("a", Try.apply(String::trim, " a ").get());
+    assertEquals("ab", Try.apply(String::concat, "a", "b").get());
+    assertThrows(NullPointerException.class, Try.apply(String::trim, null)::get);
+
+    Try<String> throwableFunction =
+        Try.apply(
+            (ThrowableFunction<String, String>)
+                s -> {
+                  throw new Exception(s);
+                },
+            "");
+    assertTrue(throwableFunction.isFailure());
+    assertThrows(Exception.class, throwableFunction::get);
+  }
+
   @Test
   void assertCreationUsingOptional() {
     Try<String> nullOptional = Try.fromOptional(null);
@@ -115,6 +132,21 @@ class TryTest {
     assertThrows(IllegalStateException.class, correctFailureValue::get);
   }
 
+  @Test
+  void assertCreationUsingStacklessFailure() {
+    Try<String> failure =
+        Try.failure(IllegalArgumentException.class, () -> String.format("Invalid %s", "value"));
+    assertTrue(failure.isFailure());
+    assertEquals("", failure.orElse(""));
+
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, failure::get);
+    assertEquals("Invalid value", exception.getMessage());
+    assertEquals(0, exception.getStackTrace().length);
+
+    failure.ifFailure(throwable -> assertInstanceOf(IllegalArgumentException.class, throwable));
+    assertThrows(NullPointerException.class, () -> Try.failure(null, () -> ""));
+  }
+
   @Test
   void assertConditionalExecutionDependingOnValuePresence() {
     Try<String> success = Try.success("");
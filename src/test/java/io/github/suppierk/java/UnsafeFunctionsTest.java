@@ -1,10 +1,21 @@
 package io.github.suppierk.java;
 
 import static io.github.suppierk.java.UnsafeFunctions.*;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 import io.github.suppierk.java.util.function.*;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -352,4 +363,481 @@ class UnsafeFunctionsTest {
                         })
                     .apply(null)));
   }
+
+  @ParameterizedTest
+  @MethodSource("specializedExecutables")
+  void assertThatSpecializedFunctionCanBeCalled(Executable expectedToFail) {
+    assertSame(
+        EXCEPTION,
+        assertThrows(Exception.class, expectedToFail),
+        "Specialized function must rethrow the original exception");
+  }
+
+  @Test
+  void assertThatSpecializedFunctionReturnsResult() {
+    ThrowableFunction<String, Integer> length = String::length;
+    assertEquals(3, specializedFunction(length).apply("abc"));
+    assertTrue(specializedIntPredicate(i -> i > 0).test(1));
+    assertEquals(-1, specializedComparator(String::compareTo).compare("a", "b"));
+  }
+
+  @Test
+  void assertThatBridgeIsSharedPerImplementationClass() {
+    ThrowableFunction<String, Integer> first = String::length;
+    ThrowableFunction<String, Integer> second = String::hashCode;
+
+    assertSame(
+        specializedFunction(first).getClass(),
+        specializedFunction(first).getClass(),
+        "Bridge must be cached per implementation class");
+    assertNotSame(
+        specializedFunction(first).getClass(),
+        specializedFunction(second).getClass(),
+        "Each implementation class must get its own bridge");
+  }
+
+  private static String echo(String value) throws IOException {
+    if (value.isEmpty()) {
+      throw new IOException("Empty value");
+    }
+    return value;
+  }
+
+  private static int privateLength(String value) {
+    return value.length();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void assertThatMethodCanBeInvoked() throws IOException, NoSuchMethodException {
+    Method readAllBytes = Files.class.getMethod("readAllBytes", Path.class);
+    ThrowableFunction<Path, byte[]> function = fromMethod(readAllBytes, ThrowableFunction.class);
+
+    Path file = Files.createTempFile("unsafe-functions", ".txt");
+    try {
+      Files.write(file, new byte[] {1, 2, 3});
+      assertArrayEquals(new byte[] {1, 2, 3}, function.apply(file));
+    } finally {
+      Files.delete(file);
+    }
+    assertThrows(NoSuchFileException.class, () -> function.apply(file));
+
+    assertSame(
+        function, fromMethod(readAllBytes, ThrowableFunction.class), "Invoker must be cached");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void assertThatInstanceMethodTakesReceiver() throws NoSuchMethodException {
+    Method length = String.class.getMethod("length");
+    ThrowableToIntFunction<String> function = fromMethod(length, ThrowableToIntFunction.class);
+    assertEquals(3, function.applyAsInt("abc"));
+
+    Method concat = String.class.getMethod("concat", String.class);
+    ThrowableBinaryOperator<String> operator = fromMethod(concat, ThrowableBinaryOperator.class);
+    assertEquals("ab", operator.apply("a", "b"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void assertThatPrivateMethodRequiresLookup() throws NoSuchMethodException {
+    Method length = UnsafeFunctionsTest.class.getDeclaredMethod("privateLength", String.class);
+    assertThrows(
+        IllegalAccessException.class, () -> fromMethod(length, ThrowableToIntFunction.class));
+
+    ThrowableToIntFunction<String> function =
+        fromMethod(MethodHandles.lookup(), length, ThrowableToIntFunction.class);
+    assertEquals(3, function.applyAsInt("abc"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void assertThatMethodHandleCanBeInvoked() throws ReflectiveOperationException {
+    MethodHandle echo =
+        MethodHandles.lookup()
+            .findStatic(
+                UnsafeFunctionsTest.class,
+                "echo",
+                MethodType.methodType(String.class, String.class));
+
+    ThrowableFunction<String, String> direct =
+        fromMethodHandle(MethodHandles.lookup(), echo, ThrowableFunction.class);
+    assertEquals("abc", direct.apply("abc"));
+    assertThrows(IOException.class, () -> direct.apply(""));
+
+    ThrowableSupplier<String> bound =
+        fromMethodHandle(MethodHandles.insertArguments(echo, 0, "abc"), ThrowableSupplier.class);
+    assertEquals("abc", bound.get());
+    assertThrows(
+        IOException.class,
+        () ->
+            fromMethodHandle(MethodHandles.insertArguments(echo, 0, ""), ThrowableSupplier.class)
+                .get());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void assertThatMethodOfChildClassLoaderCanBeInvoked() throws Exception {
+    URL classes = UnsafeFunctionsTest.class.getProtectionDomain().getCodeSource().getLocation();
+    try (URLClassLoader child = new URLClassLoader(new URL[] {classes}, null)) {
+      Class<?> plugin = child.loadClass(Plugin.class.getName());
+      assertNotSame(Plugin.class, plugin);
+
+      ThrowableFunction<String, String> greet =
+          fromMethod(plugin.getMethod("greet", String.class), ThrowableFunction.class);
+      assertEquals("Hello, abc", greet.apply("abc"));
+
+      ThrowableBiFunction<Object, String, Integer> length =
+          fromMethod(plugin.getMethod("length", String.class), ThrowableBiFunction.class);
+      assertEquals(3, length.apply(plugin.getConstructor().newInstance(), "abc"));
+    }
+  }
+
+  @Test
+  void assertThatMismatchingMethodIsRejected() throws NoSuchMethodException {
+    Method length = String.class.getMethod("length");
+    assertThrows(IllegalArgumentException.class, () -> fromMethod(length, ThrowableSupplier.class));
+    assertThrows(IllegalArgumentException.class, () -> fromMethod(length, String.class));
+  }
+
+  static Stream<Arguments> specializedExecutables() {
+    return Stream.of(
+        arg(
+            () ->
+                specializedRunnable(
+                        () -> {
+                          throw EXCEPTION;
+                        })
+                    .run()),
+        arg(
+            () ->
+                specializedBiConsumer(
+                        (s, s2) -> {
+                          throw EXCEPTION;
+                        })
+                    .accept(null, null)),
+        arg(
+            () ->
+                specializedBiFunction(
+                        (s, s2) -> {
+                          throw EXCEPTION;
+                        })
+                    .apply(null, null)),
+        arg(
+            () ->
+                specializedBinaryOperator(
+                        (s, s2) -> {
+                          throw EXCEPTION;
+                        })
+                    .apply(null, null)),
+        arg(
+            () ->
+                ThrowableBinaryOperator.minBy(
+                        specializedComparator(
+                            (o1, o2) -> {
+                              throw EXCEPTION;
+                            }))
+                    .apply(null, null)),
+        arg(
+            () ->
+                ThrowableBinaryOperator.maxBy(
+                        specializedComparator(
+                            (o1, o2) -> {
+                              throw EXCEPTION;
+                            }))
+                    .apply(null, null)),
+        arg(
+            () ->
+                specializedBiPredicate(
+                        (s, s2) -> {
+                          throw EXCEPTION;
+                        })
+                    .test(null, null)),
+        arg(
+            specializedBooleanSupplier(
+                    () -> {
+                      throw EXCEPTION;
+                    })
+                ::getAsBoolean),
+        arg(
+            () ->
+                specializedConsumer(
+                        s -> {
+                          throw EXCEPTION;
+                        })
+                    .accept(null)),
+        arg(
+            () ->
+                specializedDoubleBinaryOperator(
+                        (left, right) -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsDouble(.0, .0)),
+        arg(
+            () ->
+                specializedDoubleConsumer(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .accept(.0)),
+        arg(
+            () ->
+                specializedDoubleFunction(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .apply(.0)),
+        arg(
+            () ->
+                specializedDoublePredicate(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .test(.0)),
+        arg(
+            specializedDoubleSupplier(
+                    () -> {
+                      throw EXCEPTION;
+                    })
+                ::getAsDouble),
+        arg(
+            () ->
+                specializedDoubleToIntFunction(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsInt(.0)),
+        arg(
+            () ->
+                specializedDoubleToLongFunction(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsLong(.0)),
+        arg(
+            () ->
+                specializedDoubleUnaryOperator(
+                        operand -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsDouble(.0)),
+        arg(
+            () ->
+                specializedFunction(
+                        s -> {
+                          throw EXCEPTION;
+                        })
+                    .apply(null)),
+        arg(
+            () ->
+                specializedIntBinaryOperator(
+                        (left, right) -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsInt(0, 0)),
+        arg(
+            () ->
+                specializedIntConsumer(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .accept(0)),
+        arg(
+            () ->
+                specializedIntFunction(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .apply(0)),
+        arg(
+            () ->
+                specializedIntPredicate(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .test(0)),
+        arg(
+            specializedIntSupplier(
+                    () -> {
+                      throw EXCEPTION;
+                    })
+                ::getAsInt),
+        arg(
+            () ->
+                specializedIntToDoubleFunction(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsDouble(0)),
+        arg(
+            () ->
+                specializedIntToLongFunction(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsLong(0)),
+        arg(
+            () ->
+                specializedIntUnaryOperator(
+                        operand -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsInt(0)),
+        arg(
+            () ->
+                specializedLongBinaryOperator(
+                        (left, right) -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsLong(0L, 0L)),
+        arg(
+            () ->
+                specializedLongConsumer(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .accept(0L)),
+        arg(
+            () ->
+                specializedLongFunction(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .apply(0L)),
+        arg(
+            () ->
+                specializedLongPredicate(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .test(0L)),
+        arg(
+            specializedLongSupplier(
+                    () -> {
+                      throw EXCEPTION;
+                    })
+                ::getAsLong),
+        arg(
+            () ->
+                specializedLongToDoubleFunction(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsDouble(0L)),
+        arg(
+            () ->
+                specializedLongToIntFunction(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsInt(0L)),
+        arg(
+            () ->
+                specializedLongUnaryOperator(
+                        operand -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsLong(0L)),
+        arg(
+            () ->
+                specializedObjDoubleConsumer(
+                        (s, value) -> {
+                          throw EXCEPTION;
+                        })
+                    .accept(null, .0)),
+        arg(
+            () ->
+                specializedObjIntConsumer(
+                        (s, value) -> {
+                          throw EXCEPTION;
+                        })
+                    .accept(null, 0)),
+        arg(
+            () ->
+                specializedObjLongConsumer(
+                        (s, value) -> {
+                          throw EXCEPTION;
+                        })
+                    .accept(null, 0L)),
+        arg(
+            () ->
+                specializedPredicate(
+                        s -> {
+                          throw EXCEPTION;
+                        })
+                    .test(null)),
+        arg(
+            specializedSupplier(
+                    () -> {
+                      throw EXCEPTION;
+                    })
+                ::get),
+        arg(
+            () ->
+                specializedToDoubleBiFunction(
+                        (s, s2) -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsDouble(null, null)),
+        arg(
+            () ->
+                specializedToDoubleFunction(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsDouble(null)),
+        arg(
+            () ->
+                specializedToIntBiFunction(
+                        (s, s2) -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsInt(null, null)),
+        arg(
+            () ->
+                specializedToIntFunction(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsInt(null)),
+        arg(
+            () ->
+                specializedToLongBiFunction(
+                        (s, s2) -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsLong(null, null)),
+        arg(
+            () ->
+                specializedToLongFunction(
+                        value -> {
+                          throw EXCEPTION;
+                        })
+                    .applyAsLong(null)),
+        arg(
+            () ->
+                specializedComparator(
+                        (o1, o2) -> {
+                          throw EXCEPTION;
+                        })
+                    .compare(null, null)),
+        arg(
+            () ->
+                specializedUnaryOperator(
+                        s -> {
+                          throw EXCEPTION;
+                        })
+                    .apply(null)));
+  }
+
+  /** Loaded by a child class loader, which the class loader of the library cannot see. */
+  public static final class Plugin {
+    public static String greet(String name) {
+      return "Hello, " + name;
+    }
+
+    public int length(String value) {
+      return value.length();
+    }
+  }
 }
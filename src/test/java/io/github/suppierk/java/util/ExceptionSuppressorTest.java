@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.suppierk.java.lang.StacklessException;
+import io.github.suppierk.java.lang.StacklessIllegalArgumentException;
+import io.github.suppierk.java.lang.StacklessIllegalStateException;
+import io.github.suppierk.java.lang.StacklessRuntimeException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ExceptionSuppressorTest {
+  static Stream<Arguments> stacklessTypes() {
+    return Stream.of(
+        Arguments.of(NoSuchElementException.class, StacklessNoSuchElementException.class),
+        Arguments.of(IllegalArgumentException.class, StacklessIllegalArgumentException.class),
+        Arguments.of(IllegalStateException.class, StacklessIllegalStateException.class),
+        Arguments.of(RuntimeException.class, StacklessRuntimeException.class),
+        Arguments.of(Exception.class, StacklessException.class));
+  }
+
+  @ParameterizedTest
+  @MethodSource("stacklessTypes")
+  void assertStacklessKeepsRequestedType(
+      Class<? extends Throwable> type, Class<? extends Throwable> expectedClass) {
+    AtomicInteger formatted = new AtomicInteger();
+    Throwable throwable =
+        ExceptionSuppressor.stackless(
+            type,
+            () -> {
+              formatted.incrementAndGet();
+              return "message";
+            });
+
+    assertTrue(type.isInstance(throwable));
+    assertEquals(expectedClass, throwable.getClass());
+    assertEquals(0, throwable.getStackTrace().length, "Stack trace must not be captured");
+    assertEquals(0, formatted.get(), "Message must not be formatted eagerly");
+
+    assertEquals("message", throwable.getMessage());
+    assertEquals("message", throwable.getMessage());
+    assertEquals(1, formatted.get(), "Message must be formatted once");
+
+    assertThrows(type, () -> ExceptionSuppressor.asUnchecked(throwable));
+  }
+
+  @ParameterizedTest
+  @MethodSource("stacklessTypes")
+  void assertStacklessFormatsMessageOnceAcrossThreads(
+      Class<? extends Throwable> type, Class<? extends Throwable> expectedClass)
+      throws InterruptedException {
+    AtomicInteger formatted = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    Throwable throwable =
+        ExceptionSuppressor.stackless(
+            type,
+            () -> {
+              formatted.incrementAndGet();
+              Thread.yield();
+              return "message";
+            });
+
+    List<String> messages = new CopyOnWriteArrayList<>();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                try {
+                  start.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                messages.add(throwable.getMessage());
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(Collections.nCopies(8, "message"), messages);
+    assertEquals(1, formatted.get(), "Message must be formatted once");
+  }
+
+  @Test
+  void assertStacklessFallsBackToStringConstructor() {
+    IOException exception = ExceptionSuppressor.stackless(IOException.class, () -> "message");
+    assertEquals(IOException.class, exception.getClass());
+    assertEquals("message", exception.getMessage());
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ExceptionSuppressor.stackless(NoStringConstructorException.class, () -> "message"));
+    assertThrows(
+        NullPointerException.class, () -> ExceptionSuppressor.stackless(null, () -> "message"));
+    assertThrows(
+        NullPointerException.class, () -> ExceptionSuppressor.stackless(Exception.class, null));
+  }
+
+  @Test
+  void assertStacklessSurvivesSerialization() throws Exception {
+    Throwable throwable =
+        ExceptionSuppressor.stackless(IllegalStateException.class, () -> "message");
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(throwable);
+    }
+
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      Throwable copy = (Throwable) in.readObject();
+      assertEquals(StacklessIllegalStateException.class, copy.getClass());
+      assertEquals("message", copy.getMessage());
+    }
+  }
+
+  static class NoStringConstructorException extends Exception {
+    private static final long serialVersionUID = 1L;
+  }
+}
@@ -1,5 +1,9 @@
 package io.github.suppierk.java.util;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -17,4 +21,50 @@ class ThrowableComparatorTest {
     Assertions.assertEquals(firstOrderExpected, throwableComparator.compare(first, second));
     Assertions.assertEquals(secondOrderExpected, throwableComparator.compare(second, first));
   }
+
+  @Test
+  void compositionTest() {
+    ThrowableComparator<String> byLength = (s1, s2) -> Integer.compare(length(s1), length(s2));
+    List<String> values = Arrays.asList("bb", "a", "ab", "c");
+
+    ThrowableComparator<String> byLengthThenNatural = byLength.thenComparing(String::compareTo);
+    values.sort(byLengthThenNatural);
+    Assertions.assertEquals(Arrays.asList("a", "c", "ab", "bb"), values);
+
+    values.sort(byLengthThenNatural.reversed());
+    Assertions.assertEquals(Arrays.asList("bb", "ab", "c", "a"), values);
+
+    values.sort(byLength.thenComparing(ThrowableComparatorTest::identity));
+    Assertions.assertEquals(Arrays.asList("a", "c", "ab", "bb"), values);
+
+    values.sort(
+        byLength.thenComparing(ThrowableComparatorTest::identity, Comparator.reverseOrder()));
+    Assertions.assertEquals(Arrays.asList("c", "a", "bb", "ab"), values);
+
+    values.sort(byLength.thenComparingInt(s -> -s.charAt(0)));
+    Assertions.assertEquals(Arrays.asList("c", "a", "bb", "ab"), values);
+
+    ThrowableComparator<String> jdkOverrides =
+        byLength.thenComparing(Comparator.<String>naturalOrder()).thenComparingLong(String::length);
+    Assertions.assertTrue(jdkOverrides.compare("a", "b") < 0);
+  }
+
+  @Test
+  void compositionExceptionTest() {
+    ThrowableComparator<String> failing =
+        ((ThrowableComparator<String>) (s1, s2) -> 0)
+            .thenComparingDouble(
+                s -> {
+                  throw new IOException(s);
+                });
+    Assertions.assertThrows(IOException.class, () -> failing.compare("a", "b"));
+  }
+
+  private static int length(String value) throws IOException {
+    return value.length();
+  }
+
+  private static String identity(String value) throws IOException {
+    return value;
+  }
 }
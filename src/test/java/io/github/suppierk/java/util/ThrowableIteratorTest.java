@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ThrowableIteratorTest {
+  private static final int ELEMENTS = 10_000;
+
+  @Test
+  void assertCheckedExceptionsPropagateAsIs() {
+    final IOException exception = new IOException("test");
+    final ThrowableIterator<Integer> iterator =
+        new ThrowableIterator<Integer>() {
+          @Override
+          public boolean hasNextUnsafe() throws Throwable {
+            throw exception;
+          }
+
+          @Override
+          public Integer nextUnsafe() throws Throwable {
+            throw exception;
+          }
+        };
+
+    assertSame(exception, assertThrows(IOException.class, iterator::hasNext));
+    assertSame(exception, assertThrows(IOException.class, iterator::next));
+  }
+
+  @Test
+  void assertStreamClosesResourceOnClose() {
+    final Cursor cursor = new Cursor(3, -1);
+
+    try (Stream<Integer> stream = ThrowableIterator.stream(cursor, cursor)) {
+      assertEquals(Arrays.asList(0, 1, 2), stream.collect(Collectors.toList()));
+      assertEquals(0, cursor.closed.get());
+    }
+
+    assertEquals(1, cursor.closed.get());
+  }
+
+  @Test
+  void assertStreamClosesResourceOnFailure() {
+    final Cursor cursor = new Cursor(10, 5);
+    final Stream<Integer> stream = ThrowableIterator.stream(cursor, cursor);
+
+    final IOException exception =
+        assertThrows(IOException.class, () -> stream.forEach(value -> {}));
+
+    assertEquals("5", exception.getMessage());
+    assertEquals(1, exception.getSuppressed().length);
+    assertEquals(1, cursor.closed.get());
+
+    stream.close();
+    assertEquals(1, cursor.closed.get());
+  }
+
+  @Test
+  void assertSpliteratorSplitsBatches() {
+    final Cursor cursor = new Cursor(ELEMENTS, -1);
+    final ThrowableSpliterator<Integer> spliterator =
+        cursor.spliterator(ELEMENTS, Spliterator.ORDERED | Spliterator.SIZED);
+
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+    assertEquals(ELEMENTS, spliterator.getExactSizeIfKnown());
+
+    final Spliterator<Integer> batch = spliterator.trySplit();
+
+    assertNotNull(batch);
+    assertEquals(IteratorSpliterator.BATCH_UNIT, batch.estimateSize());
+    assertEquals(ELEMENTS - IteratorSpliterator.BATCH_UNIT, spliterator.estimateSize());
+    assertEquals(2 * IteratorSpliterator.BATCH_UNIT, spliterator.trySplit().estimateSize());
+
+    final ThrowableSpliterator<Integer> unknown =
+        new Cursor(ELEMENTS, -1).spliterator(Long.MAX_VALUE, Spliterator.ORDERED);
+
+    assertEquals(Long.MAX_VALUE, unknown.estimateSize());
+    assertEquals(IteratorSpliterator.BATCH_UNIT, unknown.trySplit().estimateSize());
+    assertEquals(Long.MAX_VALUE, unknown.estimateSize());
+  }
+
+  @Test
+  void assertParallelStream() {
+    final Cursor cursor = new Cursor(ELEMENTS, -1);
+    final List<Integer> expected =
+        IntStream.range(0, ELEMENTS).boxed().collect(Collectors.toList());
+
+    try (Stream<Integer> stream =
+        ThrowableSpliterator.stream(
+            cursor.spliterator(ELEMENTS, Spliterator.ORDERED | Spliterator.SIZED), true, cursor)) {
+      assertEquals(expected, stream.map(value -> value).collect(Collectors.toList()));
+    }
+
+    assertEquals(1, cursor.closed.get());
+  }
+
+  /** Cursor over a range of integers, failing at the specified element and then on close. */
+  private static final class Cursor implements ThrowableIterator<Integer>, AutoCloseable {
+    private final AtomicInteger closed = new AtomicInteger();
+    private final int size;
+    private final int failing;
+    private int position;
+
+    private Cursor(int size, int failing) {
+      this.size = size;
+      this.failing = failing;
+    }
+
+    @Override
+    public boolean hasNextUnsafe() {
+      return position < size;
+    }
+
+    @Override
+    public Integer nextUnsafe() throws IOException {
+      if (position >= size) {
+        throw new NoSuchElementException();
+      } else if (position == failing) {
+        throw new IOException(String.valueOf(position));
+      }
+      return position++;
+    }
+
+    @Override
+    public void close() throws IOException {
+      closed.incrementAndGet();
+      if (failing >= 0) {
+        throw new IOException("close");
+      }
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ThrowableSpliteratorTest {
+  private static final int ELEMENTS = 10_000;
+
+  @Test
+  void assertCheckedExceptionsPropagateAsIs() {
+    final IOException exception = new IOException("test");
+    final ThrowableSpliterator<Integer> spliterator =
+        new Source() {
+          @Override
+          public boolean tryAdvanceUnsafe(Consumer<? super Integer> action) throws Throwable {
+            throw exception;
+          }
+        };
+
+    assertSame(exception, assertThrows(IOException.class, () -> spliterator.tryAdvance(v -> {})));
+  }
+
+  @Test
+  void assertStreamClosesResourceOnStreamOperationFailure() {
+    final AtomicInteger closed = new AtomicInteger();
+    final IOException exception = new IOException("test");
+
+    final Stream<Integer> stream =
+        ThrowableSpliterator.stream(new Source(), true, closed::incrementAndGet);
+
+    assertSame(
+        exception,
+        assertThrows(
+            IOException.class,
+            () ->
+                stream.forEach(
+                    value -> {
+                      if (value == ELEMENTS / 2) {
+                        ExceptionSuppressor.asUnchecked(exception);
+                      }
+                    })));
+    assertEquals(1, closed.get());
+
+    stream.close();
+    assertEquals(1, closed.get());
+  }
+
+  @Test
+  void assertStreamCloseRethrowsCloseException() {
+    final IOException exception = new IOException("test");
+    final Stream<Integer> stream =
+        ThrowableSpliterator.stream(
+            new Source(),
+            false,
+            () -> {
+              throw exception;
+            });
+
+    assertEquals(ELEMENTS, stream.count());
+    assertSame(exception, assertThrows(IOException.class, stream::close));
+    assertThrows(
+        NullPointerException.class, () -> ThrowableSpliterator.stream(new Source(), false, null));
+  }
+
+  /** Source of a range of integers, delegating to an array spliterator. */
+  private static class Source implements ThrowableSpliterator<Integer> {
+    private final Spliterator<Integer> delegate =
+        Spliterators.spliterator(
+            IntStream.range(0, ELEMENTS).boxed().toArray(), Spliterator.ORDERED);
+
+    @Override
+    public boolean tryAdvanceUnsafe(Consumer<? super Integer> action) throws Throwable {
+      return delegate.tryAdvance(action);
+    }
+
+    @Override
+    public Spliterator<Integer> trySplit() {
+      return delegate.trySplit();
+    }
+
+    @Override
+    public long estimateSize() {
+      return delegate.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return delegate.characteristics();
+    }
+  }
+}
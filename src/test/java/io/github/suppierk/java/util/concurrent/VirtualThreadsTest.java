@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.concurrent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadsTest {
+  @Test
+  void assertExecutorRunsTasks() {
+    assertEquals(1, CompletableFuture.supplyAsync(() -> 1, VirtualThreads.executor()).join());
+  }
+
+  @Test
+  void assertAvailabilityIsConsistent() {
+    final Optional<ExecutorService> executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+    assertEquals(VirtualThreads.isAvailable(), executor.isPresent());
+
+    if (executor.isPresent()) {
+      assertNotSame(ForkJoinPool.commonPool(), VirtualThreads.executor());
+      assertFalse(VirtualThreads.executor() instanceof ExecutorService);
+      executor.get().shutdown();
+    } else {
+      assertSame(ForkJoinPool.commonPool(), VirtualThreads.executor());
+    }
+  }
+}
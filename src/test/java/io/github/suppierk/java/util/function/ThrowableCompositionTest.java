@@ -0,0 +1,177 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+
+class ThrowableCompositionTest {
+  private static final IOException EXCEPTION = new IOException();
+
+  private static int fail(Object ignored) throws IOException {
+    throw EXCEPTION;
+  }
+
+  private static int parse(String value) throws IOException {
+    return Integer.parseInt(value);
+  }
+
+  @Test
+  void assertFunctionComposition() {
+    ThrowableFunction<String, Integer> parse = ThrowableCompositionTest::parse;
+
+    ThrowableFunction<String, Integer> doubled = parse.andThen(i -> i * 2);
+    assertEquals(42, doubled.apply("21"));
+
+    ThrowableFunction<Integer, Integer> composed = parse.compose(i -> Integer.toString(i + 1));
+    assertEquals(42, composed.apply(41));
+
+    ThrowableFunction<String, String> jdk =
+        parse.andThen(Function.identity()).andThen(String::valueOf);
+    assertEquals("7", jdk.apply("7"));
+
+    assertSame(
+        EXCEPTION,
+        assertThrows(
+            IOException.class, () -> parse.andThen(ThrowableCompositionTest::fail).apply("1")));
+    assertSame(
+        EXCEPTION,
+        assertThrows(
+            IOException.class, () -> parse.compose(i -> Integer.toString(fail(i))).apply(1)));
+  }
+
+  @Test
+  void assertOperatorComposition() {
+    ThrowableUnaryOperator<String> trim = String::trim;
+    assertEquals(2, trim.andThen(String::length).apply(" ab "));
+
+    ThrowableBiFunction<Integer, Integer, Integer> sum = Integer::sum;
+    assertEquals("3", sum.andThen(String::valueOf).apply(1, 2));
+    assertThrows(IOException.class, () -> sum.andThen(ThrowableCompositionTest::fail).apply(1, 2));
+
+    ThrowableBinaryOperator<Integer> max = Math::max;
+    assertEquals("2", max.andThen(String::valueOf).apply(1, 2));
+    assertThrows(IOException.class, () -> max.andThen(ThrowableCompositionTest::fail).apply(1, 2));
+
+    ThrowableIntUnaryOperator increment = i -> i + 1;
+    ThrowableIntUnaryOperator doubled = i -> i * 2;
+    assertEquals(4, increment.andThen(doubled).applyAsInt(1));
+    assertEquals(3, increment.compose(doubled).applyAsInt(1));
+    assertThrows(
+        IOException.class, () -> increment.andThen(ThrowableCompositionTest::fail).applyAsInt(1));
+
+    ThrowableLongUnaryOperator negate = l -> -l;
+    assertEquals(-2L, negate.compose(l -> l * 2).applyAsLong(1L));
+
+    ThrowableDoubleUnaryOperator half = d -> d / 2;
+    assertEquals(0.25, half.andThen(half).applyAsDouble(1.0));
+  }
+
+  @Test
+  void assertConsumerComposition() {
+    List<String> calls = new ArrayList<>();
+    ThrowableConsumer<String> first = s -> calls.add("first " + s);
+    first.andThen(s -> calls.add("second " + s)).accept("a");
+    assertEquals(2, calls.size());
+    assertThrows(
+        IOException.class, () -> first.andThen(ThrowableCompositionTest::fail).accept("b"));
+
+    ThrowableBiConsumer<String, String> pair = (a, b) -> calls.add(a + b);
+    assertThrows(IOException.class, () -> pair.andThen((a, b) -> fail(a)).accept("c", "d"));
+    assertTrue(calls.contains("cd"));
+
+    ThrowableIntConsumer ints = i -> calls.add(Integer.toString(i));
+    assertThrows(IOException.class, () -> ints.andThen(ThrowableCompositionTest::fail).accept(1));
+    ThrowableLongConsumer longs = l -> calls.add(Long.toString(l));
+    assertThrows(IOException.class, () -> longs.andThen(ThrowableCompositionTest::fail).accept(1L));
+    ThrowableDoubleConsumer doubles = d -> calls.add(Double.toString(d));
+    assertThrows(
+        IOException.class, () -> doubles.andThen(ThrowableCompositionTest::fail).accept(1.0));
+  }
+
+  @Test
+  void assertPredicateComposition() {
+    ThrowablePredicate<String> empty = String::isEmpty;
+    assertTrue(empty.negate().test("a"));
+    assertTrue(empty.or(s -> parse(s) > 0).test("1"));
+    assertFalse(empty.and(s -> fail(s) > 0).test("1"), "AND must short-circuit");
+    assertThrows(IOException.class, () -> empty.or(s -> fail(s) > 0).test("1"));
+
+    ThrowablePredicate<String> jdk = empty.and(Predicate.isEqual("")).or(s -> s.length() > 3);
+    assertTrue(jdk.test(""));
+
+    ThrowableBiPredicate<String, String> same = String::equals;
+    assertTrue(same.negate().test("a", "b"));
+    assertThrows(IOException.class, () -> same.and((a, b) -> fail(a) > 0).test("a", "a"));
+
+    ThrowableIntPredicate positive = i -> i > 0;
+    assertTrue(positive.and((IntPredicate) i -> i < 10).test(5));
+    assertThrows(IOException.class, () -> positive.or(i -> fail(i) > 0).test(-1));
+
+    ThrowableLongPredicate even = l -> l % 2 == 0;
+    assertTrue(even.negate().or(l -> l == 2L).test(2L));
+
+    ThrowableDoublePredicate finite = Double::isFinite;
+    assertFalse(finite.and(d -> d > 0).test(-1.0));
+  }
+
+  @Test
+  void assertFusedChains() {
+    ThrowableFunction<String, String> function =
+        ThrowableFunctionChain.of(ThrowableCompositionTest::parse)
+            .then(i -> i * 2)
+            .then(i -> "value " + i)
+            .build();
+    assertEquals("value 42", function.apply("21"));
+
+    ThrowableFunction<String, Integer> failing =
+        ThrowableFunctionChain.of(ThrowableCompositionTest::parse)
+            .then(ThrowableCompositionTest::fail)
+            .then(i -> i + 1)
+            .build();
+    assertSame(EXCEPTION, assertThrows(IOException.class, () -> failing.apply("1")));
+
+    ThrowableFunction<String, Integer> single = ThrowableCompositionTest::parse;
+    assertSame(single, ThrowableFunctionChain.of(single).build());
+
+    assertEquals("ab", ThrowableUnaryOperator.<String>chain(s -> s + "a", s -> s + "b").apply(""));
+    assertEquals(6, ThrowableIntUnaryOperator.chain(i -> i + 1, i -> i * 3).applyAsInt(1));
+    assertEquals(6L, ThrowableLongUnaryOperator.chain(l -> l + 1, l -> l * 3).applyAsLong(1L));
+    assertEquals(1.5, ThrowableDoubleUnaryOperator.chain(d -> d + 2, d -> d / 2).applyAsDouble(1));
+    assertEquals(7, ThrowableIntUnaryOperator.chain().applyAsInt(7));
+    assertThrows(
+        IOException.class,
+        () ->
+            ThrowableIntUnaryOperator.chain(i -> i, ThrowableCompositionTest::fail).applyAsInt(1));
+    assertThrows(NullPointerException.class, () -> ThrowableIntUnaryOperator.chain(i -> i, null));
+  }
+}
@@ -0,0 +1,287 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.suppierk.java.Try;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentMapperTest {
+  private static final int WINDOW = 4;
+  private static final int ELEMENTS = 200;
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(2 * WINDOW);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void assertOrderedOutput() {
+    final ConcurrentMapper<Integer, Integer> mapper =
+        ConcurrentMapper.<Integer, Integer>of(
+                value -> {
+                  Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+                  return value * 2;
+                },
+                WINDOW)
+            .executor(executor);
+
+    final List<Integer> results;
+    try (Stream<Try<Integer>> stream = mapper.map(IntStream.range(0, ELEMENTS).boxed())) {
+      results = stream.map(Try::get).collect(Collectors.toList());
+    }
+
+    assertEquals(ELEMENTS, results.size());
+    for (int i = 0; i < ELEMENTS; i++) {
+      assertEquals(i * 2, results.get(i));
+    }
+  }
+
+  @Test
+  void assertUnorderedOutput() {
+    final ConcurrentMapper<Integer, Integer> mapper =
+        ConcurrentMapper.<Integer, Integer>of(value -> value * 2, WINDOW)
+            .executor(executor)
+            .unordered();
+
+    final Set<Integer> results =
+        mapper.map(IntStream.range(0, ELEMENTS).boxed()).map(Try::get).collect(Collectors.toSet());
+
+    final Set<Integer> expected = new HashSet<>();
+    for (int i = 0; i < ELEMENTS; i++) {
+      expected.add(i * 2);
+    }
+    assertEquals(expected, results);
+  }
+
+  @Test
+  void assertConcurrencyAndWindowAreBounded() {
+    assertBounded(false);
+    assertBounded(true);
+  }
+
+  @Test
+  void assertFailuresAsElements() {
+    final List<Try<Integer>> results =
+        ConcurrentMapper.<Integer, Integer>of(
+                value -> {
+                  if (value % 2 == 0) {
+                    throw new IOException();
+                  }
+                  return value;
+                },
+                WINDOW)
+            .executor(executor)
+            .map(IntStream.range(0, 10).boxed())
+            .collect(Collectors.toList());
+
+    assertEquals(10, results.size());
+    for (int i = 0; i < 10; i++) {
+      if (i % 2 == 0) {
+        assertThrows(IOException.class, results.get(i)::get);
+      } else {
+        assertEquals(i, results.get(i).get());
+      }
+    }
+  }
+
+  @Test
+  void assertFailFastCancelsInFlightCalls() throws InterruptedException {
+    final CountDownLatch started = new CountDownLatch(WINDOW - 1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    final AtomicInteger pulled = new AtomicInteger();
+    final Stream<Integer> source =
+        IntStream.range(0, ELEMENTS).boxed().peek(value -> pulled.incrementAndGet());
+
+    final ConcurrentMapper<Integer, Integer> mapper =
+        ConcurrentMapper.<Integer, Integer>of(
+                value -> {
+                  if (value == 0) {
+                    started.await();
+                    throw new IOException();
+                  }
+                  try {
+                    started.countDown();
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                  } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                  }
+                  return value;
+                },
+                WINDOW)
+            .executor(executor);
+
+    try (Stream<Integer> stream = mapper.mapFailFast(source)) {
+      assertThrows(IOException.class, () -> stream.forEach(value -> fail()));
+    }
+
+    assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    assertEquals(WINDOW, pulled.get());
+
+    assertEquals(
+        Collections.singletonList(1),
+        ConcurrentMapper.<Integer, Integer>of(value -> value, WINDOW)
+            .executor(executor)
+            .mapFailFast(Stream.of(1))
+            .collect(Collectors.toList()));
+  }
+
+  @Test
+  void assertCloseClosesSource() {
+    final AtomicBoolean closed = new AtomicBoolean();
+    final ConcurrentMapper<Integer, Integer> mapper =
+        ConcurrentMapper.<Integer, Integer>of(value -> value, WINDOW).executor(executor);
+
+    mapper.map(Stream.of(1, 2, 3).onClose(() -> closed.set(true))).close();
+    assertTrue(closed.get());
+
+    closed.set(false);
+    mapper.mapFailFast(Stream.of(1, 2, 3).onClose(() -> closed.set(true))).close();
+    assertTrue(closed.get());
+  }
+
+  @Test
+  void assertRejectedExecution() {
+    executor.shutdown();
+
+    final List<Try<Integer>> results =
+        ConcurrentMapper.<Integer, Integer>of(value -> value, WINDOW)
+            .executor(executor)
+            .map(Stream.of(1, 2))
+            .collect(Collectors.toList());
+
+    assertThrows(RejectedExecutionException.class, results.get(0)::get);
+    assertThrows(RejectedExecutionException.class, results.get(1)::get);
+  }
+
+  @Test
+  void assertDefaultExecutor() throws InterruptedException {
+    final CountDownLatch started = new CountDownLatch(WINDOW);
+    final ConcurrentMapper<Integer, Thread> mapper =
+        ConcurrentMapper.of(
+            value -> {
+              started.countDown();
+              assertTrue(started.await(10, TimeUnit.SECONDS));
+              return Thread.currentThread();
+            },
+            WINDOW);
+
+    final List<Thread> threads;
+    try (Stream<Try<Thread>> stream = mapper.map(IntStream.range(0, WINDOW).boxed())) {
+      threads = stream.map(Try::get).collect(Collectors.toList());
+    }
+
+    for (Thread thread : threads) {
+      assertTrue(thread.isDaemon());
+      thread.join(TimeUnit.SECONDS.toMillis(10));
+      assertFalse(thread.isAlive(), "Threads of the default executor must end with the stream");
+    }
+  }
+
+  @Test
+  void assertInvalidArguments() {
+    final ConcurrentMapper<Integer, Integer> mapper = ConcurrentMapper.of(value -> value, 1);
+
+    assertThrows(NullPointerException.class, () -> ConcurrentMapper.of(null, 1));
+    assertThrows(IllegalArgumentException.class, () -> ConcurrentMapper.of(value -> value, 0));
+    assertThrows(NullPointerException.class, () -> mapper.executor(null));
+    assertThrows(NullPointerException.class, () -> mapper.map((Iterator<Integer>) null));
+    assertThrows(NullPointerException.class, () -> mapper.map((Stream<Integer>) null));
+    assertThrows(NullPointerException.class, () -> mapper.mapFailFast((Iterator<Integer>) null));
+    assertThrows(NullPointerException.class, () -> mapper.mapFailFast((Stream<Integer>) null));
+  }
+
+  private void assertBounded(boolean unordered) {
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+    final AtomicInteger pulled = new AtomicInteger();
+    final AtomicInteger consumed = new AtomicInteger();
+    final AtomicInteger maxAhead = new AtomicInteger();
+
+    final Iterator<Integer> infinite =
+        new Iterator<Integer>() {
+          @Override
+          public boolean hasNext() {
+            return true;
+          }
+
+          @Override
+          public Integer next() {
+            maxAhead.accumulateAndGet(pulled.incrementAndGet() - consumed.get(), Math::max);
+            return pulled.get();
+          }
+        };
+
+    ConcurrentMapper<Integer, Integer> mapper =
+        ConcurrentMapper.<Integer, Integer>of(
+                value -> {
+                  maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                  Thread.sleep(1);
+                  inFlight.decrementAndGet();
+                  return value;
+                },
+                WINDOW)
+            .executor(executor);
+    if (unordered) {
+      mapper = mapper.unordered();
+    }
+
+    try (Stream<Try<Integer>> stream = mapper.map(infinite)) {
+      stream.limit(ELEMENTS).forEach(result -> consumed.incrementAndGet());
+    }
+
+    assertEquals(ELEMENTS, consumed.get());
+    assertTrue(maxInFlight.get() <= WINDOW);
+    assertTrue(maxAhead.get() <= WINDOW);
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ThrowableCollectorTest {
+  private static final int ELEMENTS = 4_000;
+  private static final int FAILING_ELEMENT = 100;
+
+  @Test
+  void assertCollectsWithStream() {
+    final List<Integer> expected =
+        IntStream.range(0, ELEMENTS).boxed().collect(Collectors.toList());
+
+    assertEquals(expected, expected.stream().collect(toList()));
+    assertEquals(expected, expected.parallelStream().collect(toList()));
+    assertEquals(expected, ThrowableStream.of(expected).parallel().collect(toList()));
+    assertEquals(
+        ELEMENTS,
+        expected.stream()
+            .collect(
+                ThrowableCollector.<Integer, List<Integer>, Integer>of(
+                    ArrayList::new,
+                    List::add,
+                    (left, right) -> {
+                      left.addAll(right);
+                      return left;
+                    },
+                    List::size)));
+  }
+
+  @Test
+  void assertCharacteristics() {
+    assertEquals(
+        Collector.Characteristics.IDENTITY_FINISH, toList().characteristics().iterator().next());
+    assertTrue(
+        ThrowableCollector.<Integer, List<Integer>, Integer>of(
+                ArrayList::new,
+                List::add,
+                (left, right) -> left,
+                List::size,
+                Collector.Characteristics.UNORDERED)
+            .characteristics()
+            .contains(Collector.Characteristics.UNORDERED));
+    assertThrows(
+        NullPointerException.class,
+        () ->
+            ThrowableCollector.<Integer, List<Integer>>of(null, List::add, (left, right) -> left));
+  }
+
+  @Test
+  void assertCheckedExceptionsPropagateAsIs() {
+    final IOException exception = new IOException("test");
+
+    assertSame(
+        exception,
+        assertThrows(
+            IOException.class,
+            () ->
+                Stream.of(1, 2, 3)
+                    .collect(
+                        ThrowableCollector.<Integer, List<Integer>>of(
+                            ArrayList::new,
+                            (list, value) -> {
+                              throw exception;
+                            },
+                            (left, right) -> left))));
+    assertSame(
+        exception,
+        assertThrows(
+            IOException.class,
+            () ->
+                ThrowableStream.of(IntStream.range(0, ELEMENTS).boxed())
+                    .parallel()
+                    .collect(
+                        ThrowableCollector.<Integer, List<Integer>>of(
+                            ArrayList::new,
+                            List::add,
+                            (left, right) -> {
+                              throw exception;
+                            }))));
+    assertSame(
+        exception,
+        assertThrows(
+            IOException.class,
+            () ->
+                ThrowableStream.of(IntStream.range(0, ELEMENTS).boxed())
+                    .collect(
+                        ThrowableCollector.<Integer, List<Integer>, Integer>of(
+                            ArrayList::new,
+                            List::add,
+                            (left, right) -> left,
+                            list -> {
+                              throw exception;
+                            }))));
+  }
+
+  @Test
+  void assertFirstFailureCancelsSiblingAccumulations() {
+    final ForkJoinPool pool = new ForkJoinPool(8);
+    final AtomicInteger accumulated = new AtomicInteger();
+
+    try {
+      final IOException exception =
+          assertThrows(
+              IOException.class,
+              () ->
+                  ThrowableStream.of(IntStream.range(0, ELEMENTS).boxed())
+                      .parallel(pool)
+                      .collect(
+                          ThrowableCollector.<Integer, List<Integer>>of(
+                              ArrayList::new,
+                              (list, value) -> {
+                                if (accumulated.incrementAndGet() == FAILING_ELEMENT) {
+                                  throw new IOException(String.valueOf(value));
+                                }
+                                Thread.sleep(1);
+                                list.add(value);
+                              },
+                              (left, right) -> {
+                                left.addAll(right);
+                                return left;
+                              })));
+
+      assertNotNull(exception.getMessage());
+      assertTrue(pool.awaitQuiescence(1, TimeUnit.MINUTES));
+      assertTrue(accumulated.get() < ELEMENTS / 8, () -> "Accumulated " + accumulated.get());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private static ThrowableCollector<Integer, List<Integer>, List<Integer>> toList() {
+    return ThrowableCollector.of(
+        ArrayList::new,
+        List::add,
+        (left, right) -> {
+          left.addAll(right);
+          return left;
+        });
+  }
+}
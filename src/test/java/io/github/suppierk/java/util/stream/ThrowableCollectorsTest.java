@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.suppierk.java.Try;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ThrowableCollectorsTest {
+  private static final int ELEMENTS = 100_000;
+  private static final int KEYS = 7;
+
+  @Test
+  void assertGroupingBy() {
+    final Map<Integer, List<Integer>> expected =
+        values().collect(Collectors.groupingBy(ThrowableCollectorsTest::key));
+
+    assertEquals(expected, values().collect(ThrowableCollectors.groupingBy(this::checkedKey)));
+    assertEquals(
+        expected, values().parallel().collect(ThrowableCollectors.groupingBy(this::checkedKey)));
+    assertEquals(
+        expected,
+        ThrowableStream.of(values())
+            .parallel()
+            .collect(ThrowableCollectors.groupingBy(this::checkedKey)));
+  }
+
+  @Test
+  void assertGroupingByConcurrent() {
+    final Map<Integer, Long> expected =
+        values()
+            .collect(
+                Collectors.groupingBy(
+                    ThrowableCollectorsTest::key, Collectors.summingLong(v -> v)));
+    final ForkJoinPool pool = new ForkJoinPool(8);
+
+    try {
+      assertEquals(
+          expected,
+          ThrowableStream.of(values())
+              .parallel(pool)
+              .collect(
+                  ThrowableCollectors.groupingByConcurrent(
+                      this::checkedKey,
+                      ThrowableCollectors.reducing(0L, Integer::longValue, this::checkedSum))));
+      assertEquals(
+          expected,
+          values()
+              .collect(
+                  ThrowableCollectors.groupingByConcurrent(
+                      this::checkedKey,
+                      ThrowableCollectors.reducing(0L, Integer::longValue, this::checkedSum))));
+    } finally {
+      pool.shutdownNow();
+    }
+
+    final Map<Integer, List<Integer>> lists =
+        values().parallel().collect(ThrowableCollectors.groupingByConcurrent(this::checkedKey));
+
+    assertEquals(KEYS, lists.size());
+    lists.forEach(
+        (key, list) -> {
+          Collections.sort(list);
+          assertEquals(
+              values().filter(value -> key(value) == key).collect(Collectors.toList()), list);
+        });
+  }
+
+  @Test
+  void assertPartitioningBy() {
+    final Map<Boolean, List<Integer>> expected =
+        values().collect(Collectors.partitioningBy(value -> value % 2 == 0));
+
+    assertEquals(
+        expected,
+        values().parallel().collect(ThrowableCollectors.partitioningBy(value -> value % 2 == 0)));
+    assertEquals(
+        expected.get(true).size(),
+        values()
+            .parallel()
+            .collect(
+                ThrowableCollectors.partitioningByConcurrent(
+                    value -> value % 2 == 0, Collectors.counting()))
+            .get(true)
+            .intValue());
+
+    final Map<Boolean, List<Integer>> empty =
+        Stream.<Integer>empty().collect(ThrowableCollectors.partitioningBy(value -> true));
+
+    assertEquals(Collections.emptyList(), empty.get(false));
+    assertEquals(Collections.emptyList(), empty.get(true));
+  }
+
+  @Test
+  void assertFailFast() {
+    final IOException exception = new IOException("test");
+
+    assertSame(
+        exception,
+        assertThrows(
+            IOException.class,
+            () ->
+                ThrowableStream.of(values())
+                    .parallel()
+                    .collect(
+                        ThrowableCollectors.groupingByConcurrent(
+                            value -> {
+                              if (value == ELEMENTS / 2) {
+                                throw exception;
+                              }
+                              return key(value);
+                            }))));
+    assertThrows(
+        NullPointerException.class,
+        () -> values().collect(ThrowableCollectors.groupingBy(value -> null)));
+    assertThrows(
+        NullPointerException.class,
+        () -> ThrowableCollectors.groupingBy(ThrowableCollectorsTest::key, null));
+  }
+
+  @Test
+  void assertCatchingRoutesFailuresToTheirGroup() {
+    final Map<Integer, Try<Long>> sums =
+        ThrowableStream.of(values())
+            .parallel()
+            .collect(
+                ThrowableCollectors.groupingBy(
+                    this::checkedKey,
+                    ThrowableCollectors.catching(
+                        ThrowableCollectors.reducing(
+                            0L,
+                            value -> {
+                              if (key(value) == 0) {
+                                throw new IOException(String.valueOf(value));
+                              }
+                              return value.longValue();
+                            },
+                            Long::sum))));
+
+    assertEquals(KEYS, sums.size());
+    sums.forEach(
+        (key, sum) -> {
+          if (key == 0) {
+            assertTrue(sum.isFailure());
+            assertThrows(IOException.class, sum::get);
+          } else {
+            assertTrue(sum.isSuccess());
+            assertEquals(
+                values().filter(value -> key(value) == key).mapToLong(value -> value).sum(),
+                sum.get().longValue());
+          }
+        });
+
+    final Try<Integer> size =
+        Stream.of(1, 2)
+            .collect(
+                ThrowableCollectors.catching(
+                    Collectors.collectingAndThen(
+                        Collectors.toList(),
+                        list -> {
+                          throw new IllegalStateException();
+                        })));
+
+    assertTrue(size.isFailure());
+    assertEquals(
+        Arrays.asList(1, 2),
+        Stream.of(1, 2).collect(ThrowableCollectors.catching(Collectors.toList())).get());
+  }
+
+  private static Stream<Integer> values() {
+    return IntStream.range(0, ELEMENTS).boxed();
+  }
+
+  private static int key(int value) {
+    return value % KEYS;
+  }
+
+  private int checkedKey(int value) throws IOException {
+    return key(value);
+  }
+
+  private long checkedSum(long left, long right) throws IOException {
+    return left + right;
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.OptionalDouble;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ThrowableDoubleStreamTest {
+  private static final int BLOCKING_ELEMENTS = 4_000;
+  private static final int FAILING_ELEMENT = 100;
+
+  @Test
+  void assertOperations() {
+    assertArrayEquals(
+        new double[] {2.0, 4.0, 6.0, 8.0},
+        ThrowableDoubleStream.of(5, 3, 1, 4, 2, 3)
+            .distinct()
+            .sorted()
+            .filter(value -> value < 5)
+            .map(value -> value * 2)
+            .toArray(),
+        0.0);
+    assertEquals(18.0, ThrowableDoubleStream.of(5, 3, 1, 4, 2, 3).sum(), 0.0);
+    assertEquals(18.0, ThrowableDoubleStream.of(5, 3, 1, 4, 2, 3).reduce(0, (a, b) -> a + b), 0.0);
+    assertEquals(OptionalDouble.of(5), ThrowableDoubleStream.of(5, 3, 1).reduce(Math::max));
+    assertEquals(OptionalDouble.empty(), ThrowableDoubleStream.of().reduce(Math::max));
+    assertEquals(2, ThrowableDoubleStream.of(1, 2, 3).skip(1).limit(2).count());
+    assertTrue(ThrowableDoubleStream.of(1, 2, 3).anyMatch(value -> value == 2));
+    assertTrue(ThrowableDoubleStream.of(1, 2, 3).allMatch(value -> value > 0));
+    assertEquals(
+        Arrays.asList("1.0", "2.0"),
+        ThrowableDoubleStream.of(1, 2).mapToObj(value -> String.valueOf((double) value)).toList());
+    assertEquals(
+        Arrays.asList((Double) 1.0, (Double) 2.0), ThrowableDoubleStream.of(1, 2).boxed().toList());
+    assertEquals(3, ThrowableDoubleStream.of(1, 2).mapToInt(value -> (int) value).sum());
+    assertEquals(3L, ThrowableDoubleStream.of(1, 2).mapToLong(value -> (long) value).sum());
+
+    final AtomicInteger count = new AtomicInteger();
+    ThrowableDoubleStream.of(1, 2, 3)
+        .peek(value -> count.incrementAndGet())
+        .forEach(value -> count.incrementAndGet());
+    assertEquals(6, count.get());
+  }
+
+  @Test
+  void assertCheckedExceptionsPropagateAsIs() {
+    assertThrows(IOException.class, () -> ThrowableDoubleStream.of(1, 2).map(this::fail).sum());
+    assertThrows(
+        IOException.class,
+        () -> ThrowableDoubleStream.of(1, 2).filter(value -> fail(value) > 0).count());
+    assertThrows(IOException.class, () -> ThrowableDoubleStream.of(1, 2).reduce((a, b) -> fail(a)));
+    assertThrows(
+        IOException.class, () -> ThrowableDoubleStream.of(1, 2).forEach(value -> fail(value)));
+    assertThrows(
+        IOException.class,
+        () -> ThrowableStream.of(Arrays.asList(1, 2)).mapToDouble(value -> fail(value)).sum());
+  }
+
+  @Test
+  void assertFirstFailureStopsParallelReduction() {
+    final AtomicInteger processed = new AtomicInteger();
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final ThrowableDoubleStream stream =
+          ThrowableDoubleStream.of(IntStream.range(0, BLOCKING_ELEMENTS).asDoubleStream())
+              .parallel(pool)
+              .map(
+                  value -> {
+                    if (processed.incrementAndGet() == FAILING_ELEMENT) {
+                      throw new IOException("Failing element");
+                    }
+                    Thread.sleep(1);
+                    return value;
+                  });
+
+      assertThrows(IOException.class, stream::sum);
+      assertTrue(pool.awaitQuiescence(1, TimeUnit.MINUTES));
+      assertTrue(processed.get() < BLOCKING_ELEMENTS / 8);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void assertParallelSum() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      assertEquals(
+          IntStream.range(0, 100_000).asDoubleStream().sum(),
+          ThrowableDoubleStream.of(IntStream.range(0, 100_000).asDoubleStream())
+              .parallel(pool)
+              .sum(),
+          0.0);
+      assertEquals(
+          100_000,
+          ThrowableDoubleStream.of(IntStream.range(0, 100_000).asDoubleStream())
+              .parallel()
+              .sequential()
+              .count());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void assertNullArguments() {
+    final ThrowableDoubleStream stream = ThrowableDoubleStream.of(1);
+
+    assertThrows(NullPointerException.class, () -> ThrowableDoubleStream.of((DoubleStream) null));
+    assertThrows(NullPointerException.class, () -> ThrowableDoubleStream.of((double[]) null));
+    assertThrows(NullPointerException.class, () -> stream.parallel(null));
+    assertThrows(NullPointerException.class, () -> stream.map(null));
+    assertThrows(NullPointerException.class, () -> stream.filter(null));
+    assertThrows(NullPointerException.class, () -> stream.reduce(null));
+    assertThrows(NullPointerException.class, () -> stream.forEach(null));
+  }
+
+  private double fail(double value) throws IOException {
+    throw new IOException("Value " + value);
+  }
+}
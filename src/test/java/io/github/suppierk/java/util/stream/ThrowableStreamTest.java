@@ -0,0 +1,180 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ThrowableStreamTest {
+  private static final int BLOCKING_ELEMENTS = 4_000;
+  private static final int FAILING_ELEMENT = 100;
+
+  @Test
+  void assertOperations() {
+    final List<Integer> values = Arrays.asList(5, 3, 1, 4, 2, 3);
+
+    assertEquals(
+        Arrays.asList(2, 4, 6, 8),
+        ThrowableStream.of(values)
+            .distinct()
+            .sorted(Integer::compare)
+            .filter(value -> value < 5)
+            .map(value -> value * 2)
+            .toList());
+    assertEquals(
+        Arrays.asList(1, 1, 2, 2),
+        ThrowableStream.of(Arrays.asList(1, 2))
+            .flatMap(value -> Stream.of(value, value))
+            .collect(Collectors.toList()));
+    assertEquals(18, ThrowableStream.of(values).reduce(0, Integer::sum));
+    assertEquals(Optional.of(5), ThrowableStream.of(values).reduce(Math::max));
+    assertEquals(Optional.of(3), ThrowableStream.of(values).skip(1).limit(1).findFirst());
+    assertEquals(6, ThrowableStream.of(values).count());
+    assertTrue(ThrowableStream.of(values).anyMatch(value -> value == 4));
+    assertTrue(ThrowableStream.of(values).allMatch(value -> value > 0));
+
+    final AtomicInteger sum = new AtomicInteger();
+    ThrowableStream.of(values).peek(sum::addAndGet).forEach(sum::addAndGet);
+    assertEquals(36, sum.get());
+  }
+
+  @Test
+  void assertCheckedExceptionsPropagateAsIs() {
+    assertThrows(
+        IOException.class, () -> ThrowableStream.of(Arrays.asList(1, 2)).map(this::fail).toList());
+    assertThrows(
+        IOException.class,
+        () -> ThrowableStream.of(Arrays.asList(1, 2)).filter(this::fail).count());
+    assertThrows(
+        IOException.class, () -> ThrowableStream.of(Arrays.asList(1, 2)).map(this::fail).count());
+    assertThrows(
+        IOException.class,
+        () -> ThrowableStream.of(Arrays.asList(1, 2)).forEach(value -> fail(value)));
+    assertThrows(
+        IOException.class, () -> ThrowableStream.of(Arrays.asList(1, 2)).reduce((a, b) -> fail(a)));
+    assertThrows(
+        IOException.class,
+        () -> ThrowableStream.of(Arrays.asList(1, 2)).sorted((a, b) -> fail(a)).toList());
+  }
+
+  @Test
+  void assertFirstFailureCancelsOtherSplits() {
+    final AtomicInteger processed = new AtomicInteger();
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final ThrowableStream<Integer> stream =
+          ThrowableStream.of(IntStream.range(0, BLOCKING_ELEMENTS).boxed())
+              .parallel(pool)
+              .map(
+                  value -> {
+                    if (processed.incrementAndGet() == FAILING_ELEMENT) {
+                      throw new IOException("Failing element");
+                    }
+                    Thread.sleep(1);
+                    return value;
+                  });
+
+      final IOException exception = assertThrows(IOException.class, stream::toList);
+      assertEquals("Failing element", exception.getMessage());
+
+      // Splits already running would otherwise process the rest of their elements
+      assertTrue(pool.awaitQuiescence(1, TimeUnit.MINUTES));
+      assertTrue(processed.get() < BLOCKING_ELEMENTS / 8);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void assertParallelWorkRunsInPool() {
+    final ForkJoinPool pool = new ForkJoinPool(2);
+    final AtomicBoolean commonPool = new AtomicBoolean();
+    try {
+      final long count =
+          ThrowableStream.of(IntStream.range(0, 10_000).boxed())
+              .parallel(pool)
+              .peek(
+                  value -> {
+                    final Thread thread = Thread.currentThread();
+                    if (thread instanceof ForkJoinWorkerThread
+                        && ((ForkJoinWorkerThread) thread).getPool() != pool) {
+                      commonPool.set(true);
+                    }
+                  })
+              .filter(value -> value % 2 == 0)
+              .count();
+
+      assertEquals(5_000, count);
+      assertFalse(commonPool.get());
+    } finally {
+      pool.shutdownNow();
+    }
+
+    assertEquals(
+        10_000,
+        ThrowableStream.of(IntStream.range(0, 10_000).boxed()).parallel().sequential().count());
+  }
+
+  @Test
+  void assertCloseClosesSource() {
+    final AtomicBoolean closed = new AtomicBoolean();
+    try (ThrowableStream<Integer> stream =
+        ThrowableStream.of(Stream.of(1).onClose(() -> closed.set(true)))) {
+      assertEquals(1, stream.stream().count());
+    }
+    assertTrue(closed.get());
+  }
+
+  @Test
+  void assertNullArguments() {
+    final ThrowableStream<Integer> stream = ThrowableStream.of(Collections.singletonList(1));
+
+    assertThrows(NullPointerException.class, () -> ThrowableStream.of((Stream<Integer>) null));
+    assertThrows(NullPointerException.class, () -> ThrowableStream.of((List<Integer>) null));
+    assertThrows(NullPointerException.class, () -> stream.parallel(null));
+    assertThrows(NullPointerException.class, () -> stream.map(null));
+    assertThrows(NullPointerException.class, () -> stream.filter(null));
+    assertThrows(NullPointerException.class, () -> stream.forEach(null));
+    assertThrows(NullPointerException.class, () -> stream.collect(null));
+  }
+
+  private <T> T fail(Integer value) throws IOException {
+    throw new IOException("Value " + value);
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.suppierk.java.Try;
+import io.github.suppierk.java.TryBatch;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class TryCollectorsTest {
+  private static final int ELEMENTS = 10_000;
+  private static final int FAILING_ELEMENT = 100;
+
+  @Test
+  void assertPartition() {
+    final IOException exception = new IOException("test");
+    final TryCollectors.Partition<Integer> partition =
+        Stream.of(Try.success(1), Try.<Integer>failure(exception), Try.success(2))
+            .collect(TryCollectors.partition());
+
+    assertEquals(Arrays.asList(1, 2), partition.successes());
+    assertEquals(Collections.singletonList(exception), partition.failures());
+    assertThrows(UnsupportedOperationException.class, () -> partition.successes().add(3));
+
+    final TryCollectors.Partition<Integer> parallel =
+        values().parallel().collect(TryCollectors.partition());
+
+    assertEquals(ELEMENTS - ELEMENTS / FAILING_ELEMENT, parallel.successes().size());
+    assertEquals(ELEMENTS / FAILING_ELEMENT, parallel.failures().size());
+    assertEquals(
+        values().filter(Try::isSuccess).map(Try::get).collect(Collectors.toList()),
+        parallel.successes());
+  }
+
+  @Test
+  void assertSuccessesOrFirstFailure() {
+    assertEquals(
+        Arrays.asList(1, 2, 3),
+        Stream.of(1, 2, 3)
+            .map(Try::success)
+            .collect(TryCollectors.successesOrFirstFailure())
+            .get());
+    assertEquals(
+        IntStream.range(0, ELEMENTS).boxed().collect(Collectors.toList()),
+        IntStream.range(0, ELEMENTS)
+            .boxed()
+            .parallel()
+            .map(Try::success)
+            .collect(TryCollectors.successesOrFirstFailure())
+            .get());
+
+    final IOException first = new IOException("first");
+    final Try<List<Integer>> sequential =
+        Stream.of(
+                Try.success(1),
+                Try.<Integer>failure(first),
+                Try.<Integer>failure(new IOException("second")))
+            .collect(TryCollectors.successesOrFirstFailure());
+
+    assertTrue(sequential.isFailure());
+    assertSame(first, exception(sequential));
+
+    final Try<List<Integer>> parallel =
+        values().parallel().collect(TryCollectors.successesOrFirstFailure());
+
+    assertTrue(parallel.isFailure());
+    assertTrue(exception(parallel) instanceof IOException);
+  }
+
+  @Test
+  void assertSuccessesOrFirstFailureIsReusable() {
+    final Collector<Try<? extends Integer>, ?, Try<List<Integer>>> collector =
+        TryCollectors.successesOrFirstFailure();
+
+    assertEquals(
+        Arrays.asList(1, 2, 3), Stream.of(1, 2, 3).map(Try::success).collect(collector).get());
+    assertTrue(values().collect(collector).isFailure());
+    assertTrue(ThrowableStream.of(values()).collect(collector).isFailure());
+    assertEquals(
+        Arrays.asList(1, 2, 3), Stream.of(1, 2, 3).map(Try::success).collect(collector).get());
+    assertEquals(
+        Arrays.asList(1, 2, 3),
+        ThrowableStream.of(Stream.of(1, 2, 3).map(Try::success)).collect(collector).get());
+  }
+
+  @Test
+  void assertSuccessesOrFirstFailureStopsThrowableStream() {
+    final AtomicInteger processed = new AtomicInteger();
+    final Try<List<Integer>> result =
+        ThrowableStream.of(IntStream.range(0, ELEMENTS).boxed())
+            .map(
+                value -> {
+                  processed.incrementAndGet();
+                  return value == FAILING_ELEMENT
+                      ? Try.<Integer>failure(new IOException(String.valueOf(value)))
+                      : Try.success(value);
+                })
+            .collect(TryCollectors.successesOrFirstFailure());
+
+    assertTrue(result.isFailure());
+    assertEquals(String.valueOf(FAILING_ELEMENT), exception(result).getMessage());
+    assertEquals(FAILING_ELEMENT + 1, processed.get());
+  }
+
+  @Test
+  void assertToTryListAndBatch() {
+    final List<String> expected = describe(values().collect(Collectors.toList()));
+
+    assertEquals(expected, describe(values().collect(TryCollectors.toTryList())));
+    assertEquals(expected, describe(values().parallel().collect(TryCollectors.toTryList())));
+
+    final TryBatch<Integer> batch = values().parallel().collect(TryCollectors.toTryBatch());
+
+    assertEquals(expected, describe(batch.toTryList()));
+    assertEquals(ELEMENTS / FAILING_ELEMENT, batch.failures().size());
+  }
+
+  @Test
+  void assertCountingFailuresByType() {
+    final Map<Class<? extends Throwable>, Long> counts =
+        Stream.concat(values(), Stream.of(Try.failure(new IllegalStateException())))
+            .parallel()
+            .collect(TryCollectors.countingFailuresByType());
+
+    assertEquals(2, counts.size());
+    assertEquals(ELEMENTS / FAILING_ELEMENT, counts.get(IOException.class));
+    assertEquals(1L, counts.get(IllegalStateException.class));
+    assertTrue(Stream.of(Try.success(1)).collect(TryCollectors.countingFailuresByType()).isEmpty());
+  }
+
+  private static Stream<Try<Integer>> values() {
+    return IntStream.range(0, ELEMENTS)
+        .mapToObj(
+            value ->
+                value % FAILING_ELEMENT == 0
+                    ? Try.<Integer>failure(new IOException(String.valueOf(value)))
+                    : Try.success(value));
+  }
+
+  private static List<String> describe(List<Try<Integer>> results) {
+    return results.stream()
+        .map(
+            result ->
+                result.isSuccess() ? String.valueOf(result.get()) : exception(result).getMessage())
+        .collect(Collectors.toList());
+  }
+
+  private static Throwable exception(Try<?> result) {
+    final Throwable[] exception = new Throwable[1];
+    result.ifFailure(t -> exception[0] = t);
+    return exception[0];
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashSet;
+import org.junit.jupiter.api.Test;
+
+class TrySealedTest {
+  @Test
+  void assertTryIsSealed() {
+    assertTrue(Try.class.isSealed());
+    assertEquals(
+        new HashSet<>(Arrays.asList(Try.Success.class, Try.Failure.class, Try.Deferred.class)),
+        new HashSet<>(Arrays.asList(Try.class.getPermittedSubclasses())));
+
+    for (Class<?> type : Try.class.getPermittedSubclasses()) {
+      assertTrue(Modifier.isFinal(type.getModifiers()), type::getName);
+    }
+  }
+
+  @Test
+  void assertImplementationsBehaveAsBefore() {
+    assertEquals(
+        "2", describe(Try.success(1).map(value -> value + 1).flatMap(value -> Try.success(value))));
+    assertEquals("failure", describe(Try.<Integer>failure(new IOException()).map(value -> 1)));
+    assertEquals("3", describe(Try.defer(() -> 1).map(value -> value + 2)));
+  }
+
+  private static String describe(Try<?> result) {
+    if (result instanceof Try.Success<?> success) {
+      return String.valueOf(success.get());
+    } else if (result instanceof Try.Failure<?>) {
+      return "failure";
+    } else if (result instanceof Try.Deferred<?> deferred) {
+      return deferred.isSuccess() ? String.valueOf(deferred.get()) : "failure";
+    }
+    throw new AssertionError("Unexpected implementation " + result.getClass());
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Roman Khlebnov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.suppierk.java.util.stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.suppierk.java.Try;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ThrowableGatherersTest {
+  private static final int ELEMENTS = 100;
+  private static final int MAX_CONCURRENCY = 4;
+
+  @Test
+  void assertMapTry() {
+    final List<Try<Integer>> results =
+        Stream.of(1, 2, 3)
+            .gather(ThrowableGatherers.mapTry(ThrowableGatherersTest::failOnEven))
+            .toList();
+
+    assertEquals(Arrays.asList("1", "failure", "3"), describe(results));
+    assertThrows(IOException.class, results.get(1)::get);
+    assertThrows(NullPointerException.class, () -> ThrowableGatherers.mapTry(null));
+  }
+
+  @Test
+  void assertFilterTry() {
+    final List<Try<Integer>> results =
+        Stream.of(1, 2, 3, 4)
+            .gather(
+                ThrowableGatherers.<Integer>filterTry(
+                    value -> {
+                      if (value == 4) {
+                        throw new IOException("test");
+                      }
+                      return value % 2 == 1;
+                    }))
+            .toList();
+
+    assertEquals(Arrays.asList("1", "3", "failure"), describe(results));
+  }
+
+  @Test
+  void assertMapConcurrent() {
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+
+    final List<Integer> results =
+        IntStream.range(0, ELEMENTS)
+            .boxed()
+            .gather(
+                ThrowableGatherers.<Integer, Integer>mapConcurrent(
+                    MAX_CONCURRENCY,
+                    value -> {
+                      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                      Thread.sleep(5);
+                      running.decrementAndGet();
+                      return value * 2;
+                    }))
+            .toList();
+
+    assertEquals(IntStream.range(0, ELEMENTS).map(value -> value * 2).boxed().toList(), results);
+    assertTrue(maxRunning.get() <= MAX_CONCURRENCY, () -> "Max running " + maxRunning.get());
+    assertTrue(maxRunning.get() > 1, () -> "Max running " + maxRunning.get());
+    assertThrows(
+        IllegalArgumentException.class, () -> ThrowableGatherers.mapConcurrent(0, value -> value));
+  }
+
+  @Test
+  void assertMapConcurrentFailsFastWithOriginalException() {
+    final IOException exception =
+        assertThrows(
+            IOException.class,
+            () ->
+                Stream.of(1, 3, 4, 5)
+                    .gather(
+                        ThrowableGatherers.mapConcurrent(
+                            MAX_CONCURRENCY, ThrowableGatherersTest::failOnEven))
+                    .toList());
+
+    assertEquals("4", exception.getMessage());
+  }
+
+  @Test
+  void assertMapConcurrentTry() {
+    final List<Try<Integer>> results =
+        Stream.of(1, 2, 3)
+            .gather(
+                ThrowableGatherers.mapConcurrentTry(
+                    MAX_CONCURRENCY, ThrowableGatherersTest::failOnEven))
+            .toList();
+
+    assertEquals(Arrays.asList("1", "failure", "3"), describe(results));
+  }
+
+  @Test
+  void assertShortCircuitStopsMapping() {
+    assertEquals(
+        Arrays.asList(0, 1),
+        Stream.iterate(0, value -> value + 1)
+            .gather(
+                ThrowableGatherers.<Integer, Integer>mapConcurrent(MAX_CONCURRENCY, value -> value))
+            .limit(2)
+            .toList());
+  }
+
+  @Test
+  void assertWindowFold() {
+    assertEquals(
+        Arrays.asList(6, 15, 7),
+        Stream.of(1, 2, 3, 4, 5, 6, 7)
+            .gather(ThrowableGatherers.<Integer>windowFold(3, Integer::sum))
+            .toList());
+    assertEquals(
+        List.of(),
+        Stream.<Integer>empty()
+            .gather(ThrowableGatherers.<Integer>windowFold(3, Integer::sum))
+            .toList());
+    assertThrows(
+        IOException.class,
+        () ->
+            Stream.of(1, 2)
+                .gather(
+                    ThrowableGatherers.<Integer>windowFold(
+                        2,
+                        (left, right) -> {
+                          throw new IOException("test");
+                        }))
+                .toList());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ThrowableGatherers.<Integer>windowFold(0, Integer::sum));
+  }
+
+  private static int failOnEven(int value) throws IOException {
+    if (value % 2 == 0) {
+      throw new IOException(String.valueOf(value));
+    }
+    return value;
+  }
+
+  private static List<String> describe(List<Try<Integer>> results) {
+    return results.stream()
+        .map(result -> result.isSuccess() ? String.valueOf(result.get()) : "failure")
+        .toList();
+  }
+}